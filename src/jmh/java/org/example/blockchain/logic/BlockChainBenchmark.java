@@ -0,0 +1,131 @@
+package org.example.blockchain.logic;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.builder.SecureMessageBuilder;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures appending blocks with {@link BlockChain#putLast(Block, long)}, adding messages
+ * with {@link BlockChain#addMessage(Message)} and validating chains with {@link BlockChain#validateBlocks(List)}.
+ * <br>
+ * Appending and adding run on one and on four threads to show how much the blockchain's locks cost
+ * under contention. Blocks are built at zero difficulty, so appending isn't dominated by mining,
+ * and a new blockchain is created for each iteration, so the chain and the mempool don't grow without bounds.
+ * Concurrent appends that lost a race for the tip are rejected, just like blocks of slower miners.
+ *
+ * @author Dominik Szmyt
+ * @see BlockChain
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlockChainBenchmark {
+
+    private static final byte[] SIGNATURE = new byte[0];
+
+    private BlockChain blockChain;
+    private final AtomicInteger identifier = new AtomicInteger();
+
+    @State(Scope.Benchmark)
+    public static class Chain {
+
+        @Param({"10000", "100000"})
+        private int length;
+
+        private BlockChain blockChain;
+        private List<Block> blocks;
+
+        @Setup
+        public void setUp() {
+            blockChain = new BlockChain();
+            blocks = new ArrayList<>(length);
+
+            Block block = null;
+            for (int i = 0; i < length; i++) {
+                block = nextBlock(block, i);
+                blocks.add(block);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        blockChain = new BlockChain();
+        blockChain.setNumberOfZerosBounds(0, 0);
+        blockChain.putLast(nextBlock(null, 0L), 0L);
+        identifier.set(0);
+    }
+
+    @Benchmark
+    public boolean put_last() {
+        return putNextBlock();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean put_last_contended() {
+        return putNextBlock();
+    }
+
+    @Benchmark
+    public boolean add_message() {
+        return addNextMessage();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean add_message_contended() {
+        return addNextMessage();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean validate_blocks(final Chain chain) {
+        return chain.blockChain.validateBlocks(chain.blocks);
+    }
+
+    private boolean putNextBlock() {
+        final Block last = blockChain.getLast();
+        return blockChain.putLast(nextBlock(last, System.nanoTime()), 0L);
+    }
+
+    private boolean addNextMessage() {
+        return blockChain.addMessage(SecureMessageBuilder.builder()
+                .withText("Hello there!")
+                .withId(identifier.incrementAndGet())
+                .withSignature(SIGNATURE)
+                .withSignatureScheme(SignatureSchemes.DSA)
+                .withVerification(false)
+                .build());
+    }
+
+    private static Block nextBlock(final Block prevBlock, final long timestamp) {
+        final long id = prevBlock == null ? 1L : prevBlock.getId() + 1L;
+        final String previousHash = prevBlock == null ? "0" : prevBlock.getHash();
+        final long createdBy = 1L;
+        final int magicNumber = 0;
+
+        return BlockBuilder.builder()
+                .withId(id)
+                .withTimestamp(timestamp)
+                .withMagicNumber(magicNumber)
+                .withHash(Blocks.applySha256(id + timestamp + previousHash + createdBy + magicNumber))
+                .withPreviousHash(previousHash)
+                .withCreatedBy(createdBy)
+                .withMessages(Collections.emptyList())
+                .build();
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.example.blockchain.logic.block;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hashing with {@link Blocks#applySha256(String)} and looking for a magic number
+ * with {@link Blocks#findMagicNumber(int, String)} at increasing numbers of zeros.
+ * Each call hashes a different input, so results don't depend on one lucky input.
+ *
+ * @author Dominik Szmyt
+ * @see Blocks
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlocksBenchmark {
+
+    private static final String INPUT = "1" + 1234567890L + "0" + 42L;
+
+    private long counter;
+
+    @State(Scope.Thread)
+    public static class Difficulty {
+
+        @Param({"0", "1", "2", "3", "4"})
+        private int numberOfZeros;
+    }
+
+    @Benchmark
+    public String apply_sha256() {
+        return Blocks.applySha256(INPUT + counter++);
+    }
+
+    @Benchmark
+    public int find_magic_number(final Difficulty difficulty) {
+        return Blocks.findMagicNumber(difficulty.numberOfZeros, INPUT + counter++);
+    }
+}
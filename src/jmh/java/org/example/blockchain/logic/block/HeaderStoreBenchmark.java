@@ -0,0 +1,106 @@
+package org.example.blockchain.logic.block;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scans over headers of {@link Block} objects with the same scans over a {@link HeaderStore}:
+ * checking links between blocks, validating hashes and looking for the first block by it's hash,
+ * which is the worst case of a lookup that starts with the last block.
+ * <br>
+ * Previous hashes are copies of hashes of previous blocks, like the ones of blocks received from peers,
+ * so comparing them compares their characters instead of references.
+ *
+ * @author Dominik Szmyt
+ * @see HeaderStore
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HeaderStoreBenchmark {
+
+    @Param({"10000", "100000"})
+    private int length;
+
+    private BlockChain blockChain;
+    private List<Block> blocks;
+    private HeaderStore store;
+
+    @Setup
+    public void setUp() {
+        blockChain = new BlockChain();
+        blocks = new ArrayList<>(length);
+
+        Block block = null;
+        for (int i = 0; i < length; i++) {
+            block = nextBlock(block, i);
+            blocks.add(block);
+        }
+
+        store = HeaderStore.of(blocks);
+    }
+
+    @Benchmark
+    public boolean validate_links_on_heap() {
+        for (int i = 1; i < blocks.size(); i++) {
+            if (!Objects.equals(blocks.get(i - 1).getHash(), blocks.get(i).getPreviousHash())) return false;
+        }
+
+        return true;
+    }
+
+    @Benchmark
+    public boolean validate_links_off_heap() {
+        return store.validateLinks();
+    }
+
+    @Benchmark
+    public boolean validate_blocks_on_heap() {
+        return blockChain.validateBlocks(blocks);
+    }
+
+    @Benchmark
+    public boolean validate_blocks_off_heap() {
+        return store.validate();
+    }
+
+    @Benchmark
+    public int index_of_on_heap() {
+        final String hash = blocks.get(0).getHash();
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            if (blocks.get(i).getHash().equals(hash)) return i;
+        }
+
+        return -1;
+    }
+
+    @Benchmark
+    public int index_of_off_heap() {
+        return store.indexOf(blocks.get(0).getHash());
+    }
+
+    private static Block nextBlock(final Block prevBlock, final long timestamp) {
+        final long id = prevBlock == null ? 1L : prevBlock.getId() + 1L;
+        final String previousHash = prevBlock == null ? "0" : new String(prevBlock.getHash());
+        final long createdBy = 1L;
+        final int magicNumber = 0;
+
+        return BlockBuilder.builder()
+                .withId(id)
+                .withTimestamp(timestamp)
+                .withMagicNumber(magicNumber)
+                .withHash(Blocks.applySha256(id + timestamp + previousHash + createdBy + magicNumber))
+                .withPreviousHash(previousHash)
+                .withCreatedBy(createdBy)
+                .withMessages(Collections.emptyList())
+                .build();
+    }
+}
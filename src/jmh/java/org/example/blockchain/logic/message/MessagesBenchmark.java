@@ -0,0 +1,60 @@
+package org.example.blockchain.logic.message;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares signing and verifying with {@link Messages} against the previous approach,
+ * which looked up a new {@link Signature} and encoded a concatenated text on every call.
+ *
+ * @author Dominik Szmyt
+ * @see Messages
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessagesBenchmark {
+
+    private static final String TEXT = "Hello there!";
+    private static final int ID = 123456789;
+
+    private KeyPair keyPair;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        signature = Messages.sign(TEXT, ID, keyPair.getPrivate());
+    }
+
+    @Benchmark
+    public byte[] sign_with_cached_engine() {
+        return Messages.sign(TEXT, ID, keyPair.getPrivate());
+    }
+
+    @Benchmark
+    public byte[] sign_with_new_engine() throws GeneralSecurityException {
+        final Signature sig = Signature.getInstance("SHA256withDSA");
+        sig.initSign(keyPair.getPrivate());
+        sig.update((TEXT + ID).getBytes());
+        return sig.sign();
+    }
+
+    @Benchmark
+    public boolean verify_with_cached_engine() {
+        return Messages.verify(TEXT, ID, signature, keyPair.getPublic());
+    }
+
+    @Benchmark
+    public boolean verify_with_new_engine() throws GeneralSecurityException {
+        final Signature sig = Signature.getInstance("SHA256withDSA");
+        sig.initVerify(keyPair.getPublic());
+        sig.update((TEXT + ID).getBytes());
+        return sig.verify(signature);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.blockchain.logic.message.scheme;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares generating keys, signing and verifying with each {@link SignatureScheme}.
+ * The Ed25519 scheme requires running benchmarks on Java 15 or newer.
+ *
+ * @author Dominik Szmyt
+ * @see SignatureSchemes
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SignatureSchemeBenchmark {
+
+    private static final String TEXT = "Hello there!";
+    private static final int ID = 123456789;
+
+    @Param({"DSA", "Ed25519"})
+    private String scheme;
+
+    private SignatureScheme signatureScheme;
+    private KeyPair keyPair;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() {
+        signatureScheme = SignatureSchemes.forName(scheme);
+        keyPair = signatureScheme.generateKeyPair();
+        signature = signatureScheme.sign(TEXT, ID, keyPair.getPrivate());
+    }
+
+    @Benchmark
+    public KeyPair generate_key_pair() {
+        return signatureScheme.generateKeyPair();
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return signatureScheme.sign(TEXT, ID, keyPair.getPrivate());
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return signatureScheme.verify(TEXT, ID, signature, keyPair.getPublic());
+    }
+}
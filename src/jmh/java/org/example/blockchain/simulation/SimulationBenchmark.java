@@ -0,0 +1,81 @@
+package org.example.blockchain.simulation;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
+import org.example.blockchain.simulation.builder.SimulationBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many transactions per second many threads can perform
+ * with {@link Simulation#createAndPerformTransaction(AbstractUser)} for different numbers of users.
+ * Users are only registered, not submitted, so only benchmark threads perform transactions.
+ *
+ * @author Dominik Szmyt
+ * @see Simulation
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class SimulationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int usersCount;
+
+    @Param({"42"})
+    private long seed;
+
+    private BlockChain blockChain;
+    private Simulation simulation;
+    private List<AbstractUser> users;
+
+    @Setup
+    public void setUp() {
+        final KeyPair keyPair = SignatureSchemes.DSA.generateKeyPair();
+        blockChain = BlockChain.getInstance();
+        simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withFixedThreadPool(1)
+                .withSeed(seed)
+                .build();
+
+        users = new ArrayList<>();
+        for (int i = 0; i < usersCount; i++) {
+            users.add(SimpleUserBuilder.builder()
+                    .withName("Client-" + i)
+                    .withKeyPair(keyPair)
+                    .withSignatureScheme(SignatureSchemes.DSA)
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build());
+        }
+
+        users.forEach(simulation.getUserRegistry()::register);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearMessages() {
+        blockChain.getMessages().clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        simulation.shutdownNow();
+    }
+
+    @Benchmark
+    public void create_and_perform_transaction() {
+        final AbstractUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        simulation.createAndPerformTransaction(user);
+        user.addCoins(1);
+    }
+}
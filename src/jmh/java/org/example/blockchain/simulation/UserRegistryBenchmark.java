@@ -0,0 +1,55 @@
+package org.example.blockchain.simulation;
+
+import org.example.blockchain.logic.users.AbstractUser;
+import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares picking a random recipient with a {@link UserRegistry} against the previous approach,
+ * which copied all users, removed the sender and picked a random index on every transaction.
+ *
+ * @author Dominik Szmyt
+ * @see UserRegistry
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRegistryBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int usersCount;
+
+    private List<AbstractUser> users;
+    private UserRegistry userRegistry;
+
+    @Setup
+    public void setUp() {
+        users = new ArrayList<>();
+        for (int i = 0; i < usersCount; i++) {
+            users.add(SimpleUserBuilder.builder().withName("Client-" + i).build());
+        }
+
+        userRegistry = new UserRegistry(users);
+    }
+
+    @Benchmark
+    public AbstractUser sample_with_registry() {
+        final AbstractUser user = users.get(ThreadLocalRandom.current().nextInt(usersCount));
+        return userRegistry.sample(user);
+    }
+
+    @Benchmark
+    public AbstractUser sample_with_copy() {
+        final AbstractUser user = users.get(ThreadLocalRandom.current().nextInt(usersCount));
+        final List<AbstractUser> usersCopy = new ArrayList<>(users);
+        usersCopy.remove(user);
+        return usersCopy.get(new Random().nextInt(usersCopy.size()));
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.blockchain.transport.http;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A local load test of the {@link ChainHttpServer}: clients on several threads send requests over loopback,
+ * so the score is the number of requests answered per second.
+ * <br>
+ * With a cache of one response, nearly every block and transaction is looked up and rendered again,
+ * while with a larger cache they are rendered once. Requests with a matching {@code If-None-Match} header
+ * show what polling with entity tags costs, i.e. a lookup and a response without a body.
+ *
+ * @author Dominik Szmyt
+ * @see ChainHttpServer
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Fork(jvmArgsAppend = "-D" + ChainHttpServer.NODELAY_PROPERTY + "=true")
+public class ChainHttpServerBenchmark {
+
+    private static final int LENGTH = 1000;
+    private static final int MESSAGES_PER_BLOCK = 5;
+
+    @Param({"1", "4096"})
+    private int cacheSize;
+
+    private ChainHttpServer server;
+    private HttpClient client;
+    private List<String> hashes;
+    private String heightTag;
+    private String base;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        final BlockChain blockChain = new BlockChain();
+        hashes = new ArrayList<>(LENGTH);
+
+        Block block = null;
+        int id = 1;
+        for (int i = 0; i < LENGTH; i++) {
+            final List<Message> messages = new ArrayList<>();
+            for (int j = 0; j < MESSAGES_PER_BLOCK; j++, id++) {
+                messages.add(new SecureMessage("Transfer " + id, id, null, null, false));
+            }
+            block = Blocks.mineBlock(block, messages, i, i % 8);
+            blockChain.putLast(block);
+            hashes.add(block.getHash());
+        }
+
+        server = new ChainHttpServer(blockChain, new InetSocketAddress("localhost", 0), cacheSize, 4);
+        server.start();
+        client = HttpClient.newHttpClient();
+        base = "http://localhost:" + server.getAddress().getPort();
+        heightTag = client.send(request("/height", null), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue("ETag").orElseThrow();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public int height() throws IOException, InterruptedException {
+        return send("/height", null);
+    }
+
+    @Benchmark
+    public int height_not_modified() throws IOException, InterruptedException {
+        return send("/height", heightTag);
+    }
+
+    @Benchmark
+    public int recent_blocks() throws IOException, InterruptedException {
+        return send("/blocks?count=20", null);
+    }
+
+    @Benchmark
+    public int block_by_hash() throws IOException, InterruptedException {
+        return send("/blocks/" + randomHash(), null);
+    }
+
+    @Benchmark
+    public int block_by_hash_not_modified() throws IOException, InterruptedException {
+        final String hash = randomHash();
+        return send("/blocks/" + hash, "\"" + hash + "\"");
+    }
+
+    @Benchmark
+    public int transaction_by_id() throws IOException, InterruptedException {
+        return send("/transactions/" + (1 + ThreadLocalRandom.current().nextInt(LENGTH * MESSAGES_PER_BLOCK)), null);
+    }
+
+    private String randomHash() {
+        return hashes.get(ThreadLocalRandom.current().nextInt(LENGTH));
+    }
+
+    private int send(final String path, final String ifNoneMatch) throws IOException, InterruptedException {
+        return client.send(request(path, ifNoneMatch), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest request(final String path, final String ifNoneMatch) {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path)).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+
+        return request.build();
+    }
+}
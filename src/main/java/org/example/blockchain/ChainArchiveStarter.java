@@ -0,0 +1,37 @@
+package org.example.blockchain;
+
+import org.example.blockchain.transport.ChainArchive;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Works with files written by {@link ChainArchive} from the command line:
+ * <ul>
+ *     <li>{@code verify <file>} - validates blocks of a file and prints their number;</li>
+ *     <li>{@code copy <source> <target> <from> [<to>]} - copies blocks with heights from {@code from} inclusive
+ *     to {@code to} exclusive, or to the end of the source, into the target file.</li>
+ * </ul>
+ * Blocks are exported and imported by the {@link NodeStarter}.
+ *
+ * @author Dominik Szmyt
+ * @see ChainArchive
+ * @since 1.1.0
+ */
+public class ChainArchiveStarter {
+
+    public static void main(String[] args) throws IOException {
+        final String command = args.length > 0 ? args[0] : "";
+
+        if ("verify".equals(command) && args.length == 2) {
+            System.out.println("Valid blocks: " + ChainArchive.verify(Paths.get(args[1])));
+        } else if ("copy".equals(command) && (args.length == 4 || args.length == 5)) {
+            final int from = Integer.parseInt(args[3]);
+            final int to = args.length == 5 ? Integer.parseInt(args[4]) : Integer.MAX_VALUE;
+            System.out.println("Copied blocks: " + ChainArchive.copy(Paths.get(args[1]), Paths.get(args[2]), from, to));
+        } else {
+            System.err.println("Usage: verify <file> | copy <source> <target> <from> [<to>]");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.blockchain;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.shard.ShardedBlockChain;
+import org.example.blockchain.simulation.load.LoadGenerator;
+import org.example.blockchain.simulation.load.LoadReport;
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.load.builder.LoadGeneratorBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Properties;
+
+/**
+ * Runs a {@link LoadGenerator} with a {@link Scenario} read from a properties file given as the first argument
+ * or with the default scenario, and then prints a {@link LoadReport}.
+ * Metrics of the blockchain are exposed over JMX during the run.
+ * <br>
+ * The {@code shards} property splits the blockchain into as many independent shards,
+ * and then balances across shards are printed as well.
+ *
+ * @author Dominik Szmyt
+ * @see Scenario#fromProperties(Properties)
+ * @since 1.1.0
+ */
+public class LoadGeneratorStarter {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final Properties properties = new Properties();
+        if (args.length > 0) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(args[0]))) {
+                properties.load(reader);
+            }
+        }
+
+        final Scenario scenario = Scenario.fromProperties(properties);
+        final SignatureScheme signatureScheme = SignatureSchemes.ED25519.isAvailable()
+                ? SignatureSchemes.ED25519
+                : SignatureSchemes.DSA;
+
+        final String shardsCount = properties.getProperty("shards");
+        final ShardedBlockChain shards = shardsCount == null || Integer.parseInt(shardsCount.trim()) == 1
+                ? new ShardedBlockChain(Collections.singletonList(BlockChain.getInstance()))
+                : new ShardedBlockChain(Integer.parseInt(shardsCount.trim()));
+
+        System.out.println("Scenario:\n" + scenario + "Shards: " + shards.size());
+
+        if (shards.size() == 1) {
+            shards.getShard(0).getMetrics().register();
+        }
+
+        final LoadReport report = LoadGeneratorBuilder.builder()
+                .withScenario(scenario)
+                .withShards(shards)
+                .withSignatureScheme(signatureScheme)
+                .build()
+                .run();
+
+        System.out.println("Report:\n" + report);
+        if (shards.size() > 1) {
+            System.out.println("Balances:\n" + shards.getBalances());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.blockchain;
+
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.network.NetworkConditions;
+import org.example.blockchain.simulation.network.NetworkReport;
+import org.example.blockchain.simulation.network.NetworkSimulation;
+import org.example.blockchain.simulation.network.RelayMode;
+import org.example.blockchain.simulation.network.builder.NetworkSimulationBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Runs a {@link NetworkSimulation} described by a properties file given as the first argument
+ * and then prints a {@link NetworkReport}. Besides properties of a {@link Scenario} and {@link NetworkConditions},
+ * the {@code nodes} property tells how many nodes take part and the {@code relay} property,
+ * either {@code full} or {@code compact}, tells how blocks are sent, see {@link RelayMode}.
+ *
+ * @author Dominik Szmyt
+ * @see Scenario#fromProperties(Properties)
+ * @see NetworkConditions#fromProperties(Properties)
+ * @since 1.1.0
+ */
+public class NetworkStarter {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final Properties properties = new Properties();
+        if (args.length > 0) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(args[0]))) {
+                properties.load(reader);
+            }
+        }
+
+        final Scenario scenario = Scenario.fromProperties(properties);
+        final NetworkConditions conditions = NetworkConditions.fromProperties(properties);
+        final SignatureScheme signatureScheme = SignatureSchemes.ED25519.isAvailable()
+                ? SignatureSchemes.ED25519
+                : SignatureSchemes.DSA;
+
+        final NetworkSimulationBuilder builder = NetworkSimulationBuilder.builder()
+                .withScenario(scenario)
+                .withConditions(conditions)
+                .withSignatureScheme(signatureScheme);
+
+        final String nodes = properties.getProperty("nodes");
+        if (nodes != null) builder.withNodesCount(Integer.parseInt(nodes.trim()));
+
+        final String relay = properties.getProperty("relay");
+        if (relay != null) builder.withRelayMode(RelayMode.valueOf(relay.trim().toUpperCase(Locale.ROOT)));
+
+        final NetworkSimulation simulation = builder.build();
+        System.out.println("Nodes: " + simulation.getNodesCount() + "\nRelay mode: " + simulation.getRelayMode() + "\nScenario:\n" + scenario + "Network:\n" + conditions);
+
+        final NetworkReport report = simulation.run();
+        System.out.println("Report:\n" + report);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.blockchain;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.block.MiningContext;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.simulation.load.LoadReport;
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.load.builder.LoadGeneratorBuilder;
+import org.example.blockchain.transport.ChainArchive;
+import org.example.blockchain.transport.PeerTransport;
+import org.example.blockchain.transport.http.ChainHttpServer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one node in it's own process: a {@link BlockChain} that exchanges blocks and messages with peers
+ * over a {@link PeerTransport}, with users and miners that put the load of a {@link Scenario} on it.
+ * The node is described by a properties file given as the first argument. Besides properties of a scenario:
+ * <ul>
+ *     <li>{@code port} - the port to listen on for peers, {@code 9000} by default;</li>
+ *     <li>{@code peers} - comma separated {@code host:port} addresses of peers to connect to;</li>
+ *     <li>{@code genesis-seed} - a seed of the first block, which has to be the same for all nodes;</li>
+ *     <li>{@code import} - a file written by {@link ChainArchive} that the node's blocks are imported from
+ *     instead of mining the first block;</li>
+ *     <li>{@code export} - a file that the node's blocks are exported to at the end;</li>
+ *     <li>{@code http-port} - the port of a read-only {@link ChainHttpServer} of the node's blocks,
+ *     which is not started by default.</li>
+ * </ul>
+ * Unless {@value ChainHttpServer#NODELAY_PROPERTY} is given with {@code -D}, it's set to {@code true}
+ * before the HTTP server is created, so responses are not held up by delayed acknowledgements.
+ *
+ * @author Dominik Szmyt
+ * @see PeerTransport
+ * @since 1.1.0
+ */
+public class NodeStarter {
+
+    private static final long CONNECT_ATTEMPTS = 30L;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final Properties properties = new Properties();
+        if (args.length > 0) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(args[0]))) {
+                properties.load(reader);
+            }
+        }
+
+        final Scenario scenario = Scenario.fromProperties(properties);
+        final int port = Integer.parseInt(properties.getProperty("port", "9000").trim());
+        final long genesisSeed = Long.parseLong(properties.getProperty("genesis-seed", "0").trim());
+        final SignatureScheme signatureScheme = SignatureSchemes.ED25519.isAvailable()
+                ? SignatureSchemes.ED25519
+                : SignatureSchemes.DSA;
+
+        final String importFile = properties.getProperty("import", "").trim();
+        final String exportFile = properties.getProperty("export", "").trim();
+        final String httpPort = properties.getProperty("http-port", "").trim();
+
+        final BlockChain blockChain = new BlockChain();
+        if (importFile.isEmpty()) {
+            blockChain.putLast(Blocks.mineBlock(
+                    null, new ArrayList<>(), 0L, 0L, MiningContext.WALL_CLOCK, new SplittableRandom(genesisSeed)));
+        } else {
+            System.out.println("Imported blocks: " + ChainArchive.importTo(Paths.get(importFile), blockChain));
+        }
+        blockChain.getMetrics().register();
+
+        try (PeerTransport transport = new PeerTransport(blockChain, new InetSocketAddress("localhost", port));
+             ChainHttpServer http = httpPort.isEmpty() ? null : newHttpServer(blockChain, Integer.parseInt(httpPort))) {
+
+            transport.start();
+            if (http != null) {
+                http.start();
+                System.out.println("Serving HTTP on " + http.getAddress());
+            }
+
+            for (String peer : properties.getProperty("peers", "").split(",")) {
+                if (!peer.trim().isEmpty()) {
+                    connect(transport, peer.trim());
+                }
+            }
+
+            System.out.println("Listening on " + transport.getAddress());
+
+            final LoadReport report = LoadGeneratorBuilder.builder()
+                    .withScenario(scenario)
+                    .withBlockChain(blockChain)
+                    .withSignatureScheme(signatureScheme)
+                    .build()
+                    .run();
+
+            System.out.println("Report:\n" + report +
+                    "Sent frames: " + transport.getSentFrames() + "\n" +
+                    "Received frames: " + transport.getReceivedFrames() + "\n" +
+                    "Sent bytes: " + transport.getSentBytes() + "\n" +
+                    "Received bytes: " + transport.getReceivedBytes() + "\n");
+
+            if (http != null) {
+                System.out.println("HTTP requests: " + http.getRequests() + "\n" +
+                        "HTTP not modified: " + http.getNotModified() + "\n" +
+                        "HTTP cache hit rate: " + http.getCache().getHitRate() + "\n");
+            }
+        }
+
+        if (!exportFile.isEmpty()) {
+            System.out.println("Exported blocks: " + ChainArchive.export(blockChain, Paths.get(exportFile)));
+        }
+    }
+
+    private static ChainHttpServer newHttpServer(final BlockChain blockChain, final int port) throws IOException {
+        if (System.getProperty(ChainHttpServer.NODELAY_PROPERTY) == null) {
+            System.setProperty(ChainHttpServer.NODELAY_PROPERTY, "true");
+        }
+
+        return new ChainHttpServer(blockChain, new InetSocketAddress("localhost", port));
+    }
+
+    private static void connect(final PeerTransport transport, final String peer) throws IOException, InterruptedException {
+        final int separator = peer.lastIndexOf(':');
+        final InetSocketAddress address = new InetSocketAddress(
+                peer.substring(0, separator), Integer.parseInt(peer.substring(separator + 1)));
+
+        for (long attempt = 1L; ; attempt++) {
+            try {
+                transport.connect(address);
+                return;
+            } catch (ConnectException exception) {
+                if (attempt == CONNECT_ATTEMPTS) throw exception;
+                TimeUnit.SECONDS.sleep(1L);
+            }
+        }
+    }
+}
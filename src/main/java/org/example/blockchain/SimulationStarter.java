@@ -1,20 +1,35 @@
 package org.example.blockchain;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ingest.MessageIngest;
+import org.example.blockchain.logic.ingest.builder.MessageIngestBuilder;
+import org.example.blockchain.logic.keys.KeyPairStore;
+import org.example.blockchain.logic.keys.builder.KeyPairProviderBuilder;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
 import org.example.blockchain.logic.users.builder.MinerBuilder;
 import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
 import org.example.blockchain.simulation.Simulation;
 import org.example.blockchain.simulation.builder.SimulationBuilder;
 
-import java.security.KeyPairGenerator;
-import java.security.NoSuchAlgorithmException;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.security.KeyPair;
 import java.util.ArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
 
 /**
  * Starts simulation with 15 miners and 30 simple users.
- * Miners and users are submitted concurrently by two threads.
+ * Key pairs of miners and users are generated in parallel before they are submitted.
+ * When a path to a key pair file is given as the first argument, existing key pairs are reused
+ * and new ones are saved in that file.
+ * Transactions are verified in batches by a {@link MessageIngest} before they are added to the blockchain.
+ * Users sign their transactions with Ed25519 if the Java runtime provides it, otherwise with DSA.
+ * When the application is stopped, the simulation is shut down and prints the inclusion latency of transactions.
+ * Metrics of the blockchain are exposed over JMX.
  *
  * @author Dominik Szmyt
  * @since 1.0.0
@@ -25,39 +40,72 @@ public class SimulationStarter {
     private static final int INITIAL_MINERS_COUNT = 15;
     private static final int INITIAL_USERS_COUNT = 30;
 
-    public static void main(String[] args) throws NoSuchAlgorithmException {
-        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("DSA");
-        keyGen.initialize(2048);
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final SignatureScheme signatureScheme = SignatureSchemes.ED25519.isAvailable()
+                ? SignatureSchemes.ED25519
+                : SignatureSchemes.DSA;
+
+        final KeyPairStore keyPairStore = args.length > 0 ? new KeyPairStore(Paths.get(args[0])) : null;
+        if (nonNull(keyPairStore)) {
+            keyPairStore.load();
+        }
+
+        final List<String> minerNames = new ArrayList<>();
+        for (int i = 0; i < INITIAL_MINERS_COUNT; i++) {
+            minerNames.add("Miner-" + i);
+        }
+
+        final List<String> userNames = new ArrayList<>();
+        for (int i = 0; i < INITIAL_USERS_COUNT * 2; i++) {
+            userNames.add("Client-" + i);
+        }
+
+        final List<String> names = new ArrayList<>(minerNames);
+        names.addAll(userNames);
+
+        final Map<String, KeyPair> keyPairs = KeyPairProviderBuilder.builder()
+                .withSignatureScheme(signatureScheme)
+                .withKeyPairStore(keyPairStore)
+                .build()
+                .provide(names);
+
+        final BlockChain blockChain = BlockChain.getInstance();
+        blockChain.getMetrics().register();
+        final MessageIngest messageIngest = MessageIngestBuilder.builder()
+                .withBlockChain(blockChain)
+                .build();
+        messageIngest.start();
 
         final Simulation simulation = SimulationBuilder.builder()
                 .withUsers(new ArrayList<>())
                 .withFixedThreadPool(POOL_SIZE)
+                .withMessageIngest(messageIngest)
                 .build();
-        final BlockChain blockChain = BlockChain.getInstance();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            simulation.shutdownNow();
+            System.out.println("Inclusion latency:\n" + blockChain.getInclusionLatency());
+        }));
+
+        for (int i = 0; i < minerNames.size(); i++) {
+            final String name = minerNames.get(i);
+            simulation.submitUser(MinerBuilder.builder()
+                    .withId((long) i)
+                    .withName(name)
+                    .withKeyPair(keyPairs.get(name))
+                    .withSignatureScheme(signatureScheme)
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build());
+        }
 
-        final ExecutorService minerSupplier = Executors.newSingleThreadExecutor();
-        final ExecutorService userSupplier = Executors.newSingleThreadExecutor();
-
-        minerSupplier.submit(() -> {
-            for (int i = 0; i < INITIAL_MINERS_COUNT; i++) {
-                simulation.submitUser(MinerBuilder.builder()
-                        .withName("Miner-" + i)
-                        .withKeyPair(keyGen.generateKeyPair())
-                        .withBlockChain(blockChain)
-                        .withSimulation(simulation)
-                        .build());
-            }
-        });
-
-        userSupplier.submit(() -> {
-            for (int i = 0; i < INITIAL_USERS_COUNT * 2; i++) {
-                simulation.submitUser(SimpleUserBuilder.builder()
-                        .withName("Client-" + i)
-                        .withKeyPair(keyGen.generateKeyPair())
-                        .withBlockChain(blockChain)
-                        .withSimulation(simulation)
-                        .build());
-            }
-        });
+        for (String name : userNames) {
+            simulation.submitUser(SimpleUserBuilder.builder()
+                    .withName(name)
+                    .withKeyPair(keyPairs.get(name))
+                    .withSignatureScheme(signatureScheme)
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build());
+        }
     }
 }
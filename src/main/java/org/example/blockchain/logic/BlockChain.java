@@ -2,15 +2,28 @@ package org.example.blockchain.logic;
 
 import org.example.blockchain.logic.block.Block;
 import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.events.BlockAppendEvent;
+import org.example.blockchain.logic.events.BlockValidationEvent;
+import org.example.blockchain.logic.events.MempoolRemovalEvent;
 import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Messages;
+import org.example.blockchain.logic.message.SignatureCache;
+import org.example.blockchain.logic.metrics.BlockChainMetrics;
+import org.example.blockchain.logic.metrics.InclusionLatencyTracker;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * The {@code BlockChain} is a simple implementation of a blockchain concept.
@@ -21,22 +34,43 @@ import static java.util.Objects.isNull;
  */
 public class BlockChain implements Serializable {
 
+    private static final int SIGNATURE_CACHE_SIZE = 100_000;
+
     private static BlockChain instance;
-    private int numberOfZeros;
+    private volatile int numberOfZeros;
+    private int minNumberOfZeros;
+    private int maxNumberOfZeros;
     private final List<Message> messages;
     private final List<Block> blocks;
+    private volatile ChainSnapshot snapshot;
     private final IdentifierStream identifierStream;
-    private static final Object IDENTIFIER_LOCK = new Object();
-    private static final Object MESSAGES_LOCK = new Object();
+    private final IdentifierSequencer identifierSequencer;
+    private final InclusionLatencyTracker inclusionLatency;
+    private final BlockChainMetrics metrics;
+    private final SignatureCache signatureCache;
+    private final List<Consumer<Block>> blockListeners;
+    private final List<Consumer<Message>> messageListeners;
 
     /**
      * Create a {@code BlockChain} with default values.
+     * Unlike {@link #getInstance()}, each call creates an independent blockchain with it's own blocks,
+     * messages and locks, e.g. for one node of a {@link org.example.blockchain.simulation.network.Network}.
+     * @since 1.1.0
      */
-    private BlockChain() {
+    public BlockChain() {
         numberOfZeros = 0;
+        minNumberOfZeros = 0;
+        maxNumberOfZeros = 6;
         messages = new ArrayList<>();
         blocks = new ArrayList<>();
+        snapshot = ChainSnapshot.empty();
         identifierStream = new IdentifierStream();
+        identifierSequencer = new IdentifierSequencer(identifierStream);
+        inclusionLatency = new InclusionLatencyTracker();
+        metrics = new BlockChainMetrics(this);
+        signatureCache = new SignatureCache(SIGNATURE_CACHE_SIZE);
+        blockListeners = new CopyOnWriteArrayList<>();
+        messageListeners = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -57,28 +91,66 @@ public class BlockChain implements Serializable {
      * after validating the last pair in the {@link BlockChain}.
      * Checks whether a block's hash starts with the required number of zeros.
      * Block is rejected if it doesn't have the required number of zeros at the beginning of it's hash.
-     * If a block contains any messages, they are removed from the queue.
+     * If a block contains any messages, they are removed from the queue
+     * and their inclusion latency is recorded, see {@link #getInclusionLatency()}.
+     * Each attempt and each removal of messages is recorded as a Flight Recorder event.
+     * Listeners added with {@link #addBlockListener(Consumer)} are notified of an accepted block
+     * while the {@code BlockChain} is still locked.
      *
      * @param block A block that is to be added to the {@link BlockChain}.
      * @return {@code true} if a block was successfully added to the {@link BlockChain}, otherwise {@code false}.
+     * @see BlockAppendEvent
+     * @see MempoolRemovalEvent
      */
     public synchronized boolean putLast(final Block block) {
-        if (((blocks.isEmpty() && validateBlock(block)) || validateBlockPair(getLast(), block)) &&
-                block.getHash().startsWith("0".repeat(Math.max(0, numberOfZeros)))) {
+        final BlockAppendEvent event = new BlockAppendEvent();
+        event.begin();
+
+        final boolean isValid = (blocks.isEmpty() && validateBlock(block)) || validateBlockPair(getLast(), block);
+        if (isValid && block.getHash().startsWith("0".repeat(Math.max(0, numberOfZeros)))) {
+
+            synchronized (messages) {
+                final List<Message> blockMessages = block.getMessages();
+                final MempoolRemovalEvent removalEvent = new MempoolRemovalEvent();
+                removalEvent.begin();
+                final int sizeBefore = messages.size();
+                messages.removeAll(blockMessages);
+                removalEvent.end();
+                if (removalEvent.shouldCommit()) {
+                    removalEvent.removed = sizeBefore - messages.size();
+                    removalEvent.remaining = messages.size();
+                    removalEvent.commit();
+                }
 
-            synchronized (MESSAGES_LOCK) {
-                messages.removeAll(block.getMessages());
                 blocks.add(block);
+                snapshot = snapshot.append(block);
+                inclusionLatency.included(blockMessages);
+                metrics.blockAccepted();
+                commit(event, block, null);
+                blockListeners.forEach(listener -> listener.accept(block));
                 return true;
             }
         }
 
+        metrics.blockRejected();
+        commit(event, block, isValid ? "Not enough zeros" : "Invalid hash or previous hash");
         return false;
     }
 
+    private static void commit(final BlockAppendEvent event, final Block block, final String reason) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.blockId = isNull(block) ? -1L : block.getId();
+            event.accepted = isNull(reason);
+            event.reason = reason;
+            event.commit();
+        }
+    }
+
     /**
      * At first, tries to put a block using {@link #putLast(Block)}.
-     * If it succeeds, evaluates the next number of zeros at the beginning of a block's hash.
+     * If it succeeds, evaluates the next number of zeros at the beginning of a block's hash,
+     * which stays between {@link #getMinNumberOfZeros()} and {@link #getMaxNumberOfZeros()}.
      *
      * @param block An block that is to be added to the {@link BlockChain}.
      * @param generationTime - The amount of time it took to generate a block.
@@ -90,12 +162,9 @@ public class BlockChain implements Serializable {
 
         if (isIn) {
             if (generationTime < 30L) {
-                if (numberOfZeros < 6) {
-                    block.setNProgress(++numberOfZeros);
-                } else {
-                    block.setNProgress(numberOfZeros);
-                }
-            } else if (numberOfZeros > 0) {
+                numberOfZeros = Math.max(minNumberOfZeros, Math.min(numberOfZeros + 1, maxNumberOfZeros));
+                block.setNProgress(numberOfZeros);
+            } else if (numberOfZeros > minNumberOfZeros) {
                 block.setNProgress(--numberOfZeros);
             }
         }
@@ -103,6 +172,93 @@ public class BlockChain implements Serializable {
         return isIn;
     }
 
+    /**
+     * Replaces blocks after the last block shared with the given chain by the rest of the given chain,
+     * if the given chain is longer than the {@link BlockChain} and starts with the same first block.
+     * It lets a node switch to the longest chain of it's peers after both of them mined a block on top of the same block.
+     * <br>
+     * Replacing blocks are validated like blocks in {@link #validateBlocks(List)}, so their hashes, the order
+     * of their messages, also after messages of shared blocks, and signatures are checked. Instead of the current number of zeros, each replacing block's hash
+     * has to start with the number of zeros that the previous block set, see {@link Block#getNProgress()}.
+     * Their messages are removed from the queue, while messages of replaced blocks are not put back.
+     * Listeners added with {@link #addBlockListener(Consumer)} are notified of each replacing block
+     * while the {@code BlockChain} is still locked.
+     *
+     * @param chain A chain of blocks that starts with the same first block as the {@link BlockChain}.
+     * @return {@code true} if the {@link BlockChain} switched to the given chain, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public synchronized boolean switchTo(final List<Block> chain) {
+        if (isNull(chain) || chain.size() <= blocks.size()) return false;
+
+        int common = 0;
+        while (common < blocks.size() && Objects.equals(blocks.get(common).getHash(), chain.get(common).getHash())) {
+            common++;
+        }
+
+        if (common == 0 && !blocks.isEmpty()) return false;
+        if (!validateReplacingBlocks(chain, common)) return false;
+
+        blocks.subList(common, blocks.size()).clear();
+        ChainSnapshot next = snapshot.truncate(common);
+
+        final List<Block> replacing = chain.subList(common, chain.size());
+
+        synchronized (messages) {
+            for (final Block block : replacing) {
+                final List<Message> blockMessages = block.getMessages();
+                messages.removeAll(blockMessages);
+                blocks.add(block);
+                next = next.append(block);
+                inclusionLatency.included(blockMessages);
+                metrics.blockAccepted();
+            }
+
+            snapshot = next;
+            replacing.forEach(block -> blockListeners.forEach(listener -> listener.accept(block)));
+        }
+
+        return true;
+    }
+
+    private boolean validateReplacingBlocks(final List<Block> chain, final int common) {
+        if (common == 0 && !validateBlock(chain.get(0))) return false;
+
+        for (int i = Math.max(1, common); i < chain.size(); i++) {
+            final Block prevBlock = chain.get(i - 1);
+            final Block block = chain.get(i);
+            if (!validateBlockPair(prevBlock, block)
+                    || !block.getHash().startsWith("0".repeat(Math.max(0, prevBlock.getNProgress())))) {
+                return false;
+            }
+        }
+
+        final List<Message> replacingMessages = new ArrayList<>();
+        final Message lastShared = getLastMessage(chain.subList(0, common));
+        if (nonNull(lastShared)) {
+            replacingMessages.add(lastShared);
+        }
+        chain.subList(common, chain.size()).forEach(block -> replacingMessages.addAll(block.getMessages()));
+        if (!validateMessages(replacingMessages)) return false;
+
+        for (final Message message : replacingMessages) {
+            if (message != lastShared && Messages.isSigned(message) && !Messages.verify(message, signatureCache)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Message getLastMessage(final List<Block> blocks) {
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            final List<Message> blockMessages = blocks.get(i).getMessages();
+            if (!blockMessages.isEmpty()) return blockMessages.get(blockMessages.size() - 1);
+        }
+
+        return null;
+    }
+
     /**
      * Returns the last block in the {@link BlockChain} or {@code null} if it is empty.
      * @return The last block in the {@link BlockChain} or {@code null} if it is empty.
@@ -115,6 +271,9 @@ public class BlockChain implements Serializable {
      * If the message queue is empty, adds a message without validation.
      * Otherwise, checks if a message id is greater than the id of the last message in the queue
      * and adds a message if the validation was successful.
+     * The time of addition is remembered to measure how long a message waits for a block.
+     * Listeners added with {@link #addMessageListener(Consumer)} are notified of an added message
+     * while the queue is still locked, so they are notified in the order of the queue.
      *
      * @param message A message that is to be added to the queue.
      * @return {@code true} if a message was successfully added to the queue, otherwise {@code false}.
@@ -122,13 +281,17 @@ public class BlockChain implements Serializable {
     public boolean addMessage(final Message message) {
         if (isNull(message)) return false;
 
-        synchronized (MESSAGES_LOCK) {
-            if (messages.isEmpty()) {
-                return messages.add(message);
-            } else if (validateMessagePair(messages.get(messages.size() - 1), message)) {
-                return messages.add(message);
+        synchronized (messages) {
+            if (messages.isEmpty() || validateMessagePair(messages.get(messages.size() - 1), message)) {
+                messages.add(message);
+                inclusionLatency.submitted(message);
+                metrics.messageAccepted();
+                messageListeners.forEach(listener -> listener.accept(message));
+                return true;
             }
         }
+
+        metrics.messageRejected();
         return false;
     }
 
@@ -138,11 +301,49 @@ public class BlockChain implements Serializable {
      * @see IdentifierStream
      */
     public int getUniqueIdentifier() {
-        synchronized (IDENTIFIER_LOCK) {
+        synchronized (identifierStream) {
             return identifierStream.getNext();
         }
     }
 
+    /**
+     * Returns a unique identifier for messages drawn from the given source of randomness.
+     * @param random A source of randomness, e.g. the one of a user.
+     * @return A unique identifier.
+     * @see IdentifierStream#getNext(SplittableRandom)
+     * @since 1.1.0
+     */
+    public int getUniqueIdentifier(final SplittableRandom random) {
+        synchronized (identifierStream) {
+            return identifierStream.getNext(random);
+        }
+    }
+
+    /**
+     * Takes a unique identifier drawn from the given source of randomness and prepares a message with it
+     * without holding any lock, so many messages may be signed at the same time.
+     * The prepared message is then added once every message that took an identifier before it was added,
+     * so messages reach the queue, or are submitted, in the order of their ids. Otherwise a message that was signed
+     * slower than a message with a greater id would be rejected by {@link #addMessage(Message)}.
+     * <br>
+     * Additions of all threads run one at a time, so an addition should only add a message, e.g. to the queue.
+     *
+     * @param random A source of randomness, e.g. the one of a user.
+     * @param prepare An action that creates a message with the identifier.
+     * @param add An action that adds a prepared message.
+     * @param <M> The type of prepared messages.
+     * @param <T> The type of the addition's result.
+     * @return The result of the addition.
+     * @see IdentifierSequencer
+     * @since 1.1.0
+     */
+    public <M, T> T withUniqueIdentifier(final SplittableRandom random,
+                                         final IntFunction<? extends M> prepare,
+                                         final Function<? super M, ? extends T> add) {
+
+        return identifierSequencer.sequence(random, prepare, add);
+    }
+
     /**
      * Checks whether a block's hash was generated properly.
      *
@@ -194,9 +395,11 @@ public class BlockChain implements Serializable {
      * <ul>
      *     <li>there are no blocks - blockchain is empty;</li>
      *     <li>there is only one <b>valid block</b>;</li>
-     *     <li>there are only <b>ordered pairs</b> of valid blocks with ordered messages.</li>
+     *     <li>there are only <b>ordered pairs</b> of valid blocks with ordered and validly signed messages.</li>
      * </ul>
      * In any other cases a blockchain is invalid.
+     * Signatures are verified through the {@link #getSignatureCache()}, so validating the same blockchain again
+     * doesn't verify the same signatures again.
      * <br>
      * Glossary:
      * <ul>
@@ -204,10 +407,29 @@ public class BlockChain implements Serializable {
      *     <li>ordered pair - a pair of blocks that was successfully validated using {@link #validateBlockPair(Block, Block)}.</li>
      * </ul>
      *
+     * Validation is recorded as a Flight Recorder event.
+     *
      * @param blocks A blockchain that is to be validated.
      * @return {@code true} if blockchain is valid, otherwise {@code false}.
+     * @see BlockValidationEvent
      */
     public boolean validateBlocks(final List<Block> blocks) {
+        final BlockValidationEvent event = new BlockValidationEvent();
+        event.begin();
+
+        final boolean isValid = validateBlockList(blocks);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.blocks = blocks.size();
+            event.valid = isValid;
+            event.commit();
+        }
+
+        return isValid;
+    }
+
+    private boolean validateBlockList(final List<Block> blocks) {
         if (blocks.isEmpty()) return true;
         if (!validateBlock(blocks.get(0))) return false;
         if (blocks.size() == 1) return true;
@@ -222,7 +444,15 @@ public class BlockChain implements Serializable {
                 .flatMap(block -> block.getMessages().stream())
                 .collect(Collectors.toList());
 
-        return validateMessages(messages);
+        if (!validateMessages(messages)) return false;
+
+        for (final Message message : messages) {
+            if (Messages.isSigned(message) && !Messages.verify(message, signatureCache)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -261,12 +491,58 @@ public class BlockChain implements Serializable {
         return true;
     }
 
+    /**
+     * Checks whether each message that carries a signature has a valid signature.
+     * Messages without a signature are skipped.
+     * Each signature is verified, so it's meant for messages that weren't validated before,
+     * e.g. the ones of a block received from a peer.
+     *
+     * @param messages A message list that is to be validated.
+     * @return {@code true} if all signatures are valid, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public boolean validateSignatures(final List<Message> messages) {
+        for (final Message message : messages) {
+            if (Messages.isSigned(message) && !Messages.verify(message)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets bounds of the number of zeros that {@link #putLast(Block, long)} evaluates.
+     * By default, the number of zeros is between 0 and 6.
+     *
+     * @param min The minimum number of zeros.
+     * @param max The maximum number of zeros.
+     * @throws IllegalArgumentException When the minimum is negative or greater than the maximum.
+     * @since 1.1.0
+     */
+    public synchronized void setNumberOfZerosBounds(final int min, final int max) throws IllegalArgumentException {
+        if (min < 0 || min > max) {
+            throw new IllegalArgumentException("Minimum number of zeros should not be negative nor greater than maximum");
+        }
+
+        minNumberOfZeros = min;
+        maxNumberOfZeros = max;
+    }
+
     public int getNumberOfZeros() {
         return numberOfZeros;
     }
 
+    public synchronized int getMinNumberOfZeros() {
+        return minNumberOfZeros;
+    }
+
+    public synchronized int getMaxNumberOfZeros() {
+        return maxNumberOfZeros;
+    }
+
     public List<Message> getMessages() {
-        synchronized (MESSAGES_LOCK) {
+        synchronized (messages) {
             return messages;
         }
     }
@@ -274,4 +550,97 @@ public class BlockChain implements Serializable {
     public List<Block> getBlocks() {
         return blocks;
     }
+
+    /**
+     * Returns an immutable view of blocks that were put into the {@link BlockChain} so far.
+     * Unlike {@link #getBlocks()}, the view can be read by any thread while blocks are put,
+     * without locking the {@link BlockChain} nor copying it's blocks.
+     * Snapshots follow {@link #putLast(Block)} and {@link #switchTo(List)}, so blocks added directly
+     * to the list returned by {@link #getBlocks()} are not seen by them.
+     * @return The latest snapshot of blocks.
+     * @since 1.1.0
+     */
+    public ChainSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Adds a listener that is notified of each block accepted by {@link #putLast(Block)}.
+     * Listeners are called while the {@code BlockChain} is locked, so they should return quickly.
+     * @param listener A listener of accepted blocks.
+     * @since 1.1.0
+     */
+    public void addBlockListener(final Consumer<Block> listener) {
+        if (nonNull(listener)) {
+            blockListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added with {@link #addBlockListener(Consumer)}.
+     * @param listener A listener of accepted blocks.
+     * @since 1.1.0
+     */
+    public void removeBlockListener(final Consumer<Block> listener) {
+        blockListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener that is notified of each message added by {@link #addMessage(Message)}.
+     * Listeners are called while the queue is locked, so they should return quickly.
+     * @param listener A listener of added messages.
+     * @since 1.1.0
+     */
+    public void addMessageListener(final Consumer<Message> listener) {
+        if (nonNull(listener)) {
+            messageListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added with {@link #addMessageListener(Consumer)}.
+     * @param listener A listener of added messages.
+     * @since 1.1.0
+     */
+    public void removeMessageListener(final Consumer<Message> listener) {
+        messageListeners.remove(listener);
+    }
+
+    /**
+     * Returns the tracker of how long messages wait between {@link #addMessage(Message)}
+     * and landing in a block accepted by {@link #putLast(Block)}.
+     * @return The inclusion latency tracker.
+     * @since 1.1.0
+     */
+    public InclusionLatencyTracker getInclusionLatency() {
+        return inclusionLatency;
+    }
+
+    /**
+     * Returns the cache of signatures verified by {@link #validateBlocks(List)}.
+     * @return The cache of verified signatures.
+     * @since 1.1.0
+     */
+    public SignatureCache getSignatureCache() {
+        return signatureCache;
+    }
+
+    /**
+     * Returns the last identifier given out to a message.
+     * @return The identifier watermark.
+     * @see IdentifierStream#getStartingPoint()
+     * @since 1.1.0
+     */
+    public int getIdentifierWatermark() {
+        return identifierStream.getStartingPoint();
+    }
+
+    /**
+     * Returns counters of the {@code BlockChain} that can be exposed over JMX with {@link BlockChainMetrics#register()}.
+     * @return The metrics of the {@code BlockChain}.
+     * @since 1.1.0
+     */
+    public BlockChainMetrics getMetrics() {
+        return metrics;
+    }
 }
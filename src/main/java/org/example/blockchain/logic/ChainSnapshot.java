@@ -0,0 +1,179 @@
+package org.example.blockchain.logic;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.query.BlockPage;
+import org.example.blockchain.logic.query.BlockQuery;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * An immutable view of blocks of a {@link BlockChain} at one moment, see {@link BlockChain#getSnapshot()}.
+ * <br>
+ * Taking a snapshot doesn't copy blocks nor lock the blockchain. Snapshots share one array of blocks,
+ * which the blockchain only appends to, while each snapshot remembers how many of them it sees.
+ * When the blockchain switches to another chain, replaced blocks are not overwritten, because the blockchain
+ * continues in a new array, so a snapshot keeps seeing the same blocks however long it's used.
+ * <br>
+ * Blocks are streamed lazily with {@link #stream(BlockQuery)} or read in pages with {@link #page(BlockQuery, int)},
+ * so a query reads only the blocks it needs.
+ *
+ * @author Dominik Szmyt
+ * @see BlockQuery
+ * @since 1.1.0
+ */
+public final class ChainSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Block[] blocks;
+    private final int height;
+
+    private ChainSnapshot(final Block[] blocks, final int height) {
+        this.blocks = blocks;
+        this.height = height;
+    }
+
+    /**
+     * Creates an empty snapshot with it's own array, which one blockchain appends to.
+     */
+    static ChainSnapshot empty() {
+        return new ChainSnapshot(new Block[INITIAL_CAPACITY], 0);
+    }
+
+    /**
+     * Appends a block to the array of this snapshot, growing it if it's full.
+     * Only the owner of the latest snapshot may append, while it's locked.
+     */
+    ChainSnapshot append(final Block block) {
+        final Block[] array = height < blocks.length ? blocks : Arrays.copyOf(blocks, blocks.length * 2);
+        array[height] = block;
+        return new ChainSnapshot(array, height + 1);
+    }
+
+    /**
+     * Keeps the given number of first blocks in a new array, so older snapshots still see replaced blocks.
+     */
+    ChainSnapshot truncate(final int newHeight) {
+        if (newHeight == height) return this;
+
+        final Block[] array = Arrays.copyOf(blocks, Math.max(INITIAL_CAPACITY, blocks.length));
+        Arrays.fill(array, newHeight, array.length, null);
+        return new ChainSnapshot(array, newHeight);
+    }
+
+    /**
+     * Returns the block at the given height.
+     * @param index The height of a block, starting at {@code 0}.
+     * @return The block at the height.
+     * @throws IndexOutOfBoundsException When the height is not lower than the snapshot's height.
+     */
+    public Block get(final int index) throws IndexOutOfBoundsException {
+        return blocks[Objects.checkIndex(index, height)];
+    }
+
+    /**
+     * Returns the last block of the snapshot or {@code null} if it's empty.
+     * @return The last block or {@code null}.
+     */
+    public Block getLast() {
+        return height == 0 ? null : blocks[height - 1];
+    }
+
+    /**
+     * Streams all blocks from the first one.
+     * @return A lazy stream of blocks.
+     */
+    public Stream<Block> stream() {
+        return Arrays.stream(blocks, 0, height);
+    }
+
+    /**
+     * Streams blocks that match a query, in the query's order.
+     * @param query A query of blocks.
+     * @return A lazy stream of matching blocks.
+     * @throws IllegalArgumentException When the query is not defined.
+     */
+    public Stream<Block> stream(final BlockQuery query) throws IllegalArgumentException {
+        return heights(query, -1).mapToObj(index -> blocks[index]);
+    }
+
+    /**
+     * Returns the first page of blocks that match a query.
+     * @param query A query of blocks.
+     * @param size The maximum number of blocks on a page.
+     * @return The first page of matching blocks.
+     * @throws IllegalArgumentException When the query is not defined or the size is not positive.
+     * @see #page(BlockQuery, int, int)
+     */
+    public BlockPage page(final BlockQuery query, final int size) throws IllegalArgumentException {
+        return page(query, -1, size);
+    }
+
+    /**
+     * Returns a page of blocks that match a query, starting at the given height.
+     * The next page starts at {@link BlockPage#getNextHeight()}, which can be passed to a later snapshot as well,
+     * because heights of blocks don't change unless the blockchain switches to another chain.
+     * @param query A query of blocks.
+     * @param start The height that the page starts at or {@code -1} to start at the beginning of the query.
+     * @param size The maximum number of blocks on a page.
+     * @return A page of matching blocks.
+     * @throws IllegalArgumentException When the query is not defined or the size is not positive.
+     */
+    public BlockPage page(final BlockQuery query, final int start, final int size) throws IllegalArgumentException {
+        if (size < 1) {
+            throw new IllegalArgumentException("Query should be defined and page size should be positive");
+        }
+
+        final List<Block> page = new ArrayList<>(Math.min(size, height));
+        final PrimitiveIterator.OfInt iterator = heights(query, start).limit(size + 1L).iterator();
+        while (iterator.hasNext()) {
+            final int index = iterator.nextInt();
+            if (page.size() == size) {
+                return new BlockPage(page, index);
+            }
+            page.add(blocks[index]);
+        }
+
+        return new BlockPage(page, -1);
+    }
+
+    private IntStream heights(final BlockQuery query, final int start) {
+        if (isNull(query)) {
+            throw new IllegalArgumentException("Query should be defined and page size should be positive");
+        }
+
+        final int from = Math.max(0, query.getFromHeight());
+        final int to = Math.min(height, query.getToHeight());
+        if (from >= to) return IntStream.empty();
+
+        final IntStream heights;
+        if (query.isDescending()) {
+            final int first = start < 0 ? to - 1 : Math.min(start, to - 1);
+            heights = IntStream.iterate(first, index -> index >= from, index -> index - 1);
+        } else {
+            final int first = start < 0 ? from : Math.max(start, from);
+            heights = IntStream.range(first, to);
+        }
+
+        return heights.filter(index -> query.matches(blocks[index]));
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public boolean isEmpty() {
+        return height == 0;
+    }
+}
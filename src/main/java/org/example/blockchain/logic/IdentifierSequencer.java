@@ -0,0 +1,93 @@
+package org.example.blockchain.logic;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Hands out identifiers of an {@link IdentifierStream} together with turns, so messages that are prepared
+ * concurrently, e.g. signed, are still added in the order of their ids.
+ * <br>
+ * An identifier and it's turn are taken under the lock of the stream, the message is prepared without holding any lock
+ * and then it waits until every message with a smaller id was added or abandoned. Only adding is done one at a time.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public class IdentifierSequencer {
+
+    private final IdentifierStream identifierStream;
+    private final Object turns = new Object();
+    private long nextTicket;
+    private long currentTurn;
+
+    /**
+     * Create an {@code IdentifierSequencer} that takes identifiers from the given stream.
+     * @param identifierStream A stream of identifiers that is locked whenever an identifier is taken.
+     */
+    public IdentifierSequencer(final IdentifierStream identifierStream) {
+        this.identifierStream = identifierStream;
+    }
+
+    /**
+     * Takes a unique identifier drawn from the given source of randomness and prepares a message with it.
+     * Then waits for it's turn and adds the message.
+     * If preparation fails, the turn is passed on, so messages with greater ids don't wait forever.
+     * An interrupt while waiting doesn't give up the turn, instead the interrupt flag is restored before adding.
+     *
+     * @param random A source of randomness, e.g. the one of a user.
+     * @param prepare An action that creates a message with the identifier, called without holding any lock.
+     * @param add An action that adds a message, called when all messages with smaller ids were added.
+     * @param <M> The type of prepared messages.
+     * @param <T> The type of the addition's result.
+     * @return The result of the addition.
+     */
+    public <M, T> T sequence(final SplittableRandom random,
+                             final IntFunction<? extends M> prepare,
+                             final Function<? super M, ? extends T> add) {
+
+        final int id;
+        final long ticket;
+        synchronized (identifierStream) {
+            id = identifierStream.getNext(random);
+            ticket = nextTicket++;
+        }
+
+        try {
+            final M message;
+            try {
+                message = prepare.apply(id);
+            } finally {
+                awaitTurn(ticket);
+            }
+
+            return add.apply(message);
+        } finally {
+            passTurn();
+        }
+    }
+
+    private void awaitTurn(final long ticket) {
+        boolean interrupted = false;
+        synchronized (turns) {
+            while (currentTurn != ticket) {
+                try {
+                    turns.wait();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void passTurn() {
+        synchronized (turns) {
+            currentTurn++;
+            turns.notifyAll();
+        }
+    }
+}
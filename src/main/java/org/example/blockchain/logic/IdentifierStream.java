@@ -1,6 +1,6 @@
 package org.example.blockchain.logic;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Supplies blockchain with unique identifiers for it's messages.
@@ -12,31 +12,67 @@ import java.util.Random;
  */
 public class IdentifierStream {
 
-    private int startingPoint;
+    private final SplittableRandom random;
+    private volatile int startingPoint;
 
     /**
      * Create an {@code IdentifierStream} with starting point at 0.
      */
     public IdentifierStream() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Create an {@code IdentifierStream} with starting point at 0
+     * whose {@link #getNext()} draws ints from a source of randomness with the given seed.
+     * @param seed The seed.
+     * @since 1.1.0
+     */
+    public IdentifierStream(final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private IdentifierStream(final SplittableRandom random) {
+        this.random = random;
         startingPoint = 0;
     }
 
     /**
      * Draws a random stream of ints and then finds one value from the first one hundred results
      * that is greater than the starting point. If there are not such results, increments starting point by 1.
+     * Ints are drawn from the stream's own source of randomness, which, like the starting point,
+     * is meant to be used by one thread at a time.
      *
      * @return A unique identifier
      */
     public int getNext() {
-        final Random random = new Random();
+        return getNext(random);
+    }
 
-        final int next = random.ints()
-                .limit(100)
+    /**
+     * Works like {@link #getNext()}, but draws ints from the given source of randomness,
+     * so a seeded simulation gets the same identifiers each time.
+     *
+     * @param random A source of randomness.
+     * @return A unique identifier
+     * @since 1.1.0
+     */
+    public int getNext(final SplittableRandom random) {
+        final int next = random.ints(100)
                 .filter(x -> x > startingPoint)
-                .findAny()
+                .findFirst()
                 .orElse(startingPoint + 1);
 
         startingPoint = next;
         return next;
     }
+
+    /**
+     * Returns the last identifier that was given out, which every next identifier is greater than.
+     * @return The identifier watermark.
+     * @since 1.1.0
+     */
+    public int getStartingPoint() {
+        return startingPoint;
+    }
 }
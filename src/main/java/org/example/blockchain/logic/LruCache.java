@@ -0,0 +1,150 @@
+package org.example.blockchain.logic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Remembers values by their keys and holds at most {@link #getMaximumSize()} entries,
+ * evicting the least recently used one when it's full.
+ * <br>
+ * A cache of at least {@value #ENTRIES_PER_STRIPE} entries per stripe is split into up to {@value #MAX_STRIPES} stripes
+ * chosen by hash codes of keys. Each stripe holds it's share of entries under it's own lock,
+ * so threads that look up different keys rarely wait for each other.
+ * The least recently used entry is then evicted from the stripe of a new entry, not from the whole cache.
+ * Smaller caches have a single stripe.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public class LruCache<K, V> {
+
+    static final int MAX_STRIPES = 16;
+    static final int ENTRIES_PER_STRIPE = 1024;
+
+    private final int maximumSize;
+    private final List<Map<K, V>> stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a {@code LruCache} that holds at most the given number of entries.
+     * @param maximumSize The maximum number of entries.
+     * @throws IllegalArgumentException When the maximum size is not positive.
+     */
+    public LruCache(final int maximumSize) throws IllegalArgumentException {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size should be positive");
+        }
+
+        this.maximumSize = maximumSize;
+
+        final int stripeCount = Math.max(1, Integer.highestOneBit(Math.min(MAX_STRIPES, maximumSize / ENTRIES_PER_STRIPE)));
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            final int stripeSize = maximumSize / stripeCount + (i < maximumSize % stripeCount ? 1 : 0);
+            stripes.add(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    return size() > stripeSize;
+                }
+            });
+        }
+    }
+
+    /**
+     * Looks for a value in the cache.
+     * @param key The key of a value.
+     * @return A cached value or {@code null} if there was none.
+     */
+    public V get(final K key) {
+        V value = null;
+        if (!isNull(key)) {
+            final Map<K, V> stripe = stripeOf(key);
+            synchronized (stripe) {
+                value = stripe.get(key);
+            }
+        }
+
+        if (isNull(value)) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Puts a value in the cache, evicting the least recently used one of it's stripe if the stripe is full.
+     * @param key The key of a value.
+     * @param value A value that is to be cached.
+     */
+    public void put(final K key, final V value) {
+        if (isNull(key) || isNull(value)) return;
+
+        final Map<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    /**
+     * Removes all entries. Doesn't reset hit and miss counters.
+     */
+    public void clear() {
+        for (final Map<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the ratio of lookups that were answered by the cache.
+     * @return The hit rate or {@code 0} if there were no lookups yet.
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0L ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        int size = 0;
+        for (final Map<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    int getStripes() {
+        return stripes.size();
+    }
+
+    private Map<K, V> stripeOf(final K key) {
+        final int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & (stripes.size() - 1));
+    }
+}
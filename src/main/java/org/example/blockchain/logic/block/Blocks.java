@@ -1,13 +1,15 @@
 package org.example.blockchain.logic.block;
 
 import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.example.blockchain.logic.events.MiningEvent;
 import org.example.blockchain.logic.message.Message;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.Objects.nonNull;
 
@@ -47,28 +49,50 @@ public final class Blocks {
     /**
      * Looks for a magic number by randomly selecting a value
      * and verifying if a generated hash has the required number of zeros.
+     * Values are drawn from a source of randomness seeded with the input,
+     * so the same input always gives the same magic number.
      *
      * @param numberOfZeros A required number of zeros at the beginning of a generated hash.
      * @param input An input that is to be used to generate hash.
      * @return A magic number.
      */
     public static int findMagicNumber(final int numberOfZeros, final String input) {
-        final Random random = new Random();
+        return findMagicNumber(numberOfZeros, input, new LongAdder(), new SplittableRandom(input.hashCode()));
+    }
+
+    /**
+     * Looks for a magic number like {@link #findMagicNumber(int, String)}, drawing values from the given
+     * source of randomness, and counts how many hashes were computed.
+     *
+     * @param numberOfZeros A required number of zeros at the beginning of a generated hash.
+     * @param input An input that is to be used to generate hash.
+     * @param hashes A counter that is increased by the number of computed hashes.
+     * @param random A source of randomness, e.g. the one of a miner.
+     * @return A magic number.
+     * @since 1.1.0
+     */
+    public static int findMagicNumber(final int numberOfZeros,
+                                      final String input,
+                                      final LongAdder hashes,
+                                      final SplittableRandom random) {
         int magicNumber = random.nextInt();
 
         String hash = applySha256(input + magicNumber);
+        hashes.increment();
         final String regex = "^0{" + numberOfZeros + "}[1-9a-zA-Z][\\da-zA-Z]+";
 
         while (!hash.matches(regex)) {
             magicNumber = random.nextInt();
             hash = applySha256(input + magicNumber);
+            hashes.increment();
         }
 
         return magicNumber;
     }
 
     /**
-     * Carries out a process of mining a valid block.
+     * Carries out a process of mining a valid block
+     * whose generation time is measured with the wall clock, see {@link MiningContext#WALL_CLOCK}.
      *
      * @param prevBlock A previous block that will be used as a reference point when mining a new block.
      * @param messages The list of messages that will be included in a new block.
@@ -81,6 +105,57 @@ public final class Blocks {
                                   final long timestamp,
                                   final long createdBy) {
 
+        return mineBlock(prevBlock, messages, timestamp, createdBy, MiningContext.WALL_CLOCK, new SplittableRandom());
+    }
+
+    /**
+     * Carries out a process of mining a valid block
+     * whose generation time is evaluated by the given {@link MiningContext}.
+     * Magic numbers are drawn from the given source of randomness,
+     * so a miner with a seeded source mines the same blocks each time.
+     *
+     * @param prevBlock A previous block that will be used as a reference point when mining a new block.
+     * @param messages The list of messages that will be included in a new block.
+     * @param timestamp The timestamp at which a creator started mining the block.
+     * @param createdBy The unique identifier of a creator.
+     * @param miningContext A context that evaluates the generation time of a block.
+     * @param random A source of randomness, e.g. the one of a miner.
+     * @return A valid block that can be added to a blockchain.
+     * @since 1.1.0
+     */
+    public static Block mineBlock(final Block prevBlock,
+                                  final List<Message> messages,
+                                  final long timestamp,
+                                  final long createdBy,
+                                  final MiningContext miningContext,
+                                  final SplittableRandom random) {
+
+        return mineBlock(prevBlock, messages, timestamp, createdBy, miningContext, random, new LongAdder());
+    }
+
+    /**
+     * Works like {@link #mineBlock(Block, List, long, long, MiningContext, SplittableRandom)}
+     * and also adds the number of computed hashes to the given counter, e.g. to measure a miner's hash rate.
+     * Mining is recorded as a Flight Recorder {@link MiningEvent}.
+     *
+     * @param prevBlock A previous block that will be used as a reference point when mining a new block.
+     * @param messages The list of messages that will be included in a new block.
+     * @param timestamp The timestamp at which a creator started mining the block.
+     * @param createdBy The unique identifier of a creator.
+     * @param miningContext A context that evaluates the generation time of a block.
+     * @param random A source of randomness, e.g. the one of a miner.
+     * @param totalHashes A counter that is increased by the number of hashes computed for this block.
+     * @return A valid block that can be added to a blockchain.
+     * @since 1.1.0
+     */
+    public static Block mineBlock(final Block prevBlock,
+                                  final List<Message> messages,
+                                  final long timestamp,
+                                  final long createdBy,
+                                  final MiningContext miningContext,
+                                  final SplittableRandom random,
+                                  final LongAdder totalHashes) {
+
         long id = 1L;
         String previousHash = "0";
         int nProgress = 0;
@@ -91,12 +166,24 @@ public final class Blocks {
             nProgress = prevBlock.getNProgress();
         }
 
+        final LongAdder hashes = new LongAdder();
+        final MiningEvent event = new MiningEvent();
+        event.begin();
         final long start = System.currentTimeMillis();
 
-        final int magicNumber = findMagicNumber(nProgress, id + timestamp + previousHash + createdBy);
+        final int magicNumber = findMagicNumber(nProgress, id + timestamp + previousHash + createdBy, hashes, random);
 
         final long end = System.currentTimeMillis();
-        final long generationTime = (end - start) / 1000L;
+        event.end();
+        if (event.shouldCommit()) {
+            event.blockId = id;
+            event.createdBy = createdBy;
+            event.numberOfZeros = nProgress;
+            event.hashes = hashes.sum();
+            event.commit();
+        }
+        final long generationTime = miningContext.getGenerationTime(end - start, hashes.sum());
+        totalHashes.add(hashes.sum());
 
         final String hash = applySha256(id + timestamp + previousHash + createdBy + magicNumber);
 
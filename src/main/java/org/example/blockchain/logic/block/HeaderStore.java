@@ -0,0 +1,471 @@
+package org.example.blockchain.logic.block;
+
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps headers of blocks off the heap, in a direct or a memory-mapped buffer,
+ * as a table with one fixed-width column for each field: id, timestamp, magic number, creator,
+ * nProgress, generation time, hash and previous hash. Hashes are stored as 32 bytes instead of 64 hex digits,
+ * and the previous hash {@code "0"} of the first block is stored as 32 zero bytes.
+ * <br>
+ * Each column is a contiguous region of the buffer, so scans that read one or two fields, like checking links
+ * between blocks, walk memory sequentially, and neither scans nor lookups create objects, except for the methods
+ * that return hashes or headers as Java objects.
+ * <br>
+ * A store in a direct buffer grows when it's full, while a memory-mapped store has a fixed capacity
+ * and keeps it's headers in a file, so they can be read again after a restart.
+ * Numbers are kept in the platform's byte order, so a file should be read on the same kind of machine.
+ * <br>
+ * The store is not thread-safe. Headers should be appended and read by one thread or under a lock,
+ * just like the blocks of a {@link org.example.blockchain.logic.BlockChain}.
+ *
+ * @author Dominik Szmyt
+ * @see Block
+ * @since 1.1.0
+ */
+public class HeaderStore {
+
+    static final int HASH_BYTES = 32;
+    static final int ROW_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES
+            + HASH_BYTES + HASH_BYTES;
+
+    private static final int FILE_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final MappedByteBuffer file;
+    private int capacity;
+    private int size;
+
+    private ByteBuffer ids;
+    private ByteBuffer timestamps;
+    private ByteBuffer magicNumbers;
+    private ByteBuffer creators;
+    private ByteBuffer nProgresses;
+    private ByteBuffer generationTimes;
+    private ByteBuffer hashes;
+    private ByteBuffer previousHashes;
+
+    /**
+     * Create an empty {@code HeaderStore} in a direct buffer that grows when it's full.
+     * @param capacity The initial number of headers.
+     * @throws IllegalArgumentException When the capacity is not positive.
+     */
+    public HeaderStore(final int capacity) throws IllegalArgumentException {
+        this(null, checkCapacity(capacity), 0);
+        slice(ByteBuffer.allocateDirect(capacity * ROW_BYTES));
+    }
+
+    private HeaderStore(final MappedByteBuffer file, final int capacity, final int size) {
+        this.file = file;
+        this.capacity = capacity;
+        this.size = size;
+    }
+
+    private static int checkCapacity(final int capacity) throws IllegalArgumentException {
+        if (capacity <= 0 || capacity > Integer.MAX_VALUE / ROW_BYTES) {
+            throw new IllegalArgumentException("Capacity should be positive and small enough to fit in a buffer");
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Maps a file to a {@code HeaderStore}. A new file is created with the given capacity,
+     * while an existing file keeps it's capacity and headers.
+     *
+     * @param path The path of a file.
+     * @param capacity The number of headers of a new file.
+     * @return A store of headers kept in the file.
+     * @throws IOException When the file couldn't be mapped.
+     * @throws IllegalArgumentException When the capacity is not positive.
+     */
+    public static HeaderStore map(final Path path, final int capacity) throws IOException, IllegalArgumentException {
+        checkCapacity(capacity);
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            final boolean isNew = channel.size() < FILE_HEADER_BYTES;
+            int fileCapacity = capacity;
+            int fileSize = 0;
+            if (!isNew) {
+                final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+                channel.read(header, 0L);
+                header.flip();
+                fileSize = header.getInt();
+                fileCapacity = checkCapacity(header.getInt());
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L,
+                    FILE_HEADER_BYTES + (long) fileCapacity * ROW_BYTES);
+            if (isNew) {
+                buffer.putInt(0, 0);
+                buffer.putInt(Integer.BYTES, fileCapacity);
+            }
+
+            final HeaderStore store = new HeaderStore(buffer, fileCapacity, fileSize);
+            store.slice(buffer.duplicate().position(FILE_HEADER_BYTES).slice());
+            return store;
+        }
+    }
+
+    /**
+     * Creates a {@code HeaderStore} in a direct buffer with headers of the given blocks.
+     * @param blocks Blocks whose headers are to be stored.
+     * @return A store of headers.
+     */
+    public static HeaderStore of(final List<Block> blocks) {
+        final HeaderStore store = new HeaderStore(Math.max(1, blocks.size()));
+        for (final Block block : blocks) {
+            store.append(block);
+        }
+
+        return store;
+    }
+
+    private void slice(final ByteBuffer buffer) {
+        int offset = 0;
+        ids = column(buffer, offset, Long.BYTES);
+        offset += capacity * Long.BYTES;
+        timestamps = column(buffer, offset, Long.BYTES);
+        offset += capacity * Long.BYTES;
+        magicNumbers = column(buffer, offset, Integer.BYTES);
+        offset += capacity * Integer.BYTES;
+        creators = column(buffer, offset, Long.BYTES);
+        offset += capacity * Long.BYTES;
+        nProgresses = column(buffer, offset, Integer.BYTES);
+        offset += capacity * Integer.BYTES;
+        generationTimes = column(buffer, offset, Long.BYTES);
+        offset += capacity * Long.BYTES;
+        hashes = column(buffer, offset, HASH_BYTES);
+        offset += capacity * HASH_BYTES;
+        previousHashes = column(buffer, offset, HASH_BYTES);
+    }
+
+    private ByteBuffer column(final ByteBuffer buffer, final int offset, final int width) {
+        return buffer.duplicate().position(offset).limit(offset + capacity * width).slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Appends the header of a block. A store in a direct buffer doubles it's capacity when it's full.
+     * @param block A block whose header is to be stored.
+     * @return The index of the header.
+     * @throws IllegalArgumentException When the block is not defined or it's hashes are not 64 hex digits.
+     * @throws IllegalStateException When a memory-mapped store is full.
+     */
+    public int append(final Block block) throws IllegalArgumentException, IllegalStateException {
+        if (isNull(block)) {
+            throw new IllegalArgumentException("Block should be defined");
+        }
+        if (size == capacity) {
+            grow();
+        }
+
+        final int index = size;
+        ids.putLong(index * Long.BYTES, block.getId());
+        timestamps.putLong(index * Long.BYTES, block.getTimestamp());
+        magicNumbers.putInt(index * Integer.BYTES, block.getMagicNumber());
+        creators.putLong(index * Long.BYTES, block.getCreatedBy());
+        nProgresses.putInt(index * Integer.BYTES, block.getNProgress());
+        generationTimes.putLong(index * Long.BYTES, block.getGenerationTime());
+        putHash(hashes, index, block.getHash());
+        putHash(previousHashes, index, block.getPreviousHash());
+
+        size++;
+        if (nonNull(file)) {
+            file.putInt(0, size);
+        }
+
+        return index;
+    }
+
+    private void grow() throws IllegalStateException {
+        if (nonNull(file)) {
+            throw new IllegalStateException("Header store is full");
+        }
+
+        final ByteBuffer[] columns = {ids, timestamps, magicNumbers, creators, nProgresses, generationTimes, hashes, previousHashes};
+        final long grownCapacity = Math.min(capacity * 2L, Integer.MAX_VALUE / ROW_BYTES);
+        if (grownCapacity == capacity) {
+            throw new IllegalStateException("Header store is full");
+        }
+
+        capacity = (int) grownCapacity;
+        slice(ByteBuffer.allocateDirect(capacity * ROW_BYTES));
+
+        final ByteBuffer[] grown = {ids, timestamps, magicNumbers, creators, nProgresses, generationTimes, hashes, previousHashes};
+        for (int i = 0; i < columns.length; i++) {
+            grown[i].duplicate().put(columns[i].duplicate().clear());
+        }
+    }
+
+    private static void putHash(final ByteBuffer column, final int index, final String hash) throws IllegalArgumentException {
+        final int offset = index * HASH_BYTES;
+        if ("0".equals(hash)) {
+            for (int i = 0; i < HASH_BYTES; i++) {
+                column.put(offset + i, (byte) 0);
+            }
+            return;
+        }
+
+        if (isNull(hash) || hash.length() != 2 * HASH_BYTES) {
+            throw new IllegalArgumentException("Hash should have 64 hexadecimal digits");
+        }
+
+        for (int i = 0; i < HASH_BYTES; i++) {
+            final int high = Character.digit(hash.charAt(2 * i), 16);
+            final int low = Character.digit(hash.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Hash should have 64 hexadecimal digits");
+            }
+            column.put(offset + i, (byte) (high << 4 | low));
+        }
+    }
+
+    /**
+     * Checks that each header's hash was generated properly from it's fields
+     * and that it's previous hash is the hash of the header before it.
+     * Hashes are computed into reused arrays, so the scan doesn't create objects for each header.
+     *
+     * @return {@code true} if all headers are valid, otherwise {@code false}.
+     */
+    public boolean validate() {
+        if (!validateLinks()) return false;
+
+        final MessageDigest digest = sha256();
+        final byte[] input = new byte[128];
+        final byte[] hash = new byte[HASH_BYTES];
+
+        for (int index = 0; index < size; index++) {
+            int length = writeDecimal(input, 0, getId(index) + getTimestamp(index));
+            length = writePreviousHash(input, length, index);
+            length = writeDecimal(input, length, getCreatedBy(index));
+            length = writeDecimal(input, length, getMagicNumber(index));
+
+            digest.update(input, 0, length);
+            try {
+                digest.digest(hash, 0, HASH_BYTES);
+            } catch (DigestException exception) {
+                throw new IllegalStateException(exception);
+            }
+
+            final int offset = index * HASH_BYTES;
+            for (int i = 0; i < HASH_BYTES; i++) {
+                if (hashes.get(offset + i) != hash[i]) return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that each header's previous hash is the hash of the header before it.
+     * Both columns are contiguous, so hashes of all headers but the last one are compared
+     * with previous hashes of all headers but the first one at once.
+     * @return {@code true} if headers are linked, otherwise {@code false}.
+     */
+    public boolean validateLinks() {
+        if (size < 2) return true;
+
+        final int length = (size - 1) * HASH_BYTES;
+        final ByteBuffer previous = hashes.duplicate().position(0).limit(length);
+        final ByteBuffer current = previousHashes.duplicate().position(HASH_BYTES).limit(HASH_BYTES + length);
+        return previous.mismatch(current) == -1;
+    }
+
+    /**
+     * Looks for a header with the given hash, starting with the last one.
+     * @param hash The hash of a block.
+     * @return The index of the header or {@code -1} if there is none.
+     */
+    public int indexOf(final String hash) {
+        if (isNull(hash) || hash.length() != 2 * HASH_BYTES) return -1;
+
+        final ByteBuffer wanted = ByteBuffer.allocate(HASH_BYTES).order(ByteOrder.nativeOrder());
+        try {
+            putHash(wanted, 0, hash);
+        } catch (IllegalArgumentException exception) {
+            return -1;
+        }
+
+        final long first = wanted.getLong(0);
+        for (int index = size - 1; index >= 0; index--) {
+            final int offset = index * HASH_BYTES;
+            if (hashes.getLong(offset) != first) continue;
+
+            boolean isEqual = true;
+            for (int i = Long.BYTES; i < HASH_BYTES && isEqual; i += Long.BYTES) {
+                isEqual = hashes.getLong(offset + i) == wanted.getLong(i);
+            }
+            if (isEqual) return index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts zeros at the beginning of a header's hash written in hex digits, i.e. the difficulty it was mined at.
+     * @param index The index of a header.
+     * @return The number of leading zero hex digits.
+     */
+    public int getLeadingZeros(final int index) {
+        final int offset = Objects.checkIndex(index, size) * HASH_BYTES;
+
+        int zeros = 0;
+        for (int i = 0; i < HASH_BYTES; i++) {
+            final int value = hashes.get(offset + i) & 0xff;
+            if (value == 0) {
+                zeros += 2;
+            } else {
+                return value < 0x10 ? zeros + 1 : zeros;
+            }
+        }
+
+        return zeros;
+    }
+
+    /**
+     * Rebuilds the header of a block, i.e. a block without messages.
+     * @param index The index of a header.
+     * @return A block without messages.
+     */
+    public Block getHeader(final int index) {
+        return BlockBuilder.builder()
+                .withId(getId(index))
+                .withTimestamp(getTimestamp(index))
+                .withMagicNumber(getMagicNumber(index))
+                .withCreatedBy(getCreatedBy(index))
+                .withNProgress(getNProgress(index))
+                .withGenerationTime(getGenerationTime(index))
+                .withHash(getHash(index))
+                .withPreviousHash(getPreviousHash(index))
+                .withMessages(new ArrayList<>())
+                .build();
+    }
+
+    /**
+     * Writes headers of a memory-mapped store to it's file. Does nothing for a store in a direct buffer.
+     */
+    public void force() {
+        if (nonNull(file)) {
+            file.force();
+        }
+    }
+
+    public long getId(final int index) {
+        return ids.getLong(Objects.checkIndex(index, size) * Long.BYTES);
+    }
+
+    public long getTimestamp(final int index) {
+        return timestamps.getLong(Objects.checkIndex(index, size) * Long.BYTES);
+    }
+
+    public int getMagicNumber(final int index) {
+        return magicNumbers.getInt(Objects.checkIndex(index, size) * Integer.BYTES);
+    }
+
+    public long getCreatedBy(final int index) {
+        return creators.getLong(Objects.checkIndex(index, size) * Long.BYTES);
+    }
+
+    public int getNProgress(final int index) {
+        return nProgresses.getInt(Objects.checkIndex(index, size) * Integer.BYTES);
+    }
+
+    public long getGenerationTime(final int index) {
+        return generationTimes.getLong(Objects.checkIndex(index, size) * Long.BYTES);
+    }
+
+    public String getHash(final int index) {
+        return hashOf(hashes, Objects.checkIndex(index, size));
+    }
+
+    public String getPreviousHash(final int index) {
+        return hashOf(previousHashes, Objects.checkIndex(index, size));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static String hashOf(final ByteBuffer column, final int index) {
+        final byte[] hex = new byte[2 * HASH_BYTES];
+        if (writeHex(column, index, hex, 0) == 0) return "0";
+
+        return new String(hex, 0, hex.length, StandardCharsets.US_ASCII);
+    }
+
+    private int writePreviousHash(final byte[] input, final int position, final int index) {
+        if (writeHex(previousHashes, index, input, position) == 0) {
+            input[position] = '0';
+            return position + 1;
+        }
+
+        return position + 2 * HASH_BYTES;
+    }
+
+    private static int writeHex(final ByteBuffer column, final int index, final byte[] output, final int position) {
+        final int offset = index * HASH_BYTES;
+        int nonZero = 0;
+        for (int i = 0; i < HASH_BYTES; i++) {
+            final int value = column.get(offset + i) & 0xff;
+            nonZero |= value;
+            output[position + 2 * i] = HEX_DIGITS[value >>> 4];
+            output[position + 2 * i + 1] = HEX_DIGITS[value & 0x0f];
+        }
+
+        return nonZero;
+    }
+
+    private static int writeDecimal(final byte[] output, final int position, final long value) {
+        int start = position;
+        if (value < 0) {
+            output[start++] = '-';
+        }
+
+        long remaining = value < 0 ? value : -value;
+        int end = start;
+        do {
+            output[end++] = (byte) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        for (int i = start, j = end - 1; i < j; i++, j--) {
+            final byte digit = output[i];
+            output[i] = output[j];
+            output[j] = digit;
+        }
+
+        return end;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
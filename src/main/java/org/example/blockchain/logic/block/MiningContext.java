@@ -0,0 +1,57 @@
+package org.example.blockchain.logic.block;
+
+/**
+ * Decides how the generation time of a mined {@link Block} is measured.
+ * By default, it's the wall-clock time that finding a magic number took.
+ * A context with a simulated hash rate derives the generation time from the number of hashes
+ * that were computed, so mining in a discrete-event simulation doesn't depend on the speed of a machine.
+ *
+ * @author Dominik Szmyt
+ * @see Blocks#mineBlock(Block, java.util.List, long, long, MiningContext, java.util.SplittableRandom)
+ * @since 1.1.0
+ */
+public class MiningContext {
+
+    /**
+     * Measures the generation time with the wall clock.
+     */
+    public static final MiningContext WALL_CLOCK = new MiningContext(0L);
+
+    private final long hashesPerSecond;
+
+    /**
+     * Create a {@code MiningContext} with a simulated hash rate.
+     * @param hashesPerSecond The number of hashes a miner computes each second
+     *                        or {@code 0} if the generation time should be measured with the wall clock.
+     * @throws IllegalArgumentException When the hash rate is negative.
+     */
+    public MiningContext(final long hashesPerSecond) throws IllegalArgumentException {
+        if (hashesPerSecond < 0L) {
+            throw new IllegalArgumentException("Hash rate should not be negative");
+        }
+
+        this.hashesPerSecond = hashesPerSecond;
+    }
+
+    /**
+     * Evaluates the generation time of a block.
+     *
+     * @param elapsedMillis The wall-clock time that finding a magic number took in milliseconds.
+     * @param hashes The number of hashes that were computed while finding a magic number.
+     * @return The generation time in seconds.
+     */
+    public long getGenerationTime(final long elapsedMillis, final long hashes) {
+        return isSimulated() ? hashes / hashesPerSecond : elapsedMillis / 1000L;
+    }
+
+    /**
+     * @return {@code true} if the generation time is derived from a simulated hash rate, otherwise {@code false}.
+     */
+    public boolean isSimulated() {
+        return hashesPerSecond > 0L;
+    }
+
+    public long getHashesPerSecond() {
+        return hashesPerSecond;
+    }
+}
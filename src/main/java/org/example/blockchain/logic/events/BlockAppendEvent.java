@@ -0,0 +1,28 @@
+package org.example.blockchain.logic.events;
+
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event that spans an attempt to put a block at the end of a blockchain.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.BlockChain#putLast(org.example.blockchain.logic.block.Block)
+ * @since 1.1.0
+ */
+@Name("org.example.blockchain.BlockAppend")
+@Label("Block Append")
+@Category({"Blockchain", "Append"})
+@Description("An attempt to put a block at the end of a blockchain")
+@StackTrace(false)
+public class BlockAppendEvent extends Event {
+
+    @Label("Block Id")
+    public long blockId;
+
+    @Label("Accepted")
+    public boolean accepted;
+
+    @Label("Reason")
+    @Description("Why a block was rejected")
+    public String reason;
+}
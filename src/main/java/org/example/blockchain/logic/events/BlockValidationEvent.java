@@ -0,0 +1,24 @@
+package org.example.blockchain.logic.events;
+
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event that spans validation of a whole block list.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.BlockChain#validateBlocks(java.util.List)
+ * @since 1.1.0
+ */
+@Name("org.example.blockchain.BlockValidation")
+@Label("Block Validation")
+@Category({"Blockchain", "Validation"})
+@Description("Validation of a block list")
+@StackTrace(false)
+public class BlockValidationEvent extends Event {
+
+    @Label("Blocks")
+    public int blocks;
+
+    @Label("Valid")
+    public boolean valid;
+}
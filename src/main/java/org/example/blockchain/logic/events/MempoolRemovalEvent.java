@@ -0,0 +1,24 @@
+package org.example.blockchain.logic.events;
+
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event that spans removing messages of an accepted block from the queue of messages.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.BlockChain#putLast(org.example.blockchain.logic.block.Block)
+ * @since 1.1.0
+ */
+@Name("org.example.blockchain.MempoolRemoval")
+@Label("Mempool Removal")
+@Category({"Blockchain", "Append"})
+@Description("Removing messages of an accepted block from the queue of messages")
+@StackTrace(false)
+public class MempoolRemovalEvent extends Event {
+
+    @Label("Removed")
+    public int removed;
+
+    @Label("Remaining")
+    public int remaining;
+}
@@ -0,0 +1,31 @@
+package org.example.blockchain.logic.events;
+
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event that spans mining of a single block, from the first to the last computed hash.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.block.Blocks
+ * @since 1.1.0
+ */
+@Name("org.example.blockchain.Mining")
+@Label("Mining")
+@Category({"Blockchain", "Mining"})
+@Description("Mining of a block")
+@StackTrace(false)
+public class MiningEvent extends Event {
+
+    @Label("Block Id")
+    public long blockId;
+
+    @Label("Created By")
+    public long createdBy;
+
+    @Label("Number Of Zeros")
+    public int numberOfZeros;
+
+    @Label("Hashes")
+    @Description("Number of hashes tried before a magic number was found")
+    public long hashes;
+}
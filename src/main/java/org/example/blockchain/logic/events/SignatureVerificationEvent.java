@@ -0,0 +1,24 @@
+package org.example.blockchain.logic.events;
+
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event that spans verification of a single signature.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.message.scheme.SignatureScheme
+ * @since 1.1.0
+ */
+@Name("org.example.blockchain.SignatureVerification")
+@Label("Signature Verification")
+@Category({"Blockchain", "Validation"})
+@Description("Verification of a signature")
+@StackTrace(false)
+public class SignatureVerificationEvent extends Event {
+
+    @Label("Scheme")
+    public String scheme;
+
+    @Label("Valid")
+    public boolean valid;
+}
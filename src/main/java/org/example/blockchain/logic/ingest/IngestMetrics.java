@@ -0,0 +1,123 @@
+package org.example.blockchain.logic.ingest;
+
+/**
+ * An immutable snapshot of {@link MessageIngest}'s counters.
+ * The queue depth and remaining capacity show the backpressure,
+ * while the verification throughput shows how many signatures workers verify per second.
+ *
+ * @author Dominik Szmyt
+ * @see MessageIngest#getMetrics()
+ * @since 1.1.0
+ */
+public final class IngestMetrics {
+
+    private final long submitted;
+    private final long dropped;
+    private final long verified;
+    private final long failedVerification;
+    private final long rejectedByBlockChain;
+    private final long batches;
+    private final long verificationNanos;
+    private final int queueDepth;
+    private final int remainingCapacity;
+
+    /**
+     * Create an {@code IngestMetrics} with all necessary fields.
+     * @param submitted The number of messages that were put in the queue.
+     * @param dropped The number of messages that were dropped because the queue was full or the ingest wasn't running.
+     * @param verified The number of messages with a valid signature.
+     * @param failedVerification The number of messages with an invalid signature.
+     * @param rejectedByBlockChain The number of verified messages that were rejected by a blockchain.
+     * @param batches The number of verified batches.
+     * @param verificationNanos The total time spent on verifying batches in nanoseconds.
+     * @param queueDepth The number of messages waiting in the queue.
+     * @param remainingCapacity The number of messages that can be put in the queue without waiting.
+     */
+    public IngestMetrics(final long submitted,
+                         final long dropped,
+                         final long verified,
+                         final long failedVerification,
+                         final long rejectedByBlockChain,
+                         final long batches,
+                         final long verificationNanos,
+                         final int queueDepth,
+                         final int remainingCapacity) {
+
+        this.submitted = submitted;
+        this.dropped = dropped;
+        this.verified = verified;
+        this.failedVerification = failedVerification;
+        this.rejectedByBlockChain = rejectedByBlockChain;
+        this.batches = batches;
+        this.verificationNanos = verificationNanos;
+        this.queueDepth = queueDepth;
+        this.remainingCapacity = remainingCapacity;
+    }
+
+    /**
+     * Returns the number of signatures that were checked per second of batch verification.
+     * @return The verification throughput or {@code 0} if nothing was verified yet.
+     */
+    public double getVerificationThroughput() {
+        if (verificationNanos == 0L) return 0.0;
+        return (verified + failedVerification) * 1_000_000_000.0 / verificationNanos;
+    }
+
+    /**
+     * Returns the average number of messages in a verified batch.
+     * @return The average batch size or {@code 0} if nothing was verified yet.
+     */
+    public double getAverageBatchSize() {
+        if (batches == 0L) return 0.0;
+        return (double) (verified + failedVerification) / batches;
+    }
+
+    @Override
+    public String toString() {
+        return "Submitted: " + submitted + "\n" +
+                "Dropped: " + dropped + "\n" +
+                "Verified: " + verified + "\n" +
+                "Failed verification: " + failedVerification + "\n" +
+                "Rejected by blockchain: " + rejectedByBlockChain + "\n" +
+                "Queue depth: " + queueDepth + "\n" +
+                "Remaining capacity: " + remainingCapacity + "\n" +
+                "Average batch size: " + String.format("%.2f", getAverageBatchSize()) + "\n" +
+                "Verification throughput: " + String.format("%.2f", getVerificationThroughput()) + " signatures/s\n";
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getVerified() {
+        return verified;
+    }
+
+    public long getFailedVerification() {
+        return failedVerification;
+    }
+
+    public long getRejectedByBlockChain() {
+        return rejectedByBlockChain;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getVerificationNanos() {
+        return verificationNanos;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getRemainingCapacity() {
+        return remainingCapacity;
+    }
+}
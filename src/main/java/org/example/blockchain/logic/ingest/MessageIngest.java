@@ -0,0 +1,284 @@
+package org.example.blockchain.logic.ingest;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Messages;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Verifies signatures of incoming messages before they are added to a {@link BlockChain}.
+ * Submitted messages wait in a bounded queue, from which a dispatcher thread takes them in batches.
+ * Each batch is verified in parallel by a dedicated pool of workers,
+ * and then only the verified messages are added to the blockchain in ascending order of their ids.
+ * <br>
+ * When the queue is full, {@link #submit(Message)} waits a while for space and {@link #offer(Message)} drops the message
+ * at once, which puts backpressure on users who submit messages faster than they can be verified.
+ * Messages are accepted only between {@link #start()} and {@link #shutdown()},
+ * so every returned future is eventually completed.
+ *
+ * @author Dominik Szmyt
+ * @see Messages#verify(Message)
+ * @see IngestMetrics
+ * @since 1.1.0
+ */
+public class MessageIngest {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final long SUBMIT_TIMEOUT_MILLIS = 1000L;
+
+    private final BlockChain blockChain;
+    private final BlockingQueue<Submission> queue;
+    private final ExecutorService verifierService;
+    private final int batchSize;
+    private final int parallelism;
+    private final Thread dispatcher;
+    private volatile boolean running;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder failedVerification = new LongAdder();
+    private final LongAdder rejectedByBlockChain = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder verificationNanos = new LongAdder();
+
+    /**
+     * Create a {@code MessageIngest} with all necessary fields.
+     * @param blockChain An instance of the {@link BlockChain} that verified messages are added to.
+     * @param capacity The maximum number of messages that may wait for verification.
+     * @param batchSize The maximum number of messages that are verified together.
+     * @param parallelism The number of workers that verify signatures.
+     * @throws IllegalArgumentException When capacity, batch size or parallelism is not positive.
+     */
+    public MessageIngest(final BlockChain blockChain,
+                         final int capacity,
+                         final int batchSize,
+                         final int parallelism) throws IllegalArgumentException {
+
+        if (capacity <= 0 || batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Capacity, batch size and parallelism should be positive");
+        }
+
+        this.blockChain = blockChain;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.verifierService = Executors.newFixedThreadPool(parallelism, daemonThreadFactory("message-verifier"));
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.dispatcher = daemonThreadFactory("message-ingest").newThread(this::dispatch);
+    }
+
+    /**
+     * Starts the dispatcher thread that takes messages from the queue.
+     */
+    public synchronized void start() {
+        if (running || dispatcher.isAlive()) return;
+
+        running = true;
+        dispatcher.start();
+    }
+
+    /**
+     * Puts a message in the queue and waits up to a second if the queue is full.
+     * A message that doesn't fit in the queue in time, or that is submitted while the ingest isn't running, is dropped.
+     * If the current thread is interrupted while waiting, the message is dropped and the interrupt flag is restored.
+     *
+     * @param message A message that is to be verified and added to the blockchain.
+     * @return A future that completes with {@code true} if a message was verified and added to the blockchain,
+     * otherwise with {@code false}.
+     */
+    public CompletableFuture<Boolean> submit(final Message message) {
+        if (isNull(message)) return CompletableFuture.completedFuture(false);
+
+        final Submission submission = new Submission(message);
+        if (!running) {
+            drop(submission);
+            return submission.result;
+        }
+
+        try {
+            enqueue(submission, queue.offer(submission, SUBMIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            drop(submission);
+        }
+
+        return submission.result;
+    }
+
+    /**
+     * Puts a message in the queue if there is space for it.
+     * Otherwise, or when the ingest isn't running, drops the message.
+     *
+     * @param message A message that is to be verified and added to the blockchain.
+     * @return A future that completes with {@code true} if a message was verified and added to the blockchain,
+     * otherwise with {@code false}.
+     */
+    public CompletableFuture<Boolean> offer(final Message message) {
+        if (isNull(message)) return CompletableFuture.completedFuture(false);
+
+        final Submission submission = new Submission(message);
+        enqueue(submission, running && queue.offer(submission));
+
+        return submission.result;
+    }
+
+    /**
+     * Stops accepting messages, completes every message still waiting in the queue with {@code false}
+     * and stops the workers once the current batch is processed.
+     */
+    public void shutdown() {
+        running = false;
+        drainQueue();
+        if (!dispatcher.isAlive()) {
+            verifierService.shutdown();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the ingest's counters.
+     * @return A snapshot of the ingest's counters.
+     */
+    public IngestMetrics getMetrics() {
+        return new IngestMetrics(
+                submitted.sum(),
+                dropped.sum(),
+                verified.sum(),
+                failedVerification.sum(),
+                rejectedByBlockChain.sum(),
+                batches.sum(),
+                verificationNanos.sum(),
+                queue.size(),
+                queue.remainingCapacity()
+        );
+    }
+
+    private void dispatch() {
+        final List<Submission> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                final Submission first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (isNull(first)) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException exception) {
+                running = false;
+            } catch (RuntimeException exception) {
+                exception.printStackTrace();
+            } finally {
+                batch.forEach(submission -> submission.result.complete(false));
+                batch.clear();
+            }
+        }
+
+        drainQueue();
+        verifierService.shutdown();
+    }
+
+    private void enqueue(final Submission submission, final boolean queued) {
+        if (!queued) {
+            drop(submission);
+            return;
+        }
+
+        submitted.increment();
+        // the ingest might have been shut down after the message was queued, in which case nobody takes it anymore
+        if (!running && queue.remove(submission)) {
+            drop(submission);
+        }
+    }
+
+    private void drainQueue() {
+        final List<Submission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::drop);
+    }
+
+    private void drop(final Submission submission) {
+        dropped.increment();
+        submission.result.complete(false);
+    }
+
+    private void process(final List<Submission> batch) throws InterruptedException {
+        final long start = System.nanoTime();
+        verify(batch);
+        verificationNanos.add(System.nanoTime() - start);
+        batches.increment();
+
+        batch.sort(Comparator.comparingInt(submission -> submission.message.getId()));
+
+        for (final Submission submission : batch) {
+            if (!submission.verified) {
+                failedVerification.increment();
+                submission.result.complete(false);
+            } else if (blockChain.addMessage(submission.message)) {
+                verified.increment();
+                submission.result.complete(true);
+            } else {
+                verified.increment();
+                rejectedByBlockChain.increment();
+                submission.result.complete(false);
+            }
+        }
+    }
+
+    private void verify(final List<Submission> batch) throws InterruptedException {
+        final int chunkSize = (batch.size() + parallelism - 1) / parallelism;
+        final List<Callable<Void>> chunks = new ArrayList<>(parallelism);
+
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            final List<Submission> chunk = batch.subList(from, Math.min(from + chunkSize, batch.size()));
+            chunks.add(() -> {
+                chunk.forEach(submission -> submission.verified = Messages.verify(submission.message));
+                return null;
+            });
+        }
+
+        verifierService.invokeAll(chunks);
+    }
+
+    private static ThreadFactory daemonThreadFactory(final String name) {
+        final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        return runnable -> {
+            final Thread thread = defaultFactory.newThread(runnable);
+            thread.setName(name + "-" + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public BlockChain getBlockChain() {
+        return blockChain;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * A message waiting for verification together with the future that reports the outcome.
+     */
+    private static final class Submission {
+
+        private final Message message;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private volatile boolean verified;
+
+        private Submission(final Message message) {
+            this.message = message;
+        }
+    }
+}
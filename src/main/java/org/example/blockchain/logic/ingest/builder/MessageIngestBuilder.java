@@ -0,0 +1,51 @@
+package org.example.blockchain.logic.ingest.builder;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ingest.MessageIngest;
+
+/**
+ * A builder for the {@link MessageIngest} class.
+ * By default, up to 1024 messages wait in the queue, batches have up to 64 messages
+ * and there is one worker for each available processor.
+ *
+ * @author Dominik Szmyt
+ * @see MessageIngest
+ * @since 1.1.0
+ */
+public final class MessageIngestBuilder {
+
+    private BlockChain blockChain;
+    private int capacity = 1024;
+    private int batchSize = 64;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private MessageIngestBuilder() { }
+
+    public static MessageIngestBuilder builder() {
+        return new MessageIngestBuilder();
+    }
+
+    public MessageIngestBuilder withBlockChain(final BlockChain blockChain) {
+        this.blockChain = blockChain;
+        return this;
+    }
+
+    public MessageIngestBuilder withCapacity(final int capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
+    public MessageIngestBuilder withBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public MessageIngestBuilder withParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public MessageIngest build() {
+        return new MessageIngest(blockChain, capacity, batchSize, parallelism);
+    }
+}
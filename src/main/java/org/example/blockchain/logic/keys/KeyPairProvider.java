@@ -0,0 +1,154 @@
+package org.example.blockchain.logic.keys;
+
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Provides key pairs for users of a simulation.
+ * Key pairs that are in a {@link KeyPairStore} are reused and missing ones are generated in parallel,
+ * by default with one thread for each available processor.
+ * Newly generated key pairs are saved in the store, so they can be reused after a restart.
+ *
+ * @author Dominik Szmyt
+ * @see KeyPairStore
+ * @since 1.1.0
+ */
+public class KeyPairProvider {
+
+    private final SignatureScheme signatureScheme;
+    private final KeyPairStore keyPairStore;
+    private final int parallelism;
+    private final LongAdder loaded = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+
+    /**
+     * Create a {@code KeyPairProvider} with all fields.
+     * @param signatureScheme A scheme that generates key pairs.
+     * @param keyPairStore A store with key pairs that should be reused
+     *                     or {@code null} if all key pairs should be generated.
+     * @param parallelism The number of threads that generate key pairs.
+     * @throws IllegalArgumentException When the scheme is not defined or the parallelism is not positive.
+     */
+    public KeyPairProvider(final SignatureScheme signatureScheme,
+                           final KeyPairStore keyPairStore,
+                           final int parallelism) throws IllegalArgumentException {
+
+        if (isNull(signatureScheme) || parallelism <= 0) {
+            throw new IllegalArgumentException("Signature scheme should be defined and parallelism should be positive");
+        }
+
+        this.signatureScheme = signatureScheme;
+        this.keyPairStore = keyPairStore;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * At first, looks for users' key pairs in a {@link KeyPairStore}.
+     * Then, generates missing key pairs in parallel and saves them in the store.
+     *
+     * @param names Names of users that need key pairs.
+     * @return Key pairs by users' names, in the order of names.
+     * @throws IOException When newly generated key pairs couldn't be saved.
+     * @throws InterruptedException When a thread was interrupted while waiting for key pairs.
+     */
+    public Map<String, KeyPair> provide(final List<String> names) throws IOException, InterruptedException {
+        final Map<String, KeyPair> keyPairs = new LinkedHashMap<>();
+        final List<String> missing = new ArrayList<>();
+
+        for (String name : names) {
+            final KeyPair keyPair = nonNull(keyPairStore) ? keyPairStore.get(name, signatureScheme) : null;
+            keyPairs.put(name, keyPair);
+
+            if (isNull(keyPair)) {
+                missing.add(name);
+            } else {
+                loaded.increment();
+            }
+        }
+
+        if (missing.isEmpty()) return keyPairs;
+
+        final List<KeyPair> newKeyPairs = generate(missing.size());
+        for (int i = 0; i < missing.size(); i++) {
+            keyPairs.put(missing.get(i), newKeyPairs.get(i));
+            if (nonNull(keyPairStore)) {
+                keyPairStore.put(missing.get(i), signatureScheme, newKeyPairs.get(i));
+            }
+        }
+
+        if (nonNull(keyPairStore)) {
+            keyPairStore.save();
+        }
+
+        return keyPairs;
+    }
+
+    private List<KeyPair> generate(final int count) throws InterruptedException {
+        final ExecutorService generatorService = Executors.newFixedThreadPool(Math.min(parallelism, count), runnable -> {
+            final Thread thread = new Thread(runnable, "key-pair-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final List<Callable<KeyPair>> tasks = Collections.nCopies(count, signatureScheme::generateKeyPair);
+            final List<KeyPair> keyPairs = new ArrayList<>(count);
+
+            for (Future<KeyPair> future : generatorService.invokeAll(tasks)) {
+                keyPairs.add(getKeyPair(future));
+                generated.increment();
+            }
+
+            return keyPairs;
+        } finally {
+            generatorService.shutdownNow();
+        }
+    }
+
+    private static KeyPair getKeyPair(final Future<KeyPair> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public SignatureScheme getSignatureScheme() {
+        return signatureScheme;
+    }
+
+    public KeyPairStore getKeyPairStore() {
+        return keyPairStore;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return The number of key pairs that were reused from a {@link KeyPairStore}.
+     */
+    public long getLoaded() {
+        return loaded.sum();
+    }
+
+    /**
+     * @return The number of key pairs that were generated.
+     */
+    public long getGenerated() {
+        return generated.sum();
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.blockchain.logic.keys;
+
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps users' key pairs in a local file, so a simulation that is started again
+ * can reuse key pairs instead of generating them.
+ * Each entry holds the name of a {@link SignatureScheme}, an X.509 encoded public key
+ * and a PKCS #8 encoded private key. Private keys are not encrypted,
+ * therefore a file is readable only by it's owner, when the file system supports it.
+ * <br>
+ * Methods that don't access a file can be called by many threads.
+ *
+ * @author Dominik Szmyt
+ * @see KeyPairProvider
+ * @since 1.1.0
+ */
+public class KeyPairStore {
+
+    private static final String SEPARATOR = ":";
+
+    private final Path path;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Create a {@code KeyPairStore} that is backed by the given file.
+     * The file doesn't have to exist.
+     * @param path A path to the file with key pairs.
+     * @throws IllegalArgumentException When the path is not defined.
+     */
+    public KeyPairStore(final Path path) throws IllegalArgumentException {
+        if (isNull(path)) {
+            throw new IllegalArgumentException("Path should be defined");
+        }
+
+        this.path = path;
+    }
+
+    /**
+     * Reads all entries from the file. Does nothing if the file doesn't exist yet.
+     * @throws IOException When the file couldn't be read.
+     * @throws IllegalArgumentException When the file has a malformed entry.
+     */
+    public void load() throws IOException, IllegalArgumentException {
+        if (!Files.exists(path)) return;
+
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        for (String name : properties.stringPropertyNames()) {
+            entries.put(name, Entry.parse(properties.getProperty(name)));
+        }
+    }
+
+    /**
+     * Writes all entries to a temporary file and then replaces the file with it,
+     * so the file is never left half-written.
+     * @throws IOException When the file couldn't be written.
+     */
+    public void save() throws IOException {
+        final Properties properties = new Properties();
+        entries.forEach((name, entry) -> properties.setProperty(name, entry.format()));
+
+        final Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        final Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            restrictPermissions(temporary);
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Key pairs of simulation users");
+            }
+
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Looks for the key pair of a user.
+     *
+     * @param name A user's name.
+     * @param signatureScheme A scheme that the key pair should be used with.
+     * @return A key pair or {@code null} if there is no key pair for the user and scheme.
+     * @throws IllegalArgumentException When a stored key pair can't be decoded.
+     */
+    public KeyPair get(final String name, final SignatureScheme signatureScheme) throws IllegalArgumentException {
+        if (isNull(name) || isNull(signatureScheme)) return null;
+
+        final Entry entry = entries.get(name);
+        if (isNull(entry) || !entry.scheme.equals(signatureScheme.getName())) return null;
+
+        return signatureScheme.decodeKeyPair(entry.publicKey, entry.privateKey);
+    }
+
+    /**
+     * Remembers the key pair of a user, replacing the previous one.
+     * Call {@link #save()} to write it to the file.
+     *
+     * @param name A user's name.
+     * @param signatureScheme A scheme that the key pair is used with.
+     * @param keyPair A user's key pair.
+     */
+    public void put(final String name, final SignatureScheme signatureScheme, final KeyPair keyPair) {
+        entries.put(name, new Entry(
+                signatureScheme.getName(),
+                keyPair.getPublic().getEncoded(),
+                keyPair.getPrivate().getEncoded()));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    private static void restrictPermissions(final Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException exception) {
+            // The file system doesn't support POSIX permissions.
+        }
+    }
+
+    /**
+     * Holds the encoded keys of a user and the name of a scheme they are used with.
+     */
+    private static final class Entry {
+
+        private final String scheme;
+        private final byte[] publicKey;
+        private final byte[] privateKey;
+
+        private Entry(final String scheme, final byte[] publicKey, final byte[] privateKey) {
+            this.scheme = scheme;
+            this.publicKey = publicKey;
+            this.privateKey = privateKey;
+        }
+
+        private static Entry parse(final String value) throws IllegalArgumentException {
+            final String[] parts = value.split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed key pair entry");
+            }
+
+            final Base64.Decoder decoder = Base64.getDecoder();
+            return new Entry(parts[0], decoder.decode(parts[1]), decoder.decode(parts[2]));
+        }
+
+        private String format() {
+            final Base64.Encoder encoder = Base64.getEncoder();
+            return scheme + SEPARATOR + encoder.encodeToString(publicKey) + SEPARATOR + encoder.encodeToString(privateKey);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.blockchain.logic.keys.builder;
+
+import org.example.blockchain.logic.keys.KeyPairProvider;
+import org.example.blockchain.logic.keys.KeyPairStore;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+
+/**
+ * A builder for the {@link KeyPairProvider} class.
+ * By default, key pairs are generated with {@link SignatureSchemes#DSA}, without a store
+ * and by one thread for each available processor.
+ *
+ * @author Dominik Szmyt
+ * @see KeyPairProvider
+ * @since 1.1.0
+ */
+public final class KeyPairProviderBuilder {
+
+    private SignatureScheme signatureScheme = SignatureSchemes.DSA;
+    private KeyPairStore keyPairStore;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private KeyPairProviderBuilder() { }
+
+    public static KeyPairProviderBuilder builder() {
+        return new KeyPairProviderBuilder();
+    }
+
+    public KeyPairProviderBuilder withSignatureScheme(final SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+        return this;
+    }
+
+    public KeyPairProviderBuilder withKeyPairStore(final KeyPairStore keyPairStore) {
+        this.keyPairStore = keyPairStore;
+        return this;
+    }
+
+    public KeyPairProviderBuilder withParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public KeyPairProvider build() {
+        return new KeyPairProvider(signatureScheme, keyPairStore, parallelism);
+    }
+}
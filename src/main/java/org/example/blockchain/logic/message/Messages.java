@@ -1,11 +1,17 @@
 package org.example.blockchain.logic.message;
 
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+
 import java.security.*;
 
 /**
  * Contains methods for signing secure messages and verifying them.
+ * Texts are signed and verified with the {@link SignatureScheme} that matches the algorithm of the provided key,
+ * which reuses it's engines and encoding buffer within each thread.
  *
  * @author Dominik Szmyt
+ * @see SignatureSchemes#forKey(Key)
  * @since 1.0.0
  */
 public final class Messages {
@@ -19,36 +25,121 @@ public final class Messages {
      * @return {@code true} if a signature is valid, otherwise {@code false}.
      */
     public static boolean verify(final String data, final byte[] signature, final PublicKey key) {
-        try {
-            final Signature sig = Signature.getInstance("SHA256withDSA");
-            sig.initVerify(key);
-            sig.update(data.getBytes());
-            return sig.verify(signature);
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException exception) {
-            exception.printStackTrace();
-        }
+        return SignatureSchemes.forKey(key).verify(data, signature, key);
+    }
 
-        return false;
+    /**
+     * Verifies if the provided signature is a valid signature for the message's text followed by it's id.
+     * Gives the same result as {@link #verify(String, byte[], PublicKey)} called with {@code text + id}
+     * but doesn't build the concatenated text.
+     *
+     * @param text A message's text that could have been signed.
+     * @param id A message's unique identifier that could have been signed.
+     * @param signature A signature that could have been generated from the text and id.
+     * @param key A public that is to be used to verify the validity of a signature.
+     * @return {@code true} if a signature is valid, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public static boolean verify(final String text, final int id, final byte[] signature, final PublicKey key) {
+        return SignatureSchemes.forKey(key).verify(text, id, signature, key);
     }
 
     /**
-     * Signs an input text with provided private key using SHA256 with DSA algorithm
-     * and then returns the generated signature.
+     * Signs an input text with provided private key using the scheme that matches the key,
+     * e.g. SHA256 with DSA algorithm for DSA keys, and then returns the generated signature.
      *
      * @param data An input text that is to be signed.
      * @param key A private key that is to be used for signing the data.
      * @return A signature that is the result of signing an input text with provided private key.
      */
     public static byte[] sign(final String data, final PrivateKey key) {
-        try {
-            final Signature sig = Signature.getInstance("SHA256withDSA");
-            sig.initSign(key);
-            sig.update(data.getBytes());
-            return sig.sign();
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException exception) {
-            exception.printStackTrace();
+        return SignatureSchemes.forKey(key).sign(data, key);
+    }
+
+    /**
+     * Signs a message's text followed by it's id with provided private key using the scheme that matches the key.
+     * Gives a signature that is valid for {@link #verify(String, byte[], PublicKey)} called with {@code text + id}
+     * but doesn't build the concatenated text.
+     *
+     * @param text A message's text that is to be signed.
+     * @param id A message's unique identifier that is to be signed.
+     * @param key A private key that is to be used for signing the data.
+     * @return A signature that is the result of signing the text and id with provided private key.
+     * @since 1.1.0
+     */
+    public static byte[] sign(final String text, final int id, final PrivateKey key) {
+        return SignatureSchemes.forKey(key).sign(text, id, key);
+    }
+
+    /**
+     * Verifies the signature carried by a message.
+     * Decorated messages, such as {@link Transaction}s, are unwrapped until a {@link SecureMessage} is found.
+     *
+     * @param message A message that is to be verified.
+     * @return {@code true} if a message carries a valid signature, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public static boolean verify(final Message message) {
+        if (message instanceof SecureMessage) {
+            return ((SecureMessage) message).verify();
+        } else if (message instanceof MessageDecorator) {
+            return verify(((MessageDecorator) message).getMessage());
+        }
+
+        return false;
+    }
+
+    /**
+     * Verifies the signature carried by a message like {@link #verify(Message)},
+     * but looks it up in the given cache first and puts it there if it's valid.
+     * Meant for messages that are verified again and again, e.g. while validating a whole blockchain.
+     *
+     * @param message A message that is to be verified.
+     * @param cache A cache of verified signatures.
+     * @return {@code true} if a message carries a valid signature, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public static boolean verify(final Message message, final SignatureCache cache) {
+        if (message instanceof SecureMessage) {
+            return cache.verify((SecureMessage) message);
+        } else if (message instanceof MessageDecorator) {
+            return verify(((MessageDecorator) message).getMessage(), cache);
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether a message carries a signature, either directly or in one of the messages it decorates.
+     *
+     * @param message A message that is to be checked.
+     * @return {@code true} if a message carries a signature, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public static boolean isSigned(final Message message) {
+        if (message instanceof SecureMessage) {
+            return true;
+        } else if (message instanceof MessageDecorator) {
+            return isSigned(((MessageDecorator) message).getMessage());
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the signature carried by a message, either directly or by one of the messages it decorates.
+     *
+     * @param message A message.
+     * @return The signature of a message or {@code null} if it doesn't carry one.
+     * @since 1.1.0
+     */
+    public static byte[] getSignature(final Message message) {
+        if (message instanceof SecureMessage) {
+            return ((SecureMessage) message).getSignature();
+        } else if (message instanceof MessageDecorator) {
+            return getSignature(((MessageDecorator) message).getMessage());
         }
 
-        return new byte[0];
+        return null;
     }
 }
@@ -1,7 +1,12 @@
 package org.example.blockchain.logic.message;
 
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+
 import java.security.*;
 
+import static java.util.Objects.isNull;
+
 /**
  * A {@code Message} that had it's content signed with a private key
  * and is shipped with a public key to verify the validity of the signature.
@@ -15,6 +20,7 @@ public class SecureMessage implements Message {
     private final int id;
     private final byte[] signature;
     private final PublicKey publicKey;
+    private final SignatureScheme signatureScheme;
 
     /**
      * Create a {@code SecureMessage} with all necessary fields.
@@ -29,14 +35,69 @@ public class SecureMessage implements Message {
                          final byte[] signature,
                          final PublicKey publicKey) throws IllegalArgumentException {
 
-        if (!Messages.verify(text + id, signature, publicKey)) {
-            throw new IllegalArgumentException("Failed signature verification");
-        }
+        this(text, id, signature, publicKey, true);
+    }
+
+    /**
+     * Create a {@code SecureMessage} with all necessary fields.
+     * When {@code verify} is {@code false}, the signature is not checked here
+     * and the message should be verified with {@link #verify()} before it reaches a blockchain.
+     * @param text The text of a {@code SecureMessage}.
+     * @param id The id of a {@code SecureMessage}.
+     * @param signature The signature of a {@code SecureMessage}.
+     * @param publicKey The public key that is to be used for verification.
+     * @param verify Whether the signature should be verified while creating a {@code SecureMessage}.
+     * @throws IllegalArgumentException When the signature verification with public key didn't succeed.
+     * @see org.example.blockchain.logic.ingest.MessageIngest
+     * @since 1.1.0
+     */
+    public SecureMessage(final String text,
+                         final int id,
+                         final byte[] signature,
+                         final PublicKey publicKey,
+                         final boolean verify) throws IllegalArgumentException {
+
+        this(text, id, signature, publicKey, null, verify);
+    }
+
+    /**
+     * Create a {@code SecureMessage} that was signed with the given {@link SignatureScheme}.
+     * @param text The text of a {@code SecureMessage}.
+     * @param id The id of a {@code SecureMessage}.
+     * @param signature The signature of a {@code SecureMessage}.
+     * @param publicKey The public key that is to be used for verification.
+     * @param signatureScheme The scheme that is to be used for verification
+     *                        or {@code null} if it should be chosen based on the public key.
+     * @param verify Whether the signature should be verified while creating a {@code SecureMessage}.
+     * @throws IllegalArgumentException When the signature verification with public key didn't succeed.
+     * @since 1.1.0
+     */
+    public SecureMessage(final String text,
+                         final int id,
+                         final byte[] signature,
+                         final PublicKey publicKey,
+                         final SignatureScheme signatureScheme,
+                         final boolean verify) throws IllegalArgumentException {
 
         this.text = text;
         this.id = id;
         this.signature = signature;
         this.publicKey = publicKey;
+        this.signatureScheme = isNull(signatureScheme) ? SignatureSchemes.forKey(publicKey) : signatureScheme;
+
+        if (verify && !verify()) {
+            throw new IllegalArgumentException("Failed signature verification");
+        }
+    }
+
+    /**
+     * Verifies the signature of a {@code SecureMessage} with it's public key and {@link SignatureScheme}.
+     * @return {@code true} if the signature is valid, otherwise {@code false}.
+     * @see SignatureCache
+     * @since 1.1.0
+     */
+    public boolean verify() {
+        return signatureScheme.verify(text, id, signature, publicKey);
     }
 
     @Override
@@ -75,4 +136,8 @@ public class SecureMessage implements Message {
     public PublicKey getPublicKey() {
         return publicKey;
     }
+
+    public SignatureScheme getSignatureScheme() {
+        return signatureScheme;
+    }
 }
@@ -0,0 +1,154 @@
+package org.example.blockchain.logic.message;
+
+import org.example.blockchain.logic.LruCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Remembers {@link SecureMessage}s whose signatures were successfully verified,
+ * so verifying the same message again doesn't cost another signature verification.
+ * An entry is identified by a message's id and a SHA-256 digest of it's text, signature and public key,
+ * which means that changing any of them results in a regular verification.
+ * Failed verifications are never cached.
+ * <br>
+ * Computing the digest costs time too, so the cache is meant for verifying the same messages again,
+ * e.g. when a whole blockchain is validated, and not for messages that are verified once.
+ * Entries are kept in a {@link LruCache}.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.BlockChain#getSignatureCache()
+ * @since 1.1.0
+ */
+public class SignatureCache {
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    });
+
+    private final LruCache<Key, Boolean> entries;
+
+    /**
+     * Create a {@code SignatureCache} that holds at most the given number of entries.
+     * @param maximumSize The maximum number of entries.
+     * @throws IllegalArgumentException When the maximum size is not positive.
+     */
+    public SignatureCache(final int maximumSize) throws IllegalArgumentException {
+        this.entries = new LruCache<>(maximumSize);
+    }
+
+    /**
+     * At first, looks for a message in the cache and returns {@code true} if it was there.
+     * Otherwise, verifies a message's signature and, if the verification was successful, puts a message in the cache.
+     *
+     * @param message A message that is to be verified.
+     * @return {@code true} if a message's signature is valid, otherwise {@code false}.
+     */
+    public boolean verify(final SecureMessage message) {
+        if (isNull(message)) return false;
+
+        final Key key = keyOf(message);
+        if (nonNull(entries.get(key))) return true;
+
+        final boolean isValid = message.verify();
+        if (isValid) {
+            entries.put(key, Boolean.TRUE);
+        }
+
+        return isValid;
+    }
+
+    /**
+     * Removes all entries. Doesn't reset hit and miss counters.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the ratio of verifications that were answered by the cache.
+     * @return The hit rate or {@code 0} if there were no verifications yet.
+     */
+    public double getHitRate() {
+        return entries.getHitRate();
+    }
+
+    public long getHits() {
+        return entries.getHits();
+    }
+
+    public long getMisses() {
+        return entries.getMisses();
+    }
+
+    public int getSize() {
+        return entries.getSize();
+    }
+
+    public int getMaximumSize() {
+        return entries.getMaximumSize();
+    }
+
+    private static Key keyOf(final SecureMessage message) {
+        final MessageDigest digest = DIGEST.get();
+        digest.reset();
+
+        update(digest, nonNull(message.getText()) ? message.getText().getBytes(StandardCharsets.UTF_8) : null);
+        update(digest, message.getSignature());
+        update(digest, nonNull(message.getPublicKey()) ? message.getPublicKey().getEncoded() : null);
+
+        return new Key(message.getId(), digest.digest());
+    }
+
+    private static void update(final MessageDigest digest, final byte[] bytes) {
+        final int length = nonNull(bytes) ? bytes.length : -1;
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+
+        if (nonNull(bytes)) {
+            digest.update(bytes);
+        }
+    }
+
+    /**
+     * Identifies a verified message by it's id and the digest of it's content.
+     */
+    private static final class Key {
+
+        private final int id;
+        private final byte[] digest;
+        private final int hash;
+
+        private Key(final int id, final byte[] digest) {
+            this.id = id;
+            this.digest = digest;
+            this.hash = 31 * id + Arrays.hashCode(digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+            return id == other.id && Arrays.equals(digest, other.digest);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.blockchain.logic.message.builder;
 
 import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
 
 import java.security.PublicKey;
 
@@ -19,6 +20,8 @@ public final class SecureMessageBuilder {
     private int id;
     private byte[] signature;
     private PublicKey publicKey;
+    private SignatureScheme signatureScheme;
+    private boolean verify = true;
 
     private SecureMessageBuilder() { }
 
@@ -46,7 +49,17 @@ public final class SecureMessageBuilder {
         return this;
     }
 
+    public SecureMessageBuilder withSignatureScheme(final SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+        return this;
+    }
+
+    public SecureMessageBuilder withVerification(final boolean verify) {
+        this.verify = verify;
+        return this;
+    }
+
     public SecureMessage build() {
-        return new SecureMessage(text, id, signature, publicKey);
+        return new SecureMessage(text, id, signature, publicKey, signatureScheme, verify);
     }
 }
@@ -0,0 +1,187 @@
+package org.example.blockchain.logic.message.scheme;
+
+import org.example.blockchain.logic.events.SignatureVerificationEvent;
+
+import java.nio.ByteBuffer;
+import java.security.*;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * A base for {@link SignatureScheme}s that are provided by the Java runtime.
+ * Each thread gets it's own signing engine, verifying engine and key pair generator,
+ * so they are looked up only once per thread.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public abstract class AbstractSignatureScheme implements SignatureScheme {
+
+    private static final ThreadLocal<MessageEncoder> ENCODER = ThreadLocal.withInitial(MessageEncoder::new);
+
+    private final String name;
+    private final String signatureAlgorithm;
+    private final String keyAlgorithm;
+    private final ThreadLocal<Signature> signer;
+    private final ThreadLocal<Signature> verifier;
+    private final ThreadLocal<KeyPairGenerator> generator;
+
+    /**
+     * Create an {@code AbstractSignatureScheme} with all necessary fields.
+     * @param name1 The name of a {@code SignatureScheme}.
+     * @param signatureAlgorithm1 The name of a {@link Signature} algorithm.
+     * @param keyAlgorithm1 The name of a {@link KeyPairGenerator} algorithm.
+     */
+    protected AbstractSignatureScheme(final String name1,
+                                      final String signatureAlgorithm1,
+                                      final String keyAlgorithm1) {
+
+        name = name1;
+        signatureAlgorithm = signatureAlgorithm1;
+        keyAlgorithm = keyAlgorithm1;
+        signer = ThreadLocal.withInitial(this::newSignature);
+        verifier = ThreadLocal.withInitial(this::newSignature);
+        generator = ThreadLocal.withInitial(this::newGenerator);
+    }
+
+    /**
+     * Initializes a new key pair generator, e.g. with the size of keys.
+     * @param keyPairGenerator A key pair generator that is to be initialized.
+     */
+    protected abstract void initialize(KeyPairGenerator keyPairGenerator);
+
+    @Override
+    public boolean isAvailable() {
+        try {
+            Signature.getInstance(signatureAlgorithm);
+            KeyPairGenerator.getInstance(keyAlgorithm);
+            return true;
+        } catch (NoSuchAlgorithmException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public KeyPair generateKeyPair() {
+        return generator.get().generateKeyPair();
+    }
+
+    @Override
+    public KeyPair decodeKeyPair(final byte[] publicKey, final byte[] privateKey) {
+        try {
+            final KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm);
+            return new KeyPair(
+                    keyFactory.generatePublic(new X509EncodedKeySpec(publicKey)),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKey)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(name + " signature scheme is not available", exception);
+        } catch (InvalidKeySpecException exception) {
+            throw new IllegalArgumentException("Keys were not encoded for the " + name + " signature scheme", exception);
+        }
+    }
+
+    @Override
+    public PublicKey decodePublicKey(final byte[] publicKey) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(publicKey));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(name + " signature scheme is not available", exception);
+        } catch (InvalidKeySpecException exception) {
+            throw new IllegalArgumentException("Key was not encoded for the " + name + " signature scheme", exception);
+        }
+    }
+
+    @Override
+    public byte[] sign(final String data, final PrivateKey key) {
+        return sign(ENCODER.get().encode(data), key);
+    }
+
+    @Override
+    public byte[] sign(final String text, final int id, final PrivateKey key) {
+        return sign(ENCODER.get().encode(text, id), key);
+    }
+
+    @Override
+    public boolean verify(final String data, final byte[] signature, final PublicKey key) {
+        return verify(ENCODER.get().encode(data), signature, key);
+    }
+
+    @Override
+    public boolean verify(final String text, final int id, final byte[] signature, final PublicKey key) {
+        return verify(ENCODER.get().encode(text, id), signature, key);
+    }
+
+    private boolean verify(final ByteBuffer data, final byte[] signature, final PublicKey key) {
+        final SignatureVerificationEvent event = new SignatureVerificationEvent();
+        event.begin();
+
+        boolean isValid = false;
+        try {
+            final Signature sig = verifier.get();
+            sig.initVerify(key);
+            sig.update(data);
+            isValid = sig.verify(signature);
+        } catch (SignatureException | InvalidKeyException exception) {
+            exception.printStackTrace();
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.scheme = name;
+            event.valid = isValid;
+            event.commit();
+        }
+
+        return isValid;
+    }
+
+    private byte[] sign(final ByteBuffer data, final PrivateKey key) {
+        try {
+            final Signature sig = signer.get();
+            sig.initSign(key);
+            sig.update(data);
+            return sig.sign();
+        } catch (SignatureException | InvalidKeyException exception) {
+            exception.printStackTrace();
+        }
+
+        return new byte[0];
+    }
+
+    private Signature newSignature() {
+        try {
+            return Signature.getInstance(signatureAlgorithm);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(name + " signature scheme is not available", exception);
+        }
+    }
+
+    private KeyPairGenerator newGenerator() {
+        try {
+            final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+            initialize(keyPairGenerator);
+            return keyPairGenerator;
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(name + " signature scheme is not available", exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public String getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+}
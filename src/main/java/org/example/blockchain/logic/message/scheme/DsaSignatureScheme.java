@@ -0,0 +1,27 @@
+package org.example.blockchain.logic.message.scheme;
+
+import java.security.KeyPairGenerator;
+
+/**
+ * A {@link SignatureScheme} that signs texts using SHA256 with DSA algorithm.
+ * Generated keys are 2048 bits long.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public class DsaSignatureScheme extends AbstractSignatureScheme {
+
+    private static final int KEY_SIZE = 2048;
+
+    /**
+     * Create a {@code DsaSignatureScheme}.
+     */
+    public DsaSignatureScheme() {
+        super("DSA", "SHA256withDSA", "DSA");
+    }
+
+    @Override
+    protected void initialize(final KeyPairGenerator keyPairGenerator) {
+        keyPairGenerator.initialize(KEY_SIZE);
+    }
+}
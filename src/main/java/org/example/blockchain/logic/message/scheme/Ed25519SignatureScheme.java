@@ -0,0 +1,31 @@
+package org.example.blockchain.logic.message.scheme;
+
+import java.security.KeyPairGenerator;
+
+/**
+ * A {@link SignatureScheme} that signs texts using the Ed25519 algorithm.
+ * It's public keys are much smaller than DSA ones, 44 instead of about 840 bytes when encoded,
+ * which makes messages sent between nodes smaller. On the JDK, keys are a bit faster to generate than with DSA,
+ * texts are verified about as fast and signed slower, see {@code SignatureSchemeBenchmark}.
+ * <br>
+ * <b>IMPORTANT!</b>: Ed25519 is built into Java since version 15.
+ * On older runtimes {@link #isAvailable()} returns {@code false}
+ * and other methods throw an {@link IllegalStateException}.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public class Ed25519SignatureScheme extends AbstractSignatureScheme {
+
+    /**
+     * Create an {@code Ed25519SignatureScheme}.
+     */
+    public Ed25519SignatureScheme() {
+        super("Ed25519", "Ed25519", "Ed25519");
+    }
+
+    @Override
+    protected void initialize(final KeyPairGenerator keyPairGenerator) {
+        // Ed25519 keys always have the same size.
+    }
+}
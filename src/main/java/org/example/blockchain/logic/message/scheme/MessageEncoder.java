@@ -0,0 +1,85 @@
+package org.example.blockchain.logic.message.scheme;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes texts with UTF-8 into a buffer that is reused by one thread.
+ * Identifiers are appended as decimal digits, exactly as {@code String.valueOf(int)} would write them,
+ * so encoding a text and an id gives the same bytes as encoding their concatenation.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+final class MessageEncoder {
+
+    private static final int MAX_INT_DIGITS = 11;
+
+    private final CharsetEncoder charsetEncoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    ByteBuffer encode(final String text) {
+        putText(text);
+        return buffer.flip();
+    }
+
+    ByteBuffer encode(final String text, final int id) {
+        putText(text);
+        ensureRemaining(MAX_INT_DIGITS);
+        putDecimal(id);
+        return buffer.flip();
+    }
+
+    private void putText(final String text) {
+        final CharBuffer input = CharBuffer.wrap(text);
+        buffer.clear();
+        charsetEncoder.reset();
+
+        CoderResult result = charsetEncoder.encode(input, buffer, true);
+        while (result.isOverflow()) {
+            ensureRemaining(buffer.capacity());
+            result = charsetEncoder.encode(input, buffer, true);
+        }
+
+        result = charsetEncoder.flush(buffer);
+        while (result.isOverflow()) {
+            ensureRemaining(buffer.capacity());
+            result = charsetEncoder.flush(buffer);
+        }
+    }
+
+    private void putDecimal(final int id) {
+        long value = id;
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+
+        final int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + value % 10));
+            value /= 10;
+        } while (value > 0);
+
+        for (int left = start, right = buffer.position() - 1; left < right; left++, right--) {
+            final byte digit = buffer.get(left);
+            buffer.put(left, buffer.get(right));
+            buffer.put(right, digit);
+        }
+    }
+
+    private void ensureRemaining(final int remaining) {
+        if (buffer.remaining() >= remaining) return;
+
+        final ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + remaining));
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.blockchain.logic.message.scheme;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+
+/**
+ * Represents an algorithm that generates key pairs, signs texts with private keys
+ * and verifies signatures with public keys.
+ * Implementations reuse engines within a thread, so they can be shared by all users of a simulation.
+ *
+ * @author Dominik Szmyt
+ * @see SignatureSchemes
+ * @since 1.1.0
+ */
+public interface SignatureScheme {
+
+    /**
+     * Each {@code SignatureScheme} implementation should have a unique name.
+     * @return A scheme's name.
+     */
+    String getName();
+
+    /**
+     * Checks whether the Java runtime provides algorithms required by a {@code SignatureScheme}.
+     * @return {@code true} if a scheme can be used, otherwise {@code false}.
+     */
+    boolean isAvailable();
+
+    /**
+     * Generates a new key pair that can be used with a {@code SignatureScheme}.
+     * @return A new key pair.
+     * @throws IllegalStateException When a scheme is not available.
+     */
+    KeyPair generateKeyPair();
+
+    /**
+     * Restores a key pair from it's X.509 encoded public key and PKCS #8 encoded private key.
+     *
+     * @param publicKey An encoded public key.
+     * @param privateKey An encoded private key.
+     * @return A restored key pair.
+     * @throws IllegalArgumentException When keys were not encoded for a {@code SignatureScheme}.
+     * @throws IllegalStateException When a scheme is not available.
+     * @since 1.1.0
+     */
+    KeyPair decodeKeyPair(byte[] publicKey, byte[] privateKey);
+
+    /**
+     * Restores a public key from it's X.509 encoded form, e.g. one received from another node.
+     *
+     * @param publicKey An encoded public key.
+     * @return A restored public key.
+     * @throws IllegalArgumentException When the key was not encoded for a {@code SignatureScheme}.
+     * @throws IllegalStateException When a scheme is not available.
+     * @since 1.1.0
+     */
+    PublicKey decodePublicKey(byte[] publicKey);
+
+    /**
+     * Signs an input text with provided private key.
+     *
+     * @param data An input text that is to be signed.
+     * @param key A private key that is to be used for signing the data.
+     * @return A signature or an empty array if signing didn't succeed.
+     */
+    byte[] sign(String data, PrivateKey key);
+
+    /**
+     * Signs a message's text followed by it's id with provided private key
+     * without building the concatenated text.
+     *
+     * @param text A message's text that is to be signed.
+     * @param id A message's unique identifier that is to be signed.
+     * @param key A private key that is to be used for signing the data.
+     * @return A signature or an empty array if signing didn't succeed.
+     */
+    byte[] sign(String text, int id, PrivateKey key);
+
+    /**
+     * Verifies if the provided signature is a valid signature for the input text using provided public key.
+     *
+     * @param data An input text that could have been signed.
+     * @param signature A signature that could have been generated from the data.
+     * @param key A public that is to be used to verify the validity of a signature.
+     * @return {@code true} if a signature is valid, otherwise {@code false}.
+     */
+    boolean verify(String data, byte[] signature, PublicKey key);
+
+    /**
+     * Verifies if the provided signature is a valid signature for the message's text followed by it's id
+     * without building the concatenated text.
+     *
+     * @param text A message's text that could have been signed.
+     * @param id A message's unique identifier that could have been signed.
+     * @param signature A signature that could have been generated from the text and id.
+     * @param key A public that is to be used to verify the validity of a signature.
+     * @return {@code true} if a signature is valid, otherwise {@code false}.
+     */
+    boolean verify(String text, int id, byte[] signature, PublicKey key);
+}
@@ -0,0 +1,59 @@
+package org.example.blockchain.logic.message.scheme;
+
+import java.security.Key;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Contains {@link SignatureScheme}s that are available out of the box and methods for finding them.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public final class SignatureSchemes {
+
+    /**
+     * Signs texts using SHA256 with DSA algorithm.
+     */
+    public static final SignatureScheme DSA = new DsaSignatureScheme();
+
+    /**
+     * Signs texts using Ed25519 algorithm. Requires Java 15 or newer.
+     */
+    public static final SignatureScheme ED25519 = new Ed25519SignatureScheme();
+
+    /**
+     * Returns a scheme with the given name. The name is case insensitive.
+     *
+     * @param name The name of a scheme.
+     * @return A scheme with the given name.
+     * @throws IllegalArgumentException When there is no scheme with the given name.
+     */
+    public static SignatureScheme forName(final String name) throws IllegalArgumentException {
+        if (DSA.getName().equalsIgnoreCase(name)) {
+            return DSA;
+        } else if (ED25519.getName().equalsIgnoreCase(name)) {
+            return ED25519;
+        }
+
+        throw new IllegalArgumentException("Unknown signature scheme: " + name);
+    }
+
+    /**
+     * Returns a scheme that is able to use the given key.
+     * If a key is {@code null} or doesn't specify it's algorithm, returns the {@link #DSA} scheme.
+     *
+     * @param key A public or private key.
+     * @return A scheme that is able to use the given key.
+     * @throws IllegalArgumentException When there is no scheme for the key's algorithm.
+     */
+    public static SignatureScheme forKey(final Key key) throws IllegalArgumentException {
+        if (isNull(key) || isNull(key.getAlgorithm()) || key.getAlgorithm().equals("DSA")) {
+            return DSA;
+        } else if (key.getAlgorithm().equals("EdDSA") || key.getAlgorithm().equals("Ed25519")) {
+            return ED25519;
+        }
+
+        throw new IllegalArgumentException("Unknown signature scheme for key: " + key.getAlgorithm());
+    }
+}
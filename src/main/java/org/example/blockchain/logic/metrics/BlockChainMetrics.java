@@ -0,0 +1,201 @@
+package org.example.blockchain.logic.metrics;
+
+import org.example.blockchain.logic.BlockChain;
+
+import javax.management.*;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Counts what happens to a {@link BlockChain} and exposes it as a {@link BlockChainMetricsMXBean}.
+ * Counters are {@link LongAdder}s, so counting doesn't make threads that mine or add messages contend,
+ * and they are only summed when a JMX client reads them.
+ * <br>
+ * Metrics are registered in the platform MBean server by {@link #register()}
+ * under the {@value #OBJECT_NAME} name.
+ *
+ * @author Dominik Szmyt
+ * @see BlockChain#getMetrics()
+ * @since 1.1.0
+ */
+public class BlockChainMetrics implements BlockChainMetricsMXBean, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String OBJECT_NAME = "org.example.blockchain:type=BlockChain";
+
+    private final BlockChain blockChain;
+    private final LongAdder acceptedBlocks = new LongAdder();
+    private final LongAdder rejectedBlocks = new LongAdder();
+    private final LongAdder acceptedMessages = new LongAdder();
+    private final LongAdder rejectedMessages = new LongAdder();
+    private final ConcurrentMap<String, MiningStats> miningStats = new ConcurrentHashMap<>();
+
+    /**
+     * Create a {@code BlockChainMetrics} of the given blockchain.
+     * @param blockChain A blockchain whose metrics are to be exposed.
+     * @throws IllegalArgumentException When the blockchain is not defined.
+     */
+    public BlockChainMetrics(final BlockChain blockChain) throws IllegalArgumentException {
+        if (isNull(blockChain)) {
+            throw new IllegalArgumentException("Blockchain should be defined");
+        }
+
+        this.blockChain = blockChain;
+    }
+
+    /**
+     * Registers metrics in the platform MBean server,
+     * replacing metrics of another blockchain that were registered before.
+     * @throws IllegalStateException When the metrics couldn't be registered.
+     */
+    public void register() throws IllegalStateException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Removes metrics from the platform MBean server if they were registered.
+     * @throws IllegalStateException When the metrics couldn't be removed.
+     */
+    public void unregister() throws IllegalStateException {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public void blockAccepted() {
+        acceptedBlocks.increment();
+    }
+
+    public void blockRejected() {
+        rejectedBlocks.increment();
+    }
+
+    public void messageAccepted() {
+        acceptedMessages.increment();
+    }
+
+    public void messageRejected() {
+        rejectedMessages.increment();
+    }
+
+    /**
+     * Counts hashes that a miner computed while mining a block.
+     * @param miner The name of a miner.
+     * @param hashes The number of computed hashes.
+     * @param nanos The time spent on mining in nanoseconds.
+     */
+    public void mined(final String miner, final long hashes, final long nanos) {
+        if (isNull(miner)) return;
+
+        final MiningStats stats = miningStats.computeIfAbsent(miner, key -> new MiningStats());
+        stats.hashes.add(hashes);
+        stats.nanos.add(nanos);
+    }
+
+    @Override
+    public int getHeight() {
+        return blockChain.getSnapshot().getHeight();
+    }
+
+    @Override
+    public int getNumberOfZeros() {
+        return blockChain.getNumberOfZeros();
+    }
+
+    @Override
+    public int getMempoolSize() {
+        return blockChain.getMessages().size();
+    }
+
+    @Override
+    public int getIdentifierWatermark() {
+        return blockChain.getIdentifierWatermark();
+    }
+
+    @Override
+    public long getAcceptedBlocks() {
+        return acceptedBlocks.sum();
+    }
+
+    @Override
+    public long getRejectedBlocks() {
+        return rejectedBlocks.sum();
+    }
+
+    @Override
+    public long getAcceptedMessages() {
+        return acceptedMessages.sum();
+    }
+
+    @Override
+    public long getRejectedMessages() {
+        return rejectedMessages.sum();
+    }
+
+    @Override
+    public double getMessageRejectionRate() {
+        final long rejected = rejectedMessages.sum();
+        final long total = rejected + acceptedMessages.sum();
+        return total == 0L ? 0.0 : (double) rejected / total;
+    }
+
+    @Override
+    public Map<String, Double> getHashRates() {
+        final Map<String, Double> hashRates = new TreeMap<>();
+        miningStats.forEach((miner, stats) -> {
+            final long nanos = stats.nanos.sum();
+            hashRates.put(miner, nanos == 0L ? 0.0 : stats.hashes.sum() * 1_000_000_000.0 / nanos);
+        });
+
+        return hashRates;
+    }
+
+    @Override
+    public long getInclusionLatencyP50() {
+        return blockChain.getInclusionLatency().getHistogram().getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public long getInclusionLatencyP99() {
+        return blockChain.getInclusionLatency().getHistogram().getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long getInclusionLatencyP999() {
+        return blockChain.getInclusionLatency().getHistogram().getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Hashes and time spent on mining by one miner.
+     */
+    private static final class MiningStats implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final LongAdder hashes = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
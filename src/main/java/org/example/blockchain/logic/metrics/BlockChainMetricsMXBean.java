@@ -0,0 +1,92 @@
+package org.example.blockchain.logic.metrics;
+
+import java.util.Map;
+
+/**
+ * A management interface of a {@link org.example.blockchain.logic.BlockChain}
+ * that can be browsed with JMX clients, e.g. JConsole or VisualVM.
+ *
+ * @author Dominik Szmyt
+ * @see BlockChainMetrics
+ * @since 1.1.0
+ */
+public interface BlockChainMetricsMXBean {
+
+    /**
+     * Returns the number of blocks in a blockchain.
+     * @return The height of a blockchain.
+     */
+    int getHeight();
+
+    /**
+     * Returns the number of zeros the next block's hash has to start with.
+     * @return The current number of zeros.
+     */
+    int getNumberOfZeros();
+
+    /**
+     * Returns the number of messages waiting for a block.
+     * @return The size of the mempool.
+     */
+    int getMempoolSize();
+
+    /**
+     * Returns the last identifier given out to a message.
+     * @return The identifier watermark.
+     */
+    int getIdentifierWatermark();
+
+    /**
+     * Returns the number of blocks accepted by {@code putLast}.
+     * @return The number of accepted blocks.
+     */
+    long getAcceptedBlocks();
+
+    /**
+     * Returns the number of blocks rejected by {@code putLast}.
+     * @return The number of rejected blocks.
+     */
+    long getRejectedBlocks();
+
+    /**
+     * Returns the number of messages accepted by {@code addMessage}.
+     * @return The number of accepted messages.
+     */
+    long getAcceptedMessages();
+
+    /**
+     * Returns the number of messages rejected by {@code addMessage}.
+     * @return The number of rejected messages.
+     */
+    long getRejectedMessages();
+
+    /**
+     * Returns the ratio of messages rejected by {@code addMessage}.
+     * @return The rejection rate or {@code 0} if there were no messages yet.
+     */
+    double getMessageRejectionRate();
+
+    /**
+     * Returns hashes computed per second of mining by each miner.
+     * @return Hash rates by miners' names.
+     */
+    Map<String, Double> getHashRates();
+
+    /**
+     * Returns the median time messages waited for a block.
+     * @return The median inclusion latency in microseconds.
+     */
+    long getInclusionLatencyP50();
+
+    /**
+     * Returns the 99th percentile of time messages waited for a block.
+     * @return The 99th percentile of inclusion latency in microseconds.
+     */
+    long getInclusionLatencyP99();
+
+    /**
+     * Returns the 99.9th percentile of time messages waited for a block.
+     * @return The 99.9th percentile of inclusion latency in microseconds.
+     */
+    long getInclusionLatencyP999();
+}
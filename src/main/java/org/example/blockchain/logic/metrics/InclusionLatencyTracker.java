@@ -0,0 +1,94 @@
+package org.example.blockchain.logic.metrics;
+
+import org.example.blockchain.logic.message.Message;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Measures how long messages wait between being added to a {@link org.example.blockchain.logic.BlockChain}
+ * and landing in an accepted block.
+ * Submission times are remembered by message id until a message is included, so the tracker holds at most
+ * as many entries as there are messages waiting for a block.
+ * Latencies are recorded in a {@link LatencyHistogram}.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.BlockChain#getInclusionLatency()
+ * @since 1.1.0
+ */
+public class InclusionLatencyTracker implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Integer, Long> submissions = new ConcurrentHashMap<>();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Remembers that a message was submitted now.
+     * @param message A message that was added to a blockchain.
+     */
+    public void submitted(final Message message) {
+        submitted(message, System.nanoTime());
+    }
+
+    /**
+     * Remembers that a message was submitted at the given time.
+     * @param message A message that was added to a blockchain.
+     * @param nanoTime The time of submission, as told by {@link System#nanoTime()}.
+     */
+    public void submitted(final Message message, final long nanoTime) {
+        if (isNull(message)) return;
+        submissions.put(message.getId(), nanoTime);
+    }
+
+    /**
+     * Records the latency of each message of a block that was accepted now.
+     * @param messages Messages of an accepted block.
+     */
+    public void included(final List<Message> messages) {
+        included(messages, System.nanoTime());
+    }
+
+    /**
+     * Records the latency of each message of a block that was accepted at the given time.
+     * Messages whose submission wasn't remembered are skipped.
+     *
+     * @param messages Messages of an accepted block.
+     * @param nanoTime The time of acceptance, as told by {@link System#nanoTime()}.
+     */
+    public void included(final List<Message> messages, final long nanoTime) {
+        if (isNull(messages)) return;
+
+        for (final Message message : messages) {
+            if (isNull(message)) continue;
+
+            final Long submittedAt = submissions.remove(message.getId());
+            if (nonNull(submittedAt)) {
+                histogram.record(TimeUnit.NANOSECONDS.toMicros(nanoTime - submittedAt));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of submitted messages that weren't included yet.
+     * @return The number of pending messages.
+     */
+    public int getPending() {
+        return submissions.size();
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return "Pending: " + getPending() + "\n" + histogram;
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.blockchain.logic.metrics;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies in microseconds into a fixed number of buckets, similarly to an HDR histogram.
+ * Values below {@value #SUB_BUCKETS} have their own buckets, while each greater power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so a reported percentile is at most about 6% greater than the recorded value.
+ * <br>
+ * Recording doesn't allocate nor take any lock, so it can be done on hot paths by many threads at once.
+ * Percentiles are computed from the current counts and may miss values that are being recorded at the same time.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public class LatencyHistogram implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency. Negative values are recorded as {@code 0}.
+     * @param micros A latency in microseconds.
+     */
+    public void record(final long micros) {
+        final long value = Math.max(0L, micros);
+
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the smallest latency that is greater than or equal to the given percentage of recorded latencies.
+     * The value is the upper bound of a bucket, but never greater than the maximum recorded latency.
+     *
+     * @param percentile A percentile between {@code 0} and {@code 100}, e.g. {@code 99.9}.
+     * @return A latency in microseconds or {@code 0} if nothing was recorded yet.
+     * @throws IllegalArgumentException When the percentile is out of range.
+     */
+    public long getValueAtPercentile(final double percentile) throws IllegalArgumentException {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile should be between 0 and 100");
+        }
+
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0L) return 0L;
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    /**
+     * Adds latencies recorded by another histogram, e.g. to summarize several blockchains.
+     * @param other A histogram whose latencies are to be added.
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.addAndGet(i, other.counts.get(i));
+        }
+        count.add(other.count.sum());
+        sum.add(other.sum.sum());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Removes all recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0L);
+    }
+
+    /**
+     * Returns the average recorded latency.
+     * @return The mean in microseconds or {@code 0} if nothing was recorded yet.
+     */
+    public double getMean() {
+        final long currentCount = count.sum();
+        return currentCount == 0L ? 0.0 : (double) sum.sum() / currentCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Count: " + getCount() + "\n" +
+                "Mean: " + String.format("%.1f", getMean() / 1000.0) + " ms\n" +
+                "p50: " + format(getValueAtPercentile(50.0)) + "\n" +
+                "p99: " + format(getValueAtPercentile(99.0)) + "\n" +
+                "p99.9: " + format(getValueAtPercentile(99.9)) + "\n" +
+                "Max: " + format(getMax()) + "\n";
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1L;
+    }
+
+    private static String format(final long micros) {
+        return String.format("%.1f", micros / 1000.0) + " ms";
+    }
+}
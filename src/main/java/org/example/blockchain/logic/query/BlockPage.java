@@ -0,0 +1,49 @@
+package org.example.blockchain.logic.query;
+
+import org.example.blockchain.logic.ChainSnapshot;
+import org.example.blockchain.logic.block.Block;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of blocks that match a {@link BlockQuery}, see {@link ChainSnapshot#page(BlockQuery, int, int)}.
+ *
+ * @author Dominik Szmyt
+ * @see ChainSnapshot
+ * @since 1.1.0
+ */
+public final class BlockPage {
+
+    private final List<Block> blocks;
+    private final int nextHeight;
+
+    /**
+     * Create a {@code BlockPage} with all necessary fields.
+     * @param blocks Blocks of the page.
+     * @param nextHeight The height of the first block of the next page or {@code -1} if it's the last page.
+     */
+    public BlockPage(final List<Block> blocks, final int nextHeight) {
+        this.blocks = Collections.unmodifiableList(new ArrayList<>(blocks));
+        this.nextHeight = nextHeight;
+    }
+
+    public boolean hasNext() {
+        return nextHeight >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Blocks: " + blocks.size() + "\n" +
+                "Next height: " + nextHeight + "\n";
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    public int getNextHeight() {
+        return nextHeight;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.blockchain.logic.query;
+
+import org.example.blockchain.logic.ChainSnapshot;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Transaction;
+
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Describes which blocks of a {@link ChainSnapshot} are to be read and in which order.
+ * A block matches a query when:
+ * <ul>
+ *     <li>it's height is between {@code fromHeight} inclusive and {@code toHeight} exclusive;</li>
+ *     <li>it was created by the {@code createdBy} miner, if it's defined;</li>
+ *     <li>it's timestamp is between {@code fromTimestamp} inclusive and {@code toTimestamp} exclusive;</li>
+ *     <li>it contains a {@link Transaction} sent or received by the {@code participant}, if it's defined.</li>
+ * </ul>
+ * Blocks are read from the lowest height, or from the highest one when the query is descending.
+ * Heights out of the snapshot's range are skipped, so a query can be reused while the blockchain grows.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.logic.query.builder.BlockQueryBuilder
+ * @since 1.1.0
+ */
+public final class BlockQuery {
+
+    private final int fromHeight;
+    private final int toHeight;
+    private final Long createdBy;
+    private final long fromTimestamp;
+    private final long toTimestamp;
+    private final String participant;
+    private final boolean descending;
+
+    /**
+     * Create a {@code BlockQuery} with all necessary fields.
+     * @param fromHeight The lowest height of matching blocks.
+     * @param toHeight The height after the highest height of matching blocks.
+     * @param createdBy The id of a miner who created matching blocks or {@code null} for any miner.
+     * @param fromTimestamp The earliest timestamp of matching blocks.
+     * @param toTimestamp The timestamp after the latest timestamp of matching blocks.
+     * @param participant The name of a user whose transactions matching blocks contain or {@code null} for any blocks.
+     * @param descending Whether blocks are read from the highest height.
+     * @throws IllegalArgumentException When heights or timestamps are not valid ranges.
+     */
+    public BlockQuery(final int fromHeight,
+                      final int toHeight,
+                      final Long createdBy,
+                      final long fromTimestamp,
+                      final long toTimestamp,
+                      final String participant,
+                      final boolean descending) throws IllegalArgumentException {
+
+        if (fromHeight < 0 || fromHeight > toHeight || fromTimestamp > toTimestamp) {
+            throw new IllegalArgumentException("Heights and timestamps should be valid ranges");
+        }
+
+        this.fromHeight = fromHeight;
+        this.toHeight = toHeight;
+        this.createdBy = createdBy;
+        this.fromTimestamp = fromTimestamp;
+        this.toTimestamp = toTimestamp;
+        this.participant = participant;
+        this.descending = descending;
+    }
+
+    /**
+     * Checks whether a block matches the query, except for it's height.
+     * @param block A block that is to be checked.
+     * @return {@code true} if the block matches, otherwise {@code false}.
+     */
+    public boolean matches(final Block block) {
+        if (isNull(block)) return false;
+        if (nonNull(createdBy) && block.getCreatedBy() != createdBy) return false;
+        if (block.getTimestamp() < fromTimestamp || block.getTimestamp() >= toTimestamp) return false;
+        if (isNull(participant)) return true;
+
+        for (final Message message : block.getMessages()) {
+            if (message instanceof Transaction && isParticipant((Transaction) message)) return true;
+        }
+
+        return false;
+    }
+
+    private boolean isParticipant(final Transaction transaction) {
+        return (nonNull(transaction.getFrom()) && Objects.equals(participant, transaction.getFrom().getName()))
+                || (nonNull(transaction.getTo()) && Objects.equals(participant, transaction.getTo().getName()));
+    }
+
+    @Override
+    public String toString() {
+        return "Heights: " + fromHeight + " - " + toHeight + "\n" +
+                "Created by: " + createdBy + "\n" +
+                "Timestamps: " + fromTimestamp + " - " + toTimestamp + "\n" +
+                "Participant: " + participant + "\n" +
+                "Descending: " + descending + "\n";
+    }
+
+    public int getFromHeight() {
+        return fromHeight;
+    }
+
+    public int getToHeight() {
+        return toHeight;
+    }
+
+    public Long getCreatedBy() {
+        return createdBy;
+    }
+
+    public long getFromTimestamp() {
+        return fromTimestamp;
+    }
+
+    public long getToTimestamp() {
+        return toTimestamp;
+    }
+
+    public String getParticipant() {
+        return participant;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+}
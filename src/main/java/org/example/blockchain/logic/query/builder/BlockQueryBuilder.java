@@ -0,0 +1,67 @@
+package org.example.blockchain.logic.query.builder;
+
+import org.example.blockchain.logic.query.BlockQuery;
+
+/**
+ * A builder for the {@link BlockQuery} class.
+ * By default, a query matches all blocks, from the lowest height.
+ *
+ * @author Dominik Szmyt
+ * @see BlockQuery
+ * @since 1.1.0
+ */
+public final class BlockQueryBuilder {
+
+    private int fromHeight = 0;
+    private int toHeight = Integer.MAX_VALUE;
+    private Long createdBy;
+    private long fromTimestamp = Long.MIN_VALUE;
+    private long toTimestamp = Long.MAX_VALUE;
+    private String participant;
+    private boolean descending;
+
+    private BlockQueryBuilder() { }
+
+    public static BlockQueryBuilder builder() {
+        return new BlockQueryBuilder();
+    }
+
+    public BlockQueryBuilder withFromHeight(final int fromHeight) {
+        this.fromHeight = fromHeight;
+        return this;
+    }
+
+    public BlockQueryBuilder withToHeight(final int toHeight) {
+        this.toHeight = toHeight;
+        return this;
+    }
+
+    public BlockQueryBuilder withCreatedBy(final Long createdBy) {
+        this.createdBy = createdBy;
+        return this;
+    }
+
+    public BlockQueryBuilder withFromTimestamp(final long fromTimestamp) {
+        this.fromTimestamp = fromTimestamp;
+        return this;
+    }
+
+    public BlockQueryBuilder withToTimestamp(final long toTimestamp) {
+        this.toTimestamp = toTimestamp;
+        return this;
+    }
+
+    public BlockQueryBuilder withParticipant(final String participant) {
+        this.participant = participant;
+        return this;
+    }
+
+    public BlockQueryBuilder withDescending(final boolean descending) {
+        this.descending = descending;
+        return this;
+    }
+
+    public BlockQuery build() {
+        return new BlockQuery(fromHeight, toHeight, createdBy, fromTimestamp, toTimestamp, participant, descending);
+    }
+}
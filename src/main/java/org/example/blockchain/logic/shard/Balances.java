@@ -0,0 +1,116 @@
+package org.example.blockchain.logic.shard;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Transaction;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable view of balances across shards of a {@link ShardedBlockChain}.
+ * Users' initial coins are not recorded in blocks, so a balance is the net change of a user's coins:
+ * the sum of amounts received minus the sum of amounts sent in transactions included in any shard.
+ * The changes of all users add up to {@code 0} by construction, because each transaction takes exactly as many coins
+ * from it's sender as it gives to it's recipient, so {@link #getTotal()} only describes the view and doesn't check it.
+ * Coins of transactions that are not included yet and miners' rewards are not recorded in blocks either,
+ * so a balance alone doesn't tell whether a user sent more coins than they had.
+ * <br>
+ * A transaction is cross-shard when it's recipient's transactions are routed to another shard than it's sender's.
+ *
+ * @author Dominik Szmyt
+ * @see ShardedBlockChain#getBalances()
+ * @since 1.1.0
+ */
+public final class Balances {
+
+    private final Map<String, Long> balances;
+    private final long transactions;
+    private final long crossShardTransactions;
+
+    /**
+     * Create a {@code Balances} with all necessary fields.
+     * @param balances Net changes of coins by users' names.
+     * @param transactions The number of included transactions.
+     * @param crossShardTransactions The number of included transactions whose sender and recipient belong to different shards.
+     */
+    public Balances(final Map<String, Long> balances, final long transactions, final long crossShardTransactions) {
+        this.balances = Collections.unmodifiableMap(new TreeMap<>(balances));
+        this.transactions = transactions;
+        this.crossShardTransactions = crossShardTransactions;
+    }
+
+    /**
+     * Returns the net change of a user's coins.
+     * @param name The name of a user.
+     * @return The balance of the user or {@code 0} if there were no transactions of the user.
+     */
+    public long getBalance(final String name) {
+        return balances.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Sums up balances of all users, which is {@code 0} by construction of the view.
+     * @return The sum of all balances.
+     */
+    public long getTotal() {
+        return balances.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Users: " + balances.size() + "\n" +
+                "Transactions: " + transactions + "\n" +
+                "Cross-shard transactions: " + crossShardTransactions + "\n" +
+                "Total: " + getTotal() + "\n";
+    }
+
+    public Map<String, Long> getBalances() {
+        return balances;
+    }
+
+    public long getTransactions() {
+        return transactions;
+    }
+
+    public long getCrossShardTransactions() {
+        return crossShardTransactions;
+    }
+
+    /**
+     * Sums up transactions of blocks one by one.
+     */
+    static final class Summary {
+
+        private final ShardedBlockChain shards;
+        private final Map<String, Long> balances = new TreeMap<>();
+        private long transactions;
+        private long crossShardTransactions;
+
+        Summary(final ShardedBlockChain shards) {
+            this.shards = shards;
+        }
+
+        void add(final Block block) {
+            for (final Message message : block.getMessages()) {
+                if (!(message instanceof Transaction)) continue;
+
+                final Transaction transaction = (Transaction) message;
+                final String sender = transaction.getFrom().getName();
+                final String recipient = transaction.getTo().getName();
+                balances.merge(sender, -transaction.getAmount(), Long::sum);
+                balances.merge(recipient, transaction.getAmount(), Long::sum);
+
+                transactions++;
+                if (shards.shardOf(sender) != shards.shardOf(recipient)) {
+                    crossShardTransactions++;
+                }
+            }
+        }
+
+        Balances toBalances() {
+            return new Balances(balances, transactions, crossShardTransactions);
+        }
+    }
+}
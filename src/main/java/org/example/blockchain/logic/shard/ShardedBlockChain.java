@@ -0,0 +1,129 @@
+package org.example.blockchain.logic.shard;
+
+import org.example.blockchain.logic.BlockChain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Splits one ledger into independent {@link BlockChain} shards, each with it's own blocks, mempool and locks,
+ * so blocks can be appended to several shards at the same time.
+ * <br>
+ * Transactions are routed to a shard by their sender, so all transactions of one user land in the same shard
+ * and stay ordered, while a recipient may belong to any shard. The state of all shards is summarized
+ * by a {@link Balances} view, see {@link #getBalances()}.
+ *
+ * @author Dominik Szmyt
+ * @see Balances
+ * @since 1.1.0
+ */
+public class ShardedBlockChain {
+
+    private final List<BlockChain> shards;
+
+    /**
+     * Create a {@code ShardedBlockChain} with the given number of new shards.
+     * @param count The number of shards.
+     * @throws IllegalArgumentException When the number of shards is not positive.
+     */
+    public ShardedBlockChain(final int count) throws IllegalArgumentException {
+        this(newShards(count));
+    }
+
+    /**
+     * Create a {@code ShardedBlockChain} of the given blockchains.
+     * @param shards Blockchains that are to be used as shards.
+     * @throws IllegalArgumentException When there are no shards or any of them is not defined.
+     */
+    public ShardedBlockChain(final List<BlockChain> shards) throws IllegalArgumentException {
+        if (isNull(shards) || shards.isEmpty() || shards.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("There should be at least one shard");
+        }
+
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+    }
+
+    private static List<BlockChain> newShards(final int count) {
+        final List<BlockChain> shards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            shards.add(new BlockChain());
+        }
+
+        return shards;
+    }
+
+    /**
+     * Returns the index of the shard that transactions of the given sender are routed to.
+     * @param sender The name of a sender.
+     * @return The index of a shard.
+     */
+    public int shardOf(final String sender) {
+        return Math.floorMod(Objects.hashCode(sender), shards.size());
+    }
+
+    /**
+     * Returns the shard that transactions of the given sender are routed to.
+     * @param sender The name of a sender.
+     * @return A shard of the sender.
+     */
+    public BlockChain route(final String sender) {
+        return shards.get(shardOf(sender));
+    }
+
+    /**
+     * Sets the same bounds of the number of zeros in each shard.
+     * @param min The minimum number of zeros.
+     * @param max The maximum number of zeros.
+     * @throws IllegalArgumentException When the minimum is negative or greater than the maximum.
+     * @see BlockChain#setNumberOfZerosBounds(int, int)
+     */
+    public void setNumberOfZerosBounds(final int min, final int max) throws IllegalArgumentException {
+        for (final BlockChain shard : shards) {
+            shard.setNumberOfZerosBounds(min, max);
+        }
+    }
+
+    /**
+     * Returns the number of blocks in all shards.
+     * @return The sum of shards' heights.
+     */
+    public int getHeight() {
+        int height = 0;
+        for (final BlockChain shard : shards) {
+            height += shard.getSnapshot().getHeight();
+        }
+
+        return height;
+    }
+
+    /**
+     * Sums up transactions included in blocks of all shards.
+     * Blocks are read from a snapshot of each shard, so shards are not locked.
+     *
+     * @return A view of balances across shards.
+     */
+    public Balances getBalances() {
+        final Balances.Summary summary = new Balances.Summary(this);
+        for (final BlockChain shard : shards) {
+            shard.getSnapshot().stream().forEach(summary::add);
+        }
+
+        return summary.toBalances();
+    }
+
+    public BlockChain getShard(final int index) {
+        return shards.get(index);
+    }
+
+    public List<BlockChain> getShards() {
+        return shards;
+    }
+
+    public int size() {
+        return shards.size();
+    }
+}
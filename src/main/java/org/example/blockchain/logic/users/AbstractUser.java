@@ -2,14 +2,17 @@ package org.example.blockchain.logic.users;
 
 import org.example.blockchain.logic.BlockChain;
 import org.example.blockchain.logic.message.Message;
-import org.example.blockchain.logic.message.Messages;
 import org.example.blockchain.logic.message.builder.SecureMessageBuilder;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
 import org.example.blockchain.simulation.Simulation;
 
 import java.security.KeyPair;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.Objects.isNull;
+
 /**
  * Represents a real life blockchain user who can perform transactions that may be included in one of the blocks.
  *
@@ -21,8 +24,10 @@ public abstract class AbstractUser implements Runnable {
     protected final String name;
     protected volatile int coins;
     protected final KeyPair keyPair;
+    protected final SignatureScheme signatureScheme;
     protected final BlockChain blockChain;
     protected final Simulation simulation;
+    protected final SplittableRandom random;
 
     /**
      * Create an {@code AbstractUser} with all necessary fields.
@@ -36,11 +41,35 @@ public abstract class AbstractUser implements Runnable {
                         final BlockChain blockChain1,
                         final Simulation simulation1) {
 
+        this(name1, keyPair1, null, blockChain1, simulation1);
+    }
+
+    /**
+     * Create an {@code AbstractUser} that signs {@code SecureMessages} with the given {@link SignatureScheme}.
+     * @param name1 The name of an {@code AbstractUser}.
+     * @param keyPair1 The key pair used to sign {@code SecureMessages}.
+     * @param signatureScheme1 The scheme used to sign {@code SecureMessages}
+     *                         or {@code null} if it should be chosen based on the key pair.
+     * @param blockChain1 An instance of the {@link BlockChain}.
+     * @param simulation1 An instance of the {@link Simulation}.
+     * @since 1.1.0
+     */
+    public AbstractUser(final String name1,
+                        final KeyPair keyPair1,
+                        final SignatureScheme signatureScheme1,
+                        final BlockChain blockChain1,
+                        final Simulation simulation1) {
+
         name = name1;
         coins = 100;
         keyPair = keyPair1;
+        signatureScheme = isNull(signatureScheme1)
+                ? SignatureSchemes.forKey(isNull(keyPair1) ? null : keyPair1.getPublic())
+                : signatureScheme1;
         blockChain = blockChain1;
         simulation = simulation1;
+        final SplittableRandom simulationRandom = isNull(simulation1) ? null : simulation1.splitRandom();
+        random = isNull(simulationRandom) ? new SplittableRandom() : simulationRandom;
     }
 
     /**
@@ -49,15 +78,44 @@ public abstract class AbstractUser implements Runnable {
      * @see org.example.blockchain.logic.message.SecureMessage
      */
     public Message prepareMessage() {
+        return prepareMessage(true);
+    }
+
+    /**
+     * Prepares and signs a {@code SecureMessage} using user's private key and {@link SignatureScheme}.
+     * @param verify Whether the signature should be verified right away.
+     *               Unverified messages are meant for a {@link org.example.blockchain.logic.ingest.MessageIngest}.
+     * @return A secure message that may be included in a transaction.
+     * @see org.example.blockchain.logic.message.SecureMessage
+     * @since 1.1.0
+     */
+    public Message prepareMessage(final boolean verify) {
+        return prepareMessage(blockChain.getUniqueIdentifier(random), verify);
+    }
+
+    /**
+     * Prepares and signs a {@code SecureMessage} with the given id using user's private key and {@link SignatureScheme}.
+     * A message that is to be added to a blockchain should be prepared
+     * within {@link BlockChain#withUniqueIdentifier(SplittableRandom, java.util.function.IntFunction, java.util.function.Function)},
+     * so it's added before messages with greater ids.
+     * @param id The unique identifier of a message.
+     * @param verify Whether the signature should be verified right away.
+     *               Unverified messages are meant for a {@link org.example.blockchain.logic.ingest.MessageIngest}.
+     * @return A secure message that may be included in a transaction.
+     * @see org.example.blockchain.logic.message.SecureMessage
+     * @since 1.1.0
+     */
+    public Message prepareMessage(final int id, final boolean verify) {
         final String text = "Hello there!";
-        final int id = blockChain.getUniqueIdentifier();
-        final byte[] signature = Messages.sign(text + id, keyPair.getPrivate());
+        final byte[] signature = signatureScheme.sign(text, id, keyPair.getPrivate());
 
         return SecureMessageBuilder.builder()
                 .withId(id)
                 .withText(text)
                 .withSignature(signature)
                 .withPublicKey(keyPair.getPublic())
+                .withSignatureScheme(signatureScheme)
+                .withVerification(verify)
                 .build();
     }
 
@@ -79,14 +137,50 @@ public abstract class AbstractUser implements Runnable {
         coins -= subtrahend;
     }
 
+    /**
+     * Performs an action if a user is active and then checks whether the user is still active.
+     * A user that is no longer active is marked as terminated.
+     * Meant for a {@link org.example.blockchain.simulation.scheduler.UserScheduler}
+     * that runs user's actions as scheduled tasks instead of running user's thread.
+     *
+     * @return {@code true} if the next action should be scheduled, otherwise {@code false}.
+     * @since 1.1.0
+     */
+    public boolean step() {
+        if (isActive()) {
+            act();
+        }
+
+        if (isActive()) return true;
+
+        markTerminated();
+        return false;
+    }
+
     /**
      * Sleeps for the random amount of time.
      * @throws InterruptedException When any thread interrupted current thread while current thread was sleeping.
      */
     protected void sleep() throws InterruptedException {
-        TimeUnit.SECONDS.sleep(new Random().nextInt(15) + 1);
+        TimeUnit.MILLISECONDS.sleep(nextSleepMillis());
     }
 
+    /**
+     * Chooses how long a user waits before the next action, between 1 and 15 seconds.
+     * @return The random amount of time in milliseconds.
+     * @since 1.1.0
+     */
+    public long nextSleepMillis() {
+        return TimeUnit.SECONDS.toMillis(random.nextInt(15) + 1);
+    }
+
+    /**
+     * Each {@code AbstractUser} implementation should provide a single action, e.g. performing a transaction,
+     * that is repeated with a random pause between each action. An action must not sleep.
+     * @since 1.1.0
+     */
+    abstract public void act();
+
     /**
      * Each {@code AbstractUser} implementation should provide a method to stop it's thread's {@code while} loop.
      */
@@ -103,9 +197,25 @@ public abstract class AbstractUser implements Runnable {
 
     abstract public KeyPair getKeyPair();
 
+    public SignatureScheme getSignatureScheme() {
+        return signatureScheme;
+    }
+
+    /**
+     * Returns user's own source of randomness, split off the {@link Simulation}'s source when the user was created.
+     * It's meant to be used only by user's actions.
+     * @return A source of randomness.
+     * @since 1.1.0
+     */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
     abstract public BlockChain getBlockChain();
 
     abstract boolean isActive();
 
     abstract boolean isTerminated();
+
+    abstract void markTerminated();
 }
@@ -3,24 +3,38 @@ package org.example.blockchain.logic.users;
 import org.example.blockchain.logic.BlockChain;
 import org.example.blockchain.logic.block.*;
 import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.metrics.BlockChainMetrics;
 import org.example.blockchain.simulation.Simulation;
 
 import java.security.KeyPair;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.nonNull;
 
 /**
  * Represents a user who is going to mine blocks apart from performing transactions.
  * After each added block a miner earns 100 coins.
+ * Each miner has it's own id, which blocks it mined are created by.
+ * Miners created without an id are numbered in the order of their creation,
+ * so a simulation that should mine the same blocks each time gives ids explicitly.
  *
  * @author Dominik Szmyt
  * @since 1.0.0
  */
 public class Miner extends AbstractUser {
 
+    private static final AtomicLong NEXT_ID = new AtomicLong(1L);
+
+    private final long id;
     private volatile boolean active = true;
     private volatile boolean terminated = false;
+    private boolean hasMined = false;
+    private long simulatedMiningMillis = 0L;
 
     /**
      * Create a {@code Miner} with all necessary fields.
@@ -35,29 +49,57 @@ public class Miner extends AbstractUser {
                  final Simulation simulation) {
 
         super(name, keyPair, blockChain, simulation);
+        this.id = NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Create a {@code Miner} that signs {@code SecureMessages} with the given {@link SignatureScheme}.
+     * @param name The name of a {@code Miner}.
+     * @param keyPair The key pair used to sign {@code SecureMessages}.
+     * @param signatureScheme The scheme used to sign {@code SecureMessages}
+     *                        or {@code null} if it should be chosen based on the key pair.
+     * @param blockChain An instance of the {@link BlockChain}.
+     * @param simulation An instance of the {@link Simulation}.
+     * @since 1.1.0
+     */
+    public Miner(final String name,
+                 final KeyPair keyPair,
+                 final SignatureScheme signatureScheme,
+                 final BlockChain blockChain,
+                 final Simulation simulation) {
+
+        this(NEXT_ID.getAndIncrement(), name, keyPair, signatureScheme, blockChain, simulation);
+    }
+
+    /**
+     * Create a {@code Miner} with the given id that blocks it mined are created by.
+     * @param id The id of a {@code Miner}.
+     * @param name The name of a {@code Miner}.
+     * @param keyPair The key pair used to sign {@code SecureMessages}.
+     * @param signatureScheme The scheme used to sign {@code SecureMessages}
+     *                        or {@code null} if it should be chosen based on the key pair.
+     * @param blockChain An instance of the {@link BlockChain}.
+     * @param simulation An instance of the {@link Simulation}.
+     * @since 1.1.0
+     */
+    public Miner(final long id,
+                 final String name,
+                 final KeyPair keyPair,
+                 final SignatureScheme signatureScheme,
+                 final BlockChain blockChain,
+                 final Simulation simulation) {
+
+        super(name, keyPair, signatureScheme, blockChain, simulation);
+        this.id = id;
     }
 
     @Override
     public void run() {
         while (active) {
             try {
-                Block block = null;
-                boolean isIn = false;
-
-                while (!isIn) {
-                    final Block prevBlock = blockChain.getLast();
-                    final List<Message> messages = new ArrayList<>(blockChain.getMessages());
-                    block = Blocks.mineBlock(prevBlock, messages, new Date().getTime(), Thread.currentThread().getId());
-
-                    isIn = blockChain.putLast(block, block.getGenerationTime());
-                }
-
-                System.out.println(block);
-                addCoins(100);
+                act();
                 sleep();
                 if (!active) break;
-
-                simulation.createAndPerformTransaction(this);
             } catch (InterruptedException exception) {
                 active = false;
             }
@@ -66,6 +108,52 @@ public class Miner extends AbstractUser {
         terminated = true;
     }
 
+    /**
+     * Performs a transaction, unless it's the first action of a miner,
+     * and then mines a new block, created by miner's id, and earns 100 coins.
+     * Hashes computed while mining are reported to blockchain's {@link BlockChainMetrics}.
+     */
+    @Override
+    public void act() {
+        if (hasMined) {
+            simulation.createAndPerformTransaction(this);
+        }
+
+        final MiningContext miningContext = simulation.getMiningContext();
+        final LongAdder hashes = new LongAdder();
+        final long start = System.nanoTime();
+        Block block = null;
+        boolean isIn = false;
+
+        while (!isIn) {
+            final Block prevBlock = blockChain.getLast();
+            final List<Message> messages = new ArrayList<>(blockChain.getMessages());
+            block = Blocks.mineBlock(prevBlock, messages, simulation.getClock().millis(),
+                    id, miningContext, random, hashes);
+
+            isIn = blockChain.putLast(block, block.getGenerationTime());
+        }
+
+        final BlockChainMetrics metrics = blockChain.getMetrics();
+        if (nonNull(metrics)) {
+            metrics.mined(name, hashes.sum(), System.nanoTime() - start);
+        }
+
+        System.out.println(block);
+        addCoins(100);
+        hasMined = true;
+        simulatedMiningMillis = miningContext.isSimulated() ? TimeUnit.SECONDS.toMillis(block.getGenerationTime()) : 0L;
+    }
+
+    /**
+     * When the generation time of blocks is simulated, a miner also waits for as long as mining took.
+     * @return The random amount of time in milliseconds.
+     */
+    @Override
+    public long nextSleepMillis() {
+        return super.nextSleepMillis() + simulatedMiningMillis;
+    }
+
     /**
      * Stops miner thread's {@code while} loop.
      */
@@ -74,6 +162,10 @@ public class Miner extends AbstractUser {
         active = false;
     }
 
+    public long getId() {
+        return id;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -103,4 +195,9 @@ public class Miner extends AbstractUser {
     boolean isTerminated() {
         return terminated;
     }
+
+    @Override
+    void markTerminated() {
+        terminated = true;
+    }
 }
@@ -1,10 +1,10 @@
 package org.example.blockchain.logic.users;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
 import org.example.blockchain.simulation.Simulation;
 
 import java.security.KeyPair;
-import java.util.Random;
 
 /**
  * Represents a simple blockchain user who is only going to perform transactions.
@@ -33,12 +33,30 @@ public class SimpleUser extends AbstractUser {
         super(name, keyPair, blockChain, simulation);
     }
 
+    /**
+     * Create a {@code SimpleUser} that signs {@code SecureMessages} with the given {@link SignatureScheme}.
+     * @param name The name of a {@code SimpleUser}.
+     * @param keyPair The key pair used to sign {@code SecureMessages}.
+     * @param signatureScheme The scheme used to sign {@code SecureMessages}
+     *                        or {@code null} if it should be chosen based on the key pair.
+     * @param blockChain An instance of the {@link BlockChain}.
+     * @param simulation An instance of the {@link Simulation}.
+     * @since 1.1.0
+     */
+    public SimpleUser(final String name,
+                      final KeyPair keyPair,
+                      final SignatureScheme signatureScheme,
+                      final BlockChain blockChain,
+                      final Simulation simulation) {
+
+        super(name, keyPair, signatureScheme, blockChain, simulation);
+    }
+
     @Override
     public void run() {
         while (active) {
             try {
-                simulation.createAndPerformTransaction(this);
-                addCoins(new Random().nextInt(100) + 1);
+                act();
 
                 sleep();
                 if (!active) break;
@@ -50,6 +68,15 @@ public class SimpleUser extends AbstractUser {
         terminated = true;
     }
 
+    /**
+     * Performs a transaction and then earns a random amount of coins.
+     */
+    @Override
+    public void act() {
+        simulation.createAndPerformTransaction(this);
+        addCoins(random.nextInt(100) + 1);
+    }
+
     /**
      * Stops user thread's {@code while} loop.
      */
@@ -87,4 +114,9 @@ public class SimpleUser extends AbstractUser {
     boolean isTerminated() {
         return terminated;
     }
+
+    @Override
+    void markTerminated() {
+        terminated = true;
+    }
 }
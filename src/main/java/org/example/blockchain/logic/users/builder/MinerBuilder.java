@@ -1,11 +1,14 @@
 package org.example.blockchain.logic.users.builder;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
 import org.example.blockchain.logic.users.Miner;
 import org.example.blockchain.simulation.Simulation;
 
 import java.security.KeyPair;
 
+import static java.util.Objects.isNull;
+
 /**
  * A builder for the {@link Miner} class.
  *
@@ -15,8 +18,10 @@ import java.security.KeyPair;
  */
 public final class MinerBuilder {
 
+    private Long id;
     private String name;
     private KeyPair keyPair;
+    private SignatureScheme signatureScheme;
     private BlockChain blockChain;
     private Simulation simulation;
 
@@ -26,6 +31,11 @@ public final class MinerBuilder {
         return new MinerBuilder();
     }
 
+    public MinerBuilder withId(final Long id) {
+        this.id = id;
+        return this;
+    }
+
     public MinerBuilder withName(final String name) {
         this.name = name;
         return this;
@@ -36,6 +46,11 @@ public final class MinerBuilder {
         return this;
     }
 
+    public MinerBuilder withSignatureScheme(final SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+        return this;
+    }
+
     public MinerBuilder withBlockChain(final BlockChain blockChain) {
         this.blockChain = blockChain;
         return this;
@@ -47,6 +62,8 @@ public final class MinerBuilder {
     }
 
     public Miner build() {
-        return new Miner(name, keyPair, blockChain, simulation);
+        return isNull(id)
+                ? new Miner(name, keyPair, signatureScheme, blockChain, simulation)
+                : new Miner(id, name, keyPair, signatureScheme, blockChain, simulation);
     }
 }
@@ -1,6 +1,7 @@
 package org.example.blockchain.logic.users.builder;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
 import org.example.blockchain.logic.users.SimpleUser;
 import org.example.blockchain.simulation.Simulation;
 
@@ -17,6 +18,7 @@ public final class SimpleUserBuilder {
 
     private String name;
     private KeyPair keyPair;
+    private SignatureScheme signatureScheme;
     private BlockChain blockChain;
     private Simulation simulation;
 
@@ -36,6 +38,11 @@ public final class SimpleUserBuilder {
         return this;
     }
 
+    public SimpleUserBuilder withSignatureScheme(final SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+        return this;
+    }
+
     public SimpleUserBuilder withBlockChain(final BlockChain blockChain) {
         this.blockChain = blockChain;
         return this;
@@ -47,6 +54,6 @@ public final class SimpleUserBuilder {
     }
 
     public SimpleUser build() {
-        return new SimpleUser(name, keyPair, blockChain, simulation);
+        return new SimpleUser(name, keyPair, signatureScheme, blockChain, simulation);
     }
 }
@@ -1,15 +1,24 @@
 package org.example.blockchain.simulation;
 
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.MiningContext;
+import org.example.blockchain.logic.ingest.MessageIngest;
 import org.example.blockchain.logic.message.Message;
 import org.example.blockchain.logic.message.builder.TransactionBuilder;
 import org.example.blockchain.logic.users.AbstractUser;
+import org.example.blockchain.simulation.scheduler.UserScheduler;
 
-import java.util.ArrayList;
+import java.time.Clock;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * Represents a real world where miners and users can utilize a blockchain
@@ -20,84 +29,274 @@ import static java.util.Objects.isNull;
  */
 public class Simulation {
 
-    private final List<AbstractUser> users;
+    private static final Object TIE_LOCK = new Object();
+
+    private final UserRegistry users;
     private final ExecutorService userService;
+    private final MessageIngest messageIngest;
+    private final UserScheduler userScheduler;
+    private final MiningContext miningContext;
+    private final SplittableRandom random;
+    private final LongAdder performedTransactions = new LongAdder();
+    private final LongAdder rejectedTransactions = new LongAdder();
 
     /**
-     * Create a {@code Simulation} with all needed fields.
-     * @param users A list of users that will participate in a simulation.
+     * Create a {@code Simulation} with all fields.
+     * Use the {@link org.example.blockchain.simulation.builder.SimulationBuilder} to leave optional fields out.
+     * @param users A registry of users that will participate in a simulation or {@code null} if there are none yet.
      * @param userService A service that will manage threads.
+     * @param messageIngest An ingest that verifies transactions before they are added to a blockchain
+     *                      or {@code null} if transactions should be verified by users and added right away.
+     * @param userScheduler A scheduler that will run users' actions as scheduled tasks
+     *                      or {@code null} if each user should run on it's own thread of the user service.
+     * @param miningContext A context that miners evaluate generation time of blocks with
+     *                      or {@code null} if they should use {@link MiningContext#WALL_CLOCK}.
+     * @param random A source of randomness that users split their own sources from
+     *               or {@code null} if it shouldn't be seeded.
+     * @since 1.1.0
      */
-    public Simulation(final List<AbstractUser> users,
-                      final ExecutorService userService) {
+    public Simulation(final UserRegistry users,
+                      final ExecutorService userService,
+                      final MessageIngest messageIngest,
+                      final UserScheduler userScheduler,
+                      final MiningContext miningContext,
+                      final SplittableRandom random) {
 
-        this.users = users;
+        this.users = isNull(users) ? new UserRegistry() : users;
         this.userService = userService;
+        this.messageIngest = messageIngest;
+        this.userScheduler = userScheduler;
+        this.miningContext = isNull(miningContext) ? MiningContext.WALL_CLOCK : miningContext;
+        this.random = isNull(random) ? new SplittableRandom() : random;
     }
 
     /**
-     * At first, selects another random user that is going to be a recipient in a new transaction.
+     * At first, samples another random user from the {@link UserRegistry}
+     * that is going to be a recipient in a new transaction.
      * Then, chooses a random number of coins that is to be transferred from the sender to the recipient.
-     * In the end, tries to add a transaction to a blockchain.
-     * If the addition was successful, the transaction is deemed completed
-     * and coins are transferred from one user to another.
+     * In the end, locks both users and, if the sender still has enough coins, takes them from the sender.
+     * The transaction is then signed without holding any lock and added to a blockchain within
+     * {@link BlockChain#withUniqueIdentifier(SplittableRandom, java.util.function.IntFunction, java.util.function.Function)},
+     * so concurrent transactions reach the blockchain in the order of their ids.
+     * If the addition was successful, the transaction is deemed completed and coins are given to the recipient.
+     * Otherwise, coins are given back to the sender.
+     * When the {@code Simulation} has a {@link MessageIngest}, the transaction's signature isn't verified by the user
+     * and coins are given to the recipient once the ingest verified the transaction and added it to a blockchain.
+     * <br>
+     * Only the sender and the recipient are locked, always in the same order, so many transactions can be performed
+     * at the same time without a deadlock. Only adding, or submitting, transactions happens one at a time
+     * for each blockchain.
+     * <br>
+     * Completed and rejected transactions are counted, see {@link #getPerformedTransactions()}
+     * and {@link #getRejectedTransactions()}.
      *
      * @param user A user that wants to perform a transaction.
      */
-    public synchronized void createAndPerformTransaction(final AbstractUser user) {
+    public void createAndPerformTransaction(final AbstractUser user) {
         if (isNull(user)) return;
 
-        final List<AbstractUser> usersCopy = new ArrayList<>(users);
-        usersCopy.remove(user);
-        if (usersCopy.isEmpty()) return;
+        final AbstractUser chosenUser = users.sample(user, user.getRandom());
+        final int coins = isNull(chosenUser) ? 0 : user.getCoins();
+        if (coins == 0) {
+            rejectedTransactions.increment();
+            return;
+        }
+        final int chosenCoins = user.getRandom().nextInt(coins) + 1;
+        final BlockChain blockChain = user.getBlockChain();
 
-        final int index = new Random().nextInt(usersCopy.size());
-        final AbstractUser chosenUser = usersCopy.get(index);
+        final boolean isTaken = lockAndTransfer(user, chosenUser, () -> {
+            if (user.getCoins() < chosenCoins) return false;
+            user.takeCoins(chosenCoins);
+            return true;
+        });
+        if (!isTaken) {
+            rejectedTransactions.increment();
+            return;
+        }
 
-        if (user.getCoins() == 0) return;
-        final int chosenCoins = new Random().nextInt(user.getCoins()) + 1;
+        final boolean verify = isNull(messageIngest);
+        final IntFunction<Message> prepare = id ->
+                createTransaction(user, chosenUser, chosenCoins, user.prepareMessage(id, verify));
 
-        final Message transaction = TransactionBuilder.builder()
-                .withFrom(user)
-                .withTo(chosenUser)
-                .withAmount(chosenCoins)
-                .withMessage(user.prepareMessage())
-                .build();
+        if (nonNull(messageIngest)) {
+            final CompletableFuture<Boolean> result =
+                    blockChain.withUniqueIdentifier(user.getRandom(), prepare, messageIngest::submit);
 
-        if (user.getBlockChain().addMessage(transaction)) {
-            chosenUser.addCoins(chosenCoins);
-            user.takeCoins(chosenCoins);
+            result.thenAccept(isIn -> complete(user, chosenUser, chosenCoins, isIn));
+        } else {
+            final boolean isIn = blockChain.withUniqueIdentifier(user.getRandom(), prepare, blockChain::addMessage);
+            complete(user, chosenUser, chosenCoins, isIn);
         }
     }
 
+    private void complete(final AbstractUser sender,
+                          final AbstractUser recipient,
+                          final int amount,
+                          final boolean isIn) {
+
+        if (isIn) {
+            recipient.addCoins(amount);
+            performedTransactions.increment();
+        } else {
+            sender.addCoins(amount);
+            rejectedTransactions.increment();
+        }
+    }
+
+    private static Message createTransaction(final AbstractUser sender,
+                                             final AbstractUser recipient,
+                                             final int amount,
+                                             final Message message) {
+
+        return TransactionBuilder.builder()
+                .withFrom(sender)
+                .withTo(recipient)
+                .withAmount(amount)
+                .withMessage(message)
+                .build();
+    }
+
     /**
-     * Adds user to the list of all users and then starts user's thread.
+     * Registers user in the {@link UserRegistry} and then starts user's thread
+     * or, if the {@code Simulation} has a {@link UserScheduler}, schedules user's first action.
      * @param user A user that is to be submitted to the {@code Simulation}.
      */
-    public synchronized void submitUser(final AbstractUser user) {
-        users.add(user);
-        userService.submit(user);
+    public void submitUser(final AbstractUser user) {
+        users.register(user);
+        if (nonNull(userScheduler)) {
+            userScheduler.schedule(user);
+        } else {
+            userService.submit(user);
+        }
     }
 
     /**
      * Gracefully stops each user.
      */
     public void shutdown() {
-        users.forEach(AbstractUser::terminate);
+        users.snapshot().forEach(AbstractUser::terminate);
     }
 
     /**
-     * Shutdowns each user's thread.
+     * Shutdowns each user's thread, the {@link UserScheduler} and the {@link MessageIngest} if there are ones.
+     * Doesn't print anything, so callers decide how to report e.g. the inclusion latency of users' blockchain.
      */
     public void shutdownNow() {
-        userService.shutdownNow();
+        if (nonNull(userService)) {
+            userService.shutdownNow();
+        }
+        if (nonNull(userScheduler)) {
+            userScheduler.shutdownNow();
+        }
+        if (nonNull(messageIngest)) {
+            messageIngest.shutdown();
+        }
+    }
+
+    /**
+     * Locks both users, ordered by their identity hash codes, and then performs a transfer.
+     * Users with the same identity hash code are locked while holding a tie lock.
+     *
+     * @param sender A user that sends coins.
+     * @param recipient A user that receives coins.
+     * @param transfer A transfer that may change coins of both users.
+     * @return The result of a transfer.
+     */
+    private static boolean lockAndTransfer(final AbstractUser sender,
+                                           final AbstractUser recipient,
+                                           final BooleanSupplier transfer) {
+
+        final int senderHash = System.identityHashCode(sender);
+        final int recipientHash = System.identityHashCode(recipient);
+
+        if (senderHash < recipientHash) {
+            synchronized (sender) {
+                synchronized (recipient) {
+                    return transfer.getAsBoolean();
+                }
+            }
+        } else if (senderHash > recipientHash) {
+            synchronized (recipient) {
+                synchronized (sender) {
+                    return transfer.getAsBoolean();
+                }
+            }
+        } else {
+            synchronized (TIE_LOCK) {
+                synchronized (sender) {
+                    synchronized (recipient) {
+                        return transfer.getAsBoolean();
+                    }
+                }
+            }
+        }
     }
 
+    /**
+     * Copies all users of the {@code Simulation}.
+     * Since 1.1.0 the list is an unmodifiable snapshot instead of the list the {@code Simulation} was built with,
+     * so use {@link #submitUser(AbstractUser)} or the {@link UserRegistry} to add a new user.
+     * @return An unmodifiable list of users.
+     */
     public List<AbstractUser> getUsers() {
+        return users.snapshot();
+    }
+
+    public UserRegistry getUserRegistry() {
         return users;
     }
 
     public ExecutorService getUserService() {
         return userService;
     }
+
+    public MessageIngest getMessageIngest() {
+        return messageIngest;
+    }
+
+    public UserScheduler getUserScheduler() {
+        return userScheduler;
+    }
+
+    /**
+     * Tells the time of the {@code Simulation}, e.g. for timestamps of blocks.
+     * @return The clock of the {@link UserScheduler} or the system clock if there is no scheduler.
+     */
+    public Clock getClock() {
+        return nonNull(userScheduler) ? userScheduler.getClock() : Clock.systemUTC();
+    }
+
+    public MiningContext getMiningContext() {
+        return miningContext;
+    }
+
+    /**
+     * Splits a new source of randomness off the source of the {@code Simulation}.
+     * Users call it once, when they are created, so with a seeded {@code Simulation}
+     * each user gets the same sequence of random values each time.
+     * @return A new source of randomness.
+     * @since 1.1.0
+     */
+    public synchronized SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * Returns the number of transactions that were added to a blockchain or accepted by the {@link MessageIngest}.
+     * @return The number of performed transactions.
+     * @since 1.1.0
+     */
+    public long getPerformedTransactions() {
+        return performedTransactions.sum();
+    }
+
+    /**
+     * Returns the number of transactions that were rejected, either because there was no recipient,
+     * the sender didn't have enough coins or a blockchain or the {@link MessageIngest} didn't accept them.
+     * @return The number of rejected transactions.
+     * @since 1.1.0
+     */
+    public long getRejectedTransactions() {
+        return rejectedTransactions.sum();
+    }
 }
@@ -0,0 +1,144 @@
+package org.example.blockchain.simulation;
+
+import org.example.blockchain.logic.users.AbstractUser;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps all users of a {@link Simulation} and picks random counterparties for their transactions.
+ * Users are kept in an array that only grows, so reading and sampling don't take any lock
+ * and don't copy users. Sampling retries when it picks the excluded user, which, with two or more users,
+ * takes less than two attempts on average. Registering users is synchronized and, when the array is full,
+ * copies users to an array that is twice as big.
+ *
+ * @author Dominik Szmyt
+ * @see Simulation
+ * @since 1.1.0
+ */
+public class UserRegistry {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_ATTEMPTS = 8;
+
+    private volatile AbstractUser[] elements;
+    private volatile int size;
+
+    /**
+     * Create an empty {@code UserRegistry}.
+     */
+    public UserRegistry() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Create a {@code UserRegistry} with initial users.
+     * @param users Users that are to be registered or {@code null} if there are none.
+     */
+    public UserRegistry(final Collection<AbstractUser> users) {
+        final AbstractUser[] initial = isNull(users) ? new AbstractUser[0] : users.toArray(new AbstractUser[0]);
+        elements = Arrays.copyOf(initial, Math.max(INITIAL_CAPACITY, initial.length));
+        size = initial.length;
+    }
+
+    /**
+     * Adds a user at the end of the registry.
+     * The user is visible to other threads right after this method returns.
+     * @param user A user that is to be registered.
+     * @throws IllegalArgumentException When the user is not defined.
+     */
+    public synchronized void register(final AbstractUser user) throws IllegalArgumentException {
+        if (isNull(user)) {
+            throw new IllegalArgumentException("User should be defined");
+        }
+
+        final int index = size;
+        if (index == elements.length) {
+            elements = Arrays.copyOf(elements, index * 2);
+        }
+
+        elements[index] = user;
+        size = index + 1;
+    }
+
+    /**
+     * Picks a random registered user, other than the given one, with a uniform probability.
+     * Doesn't take any lock and doesn't copy users.
+     *
+     * @param excluded A user that must not be picked, e.g. the sender of a transaction.
+     * @return A random user or {@code null} if there are no other users.
+     */
+    public AbstractUser sample(final AbstractUser excluded) {
+        return sample(excluded, bound -> ThreadLocalRandom.current().nextInt(bound));
+    }
+
+    /**
+     * Works like {@link #sample(AbstractUser)}, but draws indexes from the given source of randomness,
+     * so a seeded simulation picks the same users each time.
+     *
+     * @param excluded A user that must not be picked, e.g. the sender of a transaction.
+     * @param random A source of randomness, e.g. the one of the sender.
+     * @return A random user or {@code null} if there are no other users.
+     */
+    public AbstractUser sample(final AbstractUser excluded, final SplittableRandom random) {
+        return sample(excluded, random::nextInt);
+    }
+
+    private AbstractUser sample(final AbstractUser excluded, final IntUnaryOperator nextIndex) {
+        final int currentSize = size;
+        final AbstractUser[] currentElements = elements;
+
+        if (currentSize == 0) return null;
+        if (currentSize == 1) {
+            return currentElements[0] == excluded ? null : currentElements[0];
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            final AbstractUser user = currentElements[nextIndex.applyAsInt(currentSize)];
+            if (user != excluded) return user;
+        }
+
+        final int start = nextIndex.applyAsInt(currentSize);
+        for (int i = 0; i < currentSize; i++) {
+            final AbstractUser user = currentElements[(start + i) % currentSize];
+            if (user != excluded) return user;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a registered user.
+     * @param index The index of a user in the order of registration.
+     * @return A user.
+     * @throws IndexOutOfBoundsException When there is no user with such index.
+     */
+    public AbstractUser get(final int index) throws IndexOutOfBoundsException {
+        final int currentSize = size;
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + currentSize);
+        }
+
+        return elements[index];
+    }
+
+    /**
+     * Copies all registered users in the order of registration.
+     * @return An unmodifiable list of users.
+     */
+    public List<AbstractUser> snapshot() {
+        final int currentSize = size;
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(elements, currentSize)));
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.blockchain.simulation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Contains methods for running users of a {@link Simulation} on virtual threads.
+ * The project is compiled for Java 11, therefore virtual threads are looked up at runtime
+ * and are available only when running on Java 21 or newer.
+ *
+ * @author Dominik Szmyt
+ * @see org.example.blockchain.simulation.builder.SimulationBuilder#withVirtualThreads()
+ * @since 1.1.0
+ */
+public final class VirtualThreads {
+
+    private static final int MINIMUM_VERSION = 21;
+    private static final Method NEW_EXECUTOR = findNewExecutor();
+
+    /**
+     * Checks whether the Java runtime provides virtual threads.
+     * @return {@code true} if virtual threads can be used, otherwise {@code false}.
+     */
+    public static boolean isAvailable() {
+        return nonNull(NEW_EXECUTOR);
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     * @return A new executor.
+     * @throws IllegalStateException When the Java runtime doesn't provide virtual threads.
+     */
+    public static ExecutorService newExecutor() throws IllegalStateException {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Virtual threads require Java " + MINIMUM_VERSION + " or newer");
+        }
+
+        try {
+            return (ExecutorService) NEW_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException exception) {
+            throw new IllegalStateException("Virtual threads couldn't be started", exception);
+        }
+    }
+
+    private static Method findNewExecutor() {
+        if (Runtime.version().feature() < MINIMUM_VERSION) return null;
+
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+}
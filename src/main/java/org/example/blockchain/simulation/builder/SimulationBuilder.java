@@ -1,12 +1,22 @@
 package org.example.blockchain.simulation.builder;
 
+import org.example.blockchain.logic.block.MiningContext;
+import org.example.blockchain.logic.ingest.MessageIngest;
 import org.example.blockchain.logic.users.AbstractUser;
 import org.example.blockchain.simulation.Simulation;
+import org.example.blockchain.simulation.UserRegistry;
+import org.example.blockchain.simulation.VirtualThreads;
+import org.example.blockchain.simulation.scheduler.DiscreteEventScheduler;
+import org.example.blockchain.simulation.scheduler.ScheduledUserScheduler;
+import org.example.blockchain.simulation.scheduler.UserScheduler;
 
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static java.util.Objects.isNull;
+
 /**
  * A builder for the {@link Simulation} class.
  *
@@ -17,7 +27,12 @@ import java.util.concurrent.Executors;
 public final class SimulationBuilder {
 
     private List<AbstractUser> users;
+    private UserRegistry userRegistry;
     private ExecutorService userService;
+    private MessageIngest messageIngest;
+    private UserScheduler userScheduler;
+    private MiningContext miningContext;
+    private SplittableRandom random;
 
     private SimulationBuilder() {}
 
@@ -30,6 +45,17 @@ public final class SimulationBuilder {
         return this;
     }
 
+    /**
+     * Keeps users of a simulation in the given registry instead of a new one made of {@link #withUsers(List)}.
+     * @param userRegistry A registry of users.
+     * @return This builder.
+     * @since 1.1.0
+     */
+    public SimulationBuilder withUserRegistry(final UserRegistry userRegistry) {
+        this.userRegistry = userRegistry;
+        return this;
+    }
+
     public SimulationBuilder withUserService(final ExecutorService userService) {
         this.userService = userService;
         return this;
@@ -40,7 +66,73 @@ public final class SimulationBuilder {
         return this;
     }
 
+    /**
+     * Runs each user on it's own virtual thread, so a simulation can have many more users
+     * than a pool of platform threads would allow.
+     * @return This builder.
+     * @throws IllegalStateException When the Java runtime doesn't provide virtual threads.
+     * @see VirtualThreads
+     * @since 1.1.0
+     */
+    public SimulationBuilder withVirtualThreads() throws IllegalStateException {
+        this.userService = VirtualThreads.newExecutor();
+        return this;
+    }
+
+    /**
+     * Runs users' actions as scheduled tasks of the given scheduler instead of giving each user a thread.
+     * @param userScheduler A scheduler of users' actions.
+     * @return This builder.
+     * @since 1.1.0
+     */
+    public SimulationBuilder withUserScheduler(final UserScheduler userScheduler) {
+        this.userScheduler = userScheduler;
+        return this;
+    }
+
+    /**
+     * Runs users' actions as scheduled tasks on one thread for each available processor.
+     * @return This builder.
+     * @see ScheduledUserScheduler
+     * @since 1.1.0
+     */
+    public SimulationBuilder withScheduledUsers() {
+        this.userScheduler = new ScheduledUserScheduler();
+        return this;
+    }
+
+    /**
+     * Makes miners evaluate the generation time of blocks with the given context,
+     * e.g. with a simulated hash rate for a {@link DiscreteEventScheduler}.
+     * @param miningContext A context of mining.
+     * @return This builder.
+     * @since 1.1.0
+     */
+    public SimulationBuilder withMiningContext(final MiningContext miningContext) {
+        this.miningContext = miningContext;
+        return this;
+    }
+
+    /**
+     * Seeds the source of randomness that users and miners of a simulation split their own sources from.
+     * Together with a {@link DiscreteEventScheduler} and a simulated {@link MiningContext}
+     * the same seed results in the same blockchain each time.
+     * @param seed The seed.
+     * @return This builder.
+     * @since 1.1.0
+     */
+    public SimulationBuilder withSeed(final long seed) {
+        this.random = new SplittableRandom(seed);
+        return this;
+    }
+
+    public SimulationBuilder withMessageIngest(final MessageIngest messageIngest) {
+        this.messageIngest = messageIngest;
+        return this;
+    }
+
     public Simulation build() {
-        return new Simulation(users, userService);
+        final UserRegistry registry = isNull(userRegistry) ? new UserRegistry(users) : userRegistry;
+        return new Simulation(registry, userService, messageIngest, userScheduler, miningContext, random);
     }
 }
@@ -0,0 +1,266 @@
+package org.example.blockchain.simulation.load;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ChainSnapshot;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.keys.builder.KeyPairProviderBuilder;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.metrics.LatencyHistogram;
+import org.example.blockchain.logic.shard.ShardedBlockChain;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.example.blockchain.logic.users.builder.MinerBuilder;
+import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
+import org.example.blockchain.simulation.Simulation;
+import org.example.blockchain.simulation.builder.SimulationBuilder;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Puts a load described by a {@link Scenario} on a {@link BlockChain} and reports the achieved throughput.
+ * <br>
+ * Miners run on their own threads of a {@link Simulation}, just like in the
+ * {@link org.example.blockchain.SimulationStarter}, while simple users don't act on their own.
+ * Instead, the generator issues transactions of randomly chosen users at the scenario's rate,
+ * independently of how fast they are performed, so a blockchain that can't keep up shows it in the report.
+ * Each user's transactions are always performed by the same worker thread.
+ * <br>
+ * The generator can also put the load on a {@link ShardedBlockChain}. Then, each shard has the scenario's number
+ * of miners of it's own and each user's transactions are added to the shard of the user.
+ * The report sums up blocks and transactions of all shards.
+ *
+ * @author Dominik Szmyt
+ * @see Scenario
+ * @see LoadReport
+ * @since 1.1.0
+ */
+public class LoadGenerator {
+
+    private static final long TICK_MILLIS = 10L;
+
+    private final Scenario scenario;
+    private final ShardedBlockChain shards;
+    private final SignatureScheme signatureScheme;
+    private final int parallelism;
+
+    /**
+     * Create a {@code LoadGenerator} with all fields.
+     * @param scenario A scenario of a run.
+     * @param blockChain An instance of the {@link BlockChain}.
+     * @param signatureScheme The scheme that users sign their messages with
+     *                        or {@code null} if they should use {@link SignatureSchemes#DSA}.
+     * @param parallelism The number of worker threads that perform users' transactions.
+     * @throws IllegalArgumentException When the scenario or the blockchain is not defined
+     *                                  or the parallelism is not positive.
+     */
+    public LoadGenerator(final Scenario scenario,
+                         final BlockChain blockChain,
+                         final SignatureScheme signatureScheme,
+                         final int parallelism) throws IllegalArgumentException {
+
+        this(scenario, isNull(blockChain) ? null : new ShardedBlockChain(Collections.singletonList(blockChain)),
+                signatureScheme, parallelism);
+    }
+
+    /**
+     * Create a {@code LoadGenerator} that puts the load on shards of a blockchain.
+     * @param scenario A scenario of a run.
+     * @param shards Shards of a blockchain.
+     * @param signatureScheme The scheme that users sign their messages with
+     *                        or {@code null} if they should use {@link SignatureSchemes#DSA}.
+     * @param parallelism The number of worker threads that perform users' transactions.
+     * @throws IllegalArgumentException When the scenario or the shards are not defined
+     *                                  or the parallelism is not positive.
+     */
+    public LoadGenerator(final Scenario scenario,
+                         final ShardedBlockChain shards,
+                         final SignatureScheme signatureScheme,
+                         final int parallelism) throws IllegalArgumentException {
+
+        if (isNull(scenario) || isNull(shards) || parallelism <= 0) {
+            throw new IllegalArgumentException("Scenario and blockchain should be defined and parallelism should be positive");
+        }
+
+        this.scenario = scenario;
+        this.shards = shards;
+        this.signatureScheme = isNull(signatureScheme) ? SignatureSchemes.DSA : signatureScheme;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * At first, provides key pairs and creates users and miners of the scenario.
+     * Then, issues transactions for the scenario's duration and, in the end, stops the simulation
+     * and summarizes the run.
+     *
+     * @return A report of the run.
+     * @throws IOException When key pairs couldn't be provided.
+     * @throws InterruptedException When a thread was interrupted while waiting.
+     */
+    public LoadReport run() throws IOException, InterruptedException {
+        shards.setNumberOfZerosBounds(scenario.getMinNumberOfZeros(), scenario.getMaxNumberOfZeros());
+
+        final SimulationBuilder simulationBuilder = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withFixedThreadPool(Math.max(1, scenario.getMinersCount() * shards.size()));
+        if (nonNull(scenario.getSeed())) {
+            simulationBuilder.withSeed(scenario.getSeed());
+        }
+        final Simulation simulation = simulationBuilder.build();
+
+        final List<String> names = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (int i = 0; i < scenario.getMinersCount(); i++) {
+                names.add(minerName(shard, i));
+            }
+        }
+        for (int i = 0; i < scenario.getUsersCount(); i++) {
+            names.add("Client-" + i);
+        }
+
+        final Map<String, KeyPair> keyPairs = KeyPairProviderBuilder.builder()
+                .withSignatureScheme(signatureScheme)
+                .build()
+                .provide(names);
+
+        final List<AbstractUser> users = new ArrayList<>();
+        for (int i = 0; i < scenario.getUsersCount(); i++) {
+            final String name = "Client-" + i;
+            final AbstractUser user = SimpleUserBuilder.builder()
+                    .withName(name)
+                    .withKeyPair(keyPairs.get(name))
+                    .withSignatureScheme(signatureScheme)
+                    .withBlockChain(shards.route(name))
+                    .withSimulation(simulation)
+                    .build();
+
+            users.add(user);
+            simulation.getUserRegistry().register(user);
+        }
+
+        final int[] startBlocks = new int[shards.size()];
+        for (int shard = 0; shard < shards.size(); shard++) {
+            startBlocks[shard] = countBlocks(shards.getShard(shard));
+        }
+
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (int i = 0; i < scenario.getMinersCount(); i++) {
+                final String name = minerName(shard, i);
+                simulation.submitUser(MinerBuilder.builder()
+                        .withId((long) shard * scenario.getMinersCount() + i)
+                        .withName(name)
+                        .withKeyPair(keyPairs.get(name))
+                        .withSignatureScheme(signatureScheme)
+                        .withBlockChain(shards.getShard(shard))
+                        .withSimulation(simulation)
+                        .build());
+            }
+        }
+
+        final ExecutorService[] workers = new ExecutorService[Math.min(parallelism, users.size())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = Executors.newSingleThreadExecutor();
+        }
+
+        final SplittableRandom random = simulation.splitRandom();
+        final long start = System.nanoTime();
+        final long durationMillis = scenario.getDuration().toMillis();
+        long elapsedMillis = 0L;
+        long issued = 0L;
+
+        while (elapsedMillis < durationMillis) {
+            final long expected = scenario.getExpectedTransactions(elapsedMillis);
+            for (; issued < expected; issued++) {
+                final int index = random.nextInt(users.size());
+                final AbstractUser user = users.get(index);
+                workers[index % workers.length].execute(() -> simulation.createAndPerformTransaction(user));
+            }
+
+            TimeUnit.MILLISECONDS.sleep(TICK_MILLIS);
+            elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+
+        long notStarted = 0L;
+        for (ExecutorService worker : workers) {
+            notStarted += worker.shutdownNow().size();
+        }
+        for (ExecutorService worker : workers) {
+            worker.awaitTermination(1L, TimeUnit.MINUTES);
+        }
+
+        elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        simulation.shutdownNow();
+
+        final List<Block> blocks = new ArrayList<>();
+        final LatencyHistogram inclusionLatency = new LatencyHistogram();
+        int mempoolDepth = 0;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            final BlockChain blockChain = shards.getShard(shard);
+            final ChainSnapshot snapshot = blockChain.getSnapshot();
+            snapshot.stream().skip(startBlocks[shard]).forEach(blocks::add);
+            inclusionLatency.add(blockChain.getInclusionLatency().getHistogram());
+            mempoolDepth += blockChain.getMessages().size();
+        }
+
+        final long includedTransactions = blocks.stream()
+                .mapToLong(block -> block.getMessages().size())
+                .sum();
+
+        return new LoadReport(
+                elapsedMillis,
+                issued,
+                notStarted,
+                simulation.getPerformedTransactions(),
+                simulation.getRejectedTransactions(),
+                blocks.size(),
+                includedTransactions,
+                mempoolDepth,
+                shards.getShard(0).getNumberOfZeros(),
+                inclusionLatency.getValueAtPercentile(50.0),
+                inclusionLatency.getValueAtPercentile(99.0),
+                inclusionLatency.getValueAtPercentile(99.9));
+    }
+
+    private String minerName(final int shard, final int miner) {
+        return shards.size() == 1 ? "Miner-" + miner : "Miner-" + shard + "-" + miner;
+    }
+
+    private static int countBlocks(final BlockChain blockChain) {
+        return blockChain.getSnapshot().getHeight();
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Returns the blockchain of the generator or it's first shard if there are many.
+     * @return The first shard of the blockchain.
+     */
+    public BlockChain getBlockChain() {
+        return shards.getShard(0);
+    }
+
+    public ShardedBlockChain getShards() {
+        return shards;
+    }
+
+    public SignatureScheme getSignatureScheme() {
+        return signatureScheme;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.blockchain.simulation.load;
+
+/**
+ * An immutable summary of a {@link LoadGenerator}'s run.
+ * Issued transactions are the ones the generator asked users to perform, while performed and rejected
+ * transactions are counted by the {@link org.example.blockchain.simulation.Simulation}.
+ * Transactions that were issued but not started before the end of a run show that users couldn't keep up.
+ *
+ * @author Dominik Szmyt
+ * @see LoadGenerator#run()
+ * @since 1.1.0
+ */
+public final class LoadReport {
+
+    private final long elapsedMillis;
+    private final long issued;
+    private final long notStarted;
+    private final long performed;
+    private final long rejected;
+    private final long blocks;
+    private final long includedTransactions;
+    private final int mempoolDepth;
+    private final int numberOfZeros;
+    private final long inclusionLatencyP50;
+    private final long inclusionLatencyP99;
+    private final long inclusionLatencyP999;
+
+    /**
+     * Create a {@code LoadReport} with all necessary fields.
+     * @param elapsedMillis The duration of a run in milliseconds.
+     * @param issued The number of transactions that users were asked to perform.
+     * @param notStarted The number of issued transactions that weren't started before the end of a run.
+     * @param performed The number of transactions that were performed.
+     * @param rejected The number of transactions that were rejected.
+     * @param blocks The number of blocks that were added during a run.
+     * @param includedTransactions The number of messages in blocks that were added during a run.
+     * @param mempoolDepth The number of messages that were waiting for a block at the end of a run.
+     * @param numberOfZeros The number of zeros at the beginning of blocks' hashes at the end of a run.
+     * @param inclusionLatencyP50 The median time messages waited for a block in microseconds.
+     * @param inclusionLatencyP99 The 99th percentile of time messages waited for a block in microseconds.
+     * @param inclusionLatencyP999 The 99.9th percentile of time messages waited for a block in microseconds.
+     */
+    public LoadReport(final long elapsedMillis,
+                      final long issued,
+                      final long notStarted,
+                      final long performed,
+                      final long rejected,
+                      final long blocks,
+                      final long includedTransactions,
+                      final int mempoolDepth,
+                      final int numberOfZeros,
+                      final long inclusionLatencyP50,
+                      final long inclusionLatencyP99,
+                      final long inclusionLatencyP999) {
+
+        this.elapsedMillis = elapsedMillis;
+        this.issued = issued;
+        this.notStarted = notStarted;
+        this.performed = performed;
+        this.rejected = rejected;
+        this.blocks = blocks;
+        this.includedTransactions = includedTransactions;
+        this.mempoolDepth = mempoolDepth;
+        this.numberOfZeros = numberOfZeros;
+        this.inclusionLatencyP50 = inclusionLatencyP50;
+        this.inclusionLatencyP99 = inclusionLatencyP99;
+        this.inclusionLatencyP999 = inclusionLatencyP999;
+    }
+
+    /**
+     * Returns the number of performed transactions per second of a run.
+     * @return The achieved throughput or {@code 0} if a run took no time.
+     */
+    public double getTransactionsPerSecond() {
+        return perSecond(performed);
+    }
+
+    /**
+     * Returns the number of added blocks per second of a run.
+     * @return The rate of blocks or {@code 0} if a run took no time.
+     */
+    public double getBlocksPerSecond() {
+        return perSecond(blocks);
+    }
+
+    /**
+     * Returns the number of messages that landed in blocks per second of a run.
+     * @return The rate of included messages or {@code 0} if a run took no time.
+     */
+    public double getIncludedTransactionsPerSecond() {
+        return perSecond(includedTransactions);
+    }
+
+    private double perSecond(final long count) {
+        if (elapsedMillis == 0L) return 0.0;
+        return count * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "Elapsed: " + String.format("%.2f", elapsedMillis / 1000.0) + " s\n" +
+                "Issued: " + issued + "\n" +
+                "Not started: " + notStarted + "\n" +
+                "Performed: " + performed + "\n" +
+                "Rejected: " + rejected + "\n" +
+                "Blocks: " + blocks + "\n" +
+                "Included transactions: " + includedTransactions + "\n" +
+                "Mempool depth: " + mempoolDepth + "\n" +
+                "Number of zeros: " + numberOfZeros + "\n" +
+                "Throughput: " + String.format("%.2f", getTransactionsPerSecond()) + " tx/s\n" +
+                "Inclusion rate: " + String.format("%.2f", getIncludedTransactionsPerSecond()) + " tx/s\n" +
+                "Block rate: " + String.format("%.4f", getBlocksPerSecond()) + " blocks/s\n" +
+                "Inclusion latency p50: " + String.format("%.1f", inclusionLatencyP50 / 1000.0) + " ms\n" +
+                "Inclusion latency p99: " + String.format("%.1f", inclusionLatencyP99 / 1000.0) + " ms\n" +
+                "Inclusion latency p99.9: " + String.format("%.1f", inclusionLatencyP999 / 1000.0) + " ms\n";
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getIssued() {
+        return issued;
+    }
+
+    public long getNotStarted() {
+        return notStarted;
+    }
+
+    public long getPerformed() {
+        return performed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getBlocks() {
+        return blocks;
+    }
+
+    public long getIncludedTransactions() {
+        return includedTransactions;
+    }
+
+    public int getMempoolDepth() {
+        return mempoolDepth;
+    }
+
+    public int getNumberOfZeros() {
+        return numberOfZeros;
+    }
+
+    public long getInclusionLatencyP50() {
+        return inclusionLatencyP50;
+    }
+
+    public long getInclusionLatencyP99() {
+        return inclusionLatencyP99;
+    }
+
+    public long getInclusionLatencyP999() {
+        return inclusionLatencyP999;
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.blockchain.simulation.load;
+
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Describes a load that a {@link LoadGenerator} puts on a blockchain:
+ * how many users and miners take part, how many transactions per second users should try to perform,
+ * how long it takes to reach that rate, how long the whole run takes and between which bounds
+ * the number of zeros at the beginning of blocks' hashes may change.
+ * <br>
+ * During the ramp-up the rate grows linearly from zero to the target rate.
+ *
+ * @author Dominik Szmyt
+ * @see ScenarioBuilder
+ * @since 1.1.0
+ */
+public class Scenario {
+
+    private final int usersCount;
+    private final int minersCount;
+    private final double transactionsPerSecond;
+    private final Duration rampUp;
+    private final Duration duration;
+    private final int minNumberOfZeros;
+    private final int maxNumberOfZeros;
+    private final Long seed;
+
+    /**
+     * Create a {@code Scenario} with all fields.
+     * @param usersCount The number of simple users that perform transactions.
+     * @param minersCount The number of miners.
+     * @param transactionsPerSecond The target rate of transactions.
+     * @param rampUp The amount of time in which the rate grows to the target rate.
+     * @param duration The amount of time the whole run takes, including the ramp-up.
+     * @param minNumberOfZeros The minimum number of zeros at the beginning of blocks' hashes.
+     * @param maxNumberOfZeros The maximum number of zeros at the beginning of blocks' hashes.
+     * @param seed A seed of the simulation's randomness or {@code null} if it shouldn't be seeded.
+     * @throws IllegalArgumentException When any of the values is out of it's range.
+     */
+    public Scenario(final int usersCount,
+                    final int minersCount,
+                    final double transactionsPerSecond,
+                    final Duration rampUp,
+                    final Duration duration,
+                    final int minNumberOfZeros,
+                    final int maxNumberOfZeros,
+                    final Long seed) throws IllegalArgumentException {
+
+        if (usersCount < 2 || minersCount < 0) {
+            throw new IllegalArgumentException("There should be at least two users and miners should not be negative");
+        }
+
+        if (transactionsPerSecond <= 0.0) {
+            throw new IllegalArgumentException("Transactions per second should be positive");
+        }
+
+        if (isNull(rampUp) || isNull(duration) || rampUp.isNegative() || duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Ramp-up should not be negative and duration should be positive");
+        }
+
+        if (minNumberOfZeros < 0 || minNumberOfZeros > maxNumberOfZeros) {
+            throw new IllegalArgumentException("Minimum number of zeros should not be negative nor greater than maximum");
+        }
+
+        this.usersCount = usersCount;
+        this.minersCount = minersCount;
+        this.transactionsPerSecond = transactionsPerSecond;
+        this.rampUp = rampUp;
+        this.duration = duration;
+        this.minNumberOfZeros = minNumberOfZeros;
+        this.maxNumberOfZeros = maxNumberOfZeros;
+        this.seed = seed;
+    }
+
+    /**
+     * Reads a {@code Scenario} from properties. Missing properties take default values of the {@link ScenarioBuilder}.
+     * <ul>
+     *     <li>{@code users} - the number of simple users;</li>
+     *     <li>{@code miners} - the number of miners;</li>
+     *     <li>{@code transactions-per-second} - the target rate of transactions;</li>
+     *     <li>{@code ramp-up-seconds} - the ramp-up in seconds;</li>
+     *     <li>{@code duration-seconds} - the duration in seconds;</li>
+     *     <li>{@code min-zeros} and {@code max-zeros} - bounds of the number of zeros;</li>
+     *     <li>{@code seed} - a seed of the simulation's randomness.</li>
+     * </ul>
+     *
+     * @param properties Properties that describe a scenario.
+     * @return A scenario.
+     * @throws IllegalArgumentException When any of the values is not a number or is out of it's range.
+     */
+    public static Scenario fromProperties(final Properties properties) throws IllegalArgumentException {
+        final ScenarioBuilder builder = ScenarioBuilder.builder();
+
+        final String users = properties.getProperty("users");
+        if (nonNull(users)) builder.withUsersCount(Integer.parseInt(users.trim()));
+
+        final String miners = properties.getProperty("miners");
+        if (nonNull(miners)) builder.withMinersCount(Integer.parseInt(miners.trim()));
+
+        final String transactionsPerSecond = properties.getProperty("transactions-per-second");
+        if (nonNull(transactionsPerSecond)) builder.withTransactionsPerSecond(Double.parseDouble(transactionsPerSecond.trim()));
+
+        final String rampUp = properties.getProperty("ramp-up-seconds");
+        if (nonNull(rampUp)) builder.withRampUp(Duration.ofSeconds(Long.parseLong(rampUp.trim())));
+
+        final String duration = properties.getProperty("duration-seconds");
+        if (nonNull(duration)) builder.withDuration(Duration.ofSeconds(Long.parseLong(duration.trim())));
+
+        final String minZeros = properties.getProperty("min-zeros");
+        if (nonNull(minZeros)) builder.withMinNumberOfZeros(Integer.parseInt(minZeros.trim()));
+
+        final String maxZeros = properties.getProperty("max-zeros");
+        if (nonNull(maxZeros)) builder.withMaxNumberOfZeros(Integer.parseInt(maxZeros.trim()));
+
+        final String seed = properties.getProperty("seed");
+        if (nonNull(seed)) builder.withSeed(Long.parseLong(seed.trim()));
+
+        return builder.build();
+    }
+
+    /**
+     * Tells how many transactions should have been issued after the given amount of time since the start of a run.
+     * During the ramp-up the rate grows linearly, so the number of transactions grows quadratically.
+     *
+     * @param elapsedMillis The amount of time since the start of a run in milliseconds.
+     * @return The expected number of issued transactions.
+     */
+    public long getExpectedTransactions(final long elapsedMillis) {
+        if (elapsedMillis <= 0L) return 0L;
+
+        final double seconds = Math.min(elapsedMillis, duration.toMillis()) / 1000.0;
+        final double rampUpSeconds = rampUp.toMillis() / 1000.0;
+
+        if (seconds < rampUpSeconds) {
+            return (long) (transactionsPerSecond * seconds * seconds / (2.0 * rampUpSeconds));
+        }
+
+        return (long) (transactionsPerSecond * (seconds - rampUpSeconds / 2.0));
+    }
+
+    @Override
+    public String toString() {
+        return "Users: " + usersCount + "\n" +
+                "Miners: " + minersCount + "\n" +
+                "Transactions per second: " + transactionsPerSecond + "\n" +
+                "Ramp-up: " + rampUp.getSeconds() + " s\n" +
+                "Duration: " + duration.getSeconds() + " s\n" +
+                "Number of zeros: " + minNumberOfZeros + "-" + maxNumberOfZeros + "\n" +
+                "Seed: " + (nonNull(seed) ? seed : "none") + "\n";
+    }
+
+    public int getUsersCount() {
+        return usersCount;
+    }
+
+    public int getMinersCount() {
+        return minersCount;
+    }
+
+    public double getTransactionsPerSecond() {
+        return transactionsPerSecond;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getMinNumberOfZeros() {
+        return minNumberOfZeros;
+    }
+
+    public int getMaxNumberOfZeros() {
+        return maxNumberOfZeros;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.blockchain.simulation.load.builder;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.shard.ShardedBlockChain;
+import org.example.blockchain.simulation.load.LoadGenerator;
+import org.example.blockchain.simulation.load.Scenario;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * A builder for the {@link LoadGenerator} class.
+ * By default, users sign their messages with {@link SignatureSchemes#DSA}
+ * and there is one worker thread for each available processor.
+ * Shards, when given, are used instead of the blockchain.
+ *
+ * @author Dominik Szmyt
+ * @see LoadGenerator
+ * @since 1.1.0
+ */
+public final class LoadGeneratorBuilder {
+
+    private Scenario scenario;
+    private BlockChain blockChain;
+    private ShardedBlockChain shards;
+    private SignatureScheme signatureScheme = SignatureSchemes.DSA;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private LoadGeneratorBuilder() { }
+
+    public static LoadGeneratorBuilder builder() {
+        return new LoadGeneratorBuilder();
+    }
+
+    public LoadGeneratorBuilder withScenario(final Scenario scenario) {
+        this.scenario = scenario;
+        return this;
+    }
+
+    public LoadGeneratorBuilder withBlockChain(final BlockChain blockChain) {
+        this.blockChain = blockChain;
+        return this;
+    }
+
+    public LoadGeneratorBuilder withShards(final ShardedBlockChain shards) {
+        this.shards = shards;
+        return this;
+    }
+
+    public LoadGeneratorBuilder withSignatureScheme(final SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+        return this;
+    }
+
+    public LoadGeneratorBuilder withParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public LoadGenerator build() {
+        return nonNull(shards)
+                ? new LoadGenerator(scenario, shards, signatureScheme, parallelism)
+                : new LoadGenerator(scenario, blockChain, signatureScheme, parallelism);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.blockchain.simulation.load.builder;
+
+import org.example.blockchain.simulation.load.Scenario;
+
+import java.time.Duration;
+
+/**
+ * A builder for the {@link Scenario} class.
+ * By default, 30 users and 15 miners try to perform 10 transactions per second for a minute,
+ * after a 10 seconds long ramp-up, with between 0 and 4 zeros at the beginning of blocks' hashes.
+ *
+ * @author Dominik Szmyt
+ * @see Scenario
+ * @since 1.1.0
+ */
+public final class ScenarioBuilder {
+
+    private int usersCount = 30;
+    private int minersCount = 15;
+    private double transactionsPerSecond = 10.0;
+    private Duration rampUp = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofMinutes(1);
+    private int minNumberOfZeros = 0;
+    private int maxNumberOfZeros = 4;
+    private Long seed;
+
+    private ScenarioBuilder() { }
+
+    public static ScenarioBuilder builder() {
+        return new ScenarioBuilder();
+    }
+
+    public ScenarioBuilder withUsersCount(final int usersCount) {
+        this.usersCount = usersCount;
+        return this;
+    }
+
+    public ScenarioBuilder withMinersCount(final int minersCount) {
+        this.minersCount = minersCount;
+        return this;
+    }
+
+    public ScenarioBuilder withTransactionsPerSecond(final double transactionsPerSecond) {
+        this.transactionsPerSecond = transactionsPerSecond;
+        return this;
+    }
+
+    public ScenarioBuilder withRampUp(final Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    public ScenarioBuilder withDuration(final Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public ScenarioBuilder withMinNumberOfZeros(final int minNumberOfZeros) {
+        this.minNumberOfZeros = minNumberOfZeros;
+        return this;
+    }
+
+    public ScenarioBuilder withMaxNumberOfZeros(final int maxNumberOfZeros) {
+        this.maxNumberOfZeros = maxNumberOfZeros;
+        return this;
+    }
+
+    public ScenarioBuilder withSeed(final Long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public Scenario build() {
+        return new Scenario(
+                usersCount, minersCount, transactionsPerSecond, rampUp, duration, minNumberOfZeros, maxNumberOfZeros, seed);
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Messages;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An announcement of a block that carries it's header and short ids of it's messages instead of the messages.
+ * Peers usually know most of a block's messages already, because messages are sent to them
+ * as soon as they are added to a blockchain, so they can rebuild the block from messages they know
+ * and ask only for the missing ones.
+ * <br>
+ * Message ids are unique only within one blockchain, while each node has it's own blockchain,
+ * and users of all nodes send the same texts, so a short id combines a message's id with the hash code
+ * of it's signature, see {@link #shortIdOf(Message)}.
+ * Hashes of blocks don't cover their messages, so a block rebuilt from a wrong message would still be accepted
+ * by {@link org.example.blockchain.logic.BlockChain#putLast(Block)}. Short ids have to tell messages apart for that
+ * reason, and two messages share one only if they have the same id and their signatures the same hash code.
+ *
+ * @author Dominik Szmyt
+ * @see RelayMode#COMPACT
+ * @since 1.1.0
+ */
+public final class CompactBlock {
+
+    private final Block header;
+    private final long[] shortIds;
+
+    private CompactBlock(final Block header, final long[] shortIds) {
+        this.header = header;
+        this.shortIds = shortIds;
+    }
+
+    /**
+     * Creates a compact announcement of the given block.
+     * @param block A block that is to be announced.
+     * @return A compact block.
+     */
+    public static CompactBlock of(final Block block) {
+        final List<Message> messages = block.getMessages();
+        final long[] shortIds = new long[messages.size()];
+        for (int i = 0; i < shortIds.length; i++) {
+            shortIds[i] = shortIdOf(messages.get(i));
+        }
+
+        return new CompactBlock(headerOf(block), shortIds);
+    }
+
+    /**
+     * Copies the header of a block, i.e. the block without it's messages.
+     * @param block A block.
+     * @return The header of the block.
+     */
+    static Block headerOf(final Block block) {
+        return copy(block, new ArrayList<>());
+    }
+
+    /**
+     * Returns the short id of a message: it's id in the upper and the hash code of it's signature in the lower 32 bits.
+     * The signature is found like in {@link Messages#getSignature(Message)}, e.g. in a {@link Transaction}'s
+     * {@link SecureMessage}, and messages without a signature use the hash code of their text instead.
+     * @param message A message.
+     * @return The short id of the message.
+     */
+    public static long shortIdOf(final Message message) {
+        final byte[] signature = Messages.getSignature(message);
+        final String text = message.getText();
+        final int hash = nonNull(signature) ? Arrays.hashCode(signature) : isNull(text) ? 0 : text.hashCode();
+        return ((long) message.getId() << 32) | (hash & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns short ids of messages that the given lookup doesn't know.
+     * @param knownMessages A lookup of known messages by their short ids, which returns {@code null} for unknown ones.
+     * @return Short ids of missing messages.
+     */
+    public List<Long> getMissing(final LongFunction<Message> knownMessages) {
+        final List<Long> missing = new ArrayList<>();
+        for (final long shortId : shortIds) {
+            if (isNull(knownMessages.apply(shortId))) {
+                missing.add(shortId);
+            }
+        }
+
+        return missing;
+    }
+
+    /**
+     * Rebuilds the announced block from known messages.
+     * @param knownMessages A lookup of known messages by their short ids, which returns {@code null} for unknown ones.
+     * @return The rebuilt block or {@code null} if any of it's messages is not known.
+     */
+    public Block reconstruct(final LongFunction<Message> knownMessages) {
+        final List<Message> messages = new ArrayList<>(shortIds.length);
+        for (final long shortId : shortIds) {
+            final Message message = knownMessages.apply(shortId);
+            if (isNull(message)) return null;
+            messages.add(message);
+        }
+
+        return copy(header, messages);
+    }
+
+    /**
+     * Tells how many bytes are needed to send the compact block: the block's header and an 8 bytes long short id
+     * of each message.
+     * @return The size of the compact block in bytes.
+     */
+    public long getSize() {
+        return Network.sizeOf(header) + (long) Long.BYTES * shortIds.length;
+    }
+
+    private static Block copy(final Block block, final List<Message> messages) {
+        return BlockBuilder.builder()
+                .withId(block.getId())
+                .withTimestamp(block.getTimestamp())
+                .withMagicNumber(block.getMagicNumber())
+                .withGenerationTime(block.getGenerationTime())
+                .withHash(block.getHash())
+                .withPreviousHash(block.getPreviousHash())
+                .withCreatedBy(block.getCreatedBy())
+                .withNProgress(block.getNProgress())
+                .withMessages(messages)
+                .build();
+    }
+
+    public Block getHeader() {
+        return header;
+    }
+
+    public long[] getShortIds() {
+        return shortIds.clone();
+    }
+}
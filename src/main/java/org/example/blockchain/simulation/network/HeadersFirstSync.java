@@ -0,0 +1,229 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Brings a {@link Node} that joined late up to date with it's peers, headers first.
+ * <br>
+ * At first, the node asks one peer for headers of it's chain, which are small, and verifies them:
+ * the first header has to be the node's first block, each header's hash has to be generated properly,
+ * has to start with the number of zeros that the previous header set, see {@link Block#getNProgress()},
+ * and has to be the {@code previousHash} of the next header. A node without blocks takes any valid first header.
+ * <br>
+ * Then, bodies of blocks that the node doesn't have are requested in batches of {@value #BATCH_SIZE} blocks
+ * from all peers at once, so they are transmitted over several links in parallel. Bodies arrive in any order
+ * and each one is validated on it's own against the verified header of the same height: it's header has to match,
+ * ids of it's messages have to be in ascending order and their signatures have to be valid.
+ * A batch that a peer couldn't provide is requested from the next peer.
+ * <br>
+ * When all bodies were validated, the node checks that it still has the blocks that the headers share with it's chain
+ * and that message ids keep ascending from one block to the next, and switches to the downloaded chain,
+ * see {@link Node#switchTo(List)}.
+ * Requests lost by the {@link Network} are not repeated, so the result should be awaited with a timeout.
+ *
+ * @author Dominik Szmyt
+ * @see Node#synchronize(List)
+ * @since 1.1.0
+ */
+public class HeadersFirstSync {
+
+    static final int BATCH_SIZE = 16;
+
+    private final Node node;
+    private final List<Node> peers;
+    private final Network network;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+    private volatile List<Block> headers;
+    private volatile Map<String, Integer> heights;
+    private volatile int start;
+    private AtomicReferenceArray<Block> bodies;
+    private AtomicInteger remaining;
+
+    /**
+     * Create a {@code HeadersFirstSync} of the given node.
+     * @param node A node that is to be brought up to date.
+     * @param peers Peers that headers and bodies are downloaded from.
+     * @param network The network that connects the node with it's peers.
+     * @throws IllegalArgumentException When any value is not defined or there are no peers.
+     */
+    public HeadersFirstSync(final Node node,
+                            final List<Node> peers,
+                            final Network network) throws IllegalArgumentException {
+
+        if (isNull(node) || isNull(peers) || peers.isEmpty() || isNull(network)) {
+            throw new IllegalArgumentException("Node, peers and network should be defined");
+        }
+
+        this.node = node;
+        this.peers = new ArrayList<>(peers);
+        this.network = network;
+    }
+
+    /**
+     * Asks the first peer for headers of it's chain, which starts the synchronization.
+     * @return A future that is completed with {@code true} when the node switched to the downloaded chain,
+     *         or with {@code false} when the chain was invalid or empty, not longer than the node's one,
+     *         some blocks couldn't be downloaded or the node's chain changed in the meantime.
+     */
+    public CompletableFuture<Boolean> start() {
+        network.requestHeaders(node, peers.get(0), this::receiveHeaders);
+        return result;
+    }
+
+    private void receiveHeaders(final List<Block> received) {
+        final List<Block> chain = node.getChain();
+        if (received.isEmpty() || received.size() <= chain.size()
+                || !validateHeaders(received, chain.isEmpty() ? null : chain.get(0))) {
+            result.complete(false);
+            return;
+        }
+
+        int common = chain.isEmpty() ? 0 : 1;
+        while (common < chain.size() && Objects.equals(chain.get(common).getHash(), received.get(common).getHash())) {
+            common++;
+        }
+
+        final Map<String, Integer> heightsByHash = new HashMap<>();
+        for (int i = common; i < received.size(); i++) {
+            heightsByHash.put(received.get(i).getHash(), i);
+        }
+
+        headers = received;
+        heights = heightsByHash;
+        start = common;
+        bodies = new AtomicReferenceArray<>(received.size());
+        remaining = new AtomicInteger(received.size() - common);
+
+        int batch = 0;
+        for (int from = common; from < received.size(); from += BATCH_SIZE, batch++) {
+            final List<String> hashes = new ArrayList<>();
+            for (int i = from; i < Math.min(from + BATCH_SIZE, received.size()); i++) {
+                hashes.add(received.get(i).getHash());
+            }
+            requestBodies(hashes, batch % peers.size(), 0);
+        }
+    }
+
+    private boolean validateHeaders(final List<Block> received, final Block first) {
+        final BlockChain blockChain = node.getBlockChain();
+        if (isNull(first) ? !blockChain.validateBlock(received.get(0))
+                : !Objects.equals(received.get(0).getHash(), first.getHash())) {
+            return false;
+        }
+
+        for (int i = 1; i < received.size(); i++) {
+            final Block prevHeader = received.get(i - 1);
+            final Block header = received.get(i);
+            if (!blockChain.validateBlock(header)
+                    || !header.getHash().startsWith("0".repeat(Math.max(0, prevHeader.getNProgress())))
+                    || !Objects.equals(prevHeader.getHash(), header.getPreviousHash())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void requestBodies(final List<String> hashes, final int peer, final int attempts) {
+        if (attempts == peers.size()) {
+            result.complete(false);
+            return;
+        }
+
+        network.requestBodies(node, peers.get(peer), hashes, received -> {
+            final List<String> missing = new ArrayList<>(hashes);
+            for (final Block body : received) {
+                missing.remove(body.getHash());
+            }
+
+            CompletableFuture.runAsync(() -> received.forEach(this::receiveBody));
+            if (!missing.isEmpty()) {
+                requestBodies(missing, (peer + 1) % peers.size(), attempts + 1);
+            }
+        });
+    }
+
+    private void receiveBody(final Block body) {
+        final Integer height = heights.get(body.getHash());
+        if (isNull(height) || result.isDone()) return;
+
+        if (!validateBody(headers.get(height), body)) {
+            result.complete(false);
+            return;
+        }
+
+        if (bodies.compareAndSet(height, null, body) && remaining.decrementAndGet() == 0) {
+            finish();
+        }
+    }
+
+    private boolean validateBody(final Block header, final Block body) {
+        final BlockChain blockChain = node.getBlockChain();
+        return blockChain.validateBlock(body)
+                && Objects.equals(header.getHash(), body.getHash())
+                && Objects.equals(header.getPreviousHash(), body.getPreviousHash())
+                && blockChain.validateMessages(body.getMessages())
+                && blockChain.validateSignatures(body.getMessages());
+    }
+
+    private void finish() {
+        final List<Block> local = node.getChain();
+        if (local.size() < start || (start > 0
+                && !Objects.equals(local.get(start - 1).getHash(), headers.get(start - 1).getHash()))) {
+            result.complete(false);
+            return;
+        }
+
+        final List<Block> chain = new ArrayList<>(local.subList(0, start));
+        Message last = lastMessage(chain);
+        for (int i = start; i < headers.size(); i++) {
+            final Block body = bodies.get(i);
+            final List<Message> messages = body.getMessages();
+            if (!messages.isEmpty()) {
+                if (last != null && !node.getBlockChain().validateMessagePair(last, messages.get(0))) {
+                    result.complete(false);
+                    return;
+                }
+                last = messages.get(messages.size() - 1);
+            }
+            chain.add(body);
+        }
+
+        result.complete(node.switchTo(chain));
+    }
+
+    private static Message lastMessage(final List<Block> chain) {
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            final List<Message> messages = chain.get(i).getMessages();
+            if (!messages.isEmpty()) return messages.get(messages.size() - 1);
+        }
+
+        return null;
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    public List<Node> getPeers() {
+        return new ArrayList<>(peers);
+    }
+
+    public CompletableFuture<Boolean> getResult() {
+        return result;
+    }
+}
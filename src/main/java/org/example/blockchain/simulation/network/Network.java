@@ -0,0 +1,345 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
+import org.example.blockchain.logic.metrics.LatencyHistogram;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * An in-memory network that connects {@link Node}s running in one process.
+ * Messages are delivered by a single thread after they were transmitted over a link
+ * and travelled for the latency of {@link NetworkConditions}, and some of them are lost on the way.
+ * Messages sent over the same link are transmitted one after another, so a link's bandwidth is shared by them.
+ * <br>
+ * Messages added to a node's blockchain are sent to it's peers, so they know them before they land in a block,
+ * while blocks are sent according to the {@link RelayMode}.
+ * <br>
+ * The network counts messages and bytes that were sent, separately for blocks and for messages of the blockchain,
+ * and measures how long it takes a block accepted by one node to be accepted by it's peers.
+ *
+ * @author Dominik Szmyt
+ * @see Node
+ * @since 1.1.0
+ */
+public class Network {
+
+    private static final long HEADER_BYTES = 8L + 8L + 4L + 8L + 64L + 64L + 8L + 4L;
+    private static final long REQUEST_BYTES = 64L;
+    private static final long HASH_BYTES = 32L;
+
+    private final NetworkConditions conditions;
+    private final RelayMode relayMode;
+    private final SplittableRandom random;
+    private final List<Node> nodes = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> transmittedUntil = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final LatencyHistogram propagation = new LatencyHistogram();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder droppedMessages = new LongAdder();
+    private final LongAdder deliveredMessages = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder blockBytes = new LongAdder();
+    private final LongAdder messageBytes = new LongAdder();
+    private final LongAdder requestedMessages = new LongAdder();
+
+    /**
+     * Create a {@code Network} with the given conditions that sends blocks with all of their messages.
+     * @param conditions Conditions of links between nodes.
+     * @param random A source of randomness that decides which messages are lost
+     *               or {@code null} if it shouldn't be seeded.
+     * @throws IllegalArgumentException When the conditions are not defined.
+     */
+    public Network(final NetworkConditions conditions, final SplittableRandom random) throws IllegalArgumentException {
+        this(conditions, RelayMode.FULL, random);
+    }
+
+    /**
+     * Create a {@code Network} with the given conditions that sends blocks according to the relay mode.
+     * @param conditions Conditions of links between nodes.
+     * @param relayMode The way blocks are sent.
+     * @param random A source of randomness that decides which messages are lost
+     *               or {@code null} if it shouldn't be seeded.
+     * @throws IllegalArgumentException When the conditions or the relay mode are not defined.
+     * @since 1.1.0
+     */
+    public Network(final NetworkConditions conditions,
+                   final RelayMode relayMode,
+                   final SplittableRandom random) throws IllegalArgumentException {
+
+        if (isNull(conditions) || isNull(relayMode)) {
+            throw new IllegalArgumentException("Network conditions and relay mode should be defined");
+        }
+
+        this.conditions = conditions;
+        this.relayMode = relayMode;
+        this.random = isNull(random) ? new SplittableRandom() : random;
+    }
+
+    void connect(final Node node) {
+        nodes.add(node);
+    }
+
+    /**
+     * Sends a block accepted by a node to all of it's peers, as a whole or as a {@link CompactBlock}.
+     * @param from A node that accepted the block.
+     * @param block An accepted block.
+     */
+    void broadcast(final Node from, final Block block) {
+        final long sentAt = System.nanoTime();
+
+        if (relayMode == RelayMode.COMPACT) {
+            final CompactBlock compactBlock = CompactBlock.of(block);
+            final long bytes = compactBlock.getSize();
+            for (final Node peer : nodes) {
+                if (peer != from) {
+                    send(from, peer, bytes, blockBytes, () -> peer.receive(from, compactBlock, sentAt));
+                }
+            }
+            return;
+        }
+
+        final long bytes = sizeOf(block);
+        for (final Node peer : nodes) {
+            if (peer != from) {
+                send(from, peer, bytes, blockBytes, () -> peer.receive(from, block, sentAt));
+            }
+        }
+    }
+
+    /**
+     * Sends a message added to a node's blockchain to all of it's peers.
+     * @param from A node whose blockchain the message was added to.
+     * @param message An added message.
+     */
+    void relay(final Node from, final Message message) {
+        final long bytes = sizeOf(message);
+        for (final Node peer : nodes) {
+            if (peer != from) {
+                send(from, peer, bytes, messageBytes, () -> peer.know(message));
+            }
+        }
+    }
+
+    /**
+     * Asks a peer for messages of a compact block that the requesting node doesn't know,
+     * which are then sent back to the requesting node.
+     * @param requester A node that needs the messages.
+     * @param peer A node that sent the compact block.
+     * @param compactBlock A compact block that is to be rebuilt.
+     * @param shortIds Short ids of missing messages.
+     * @param sentAt The time at which the compact block was sent.
+     */
+    void requestMessages(final Node requester,
+                         final Node peer,
+                         final CompactBlock compactBlock,
+                         final List<Long> shortIds,
+                         final long sentAt) {
+
+        requestedMessages.add(shortIds.size());
+        send(requester, peer, REQUEST_BYTES + (long) Long.BYTES * shortIds.size(), blockBytes, () -> {
+            final List<Message> messages = peer.findMessages(compactBlock.getHeader().getHash(), shortIds);
+            final long bytes = messages.stream().mapToLong(Network::sizeOf).sum();
+            send(peer, requester, bytes, blockBytes, () -> requester.receive(peer, compactBlock, messages, sentAt));
+        });
+    }
+
+    /**
+     * Asks a peer for it's whole chain, which is then sent back to the requesting node.
+     * @param requester A node that needs the peer's chain.
+     * @param peer A node that is asked for it's chain.
+     * @param sentAt The time at which the block that triggered the request was sent.
+     */
+    void requestChain(final Node requester, final Node peer, final long sentAt) {
+        send(requester, peer, REQUEST_BYTES, blockBytes, () -> {
+            final List<Block> chain = peer.getChain();
+            final long bytes = chain.stream().mapToLong(Network::sizeOf).sum();
+            send(peer, requester, bytes, blockBytes, () -> requester.receiveChain(chain, sentAt));
+        });
+    }
+
+    /**
+     * Asks a peer for headers of it's chain, which are then sent back to the requesting node.
+     * @param requester A node that needs the headers.
+     * @param peer A node that is asked for headers.
+     * @param delivery Receives headers at the requesting node.
+     */
+    void requestHeaders(final Node requester, final Node peer, final Consumer<List<Block>> delivery) {
+        send(requester, peer, REQUEST_BYTES, blockBytes, () -> {
+            final List<Block> headers = peer.getHeaders();
+            send(peer, requester, HEADER_BYTES * headers.size(), blockBytes, () -> delivery.accept(headers));
+        });
+    }
+
+    /**
+     * Asks a peer for blocks with the given hashes, which are then sent back to the requesting node.
+     * Blocks that the peer doesn't have are left out.
+     * @param requester A node that needs the blocks.
+     * @param peer A node that is asked for blocks.
+     * @param hashes Hashes of requested blocks.
+     * @param delivery Receives blocks at the requesting node.
+     */
+    void requestBodies(final Node requester,
+                       final Node peer,
+                       final List<String> hashes,
+                       final Consumer<List<Block>> delivery) {
+
+        send(requester, peer, REQUEST_BYTES + HASH_BYTES * hashes.size(), blockBytes, () -> {
+            final List<Block> blocks = peer.findBlocks(hashes);
+            final long bytes = blocks.stream().mapToLong(Network::sizeOf).sum();
+            send(peer, requester, bytes, blockBytes, () -> delivery.accept(blocks));
+        });
+    }
+
+    /**
+     * Records how long it took a block sent at the given time to be accepted by a peer.
+     * @param sentAt The time at which the block was sent, as told by {@link System#nanoTime()}.
+     */
+    void propagated(final long sentAt) {
+        propagation.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+    }
+
+    private void send(final Node from, final Node to, final long bytes, final LongAdder counter, final Runnable delivery) {
+        sentMessages.increment();
+        sentBytes.add(bytes);
+        counter.add(bytes);
+
+        final boolean lost;
+        synchronized (random) {
+            lost = random.nextDouble() < conditions.getLossRate();
+        }
+
+        final long now = System.nanoTime();
+        final long transmitted = transmittedUntil.merge(from.getName() + "->" + to.getName(),
+                now + conditions.getTransmissionNanos(bytes),
+                (previous, next) -> Math.max(previous, now) + conditions.getTransmissionNanos(bytes));
+
+        if (lost) {
+            droppedMessages.increment();
+            return;
+        }
+
+        final long delay = transmitted - now + conditions.getLatency().toNanos();
+        try {
+            scheduler.schedule(() -> {
+                deliveredMessages.increment();
+                delivery.run();
+            }, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException exception) {
+            droppedMessages.increment();
+        }
+    }
+
+    /**
+     * Stops delivering messages, dropping the ones that are still on the way.
+     * @throws InterruptedException When a thread was interrupted while waiting.
+     */
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(1L, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Estimates the number of bytes needed to send a block: fixed-width fields of it's header
+     * and the text, id, signature and public key of each message.
+     * @param block A block that is to be sent.
+     * @return The size of a block in bytes.
+     */
+    static long sizeOf(final Block block) {
+        long bytes = HEADER_BYTES;
+        for (final Message message : block.getMessages()) {
+            bytes += sizeOf(message);
+        }
+
+        return bytes;
+    }
+
+    static long sizeOf(final Message message) {
+        Message unwrapped = message;
+        while (unwrapped instanceof Transaction) {
+            unwrapped = ((Transaction) unwrapped).getMessage();
+        }
+
+        long bytes = 4L + message.getText().getBytes(StandardCharsets.UTF_8).length;
+        if (unwrapped instanceof SecureMessage) {
+            final SecureMessage secureMessage = (SecureMessage) unwrapped;
+            if (nonNull(secureMessage.getSignature())) bytes += secureMessage.getSignature().length;
+            if (nonNull(secureMessage.getPublicKey())) bytes += secureMessage.getPublicKey().getEncoded().length;
+        }
+
+        return bytes;
+    }
+
+    public List<Node> getNodes() {
+        return new ArrayList<>(nodes);
+    }
+
+    public NetworkConditions getConditions() {
+        return conditions;
+    }
+
+    public LatencyHistogram getPropagation() {
+        return propagation;
+    }
+
+    public long getSentMessages() {
+        return sentMessages.sum();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    public long getDeliveredMessages() {
+        return deliveredMessages.sum();
+    }
+
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    /**
+     * Returns the number of bytes sent to relay blocks, including requests for missing messages and chains.
+     * @return The number of bytes sent for blocks.
+     */
+    public long getBlockBytes() {
+        return blockBytes.sum();
+    }
+
+    /**
+     * Returns the number of bytes sent to relay messages added to nodes' blockchains.
+     * @return The number of bytes sent for messages.
+     */
+    public long getMessageBytes() {
+        return messageBytes.sum();
+    }
+
+    /**
+     * Returns the number of messages of compact blocks that peers had to ask for.
+     * @return The number of requested messages.
+     */
+    public long getRequestedMessages() {
+        return requestedMessages.sum();
+    }
+
+    public RelayMode getRelayMode() {
+        return relayMode;
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.simulation.network.builder.NetworkConditionsBuilder;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Describes links between nodes of a {@link Network}: how long a message travels,
+ * how many bytes per second a link carries and which part of messages is lost on the way.
+ * Each pair of nodes is connected by a link in both directions, and messages sent over the same link
+ * wait for the previous ones to be transmitted.
+ *
+ * @author Dominik Szmyt
+ * @see NetworkConditionsBuilder
+ * @since 1.1.0
+ */
+public class NetworkConditions {
+
+    private final Duration latency;
+    private final long bandwidth;
+    private final double lossRate;
+
+    /**
+     * Create a {@code NetworkConditions} with all fields.
+     * @param latency The amount of time it takes a message to travel over a link after it was transmitted.
+     * @param bandwidth The number of bytes per second a link transmits.
+     * @param lossRate The probability of losing a message, between {@code 0} and {@code 1}.
+     * @throws IllegalArgumentException When any of the values is out of it's range.
+     */
+    public NetworkConditions(final Duration latency,
+                             final long bandwidth,
+                             final double lossRate) throws IllegalArgumentException {
+
+        if (isNull(latency) || latency.isNegative()) {
+            throw new IllegalArgumentException("Latency should be defined and should not be negative");
+        }
+
+        if (bandwidth <= 0L) {
+            throw new IllegalArgumentException("Bandwidth should be positive");
+        }
+
+        if (lossRate < 0.0 || lossRate >= 1.0) {
+            throw new IllegalArgumentException("Loss rate should be between 0 inclusive and 1 exclusive");
+        }
+
+        this.latency = latency;
+        this.bandwidth = bandwidth;
+        this.lossRate = lossRate;
+    }
+
+    /**
+     * Reads {@code NetworkConditions} from properties.
+     * Missing properties take default values of the {@link NetworkConditionsBuilder}.
+     * <ul>
+     *     <li>{@code latency-millis} - the latency in milliseconds;</li>
+     *     <li>{@code bandwidth-bytes-per-second} - the bandwidth of each link;</li>
+     *     <li>{@code loss-rate} - the probability of losing a message.</li>
+     * </ul>
+     *
+     * @param properties Properties that describe network conditions.
+     * @return Network conditions.
+     * @throws IllegalArgumentException When any of the values is not a number or is out of it's range.
+     */
+    public static NetworkConditions fromProperties(final Properties properties) throws IllegalArgumentException {
+        final NetworkConditionsBuilder builder = NetworkConditionsBuilder.builder();
+
+        final String latency = properties.getProperty("latency-millis");
+        if (nonNull(latency)) builder.withLatency(Duration.ofMillis(Long.parseLong(latency.trim())));
+
+        final String bandwidth = properties.getProperty("bandwidth-bytes-per-second");
+        if (nonNull(bandwidth)) builder.withBandwidth(Long.parseLong(bandwidth.trim()));
+
+        final String lossRate = properties.getProperty("loss-rate");
+        if (nonNull(lossRate)) builder.withLossRate(Double.parseDouble(lossRate.trim()));
+
+        return builder.build();
+    }
+
+    /**
+     * Tells how long it takes to transmit the given number of bytes over a link.
+     * @param bytes The size of a message in bytes.
+     * @return The transmission time in nanoseconds.
+     */
+    public long getTransmissionNanos(final long bytes) {
+        return bytes * 1_000_000_000L / bandwidth;
+    }
+
+    @Override
+    public String toString() {
+        return "Latency: " + latency.toMillis() + " ms\n" +
+                "Bandwidth: " + bandwidth + " B/s\n" +
+                "Loss rate: " + lossRate + "\n";
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public long getBandwidth() {
+        return bandwidth;
+    }
+
+    public double getLossRate() {
+        return lossRate;
+    }
+}
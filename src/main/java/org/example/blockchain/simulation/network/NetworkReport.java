@@ -0,0 +1,207 @@
+package org.example.blockchain.simulation.network;
+
+/**
+ * An immutable summary of a {@link NetworkSimulation}'s run.
+ * Mined blocks are the ones that nodes' miners added to their blockchains, while the best chain
+ * is the longest chain among nodes at the end of a run. Mined blocks that didn't make it to the best chain
+ * were orphaned, because another node's block won the race for the same height.
+ *
+ * @author Dominik Szmyt
+ * @see NetworkSimulation#run()
+ * @since 1.1.0
+ */
+public final class NetworkReport {
+
+    private final int nodes;
+    private final RelayMode relayMode;
+    private final long elapsedMillis;
+    private final long performedTransactions;
+    private final long minedBlocks;
+    private final long bestChainBlocks;
+    private final long includedTransactions;
+    private final long staleBlocks;
+    private final long reorganizations;
+    private final long sentMessages;
+    private final long droppedMessages;
+    private final long sentBytes;
+    private final long blockBytes;
+    private final long messageBytes;
+    private final long requestedMessages;
+    private final long propagationP50;
+    private final long propagationP99;
+    private final long propagationMax;
+
+    /**
+     * Create a {@code NetworkReport} with all necessary fields.
+     * @param nodes The number of nodes.
+     * @param relayMode The way blocks were sent.
+     * @param elapsedMillis The duration of a run in milliseconds.
+     * @param performedTransactions The number of transactions that users of all nodes performed.
+     * @param minedBlocks The number of blocks that nodes' miners added during a run.
+     * @param bestChainBlocks The number of blocks added to the best chain during a run.
+     * @param includedTransactions The number of messages in blocks added to the best chain during a run.
+     * @param staleBlocks The number of received blocks that were behind the receiver's chain.
+     * @param reorganizations The number of times nodes switched to a peer's chain.
+     * @param sentMessages The number of messages sent over the network.
+     * @param droppedMessages The number of messages lost on the way.
+     * @param sentBytes The number of bytes sent over the network.
+     * @param blockBytes The number of bytes sent to relay blocks.
+     * @param messageBytes The number of bytes sent to relay messages added to blockchains.
+     * @param requestedMessages The number of messages of compact blocks that peers had to ask for.
+     * @param propagationP50 The median time it took a block to be accepted by a peer in microseconds.
+     * @param propagationP99 The 99th percentile of time it took a block to be accepted by a peer in microseconds.
+     * @param propagationMax The longest time it took a block to be accepted by a peer in microseconds.
+     */
+    public NetworkReport(final int nodes,
+                         final RelayMode relayMode,
+                         final long elapsedMillis,
+                         final long performedTransactions,
+                         final long minedBlocks,
+                         final long bestChainBlocks,
+                         final long includedTransactions,
+                         final long staleBlocks,
+                         final long reorganizations,
+                         final long sentMessages,
+                         final long droppedMessages,
+                         final long sentBytes,
+                         final long blockBytes,
+                         final long messageBytes,
+                         final long requestedMessages,
+                         final long propagationP50,
+                         final long propagationP99,
+                         final long propagationMax) {
+
+        this.nodes = nodes;
+        this.relayMode = relayMode;
+        this.elapsedMillis = elapsedMillis;
+        this.performedTransactions = performedTransactions;
+        this.minedBlocks = minedBlocks;
+        this.bestChainBlocks = bestChainBlocks;
+        this.includedTransactions = includedTransactions;
+        this.staleBlocks = staleBlocks;
+        this.reorganizations = reorganizations;
+        this.sentMessages = sentMessages;
+        this.droppedMessages = droppedMessages;
+        this.sentBytes = sentBytes;
+        this.blockBytes = blockBytes;
+        this.messageBytes = messageBytes;
+        this.requestedMessages = requestedMessages;
+        this.propagationP50 = propagationP50;
+        this.propagationP99 = propagationP99;
+        this.propagationMax = propagationMax;
+    }
+
+    /**
+     * Returns the part of mined blocks that didn't make it to the best chain.
+     * @return The orphan rate or {@code 0} if no blocks were mined.
+     */
+    public double getOrphanRate() {
+        if (minedBlocks == 0L) return 0.0;
+        return Math.max(0L, minedBlocks - bestChainBlocks) / (double) minedBlocks;
+    }
+
+    /**
+     * Returns the number of messages that landed in the best chain per second of a run.
+     * @return The throughput of the network or {@code 0} if a run took no time.
+     */
+    public double getTransactionsPerSecond() {
+        if (elapsedMillis == 0L) return 0.0;
+        return includedTransactions * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "Nodes: " + nodes + "\n" +
+                "Relay mode: " + relayMode + "\n" +
+                "Elapsed: " + String.format("%.2f", elapsedMillis / 1000.0) + " s\n" +
+                "Performed transactions: " + performedTransactions + "\n" +
+                "Mined blocks: " + minedBlocks + "\n" +
+                "Best chain blocks: " + bestChainBlocks + "\n" +
+                "Orphan rate: " + String.format("%.4f", getOrphanRate()) + "\n" +
+                "Stale blocks: " + staleBlocks + "\n" +
+                "Reorganizations: " + reorganizations + "\n" +
+                "Included transactions: " + includedTransactions + "\n" +
+                "Throughput: " + String.format("%.2f", getTransactionsPerSecond()) + " tx/s\n" +
+                "Sent messages: " + sentMessages + "\n" +
+                "Dropped messages: " + droppedMessages + "\n" +
+                "Sent bytes: " + sentBytes + "\n" +
+                "Block bytes: " + blockBytes + "\n" +
+                "Message bytes: " + messageBytes + "\n" +
+                "Requested messages: " + requestedMessages + "\n" +
+                "Propagation p50: " + String.format("%.1f", propagationP50 / 1000.0) + " ms\n" +
+                "Propagation p99: " + String.format("%.1f", propagationP99 / 1000.0) + " ms\n" +
+                "Propagation max: " + String.format("%.1f", propagationMax / 1000.0) + " ms\n";
+    }
+
+    public int getNodes() {
+        return nodes;
+    }
+
+    public RelayMode getRelayMode() {
+        return relayMode;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getPerformedTransactions() {
+        return performedTransactions;
+    }
+
+    public long getMinedBlocks() {
+        return minedBlocks;
+    }
+
+    public long getBestChainBlocks() {
+        return bestChainBlocks;
+    }
+
+    public long getIncludedTransactions() {
+        return includedTransactions;
+    }
+
+    public long getStaleBlocks() {
+        return staleBlocks;
+    }
+
+    public long getReorganizations() {
+        return reorganizations;
+    }
+
+    public long getSentMessages() {
+        return sentMessages;
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages;
+    }
+
+    public long getSentBytes() {
+        return sentBytes;
+    }
+
+    public long getBlockBytes() {
+        return blockBytes;
+    }
+
+    public long getMessageBytes() {
+        return messageBytes;
+    }
+
+    public long getRequestedMessages() {
+        return requestedMessages;
+    }
+
+    public long getPropagationP50() {
+        return propagationP50;
+    }
+
+    public long getPropagationP99() {
+        return propagationP99;
+    }
+
+    public long getPropagationMax() {
+        return propagationMax;
+    }
+}
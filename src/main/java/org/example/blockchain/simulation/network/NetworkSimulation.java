@@ -0,0 +1,193 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.metrics.LatencyHistogram;
+import org.example.blockchain.simulation.load.LoadGenerator;
+import org.example.blockchain.simulation.load.LoadReport;
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Runs several {@link Node}s in one process, each with it's own {@link BlockChain}, users and miners,
+ * connected by a {@link Network}, and reports how blocks propagate between them.
+ * <br>
+ * Each node runs a {@link LoadGenerator} with the same {@link Scenario}, so it's users put the scenario's load
+ * on it's own blockchain, while transactions are not sent between nodes. All nodes start with the same first block.
+ * Since each node evaluates the number of zeros on it's own, all of them mine at the scenario's maximum number of zeros,
+ * so they accept each other's blocks.
+ *
+ * @author Dominik Szmyt
+ * @see Network
+ * @see NetworkReport
+ * @since 1.1.0
+ */
+public class NetworkSimulation {
+
+    private final int nodesCount;
+    private final Scenario scenario;
+    private final NetworkConditions conditions;
+    private final RelayMode relayMode;
+    private final SignatureScheme signatureScheme;
+    private final int parallelism;
+
+    /**
+     * Create a {@code NetworkSimulation} with all fields.
+     * @param nodesCount The number of nodes.
+     * @param scenario A scenario that each node runs.
+     * @param conditions Conditions of links between nodes.
+     * @param relayMode The way blocks are sent between nodes.
+     * @param signatureScheme The scheme that users sign their messages with
+     *                        or {@code null} if they should use {@link SignatureSchemes#DSA}.
+     * @param parallelism The number of worker threads that perform users' transactions on each node.
+     * @throws IllegalArgumentException When there are less than two nodes, the scenario, the conditions
+     *                                  or the relay mode are not defined or the parallelism is not positive.
+     */
+    public NetworkSimulation(final int nodesCount,
+                             final Scenario scenario,
+                             final NetworkConditions conditions,
+                             final RelayMode relayMode,
+                             final SignatureScheme signatureScheme,
+                             final int parallelism) throws IllegalArgumentException {
+
+        if (nodesCount < 2) {
+            throw new IllegalArgumentException("There should be at least two nodes");
+        }
+
+        if (isNull(scenario) || isNull(conditions) || isNull(relayMode) || parallelism <= 0) {
+            throw new IllegalArgumentException("Scenario, network conditions and relay mode should be defined and parallelism should be positive");
+        }
+
+        this.nodesCount = nodesCount;
+        this.scenario = scenario;
+        this.conditions = conditions;
+        this.relayMode = relayMode;
+        this.signatureScheme = isNull(signatureScheme) ? SignatureSchemes.DSA : signatureScheme;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Connects nodes, runs the scenario on all of them at the same time and, in the end, stops the network
+     * and summarizes the run.
+     *
+     * @return A report of the run.
+     * @throws InterruptedException When a thread was interrupted while waiting.
+     * @throws IllegalStateException When the scenario failed on any node.
+     */
+    public NetworkReport run() throws InterruptedException, IllegalStateException {
+        final Long seed = scenario.getSeed();
+        final Network network = new Network(conditions, relayMode, nonNull(seed) ? new SplittableRandom(seed) : null);
+        final Block genesis = Blocks.mineBlock(null, new ArrayList<>(), System.currentTimeMillis(), 0L);
+
+        final List<Node> nodes = new ArrayList<>();
+        final List<Callable<LoadReport>> runs = new ArrayList<>();
+        for (int i = 0; i < nodesCount; i++) {
+            final BlockChain blockChain = new BlockChain();
+            blockChain.putLast(genesis);
+            nodes.add(new Node("Node-" + i, blockChain, network));
+
+            final LoadGenerator loadGenerator = new LoadGenerator(scenarioOf(i), blockChain, signatureScheme, parallelism);
+            runs.add(loadGenerator::run);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(nodesCount);
+        final long start = System.nanoTime();
+        final List<LoadReport> reports = new ArrayList<>();
+        try {
+            for (Future<LoadReport> future : executor.invokeAll(runs)) {
+                reports.add(future.get());
+            }
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        } finally {
+            executor.shutdownNow();
+            network.shutdown();
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final List<Block> bestChain = nodes.stream()
+                .map(Node::getChain)
+                .max(Comparator.comparingInt(List::size))
+                .orElseGet(ArrayList::new);
+
+        final long includedTransactions = bestChain.stream()
+                .mapToLong(block -> block.getMessages().size())
+                .sum();
+
+        final LatencyHistogram propagation = network.getPropagation();
+
+        return new NetworkReport(
+                nodesCount,
+                relayMode,
+                elapsedMillis,
+                reports.stream().mapToLong(LoadReport::getPerformed).sum(),
+                nodes.stream().mapToLong(Node::getMinedBlocks).sum(),
+                bestChain.size() - 1L,
+                includedTransactions,
+                nodes.stream().mapToLong(Node::getStaleBlocks).sum(),
+                nodes.stream().mapToLong(Node::getReorganizations).sum(),
+                network.getSentMessages(),
+                network.getDroppedMessages(),
+                network.getSentBytes(),
+                network.getBlockBytes(),
+                network.getMessageBytes(),
+                network.getRequestedMessages(),
+                propagation.getValueAtPercentile(50.0),
+                propagation.getValueAtPercentile(99.0),
+                propagation.getMax());
+    }
+
+    private Scenario scenarioOf(final int node) {
+        return ScenarioBuilder.builder()
+                .withUsersCount(scenario.getUsersCount())
+                .withMinersCount(scenario.getMinersCount())
+                .withTransactionsPerSecond(scenario.getTransactionsPerSecond())
+                .withRampUp(scenario.getRampUp())
+                .withDuration(scenario.getDuration())
+                .withMinNumberOfZeros(scenario.getMaxNumberOfZeros())
+                .withMaxNumberOfZeros(scenario.getMaxNumberOfZeros())
+                .withSeed(nonNull(scenario.getSeed()) ? scenario.getSeed() + node : null)
+                .build();
+    }
+
+    public int getNodesCount() {
+        return nodesCount;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public NetworkConditions getConditions() {
+        return conditions;
+    }
+
+    public RelayMode getRelayMode() {
+        return relayMode;
+    }
+
+    public SignatureScheme getSignatureScheme() {
+        return signatureScheme;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,321 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.LruCache;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A node of a {@link Network} with it's own {@link BlockChain}, and so with it's own miners and messages.
+ * A node sends each block that it's miners added to the blockchain to all of it's peers,
+ * and puts blocks it receives from peers at the end of it's blockchain.
+ * <br>
+ * Messages added to the blockchain are sent to peers as well, and each node remembers messages it knows
+ * until they land in a block, so it can rebuild a {@link CompactBlock} without asking for all of it's messages.
+ * <br>
+ * When a received block doesn't fit the end of the blockchain, but it's further ahead than the last block,
+ * the node asks the peer for it's chain and switches to it, see {@link BlockChain#switchTo(List)}.
+ * Otherwise, the received block is stale, because the node already has a chain that is at least as long.
+ * <br>
+ * A node that joined late catches up with {@link #synchronize(List)}, and while it does,
+ * it doesn't ask for chains of peers whose blocks don't fit.
+ *
+ * @author Dominik Szmyt
+ * @see Network
+ * @since 1.1.0
+ */
+public class Node {
+
+    private static final int RECENT_BLOCKS = 100;
+    private static final int RECEIVED_HASHES = 1024;
+
+    private final String name;
+    private final BlockChain blockChain;
+    private final Network network;
+    private final LruCache<String, Boolean> receivedHashes = new LruCache<>(RECEIVED_HASHES);
+    private final Map<Long, Message> knownMessages = new ConcurrentHashMap<>();
+    private volatile boolean synchronizing;
+    private final LongAdder minedBlocks = new LongAdder();
+    private final LongAdder receivedBlocks = new LongAdder();
+    private final LongAdder staleBlocks = new LongAdder();
+    private final LongAdder reorganizations = new LongAdder();
+
+    /**
+     * Create a {@code Node} and connect it to the network.
+     * @param name The name of a {@code Node}.
+     * @param blockChain The blockchain of a {@code Node}, which shouldn't be shared with other nodes.
+     * @param network A network that connects a {@code Node} with it's peers.
+     * @throws IllegalArgumentException When any of the values is not defined.
+     */
+    public Node(final String name, final BlockChain blockChain, final Network network) throws IllegalArgumentException {
+        if (isNull(name) || isNull(blockChain) || isNull(network)) {
+            throw new IllegalArgumentException("Name, blockchain and network should be defined");
+        }
+
+        this.name = name;
+        this.blockChain = blockChain;
+        this.network = network;
+
+        blockChain.addBlockListener(this::accepted);
+        blockChain.addMessageListener(this::added);
+        network.connect(this);
+    }
+
+    private void accepted(final Block block) {
+        for (final Message message : block.getMessages()) {
+            knownMessages.remove(CompactBlock.shortIdOf(message));
+        }
+
+        if (nonNull(receivedHashes.get(block.getHash()))) return;
+
+        minedBlocks.increment();
+        network.broadcast(this, block);
+    }
+
+    private void added(final Message message) {
+        knownMessages.put(CompactBlock.shortIdOf(message), message);
+        network.relay(this, message);
+    }
+
+    /**
+     * Remembers a message that a peer added to it's blockchain.
+     * @param message A message received from a peer.
+     */
+    void know(final Message message) {
+        knownMessages.put(CompactBlock.shortIdOf(message), message);
+    }
+
+    /**
+     * Rebuilds a compact block from known messages and puts it like {@link #receive(Node, Block, long)},
+     * or asks the peer for messages that are not known.
+     * @param from A peer that sent the compact block.
+     * @param compactBlock A received compact block.
+     * @param sentAt The time at which the compact block was sent.
+     */
+    void receive(final Node from, final CompactBlock compactBlock, final long sentAt) {
+        final Block block = compactBlock.reconstruct(knownMessages::get);
+        if (nonNull(block)) {
+            receive(from, block, sentAt);
+        } else {
+            network.requestMessages(this, from, compactBlock, compactBlock.getMissing(knownMessages::get), sentAt);
+        }
+    }
+
+    /**
+     * Rebuilds a compact block from known messages and messages sent by the peer on request.
+     * If the peer didn't send all missing messages, the node asks for the peer's chain instead.
+     * @param from A peer that sent the compact block.
+     * @param compactBlock A received compact block.
+     * @param messages Messages sent by the peer.
+     * @param sentAt The time at which the compact block was sent.
+     */
+    void receive(final Node from, final CompactBlock compactBlock, final List<Message> messages, final long sentAt) {
+        final Map<Long, Message> sent = new HashMap<>();
+        messages.forEach(message -> sent.put(CompactBlock.shortIdOf(message), message));
+
+        final Block block = compactBlock.reconstruct(id -> {
+            final Message message = knownMessages.get(id);
+            return nonNull(message) ? message : sent.get(id);
+        });
+
+        if (nonNull(block)) {
+            receive(from, block, sentAt);
+        } else {
+            network.requestChain(this, from, sentAt);
+        }
+    }
+
+    /**
+     * Looks for messages of a recent block of the blockchain, e.g. for a peer that couldn't rebuild it.
+     * @param hash The hash of a block.
+     * @param shortIds Short ids of requested messages.
+     * @return Requested messages or an empty list if the block is not one of the last blocks.
+     */
+    List<Message> findMessages(final String hash, final List<Long> shortIds) {
+        final Set<Long> requested = new HashSet<>(shortIds);
+        final List<Message> messages = new ArrayList<>();
+
+        synchronized (blockChain) {
+            final List<Block> blocks = blockChain.getBlocks();
+            for (int i = blocks.size() - 1; i >= Math.max(0, blocks.size() - RECENT_BLOCKS); i--) {
+                final Block block = blocks.get(i);
+                if (Objects.equals(block.getHash(), hash)) {
+                    for (final Message message : block.getMessages()) {
+                        if (requested.contains(CompactBlock.shortIdOf(message))) {
+                            messages.add(message);
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+
+        return messages;
+    }
+
+    /**
+     * Puts a block received from a peer at the end of the blockchain,
+     * or asks the peer for it's chain if the block is further ahead than the last block.
+     * @param from A peer that sent the block.
+     * @param block A received block.
+     * @param sentAt The time at which the block was sent.
+     */
+    void receive(final Node from, final Block block, final long sentAt) {
+        receivedBlocks.increment();
+        receivedHashes.put(block.getHash(), Boolean.TRUE);
+
+        if (blockChain.putLast(block)) {
+            network.propagated(sentAt);
+            return;
+        }
+
+        final Block last = blockChain.getLast();
+        if (synchronizing) return;
+        if (isNull(last) || block.getId() > last.getId()) {
+            network.requestChain(this, from, sentAt);
+        } else {
+            staleBlocks.increment();
+        }
+    }
+
+    /**
+     * Switches to a peer's chain if it's longer than the blockchain.
+     * @param chain A peer's chain.
+     * @param sentAt The time at which the block that triggered the request was sent.
+     */
+    void receiveChain(final List<Block> chain, final long sentAt) {
+        if (switchTo(chain)) {
+            reorganizations.increment();
+            network.propagated(sentAt);
+        }
+    }
+
+    /**
+     * Switches to a chain that came from peers, see {@link BlockChain#switchTo(List)}.
+     * Blocks of the chain are remembered as received, so the node doesn't send them back to peers
+     * when it's blockchain accepts them.
+     * @param chain A chain that came from peers.
+     * @return {@code true} if the blockchain switched to the chain, otherwise {@code false}.
+     */
+    boolean switchTo(final List<Block> chain) {
+        synchronized (blockChain) {
+            final List<Block> blocks = blockChain.getBlocks();
+            int common = 0;
+            while (common < Math.min(blocks.size(), chain.size())
+                    && Objects.equals(blocks.get(common).getHash(), chain.get(common).getHash())) {
+                common++;
+            }
+
+            for (int i = common; i < chain.size(); i++) {
+                receivedHashes.put(chain.get(i).getHash(), Boolean.TRUE);
+            }
+
+            return blockChain.switchTo(chain);
+        }
+    }
+
+    /**
+     * Downloads blocks that the node doesn't have from the given peers, headers first.
+     * @param peers Peers that the node downloads blocks from.
+     * @return A future that tells whether the node switched to the downloaded chain.
+     * @throws IllegalArgumentException When there are no peers.
+     * @see HeadersFirstSync
+     */
+    public CompletableFuture<Boolean> synchronize(final List<Node> peers) throws IllegalArgumentException {
+        final HeadersFirstSync sync = new HeadersFirstSync(this, peers, network);
+        synchronizing = true;
+        return sync.start().whenComplete((switched, exception) -> synchronizing = false);
+    }
+
+    /**
+     * Returns headers of the blockchain's blocks, i.e. blocks without their messages.
+     * @return Headers of the node's blocks.
+     */
+    List<Block> getHeaders() {
+        synchronized (blockChain) {
+            final List<Block> blocks = blockChain.getBlocks();
+            final List<Block> headers = new ArrayList<>(blocks.size());
+            for (final Block block : blocks) {
+                headers.add(CompactBlock.headerOf(block));
+            }
+
+            return headers;
+        }
+    }
+
+    /**
+     * Looks for blocks of the blockchain with the given hashes, e.g. for a peer that is catching up.
+     * @param hashes Hashes of requested blocks.
+     * @return Requested blocks that the blockchain has.
+     */
+    List<Block> findBlocks(final List<String> hashes) {
+        final Set<String> requested = new HashSet<>(hashes);
+        final List<Block> found = new ArrayList<>();
+
+        synchronized (blockChain) {
+            for (final Block block : blockChain.getBlocks()) {
+                if (requested.contains(block.getHash())) {
+                    found.add(block);
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Returns a copy of the blockchain's blocks.
+     * @return Blocks of the node.
+     */
+    public List<Block> getChain() {
+        synchronized (blockChain) {
+            return new ArrayList<>(blockChain.getBlocks());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BlockChain getBlockChain() {
+        return blockChain;
+    }
+
+    public long getMinedBlocks() {
+        return minedBlocks.sum();
+    }
+
+    public long getReceivedBlocks() {
+        return receivedBlocks.sum();
+    }
+
+    public long getStaleBlocks() {
+        return staleBlocks.sum();
+    }
+
+    public long getReorganizations() {
+        return reorganizations.sum();
+    }
+
+    /**
+     * Returns the number of messages the node knows that didn't land in a block yet.
+     * @return The number of known messages.
+     */
+    public int getKnownMessages() {
+        return knownMessages.size();
+    }
+}
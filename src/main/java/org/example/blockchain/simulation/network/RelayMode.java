@@ -0,0 +1,22 @@
+package org.example.blockchain.simulation.network;
+
+/**
+ * Tells how a {@link Network} sends blocks accepted by a node to it's peers.
+ *
+ * @author Dominik Szmyt
+ * @see Network
+ * @since 1.1.0
+ */
+public enum RelayMode {
+
+    /**
+     * Blocks are sent with all of their messages.
+     */
+    FULL,
+
+    /**
+     * Blocks are sent as a {@link CompactBlock}, which carries only ids of messages,
+     * and peers ask only for messages they don't know yet.
+     */
+    COMPACT
+}
@@ -0,0 +1,45 @@
+package org.example.blockchain.simulation.network.builder;
+
+import org.example.blockchain.simulation.network.NetworkConditions;
+
+import java.time.Duration;
+
+/**
+ * A builder for the {@link NetworkConditions} class.
+ * By default, links have 50 milliseconds of latency, carry 1 MB per second and lose no messages.
+ *
+ * @author Dominik Szmyt
+ * @see NetworkConditions
+ * @since 1.1.0
+ */
+public final class NetworkConditionsBuilder {
+
+    private Duration latency = Duration.ofMillis(50);
+    private long bandwidth = 1_000_000L;
+    private double lossRate = 0.0;
+
+    private NetworkConditionsBuilder() { }
+
+    public static NetworkConditionsBuilder builder() {
+        return new NetworkConditionsBuilder();
+    }
+
+    public NetworkConditionsBuilder withLatency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public NetworkConditionsBuilder withBandwidth(final long bandwidth) {
+        this.bandwidth = bandwidth;
+        return this;
+    }
+
+    public NetworkConditionsBuilder withLossRate(final double lossRate) {
+        this.lossRate = lossRate;
+        return this;
+    }
+
+    public NetworkConditions build() {
+        return new NetworkConditions(latency, bandwidth, lossRate);
+    }
+}
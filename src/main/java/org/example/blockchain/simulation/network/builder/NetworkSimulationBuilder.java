@@ -0,0 +1,69 @@
+package org.example.blockchain.simulation.network.builder;
+
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+import org.example.blockchain.simulation.network.NetworkConditions;
+import org.example.blockchain.simulation.network.NetworkSimulation;
+import org.example.blockchain.simulation.network.RelayMode;
+
+/**
+ * A builder for the {@link NetworkSimulation} class.
+ * By default, 4 nodes run the default {@link ScenarioBuilder} scenario over links with default
+ * {@link NetworkConditionsBuilder} conditions and send blocks with all of their messages, users sign their messages with {@link SignatureSchemes#DSA}
+ * and each node has one worker thread.
+ *
+ * @author Dominik Szmyt
+ * @see NetworkSimulation
+ * @since 1.1.0
+ */
+public final class NetworkSimulationBuilder {
+
+    private int nodesCount = 4;
+    private Scenario scenario = ScenarioBuilder.builder().build();
+    private NetworkConditions conditions = NetworkConditionsBuilder.builder().build();
+    private RelayMode relayMode = RelayMode.FULL;
+    private SignatureScheme signatureScheme = SignatureSchemes.DSA;
+    private int parallelism = 1;
+
+    private NetworkSimulationBuilder() { }
+
+    public static NetworkSimulationBuilder builder() {
+        return new NetworkSimulationBuilder();
+    }
+
+    public NetworkSimulationBuilder withNodesCount(final int nodesCount) {
+        this.nodesCount = nodesCount;
+        return this;
+    }
+
+    public NetworkSimulationBuilder withScenario(final Scenario scenario) {
+        this.scenario = scenario;
+        return this;
+    }
+
+    public NetworkSimulationBuilder withConditions(final NetworkConditions conditions) {
+        this.conditions = conditions;
+        return this;
+    }
+
+    public NetworkSimulationBuilder withRelayMode(final RelayMode relayMode) {
+        this.relayMode = relayMode;
+        return this;
+    }
+
+    public NetworkSimulationBuilder withSignatureScheme(final SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+        return this;
+    }
+
+    public NetworkSimulationBuilder withParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public NetworkSimulation build() {
+        return new NetworkSimulation(nodesCount, scenario, conditions, relayMode, signatureScheme, parallelism);
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.blockchain.simulation.scheduler;
+
+import org.example.blockchain.logic.users.AbstractUser;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.PriorityQueue;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Runs users' actions one by one, in the order of their simulated time, on the thread that calls
+ * {@link #runFor(Duration)} or {@link #runUntil(long)}.
+ * Instead of waiting, a {@link VirtualClock} jumps to the time of the next action,
+ * so hours of simulated activity take only as long as the actions themselves.
+ * Actions with the same time are run in the order they were scheduled, which makes runs deterministic
+ * as long as users don't use other threads, e.g. a {@link org.example.blockchain.logic.ingest.MessageIngest}.
+ * <br>
+ * Miners should use a simulated {@link org.example.blockchain.logic.block.MiningContext},
+ * so the generation time of blocks is simulated as well.
+ *
+ * @author Dominik Szmyt
+ * @see VirtualClock
+ * @since 1.1.0
+ */
+public class DiscreteEventScheduler implements UserScheduler {
+
+    private final VirtualClock clock;
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private long sequence = 0L;
+    private long processedEvents = 0L;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Create a {@code DiscreteEventScheduler} whose clock starts at the epoch.
+     */
+    public DiscreteEventScheduler() {
+        this(new VirtualClock(Instant.EPOCH));
+    }
+
+    /**
+     * Create a {@code DiscreteEventScheduler} that advances the given clock.
+     * @param clock A clock that tells the simulated time.
+     * @throws IllegalArgumentException When the clock is not defined.
+     */
+    public DiscreteEventScheduler(final VirtualClock clock) throws IllegalArgumentException {
+        if (isNull(clock)) {
+            throw new IllegalArgumentException("Clock should be defined");
+        }
+
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules the first action of a user at the current simulated time.
+     * @param user A user whose actions are to be scheduled.
+     */
+    @Override
+    public synchronized void schedule(final AbstractUser user) {
+        if (isNull(user) || shutdown) return;
+        events.add(new Event(clock.millis(), sequence++, user));
+    }
+
+    /**
+     * Runs all actions that happen within the given amount of simulated time from now.
+     * @param duration The amount of simulated time.
+     * @return The number of actions that were run.
+     */
+    public long runFor(final Duration duration) {
+        return runUntil(clock.millis() + duration.toMillis());
+    }
+
+    /**
+     * Runs all actions that happen until the given simulated time
+     * and then advances the clock to that time.
+     * After each action, the next action of a user is scheduled after {@link AbstractUser#nextSleepMillis()}.
+     *
+     * @param epochMillis The simulated time in milliseconds since the epoch.
+     * @return The number of actions that were run.
+     */
+    public synchronized long runUntil(final long epochMillis) {
+        long count = 0L;
+
+        while (!shutdown && !events.isEmpty() && events.peek().time <= epochMillis) {
+            final Event event = events.poll();
+            clock.advanceTo(event.time);
+
+            if (event.user.step()) {
+                events.add(new Event(event.time + event.user.nextSleepMillis(), sequence++, event.user));
+            }
+
+            count++;
+        }
+
+        if (!shutdown && clock.millis() < epochMillis) {
+            clock.advanceTo(epochMillis);
+        }
+
+        processedEvents += count;
+        return count;
+    }
+
+    /**
+     * Stops running actions and removes the scheduled ones.
+     */
+    @Override
+    public void shutdownNow() {
+        shutdown = true;
+        synchronized (this) {
+            events.clear();
+        }
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    public synchronized int getPendingEvents() {
+        return events.size();
+    }
+
+    public synchronized long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    /**
+     * An action of a user that is to be run at the given simulated time.
+     */
+    private static final class Event implements Comparable<Event> {
+
+        private final long time;
+        private final long sequence;
+        private final AbstractUser user;
+
+        private Event(final long time, final long sequence, final AbstractUser user) {
+            this.time = time;
+            this.sequence = sequence;
+            this.user = user;
+        }
+
+        @Override
+        public int compareTo(final Event other) {
+            final int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.blockchain.simulation.scheduler;
+
+import org.example.blockchain.logic.users.AbstractUser;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Runs users' actions as tasks of a {@link ScheduledExecutorService}.
+ * Users don't own threads while they wait for their next action,
+ * therefore the number of users is limited by memory and the transaction rate by processors,
+ * rather than by the number of threads.
+ *
+ * @author Dominik Szmyt
+ * @since 1.1.0
+ */
+public class ScheduledUserScheduler implements UserScheduler {
+
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder actions = new LongAdder();
+
+    /**
+     * Create a {@code ScheduledUserScheduler} with one thread for each available processor.
+     */
+    public ScheduledUserScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a {@code ScheduledUserScheduler} with the given number of threads.
+     * @param threads The number of threads that perform users' actions.
+     * @throws IllegalArgumentException When the number of threads is not positive.
+     */
+    public ScheduledUserScheduler(final int threads) throws IllegalArgumentException {
+        this(newScheduler(threads));
+    }
+
+    /**
+     * Create a {@code ScheduledUserScheduler} that uses the given executor.
+     * @param scheduler An executor that performs users' actions.
+     * @throws IllegalArgumentException When the executor is not defined.
+     */
+    public ScheduledUserScheduler(final ScheduledExecutorService scheduler) throws IllegalArgumentException {
+        if (isNull(scheduler)) {
+            throw new IllegalArgumentException("Scheduler should be defined");
+        }
+
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void schedule(final AbstractUser user) {
+        if (isNull(user)) return;
+        execute(() -> step(user), 0L);
+    }
+
+    @Override
+    public void shutdownNow() {
+        scheduler.shutdownNow();
+    }
+
+    private void step(final AbstractUser user) {
+        actions.increment();
+        if (user.step()) {
+            execute(() -> step(user), user.nextSleepMillis());
+        }
+    }
+
+    private void execute(final Runnable action, final long delayMillis) {
+        try {
+            scheduler.schedule(action, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            // The scheduler was shut down, so there are no more actions.
+        }
+    }
+
+    private static ScheduledExecutorService newScheduler(final int threads) throws IllegalArgumentException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads should be positive");
+        }
+
+        return Executors.newScheduledThreadPool(threads);
+    }
+
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return The number of users' steps performed so far, including the final steps of terminated users.
+     */
+    public long getActions() {
+        return actions.sum();
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.blockchain.simulation.scheduler;
+
+import org.example.blockchain.logic.users.AbstractUser;
+
+import java.time.Clock;
+
+/**
+ * Runs users of a {@link org.example.blockchain.simulation.Simulation} as a sequence of actions
+ * instead of giving each user it's own thread.
+ * After each action, the next one is scheduled after {@link AbstractUser#nextSleepMillis()}
+ * until a user is terminated.
+ *
+ * @author Dominik Szmyt
+ * @see AbstractUser#step()
+ * @since 1.1.0
+ */
+public interface UserScheduler {
+
+    /**
+     * Schedules the first action of a user.
+     * @param user A user whose actions are to be scheduled.
+     */
+    void schedule(AbstractUser user);
+
+    /**
+     * Stops scheduling actions and cancels the scheduled ones.
+     */
+    void shutdownNow();
+
+    /**
+     * Tells the time that users' actions are scheduled with.
+     * @return The system clock, unless a scheduler simulates time.
+     */
+    default Clock getClock() {
+        return Clock.systemUTC();
+    }
+}
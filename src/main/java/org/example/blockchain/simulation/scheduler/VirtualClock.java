@@ -0,0 +1,93 @@
+package org.example.blockchain.simulation.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A {@link Clock} that stands still until it's advanced.
+ * A {@link DiscreteEventScheduler} advances it to the time of each event,
+ * so simulated time passes only when something happens.
+ * Clocks returned by {@link #withZone(ZoneId)} share the time with the original clock.
+ *
+ * @author Dominik Szmyt
+ * @see DiscreteEventScheduler
+ * @since 1.1.0
+ */
+public class VirtualClock extends Clock {
+
+    private final AtomicLong millis;
+    private final ZoneId zone;
+
+    /**
+     * Create a {@code VirtualClock} that starts at the given instant in the UTC zone.
+     * @param start The initial time of a clock.
+     * @throws IllegalArgumentException When the initial time is not defined.
+     */
+    public VirtualClock(final Instant start) throws IllegalArgumentException {
+        this(new AtomicLong(toMillis(start)), ZoneOffset.UTC);
+    }
+
+    private VirtualClock(final AtomicLong millis, final ZoneId zone) {
+        this.millis = millis;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves a clock forward to the given time. A clock never goes back.
+     * @param epochMillis The new time in milliseconds since the epoch.
+     * @throws IllegalArgumentException When the given time is earlier than the current one.
+     */
+    public void advanceTo(final long epochMillis) throws IllegalArgumentException {
+        final long previous = millis.getAndAccumulate(epochMillis, Math::max);
+        if (previous > epochMillis) {
+            throw new IllegalArgumentException("Virtual clock can't go back");
+        }
+    }
+
+    /**
+     * Moves a clock forward by the given amount of time.
+     * @param duration The amount of time, that should not be negative.
+     * @throws IllegalArgumentException When the duration is negative.
+     */
+    public void advanceBy(final Duration duration) throws IllegalArgumentException {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Virtual clock can't go back");
+        }
+
+        millis.addAndGet(duration.toMillis());
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        return new VirtualClock(millis, zone);
+    }
+
+    private static long toMillis(final Instant start) throws IllegalArgumentException {
+        if (isNull(start)) {
+            throw new IllegalArgumentException("Start should be defined");
+        }
+
+        return start.toEpochMilli();
+    }
+}
@@ -0,0 +1,300 @@
+package org.example.blockchain.transport;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ChainSnapshot;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Exports blocks of a {@link BlockChain} to a file and imports them back, one block at a time,
+ * so a chain can be copied between environments without holding it's encoded form in memory.
+ * <br>
+ * A file starts with the {@value #MAGIC} magic number and the {@value #VERSION} version as {@code int}s,
+ * followed by one {@link Frames#BLOCK} frame per block, in the order of the chain.
+ * Frames are the same as the ones sent between nodes, see {@link Frames}.
+ * <br>
+ * Reading a file validates it while it streams: each block's hash has to be generated properly
+ * and has to be the previous hash of the next block, message ids have to ascend across blocks
+ * and signatures of messages have to be valid. Only the previous block is kept besides the read buffer,
+ * so validating a file takes the same memory whatever it's length.
+ * <br>
+ * A range of blocks is copied from one file to another with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)},
+ * which lets the operating system move the bytes without copying them to the heap. Only the lengths of frames
+ * are read to find where the range starts and ends.
+ *
+ * @author Dominik Szmyt
+ * @see Frames
+ * @since 1.1.0
+ */
+public final class ChainArchive {
+
+    public static final int MAGIC = 0x424C4B43;
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ChainArchive() { }
+
+    /**
+     * Writes blocks of a blockchain to a file, replacing the file if it exists.
+     * Blocks are read from a snapshot, so the blockchain is not locked while they are written.
+     * @param blockChain A blockchain that is to be exported.
+     * @param target A file that blocks are to be written to.
+     * @return The number of exported blocks.
+     * @throws IllegalArgumentException When the blockchain or the file is not defined.
+     * @throws IOException When the file couldn't be written.
+     */
+    public static int export(final BlockChain blockChain, final Path target) throws IllegalArgumentException, IOException {
+        if (isNull(blockChain) || isNull(target)) {
+            throw new IllegalArgumentException("Blockchain and target should be defined");
+        }
+
+        final ChainSnapshot snapshot = blockChain.getSnapshot();
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            writeFully(channel, header());
+            for (int height = 0; height < snapshot.getHeight(); height++) {
+                writeFully(channel, Frames.encode(snapshot.get(height)));
+            }
+        }
+
+        return snapshot.getHeight();
+    }
+
+    /**
+     * Reads blocks from a file and puts them into a blockchain with {@link BlockChain#putLast(Block)},
+     * validating them while they stream. Blocks are accepted at the blockchain's current number of zeros,
+     * so they should be imported into a new blockchain.
+     * @param source A file written by {@link #export(BlockChain, Path)}.
+     * @param blockChain A blockchain that blocks are to be put into.
+     * @return The number of imported blocks.
+     * @throws IllegalArgumentException When the file or the blockchain is not defined.
+     * @throws IOException When the file couldn't be read, is malformed, contains an invalid block
+     *                     or a block was rejected by the blockchain.
+     */
+    public static int importTo(final Path source, final BlockChain blockChain) throws IllegalArgumentException, IOException {
+        if (isNull(source) || isNull(blockChain)) {
+            throw new IllegalArgumentException("Source and blockchain should be defined");
+        }
+
+        final int[] height = {0};
+        read(source, blockChain, block -> {
+            if (!blockChain.putLast(block)) {
+                throw new IllegalStateException("Block rejected at height " + height[0]);
+            }
+            height[0]++;
+        });
+
+        return height[0];
+    }
+
+    /**
+     * Validates blocks of a file without keeping them.
+     * @param source A file written by {@link #export(BlockChain, Path)}.
+     * @return The number of valid blocks in the file.
+     * @throws IllegalArgumentException When the file is not defined.
+     * @throws IOException When the file couldn't be read, is malformed or contains an invalid block.
+     */
+    public static int verify(final Path source) throws IllegalArgumentException, IOException {
+        if (isNull(source)) {
+            throw new IllegalArgumentException("Source should be defined");
+        }
+
+        return read(source, new BlockChain(), block -> { });
+    }
+
+    /**
+     * Copies blocks from the given height to the end of a file into another file, replacing it if it exists.
+     * @param source A file written by {@link #export(BlockChain, Path)}.
+     * @param target A file that blocks are to be copied to.
+     * @param from The height of the first block that is to be copied.
+     * @return The number of copied blocks.
+     * @throws IllegalArgumentException When any file is not defined or the height is negative.
+     * @throws IOException When any file couldn't be read or written or the source is malformed.
+     * @see #copy(Path, Path, int, int)
+     */
+    public static int copy(final Path source, final Path target, final int from) throws IllegalArgumentException, IOException {
+        return copy(source, target, from, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Copies blocks with heights from {@code from} inclusive to {@code to} exclusive from a file into another file,
+     * replacing it if it exists. Frames are transferred as they are, so they are not validated.
+     * @param source A file written by {@link #export(BlockChain, Path)}.
+     * @param target A file that blocks are to be copied to.
+     * @param from The height of the first block that is to be copied.
+     * @param to The height after the last block that is to be copied, which may be greater than the file's height.
+     * @return The number of copied blocks.
+     * @throws IllegalArgumentException When any file is not defined or the range of heights is invalid.
+     * @throws IOException When any file couldn't be read or written or the source is malformed.
+     */
+    public static int copy(final Path source,
+                           final Path target,
+                           final int from,
+                           final int to) throws IllegalArgumentException, IOException {
+
+        if (isNull(source) || isNull(target) || from < 0 || from > to) {
+            throw new IllegalArgumentException("Source and target should be defined and heights should be a valid range");
+        }
+
+        try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            checkHeader(input);
+
+            final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            long position = HEADER_BYTES;
+            long start = -1L;
+            int height = 0;
+            while (height < to && position < input.size()) {
+                if (height == from) start = position;
+                position += Integer.BYTES + readLength(input, length, position);
+                height++;
+            }
+
+            if (position > input.size()) {
+                throw new IOException("Truncated frame at height " + (height - 1));
+            }
+
+            writeFully(output, header());
+            if (start < 0L) return 0;
+
+            final long end = position;
+            for (long transferred = start; transferred < end; ) {
+                transferred += input.transferTo(transferred, end - transferred, output);
+            }
+
+            return height - from;
+        }
+    }
+
+    private static int read(final Path source, final BlockChain rules, final Consumer<Block> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            checkHeader(channel);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            Block previous = null;
+            Message lastMessage = null;
+            int height = 0;
+
+            while (channel.read(buffer) >= 0 || buffer.position() > 0) {
+                buffer.flip();
+
+                ByteBuffer frame;
+                while ((frame = Frames.nextFrame(buffer)) != null) {
+                    final Block block = decode(frame, height);
+                    if (!validate(rules, previous, lastMessage, block)) {
+                        throw new IOException("Invalid block at height " + height);
+                    }
+
+                    try {
+                        consumer.accept(block);
+                    } catch (IllegalStateException exception) {
+                        throw new IOException(exception.getMessage(), exception);
+                    }
+
+                    final List<Message> messages = block.getMessages();
+                    if (!messages.isEmpty()) lastMessage = messages.get(messages.size() - 1);
+                    previous = block;
+                    height++;
+                }
+
+                if (buffer.hasRemaining() && channel.position() == channel.size()) {
+                    throw new IOException("Truncated frame at height " + height);
+                }
+
+                final int required = Frames.requiredCapacity(buffer);
+                if (required > buffer.capacity()) {
+                    final ByteBuffer larger = ByteBuffer.allocateDirect(required);
+                    larger.put(buffer);
+                    buffer = larger;
+                } else {
+                    buffer.compact();
+                }
+            }
+
+            return height;
+        }
+    }
+
+    private static Block decode(final ByteBuffer frame, final int height) throws IOException {
+        try {
+            return Frames.decodeBlock(frame);
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Malformed block at height " + height, exception);
+        }
+    }
+
+    private static boolean validate(final BlockChain rules,
+                                    final Block previous,
+                                    final Message lastMessage,
+                                    final Block block) {
+
+        final boolean isValid = isNull(previous) ? rules.validateBlock(block) : rules.validateBlockPair(previous, block);
+        if (!isValid) return false;
+
+        final List<Message> messages = block.getMessages();
+        if (messages.isEmpty()) return true;
+
+        return (isNull(lastMessage) || rules.validateMessagePair(lastMessage, messages.get(0)))
+                && rules.validateMessages(messages)
+                && rules.validateSignatures(messages);
+    }
+
+    private static ByteBuffer header() {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        return header;
+    }
+
+    private static void checkHeader(final FileChannel channel) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && channel.read(header) >= 0) { }
+
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+            throw new IOException("Not a chain archive");
+        }
+
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported chain archive version: " + version);
+        }
+    }
+
+    private static int readLength(final FileChannel channel, final ByteBuffer length, final long position) throws IOException {
+        length.clear();
+        while (length.hasRemaining()) {
+            if (channel.read(length, position + length.position()) < 0) {
+                throw new IOException("Truncated frame length");
+            }
+        }
+
+        final int value = length.getInt(0);
+        if (value < 1 || value > Frames.MAX_FRAME_LENGTH) {
+            throw new IOException("Frame length out of range: " + value);
+        }
+
+        return value;
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
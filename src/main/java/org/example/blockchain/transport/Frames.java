@@ -0,0 +1,259 @@
+package org.example.blockchain.transport;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
+import org.example.blockchain.logic.message.scheme.SignatureScheme;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Encodes blocks and messages as binary frames that are sent between nodes, and decodes them back.
+ * <br>
+ * A frame starts with the length of the rest of the frame as an {@code int}, followed by a type byte
+ * and a payload. Strings and byte arrays are written as their length followed by their bytes,
+ * with a length of {@code -1} for {@code null}.
+ * <ul>
+ *     <li>{@link #BLOCK} - the id, timestamp, magic number, generation time, hash, previous hash, creator
+ *     and progress of a block, followed by the number of messages and the messages themselves;</li>
+ *     <li>{@link #MESSAGE} - the name of a signature scheme, the text, id, signature and X.509 encoded
+ *     public key of a message.</li>
+ * </ul>
+ * Messages are decoded as {@link SecureMessage}s, because senders and recipients of transactions
+ * are users of another node.
+ *
+ * @author Dominik Szmyt
+ * @see PeerTransport
+ * @since 1.1.0
+ */
+public final class Frames {
+
+    public static final byte BLOCK = 1;
+    public static final byte MESSAGE = 2;
+    public static final int MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    private Frames() { }
+
+    /**
+     * Encodes a block as a frame in a direct buffer, which is ready to be read.
+     * @param block A block that is to be encoded.
+     * @return A frame of the block.
+     */
+    public static ByteBuffer encode(final Block block) {
+        return encode(BLOCK, output -> writeBlock(output, block));
+    }
+
+    /**
+     * Encodes a message as a frame in a direct buffer, which is ready to be read.
+     * @param message A message that is to be encoded.
+     * @return A frame of the message.
+     */
+    public static ByteBuffer encode(final Message message) {
+        return encode(MESSAGE, output -> writeMessage(output, message));
+    }
+
+    /**
+     * Takes the next whole frame from a buffer that is ready to be read and moves the buffer's position past it.
+     * @param buffer A buffer with received bytes.
+     * @return The type and payload of the next frame or {@code null} if the buffer doesn't hold a whole frame yet.
+     * @throws IOException When the frame's length is out of range.
+     */
+    public static ByteBuffer nextFrame(final ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) return null;
+
+        final int length = buffer.getInt(buffer.position());
+        if (length < 1 || length > MAX_FRAME_LENGTH) {
+            throw new IOException("Frame length out of range: " + length);
+        }
+
+        if (buffer.remaining() < Integer.BYTES + length) return null;
+
+        final ByteBuffer frame = buffer.duplicate();
+        frame.position(buffer.position() + Integer.BYTES);
+        frame.limit(frame.position() + length);
+        buffer.position(frame.limit());
+
+        return frame.slice();
+    }
+
+    /**
+     * Tells how many bytes a buffer needs to hold the frame that starts at it's position.
+     * @param buffer A buffer with received bytes, which is ready to be read.
+     * @return The length of the whole frame or {@code 0} if it's not known yet.
+     */
+    public static int requiredCapacity(final ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) return 0;
+        return Integer.BYTES + Math.max(0, buffer.getInt(buffer.position()));
+    }
+
+    /**
+     * Decodes a block from a frame returned by {@link #nextFrame(ByteBuffer)}.
+     * @param frame A frame of the {@link #BLOCK} type.
+     * @return A decoded block.
+     * @throws IllegalArgumentException When the frame is not a block.
+     */
+    public static Block decodeBlock(final ByteBuffer frame) throws IllegalArgumentException {
+        checkType(frame, BLOCK);
+
+        final BlockBuilder builder = BlockBuilder.builder()
+                .withId(frame.getLong())
+                .withTimestamp(frame.getLong())
+                .withMagicNumber(frame.getInt())
+                .withGenerationTime(frame.getLong())
+                .withHash(readString(frame))
+                .withPreviousHash(readString(frame))
+                .withCreatedBy(frame.getLong())
+                .withNProgress(frame.getInt());
+
+        final int messagesCount = frame.getInt();
+        final List<Message> messages = new ArrayList<>(messagesCount);
+        for (int i = 0; i < messagesCount; i++) {
+            messages.add(readMessage(frame));
+        }
+
+        return builder.withMessages(messages).build();
+    }
+
+    /**
+     * Decodes a message from a frame returned by {@link #nextFrame(ByteBuffer)}.
+     * @param frame A frame of the {@link #MESSAGE} type.
+     * @return A decoded message, which wasn't verified yet.
+     * @throws IllegalArgumentException When the frame is not a message.
+     */
+    public static Message decodeMessage(final ByteBuffer frame) throws IllegalArgumentException {
+        checkType(frame, MESSAGE);
+        return readMessage(frame);
+    }
+
+    /**
+     * Returns the type of a frame returned by {@link #nextFrame(ByteBuffer)} without consuming it.
+     * @param frame A frame.
+     * @return The type of the frame.
+     */
+    public static byte typeOf(final ByteBuffer frame) {
+        return frame.get(frame.position());
+    }
+
+    private static void checkType(final ByteBuffer frame, final byte type) {
+        final byte actual = frame.get();
+        if (actual != type) {
+            throw new IllegalArgumentException("Unexpected frame type: " + actual);
+        }
+    }
+
+    private static ByteBuffer encode(final byte type, final Writer writer) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(0);
+            output.writeByte(type);
+            writer.write(output);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        final ByteBuffer frame = ByteBuffer.allocateDirect(bytes.size());
+        frame.put(bytes.toByteArray());
+        frame.putInt(0, bytes.size() - Integer.BYTES);
+        frame.flip();
+
+        return frame;
+    }
+
+    private static void writeBlock(final DataOutputStream output, final Block block) throws IOException {
+        output.writeLong(block.getId());
+        output.writeLong(block.getTimestamp());
+        output.writeInt(block.getMagicNumber());
+        output.writeLong(block.getGenerationTime());
+        writeString(output, block.getHash());
+        writeString(output, block.getPreviousHash());
+        output.writeLong(block.getCreatedBy());
+        output.writeInt(block.getNProgress());
+
+        final List<Message> messages = block.getMessages();
+        output.writeInt(messages.size());
+        for (final Message message : messages) {
+            writeMessage(output, message);
+        }
+    }
+
+    private static void writeMessage(final DataOutputStream output, final Message message) throws IOException {
+        Message unwrapped = message;
+        while (unwrapped instanceof Transaction) {
+            unwrapped = ((Transaction) unwrapped).getMessage();
+        }
+
+        SignatureScheme signatureScheme = SignatureSchemes.DSA;
+        byte[] signature = null;
+        byte[] publicKey = null;
+        if (unwrapped instanceof SecureMessage) {
+            final SecureMessage secureMessage = (SecureMessage) unwrapped;
+            signatureScheme = secureMessage.getSignatureScheme();
+            signature = secureMessage.getSignature();
+            publicKey = isNull(secureMessage.getPublicKey()) ? null : secureMessage.getPublicKey().getEncoded();
+        }
+
+        writeString(output, signatureScheme.getName());
+        writeString(output, message.getText());
+        output.writeInt(message.getId());
+        writeBytes(output, signature);
+        writeBytes(output, publicKey);
+    }
+
+    private static Message readMessage(final ByteBuffer frame) {
+        final SignatureScheme signatureScheme = SignatureSchemes.forName(readString(frame));
+        final String text = readString(frame);
+        final int id = frame.getInt();
+        final byte[] signature = readBytes(frame);
+        final byte[] encodedKey = readBytes(frame);
+        final PublicKey publicKey = isNull(encodedKey) ? null : signatureScheme.decodePublicKey(encodedKey);
+
+        return new SecureMessage(text, id, signature, publicKey, signatureScheme, false);
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        writeBytes(output, isNull(value) ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(final ByteBuffer frame) {
+        final byte[] bytes = readBytes(frame);
+        return isNull(bytes) ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(final DataOutputStream output, final byte[] value) throws IOException {
+        if (isNull(value)) {
+            output.writeInt(-1);
+            return;
+        }
+
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    private static byte[] readBytes(final ByteBuffer frame) {
+        final int length = frame.getInt();
+        if (length < 0) return null;
+
+        final byte[] bytes = new byte[length];
+        frame.get(bytes);
+        return bytes;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+
+        void write(DataOutputStream output) throws IOException;
+    }
+}
@@ -0,0 +1,378 @@
+package org.example.blockchain.transport;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Connects a {@link BlockChain} with blockchains of other processes over TCP.
+ * The transport announces each block accepted by the blockchain and each message added to it's queue
+ * to all connected peers, and puts blocks and messages received from peers into the blockchain.
+ * Blocks and messages that came from peers are not announced again, so each pair of nodes
+ * should be connected once, either way. Blockchains notify their listeners on the thread that puts a block
+ * or adds a message, so the transport recognizes it's own puts by the very block or message it's putting
+ * and doesn't need to remember hashes or ids of everything it has received.
+ * <br>
+ * All sockets are non-blocking and served by one selector thread. Blocks and messages are sent
+ * as {@link Frames} encoded once into direct buffers that are shared by all connections,
+ * while received frames are decoded by the selector thread and handed over to another thread,
+ * which puts them into the blockchain, so slow validation doesn't hold up the sockets.
+ * A peer that doesn't read it's frames is disconnected once more than {@value #MAX_QUEUED_BYTES} bytes
+ * are waiting to be sent to it.
+ *
+ * @author Dominik Szmyt
+ * @see Frames
+ * @since 1.1.0
+ */
+public class PeerTransport implements Closeable {
+
+    static final int MAX_QUEUED_BYTES = 16 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BlockChain blockChain;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService receiver = Executors.newSingleThreadExecutor();
+    private final Consumer<Block> blockListener = this::blockAccepted;
+    private final Consumer<Message> messageListener = this::messageAdded;
+    private final LongAdder sentFrames = new LongAdder();
+    private final LongAdder receivedFrames = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder receivedBytes = new LongAdder();
+    private final Thread selectorThread;
+    private volatile Object receiving;
+    private volatile boolean running;
+
+    /**
+     * Create a {@code PeerTransport} that listens for peers on the given address.
+     * Use {@code 0} as the port to listen on any free port, see {@link #getAddress()}.
+     * @param blockChain A blockchain that is to be connected with peers.
+     * @param address The address to listen on, e.g. a port of the localhost.
+     * @throws IllegalArgumentException When the blockchain or the address is not defined.
+     * @throws IOException When the address couldn't be bound.
+     */
+    public PeerTransport(final BlockChain blockChain, final InetSocketAddress address) throws IllegalArgumentException, IOException {
+        if (isNull(blockChain) || isNull(address)) {
+            throw new IllegalArgumentException("Blockchain and address should be defined");
+        }
+
+        this.blockChain = blockChain;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.configureBlocking(false);
+        server.bind(address);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        selectorThread = new Thread(this::select, "transport-" + getAddress().getPort());
+        selectorThread.setDaemon(true);
+    }
+
+    /**
+     * Starts serving sockets and announcing the blockchain's blocks and messages.
+     */
+    public void start() {
+        running = true;
+        blockChain.addBlockListener(blockListener);
+        blockChain.addMessageListener(messageListener);
+        selectorThread.start();
+    }
+
+    /**
+     * Connects to a peer, waiting until the connection is established.
+     * @param address The address of a peer.
+     * @throws IOException When the connection couldn't be established.
+     */
+    public void connect(final InetSocketAddress address) throws IOException {
+        final SocketChannel channel = SocketChannel.open(address);
+        channel.configureBlocking(false);
+        execute(() -> register(channel));
+    }
+
+    /**
+     * Sends a block to all connected peers.
+     * @param block A block that is to be sent.
+     */
+    public void broadcast(final Block block) {
+        broadcast(Frames.encode(block));
+    }
+
+    /**
+     * Sends a message to all connected peers.
+     * @param message A message that is to be sent.
+     */
+    public void broadcast(final Message message) {
+        broadcast(Frames.encode(message));
+    }
+
+    private void broadcast(final ByteBuffer frame) {
+        execute(() -> connections.forEach(connection -> connection.enqueue(frame.duplicate())));
+    }
+
+    private void blockAccepted(final Block block) {
+        if (receiving != block) {
+            broadcast(block);
+        }
+    }
+
+    private void messageAdded(final Message message) {
+        if (receiving != message) {
+            broadcast(message);
+        }
+    }
+
+    private void execute(final Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    private void select() {
+        while (running) {
+            try {
+                selector.select();
+            } catch (IOException exception) {
+                System.err.println("Transport stopped: " + exception.getMessage());
+                return;
+            }
+
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+
+            final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                final SelectionKey key = keys.next();
+                keys.remove();
+
+                try {
+                    if (key.isValid() && key.isAcceptable()) accept();
+                    if (key.isValid() && key.isReadable()) ((Connection) key.attachment()).read();
+                    if (key.isValid() && key.isWritable()) ((Connection) key.attachment()).write();
+                } catch (IOException | RuntimeException exception) {
+                    final Object attachment = key.attachment();
+                    if (attachment instanceof Connection) {
+                        ((Connection) attachment).close();
+                    }
+                }
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        final SocketChannel channel = server.accept();
+        if (isNull(channel)) return;
+
+        channel.configureBlocking(false);
+        register(channel);
+    }
+
+    private void register(final SocketChannel channel) {
+        try {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.add(connection);
+        } catch (IOException exception) {
+            System.err.println("Couldn't register a peer: " + exception.getMessage());
+        }
+    }
+
+    private void received(final ByteBuffer frame) {
+        receivedFrames.increment();
+
+        switch (Frames.typeOf(frame)) {
+            case Frames.BLOCK:
+                final Block block = Frames.decodeBlock(frame);
+                receiver.execute(() -> receive(block, () -> blockChain.putLast(block)));
+                break;
+            case Frames.MESSAGE:
+                final Message message = Frames.decodeMessage(frame);
+                receiver.execute(() -> receive(message, () -> blockChain.addMessage(message)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown frame type: " + Frames.typeOf(frame));
+        }
+    }
+
+    /**
+     * Puts a block or a message that came from a peer, remembering it until the blockchain is done with it,
+     * so listeners, which run on this thread, don't announce it back.
+     * Runs only on the receiver thread.
+     * @param received A received block or message.
+     * @param put An action that puts it into the blockchain.
+     */
+    private void receive(final Object received, final Runnable put) {
+        receiving = received;
+        try {
+            put.run();
+        } finally {
+            receiving = null;
+        }
+    }
+
+    /**
+     * Stops announcing blocks and messages, and closes all connections.
+     * @throws IOException When the selector or the server socket couldn't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        blockChain.removeBlockListener(blockListener);
+        blockChain.removeMessageListener(messageListener);
+
+        running = false;
+        selector.wakeup();
+        try {
+            if (selectorThread.isAlive()) {
+                selectorThread.join(TimeUnit.SECONDS.toMillis(5L));
+            }
+            receiver.shutdown();
+            receiver.awaitTermination(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        connections.forEach(Connection::close);
+        server.close();
+        selector.close();
+    }
+
+    /**
+     * Returns the address the transport listens on.
+     * @return The bound address.
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) server.socket().getLocalSocketAddress();
+    }
+
+    public BlockChain getBlockChain() {
+        return blockChain;
+    }
+
+    public int getConnections() {
+        return connections.size();
+    }
+
+    public long getSentFrames() {
+        return sentFrames.sum();
+    }
+
+    public long getReceivedFrames() {
+        return receivedFrames.sum();
+    }
+
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+    /**
+     * A connection with one peer, which is used only by the selector thread.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final Queue<ByteBuffer> outgoing = new ArrayDeque<>();
+        private ByteBuffer incoming = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private SelectionKey key;
+        private long queuedBytes;
+
+        private Connection(final SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void enqueue(final ByteBuffer frame) {
+            if (queuedBytes + frame.remaining() > MAX_QUEUED_BYTES) {
+                System.err.println("Disconnecting a peer that doesn't keep up: " + queuedBytes + " bytes queued");
+                close();
+                return;
+            }
+
+            outgoing.add(frame);
+            queuedBytes += frame.remaining();
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+
+        private void read() throws IOException {
+            final int read = channel.read(incoming);
+            if (read < 0) {
+                close();
+                return;
+            }
+
+            receivedBytes.add(read);
+            incoming.flip();
+
+            try {
+                ByteBuffer frame;
+                while ((frame = Frames.nextFrame(incoming)) != null) {
+                    received(frame);
+                }
+            } catch (BufferUnderflowException exception) {
+                throw new IOException("Malformed frame", exception);
+            }
+
+            final int required = Frames.requiredCapacity(incoming);
+            if (required > incoming.capacity()) {
+                final ByteBuffer larger = ByteBuffer.allocateDirect(required);
+                larger.put(incoming);
+                incoming = larger;
+            } else {
+                incoming.compact();
+            }
+        }
+
+        private void write() throws IOException {
+            while (!outgoing.isEmpty()) {
+                final ByteBuffer frame = outgoing.peek();
+                final int written = channel.write(frame);
+                sentBytes.add(written);
+                queuedBytes -= written;
+                if (frame.hasRemaining()) return;
+
+                outgoing.poll();
+                sentFrames.increment();
+            }
+
+            key.interestOps(SelectionKey.OP_READ);
+        }
+
+        private void close() {
+            connections.remove(this);
+            if (nonNull(key)) key.cancel();
+            try {
+                channel.close();
+            } catch (IOException exception) {
+                System.err.println("Couldn't close a connection: " + exception.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.blockchain.transport.http;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ChainSnapshot;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Finds blocks of a {@link BlockChain} by their hashes and by ids of their messages.
+ * <br>
+ * The index follows {@link BlockChain#getSnapshot()}: each lookup indexes blocks put since the previous one.
+ * When the blockchain switched to another chain, blocks after the last shared one are removed from the index
+ * before the new ones are added, so replaced blocks are not found anymore.
+ * <br>
+ * Lookups take a lock only when the blockchain has a snapshot that isn't indexed yet. Otherwise they read
+ * concurrent maps and the indexed snapshot, which is published after the maps are updated, and check
+ * that the found block is in that snapshot, so a lookup racing with a switch to another chain
+ * never returns a replaced block.
+ *
+ * @author Dominik Szmyt
+ * @see ChainHttpServer
+ * @since 1.1.0
+ */
+public class BlockIndex {
+
+    private final BlockChain blockChain;
+    private final Map<String, Integer> heightsByHash = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> heightsByMessageId = new ConcurrentHashMap<>();
+    private volatile ChainSnapshot indexed;
+
+    /**
+     * Create a {@code BlockIndex} of the given blockchain.
+     * @param blockChain A blockchain whose blocks are to be indexed.
+     * @throws IllegalArgumentException When the blockchain is not defined.
+     */
+    public BlockIndex(final BlockChain blockChain) throws IllegalArgumentException {
+        if (isNull(blockChain)) {
+            throw new IllegalArgumentException("Blockchain should be defined");
+        }
+
+        this.blockChain = blockChain;
+    }
+
+    /**
+     * Indexes blocks put into the blockchain since the last refresh.
+     * Doesn't take a lock when there are no such blocks.
+     * @return The snapshot of blocks that are indexed now.
+     */
+    public ChainSnapshot refresh() {
+        final ChainSnapshot current = indexed;
+        if (blockChain.getSnapshot() == current) return current;
+
+        synchronized (this) {
+            final ChainSnapshot latest = blockChain.getSnapshot();
+            if (latest == indexed) return latest;
+
+            final int indexedHeight = isNull(indexed) ? 0 : indexed.getHeight();
+            int common = Math.min(indexedHeight, latest.getHeight());
+            while (common > 0 && indexed.get(common - 1) != latest.get(common - 1)) {
+                common--;
+            }
+
+            for (int height = common; height < indexedHeight; height++) {
+                final Block block = indexed.get(height);
+                heightsByHash.remove(block.getHash());
+                for (final Message message : block.getMessages()) {
+                    heightsByMessageId.remove(message.getId());
+                }
+            }
+
+            for (int height = common; height < latest.getHeight(); height++) {
+                final Block block = latest.get(height);
+                heightsByHash.put(block.getHash(), height);
+                for (final Message message : block.getMessages()) {
+                    heightsByMessageId.put(message.getId(), height);
+                }
+            }
+
+            indexed = latest;
+            return latest;
+        }
+    }
+
+    /**
+     * Looks for a block with the given hash.
+     * @param hash The hash of a block.
+     * @return A block with the hash or {@code null} if the blockchain doesn't have it.
+     */
+    public Block findBlock(final String hash) {
+        if (isNull(hash)) return null;
+
+        final ChainSnapshot snapshot = refresh();
+        final Block block = blockAt(snapshot, heightsByHash.get(hash));
+        return nonNull(block) && hash.equals(block.getHash()) ? block : null;
+    }
+
+    /**
+     * Looks for a block that contains a message with the given id.
+     * @param messageId The id of a message.
+     * @return A block with the message or {@code null} if the blockchain doesn't have it.
+     */
+    public Block findBlockOfMessage(final int messageId) {
+        final ChainSnapshot snapshot = refresh();
+        final Block block = blockAt(snapshot, heightsByMessageId.get(messageId));
+        if (isNull(block)) return null;
+
+        for (final Message message : block.getMessages()) {
+            if (message.getId() == messageId) return block;
+        }
+
+        return null;
+    }
+
+    public int size() {
+        return heightsByHash.size();
+    }
+
+    private static Block blockAt(final ChainSnapshot snapshot, final Integer height) {
+        return isNull(height) || isNull(snapshot) || height >= snapshot.getHeight() ? null : snapshot.get(height);
+    }
+}
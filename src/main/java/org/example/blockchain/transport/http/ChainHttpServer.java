@@ -0,0 +1,289 @@
+package org.example.blockchain.transport.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ChainSnapshot;
+import org.example.blockchain.logic.LruCache;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.query.BlockQuery;
+import org.example.blockchain.logic.query.builder.BlockQueryBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Serves a read-only view of a {@link BlockChain} over HTTP as JSON, e.g. for dashboards:
+ * <ul>
+ *     <li>{@code GET /height} - the number of blocks and the hash of the last one;</li>
+ *     <li>{@code GET /blocks?count=<n>} - headers of the last {@code n} blocks, newest first,
+ *     {@value #DEFAULT_COUNT} by default and at most {@value #MAX_COUNT};</li>
+ *     <li>{@code GET /blocks/<hash>} - a block with it's messages;</li>
+ *     <li>{@code GET /transactions/<id>} - a message and the block that includes it.</li>
+ * </ul>
+ * Blocks are looked up in a {@link BlockIndex} and read from snapshots, so requests never lock the blockchain.
+ * <br>
+ * Rendered responses are kept in a {@link LruCache}. A block never changes, so it's response is cached
+ * by the block's hash, has the hash as it's entity tag and may be cached by clients for good.
+ * It's only served while the block belongs to the blockchain, i.e. until the blockchain switches to another chain.
+ * Other responses depend on the last block, so they are cached together with it's hash, have tags
+ * derived from it and have to be revalidated by clients. A request with an {@code If-None-Match} header
+ * that matches the tag of a response is answered with {@code 304 Not Modified} and no body.
+ * <br>
+ * The JDK's server writes headers and the body of a response separately, so unless the JVM is started
+ * with {@code -D}{@value #NODELAY_PROPERTY}{@code =true}, each body waits for the client's delayed acknowledgement,
+ * i.e. about 40 ms for each request. The property is read once, before the first server of the JVM is created,
+ * so the server doesn't set it itself, see {@link org.example.blockchain.NodeStarter}.
+ *
+ * @author Dominik Szmyt
+ * @see BlockIndex
+ * @see LruCache
+ * @since 1.1.0
+ */
+public class ChainHttpServer implements Closeable {
+
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+    public static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    static final int DEFAULT_COUNT = 10;
+    static final int MAX_COUNT = 100;
+
+    private final BlockIndex index;
+    private final LruCache<String, Response> cache;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    /**
+     * Create a {@code ChainHttpServer} that listens on the given address,
+     * with a cache of {@value #DEFAULT_CACHE_SIZE} responses and one thread for each available processor.
+     * @param blockChain A blockchain that is to be served.
+     * @param address The address to listen on, e.g. a port of the localhost.
+     * @throws IllegalArgumentException When the blockchain or the address is not defined.
+     * @throws IOException When the address couldn't be bound.
+     */
+    public ChainHttpServer(final BlockChain blockChain, final InetSocketAddress address) throws IllegalArgumentException, IOException {
+        this(blockChain, address, DEFAULT_CACHE_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a {@code ChainHttpServer} that listens on the given address.
+     * Use {@code 0} as the port to listen on any free port, see {@link #getAddress()}.
+     * @param blockChain A blockchain that is to be served.
+     * @param address The address to listen on, e.g. a port of the localhost.
+     * @param cacheSize The maximum number of cached responses.
+     * @param threads The number of threads that handle requests.
+     * @throws IllegalArgumentException When the blockchain or the address is not defined,
+     *                                  or the cache size or the number of threads is not positive.
+     * @throws IOException When the address couldn't be bound.
+     */
+    public ChainHttpServer(final BlockChain blockChain,
+                           final InetSocketAddress address,
+                           final int cacheSize,
+                           final int threads) throws IllegalArgumentException, IOException {
+
+        if (isNull(blockChain) || isNull(address) || cacheSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("Blockchain and address should be defined and cache size and threads should be positive");
+        }
+
+        this.index = new BlockIndex(blockChain);
+        this.cache = new LruCache<>(cacheSize);
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(address, 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Starts serving requests in the background.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops serving requests and waits at most a second for requests that are being answered.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requests.increment();
+        try {
+            // Responses without a body are finished before the exchange is closed,
+            // so the request has to be read by then, or the server closes the connection.
+            exchange.getRequestBody().close();
+
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                send(exchange, Response.error(405, "Only GET is allowed"));
+                return;
+            }
+
+            final Response response = respond(exchange.getRequestURI().getPath(), exchange.getRequestURI().getRawQuery());
+            if (response.isNotModified(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.increment();
+                setCacheHeaders(exchange.getResponseHeaders(), response);
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Renders a response to a request, or takes it from the cache.
+     * @param path The path of a request.
+     * @param query The query of a request or {@code null}.
+     * @return A response to the request.
+     */
+    Response respond(final String path, final String query) {
+        final ChainSnapshot snapshot = index.refresh();
+
+        final boolean isBlock = path.startsWith("/blocks/");
+        final Block last = snapshot.getLast();
+        final String key = isBlock ? path : path + "?" + query + "@" + (isNull(last) ? "" : last.getHash());
+
+        final Response cached = cache.get(key);
+        if (nonNull(cached) && (!isBlock || nonNull(index.findBlock(path.substring("/blocks/".length()))))) {
+            return cached;
+        }
+
+        final Response response = render(snapshot, path, query);
+        if (response.getStatus() == 200) {
+            cache.put(key, response);
+        }
+
+        return response;
+    }
+
+    private Response render(final ChainSnapshot snapshot, final String path, final String query) {
+        final Block last = snapshot.getLast();
+        final String tip = isNull(last) ? "0" : last.getHash();
+
+        if ("/height".equals(path)) {
+            return Response.json(tag(tip), Response.REVALIDATE, Json.height(snapshot.getHeight(), last));
+        }
+
+        if ("/blocks".equals(path)) {
+            final int count = parseCount(query);
+            if (count < 1) return Response.error(400, "Count should be between 1 and " + MAX_COUNT);
+
+            final BlockQuery recent = BlockQueryBuilder.builder()
+                    .withFromHeight(Math.max(0, snapshot.getHeight() - count))
+                    .withDescending(true)
+                    .build();
+            return Response.json(tag(tip + "-" + count), Response.REVALIDATE,
+                    Json.blocks(snapshot.page(recent, count).getBlocks()));
+        }
+
+        if (path.startsWith("/blocks/")) {
+            final String hash = path.substring("/blocks/".length());
+            final Block block = index.findBlock(hash);
+            if (isNull(block)) return Response.error(404, "Block not found");
+
+            return Response.json(tag(hash), Response.IMMUTABLE, Json.block(block));
+        }
+
+        if (path.startsWith("/transactions/")) {
+            final int id;
+            try {
+                id = Integer.parseInt(path.substring("/transactions/".length()));
+            } catch (NumberFormatException exception) {
+                return Response.error(400, "Transaction id should be a number");
+            }
+
+            final Block block = index.findBlockOfMessage(id);
+            if (!isNull(block)) {
+                for (final Message message : block.getMessages()) {
+                    if (message.getId() == id) {
+                        return Response.json(tag(block.getHash() + "-" + id), Response.REVALIDATE,
+                                Json.transaction(block, message));
+                    }
+                }
+            }
+
+            return Response.error(404, "Transaction not found");
+        }
+
+        return Response.error(404, "Not found");
+    }
+
+    private static int parseCount(final String query) {
+        if (isNull(query)) return DEFAULT_COUNT;
+
+        for (final String parameter : query.split("&")) {
+            if (parameter.startsWith("count=")) {
+                try {
+                    final int count = Integer.parseInt(parameter.substring("count=".length()));
+                    return count > MAX_COUNT ? -1 : count;
+                } catch (NumberFormatException exception) {
+                    return -1;
+                }
+            }
+        }
+
+        return DEFAULT_COUNT;
+    }
+
+    private static String tag(final String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static void setCacheHeaders(final Headers headers, final Response response) {
+        if (!isNull(response.getEtag())) {
+            headers.set("ETag", response.getEtag());
+        }
+        headers.set("Cache-Control", response.getCacheControl());
+    }
+
+    private static void send(final HttpExchange exchange, final Response response) throws IOException {
+        final Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        setCacheHeaders(headers, response);
+
+        final byte[] body = response.body();
+        exchange.sendResponseHeaders(response.getStatus(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    public LruCache<String, Response> getCache() {
+        return cache;
+    }
+
+    public BlockIndex getIndex() {
+        return index;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getNotModified() {
+        return notModified.sum();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.blockchain.transport.http;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Transaction;
+import org.example.blockchain.logic.users.AbstractUser;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Writes blocks and messages as JSON documents served by the {@link ChainHttpServer}.
+ */
+final class Json {
+
+    private Json() { }
+
+    static String height(final int height, final Block last) {
+        return "{\"height\":" + height + ",\"hash\":" + quote(isNull(last) ? null : last.getHash()) + "}";
+    }
+
+    static String blocks(final List<Block> blocks) {
+        final StringBuilder json = new StringBuilder(256 * blocks.size() + 2).append('[');
+        for (int i = 0; i < blocks.size(); i++) {
+            if (i > 0) json.append(',');
+            header(json, blocks.get(i)).append(",\"messages\":").append(blocks.get(i).getMessages().size()).append('}');
+        }
+
+        return json.append(']').toString();
+    }
+
+    static String block(final Block block) {
+        final StringBuilder json = header(new StringBuilder(512), block).append(",\"messages\":[");
+        final List<Message> messages = block.getMessages();
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) json.append(',');
+            message(json, messages.get(i));
+        }
+
+        return json.append("]}").toString();
+    }
+
+    static String transaction(final Block block, final Message message) {
+        final StringBuilder json = new StringBuilder(256)
+                .append("{\"blockId\":").append(block.getId())
+                .append(",\"blockHash\":").append(quote(block.getHash()))
+                .append(",\"message\":");
+
+        return message(json, message).append('}').toString();
+    }
+
+    static String quote(final String value) {
+        if (isNull(value)) return "null";
+
+        final StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        json.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        json.append(character);
+                    }
+            }
+        }
+
+        return json.append('"').toString();
+    }
+
+    private static StringBuilder header(final StringBuilder json, final Block block) {
+        return json.append("{\"id\":").append(block.getId())
+                .append(",\"hash\":").append(quote(block.getHash()))
+                .append(",\"previousHash\":").append(quote(block.getPreviousHash()))
+                .append(",\"timestamp\":").append(block.getTimestamp())
+                .append(",\"createdBy\":").append(block.getCreatedBy())
+                .append(",\"magicNumber\":").append(block.getMagicNumber())
+                .append(",\"generationTime\":").append(block.getGenerationTime())
+                .append(",\"nProgress\":").append(block.getNProgress());
+    }
+
+    private static StringBuilder message(final StringBuilder json, final Message message) {
+        json.append("{\"id\":").append(message.getId())
+                .append(",\"text\":").append(quote(message.getText()));
+
+        if (message instanceof Transaction) {
+            final Transaction transaction = (Transaction) message;
+            json.append(",\"from\":").append(quote(nameOf(transaction.getFrom())))
+                    .append(",\"to\":").append(quote(nameOf(transaction.getTo())))
+                    .append(",\"amount\":").append(transaction.getAmount());
+        }
+
+        return json.append('}');
+    }
+
+    private static String nameOf(final AbstractUser user) {
+        return isNull(user) ? null : user.getName();
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.blockchain.transport.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+/**
+ * A rendered response of a {@link ChainHttpServer}: a status, a JSON body and headers that let clients
+ * revalidate it with {@code If-None-Match}. Responses are immutable, so one response can be cached
+ * and sent to many clients at once.
+ *
+ * @author Dominik Szmyt
+ * @see ChainHttpServer#getCache()
+ * @since 1.1.0
+ */
+public final class Response {
+
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    static final String REVALIDATE = "no-cache";
+
+    private final int status;
+    private final String etag;
+    private final String cacheControl;
+    private final byte[] body;
+
+    /**
+     * Create a {@code Response} with all necessary fields.
+     * @param status The HTTP status code.
+     * @param etag The entity tag of the body, in quotes, or {@code null} if the response can't be revalidated.
+     * @param cacheControl The value of the {@code Cache-Control} header.
+     * @param body A JSON body.
+     */
+    public Response(final int status, final String etag, final String cacheControl, final String body) {
+        this.status = status;
+        this.etag = etag;
+        this.cacheControl = cacheControl;
+        this.body = isNull(body) ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Response json(final String etag, final String cacheControl, final String body) {
+        return new Response(200, etag, cacheControl, body);
+    }
+
+    static Response error(final int status, final String message) {
+        return new Response(status, null, REVALIDATE, "{\"error\":" + Json.quote(message) + "}");
+    }
+
+    /**
+     * Checks whether the client already has this response, i.e. whether any of the tags
+     * of an {@code If-None-Match} header is the response's tag.
+     * @param ifNoneMatch The value of an {@code If-None-Match} header or {@code null}.
+     * @return {@code true} if the response wasn't modified, otherwise {@code false}.
+     */
+    public boolean isNotModified(final String ifNoneMatch) {
+        if (isNull(etag) || isNull(ifNoneMatch)) return false;
+
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "Status: " + status + "\n" +
+                "ETag: " + etag + "\n" +
+                "Cache-Control: " + cacheControl + "\n" +
+                "Body bytes: " + body.length + "\n";
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+    public byte[] getBody() {
+        return Arrays.copyOf(body, body.length);
+    }
+
+    byte[] body() {
+        return body;
+    }
+}
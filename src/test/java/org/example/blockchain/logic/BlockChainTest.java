@@ -4,6 +4,8 @@ import org.example.blockchain.logic.block.Block;
 import org.example.blockchain.logic.block.Blocks;
 import org.example.blockchain.logic.block.builder.BlockBuilder;
 import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,8 +16,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.*;
 
 public class BlockChainTest {
@@ -284,6 +288,59 @@ public class BlockChainTest {
         verify(message, times(1)).getId();
     }
 
+    //########################################################//
+    //                                                        //
+    //             Test 'validateSignatures' method           //
+    //                                                        //
+    //########################################################//
+
+    @Test
+    public void should_return_true_when_validating_signatures_of_messages_without_signature() {
+
+        // given
+        final Message message = mock(Message.class);
+
+        // when
+        final boolean actual = subject.validateSignatures(Collections.singletonList(message));
+
+        // then
+        assertThat(actual).isTrue();
+        verifyNoInteractions(message);
+    }
+
+    @Test
+    public void should_return_false_when_validating_messages_with_invalid_signature() {
+
+        // given
+        final SecureMessage message = mock(SecureMessage.class);
+        doReturn(false).when(message).verify();
+
+        final Transaction transaction = mock(Transaction.class);
+        doReturn(message).when(transaction).getMessage();
+
+        // when
+        final boolean actual = subject.validateSignatures(Arrays.asList(mock(Message.class), transaction));
+
+        // then
+        assertThat(actual).isFalse();
+        verify(message, times(1)).verify();
+    }
+
+    @Test
+    public void should_return_true_when_validating_messages_with_valid_signatures() {
+
+        // given
+        final SecureMessage message = mock(SecureMessage.class);
+        doReturn(true).when(message).verify();
+
+        // when
+        final boolean actual = subject.validateSignatures(Arrays.asList(message, message));
+
+        // then
+        assertThat(actual).isTrue();
+        verify(message, times(2)).verify();
+    }
+
     //########################################################//
     //                                                        //
     //               Test 'validateBlocks' method             //
@@ -453,6 +510,34 @@ public class BlockChainTest {
         verify(message, times(1)).getId();
     }
 
+    @Test
+    public void should_verify_signatures_only_once_when_validating_the_same_blocks_again() {
+
+        // given
+        final SecureMessage message = mock(SecureMessage.class);
+        doReturn(1).when(message).getId();
+        doReturn(true).when(message).verify();
+
+        final String prevHash = Blocks.applySha256(1L + 1L + "0" + 1L + -1);
+        final Block prevBlock = getBlock().build();
+        final Block block = getBlock()
+                .withPreviousHash(prevHash)
+                .withHash(Blocks.applySha256(1L + 1L + prevHash + 1L + -1))
+                .withMessages(Collections.singletonList(message))
+                .build();
+
+        // when
+        final boolean first = subject.validateBlocks(Arrays.asList(prevBlock, block));
+        final boolean second = subject.validateBlocks(Arrays.asList(prevBlock, block));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(message, times(1)).verify();
+        assertThat(subject.getSignatureCache().getHits()).isOne();
+        assertThat(subject.getSignatureCache().getMisses()).isOne();
+    }
+
     //########################################################//
     //                                                        //
     //     Test 'putLast' method without 'generationTime'     //
@@ -650,6 +735,66 @@ public class BlockChainTest {
         assertThat(block.getNProgress()).isZero();
     }
 
+    @Test
+    public void should_not_increase_number_of_zeros_above_maximum()
+            throws NoSuchFieldException, IllegalAccessException {
+
+        // given
+        final Block block = spy(getBlock()
+                .withHash(Blocks.applySha256(1L + 1L + "0" + 1L + 876285186))
+                .withMagicNumber(876285186)
+                .build());
+
+        final Field field = BlockChain.class.getDeclaredField("numberOfZeros");
+        field.setAccessible(true);
+        field.set(subject, 2);
+        subject.setNumberOfZerosBounds(1, 2);
+
+        // when
+        final boolean actual = subject.putLast(block, 29);
+
+        // then
+        assertThat(actual).isTrue();
+        verify(block, times(1)).setNProgress(2);
+        assertThat(subject.getNumberOfZeros()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_decrease_number_of_zeros_below_minimum()
+            throws NoSuchFieldException, IllegalAccessException {
+
+        // given
+        final Block block = spy(getBlock()
+                .withHash(Blocks.applySha256(1L + 1L + "0" + 1L + 2114227617))
+                .withMagicNumber(2114227617)
+                .build());
+
+        final Field field = BlockChain.class.getDeclaredField("numberOfZeros");
+        field.setAccessible(true);
+        field.set(subject, 1);
+        subject.setNumberOfZerosBounds(1, 2);
+
+        // when
+        final boolean actual = subject.putLast(block, 30);
+
+        // then
+        assertThat(actual).isTrue();
+        verify(block, never()).setNProgress(anyInt());
+        assertThat(subject.getNumberOfZeros()).isOne();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_number_of_zeros_bounds_are_invalid() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.setNumberOfZerosBounds(3, 2)
+        ).withMessage("Minimum number of zeros should not be negative nor greater than maximum");
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.setNumberOfZerosBounds(-1, 2)
+        ).withMessage("Minimum number of zeros should not be negative nor greater than maximum");
+    }
+
     //########################################################//
     //                                                        //
     //                Test 'addMessage' method                //
@@ -679,7 +824,9 @@ public class BlockChainTest {
         // then
         assertThat(actual).isTrue();
         assertThat(subject.getMessages()).containsOnly(message);
-        verifyNoInteractions(message);
+        assertThat(subject.getInclusionLatency().getPending()).isOne();
+        verify(message, times(1)).getId();
+        verifyNoMoreInteractions(message);
     }
 
     @ParameterizedTest
@@ -729,8 +876,29 @@ public class BlockChainTest {
         // then
         assertThat(actual).isTrue();
         assertThat(subject.getMessages()).containsExactly(prevMessage, message);
+        assertThat(subject.getInclusionLatency().getPending()).isOne();
         verify(prevMessage, times(1)).getId();
-        verify(message, times(1)).getId();
+        verify(message, times(2)).getId();
+    }
+
+    @Test
+    public void should_record_inclusion_latency_when_block_with_added_message_is_put() {
+
+        // given
+        final Message message = mock(Message.class);
+        doReturn(1).when(message).getId();
+        subject.addMessage(message);
+
+        final Block block = spy(getBlock().withMessages(new ArrayList<>(Collections.singletonList(message))).build());
+
+        // when
+        final boolean actual = subject.putLast(block);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(subject.getMessages()).isEmpty();
+        assertThat(subject.getInclusionLatency().getPending()).isZero();
+        assertThat(subject.getInclusionLatency().getHistogram().getCount()).isOne();
     }
 
     //########################################################//
@@ -769,6 +937,262 @@ public class BlockChainTest {
         verify(identifierStream, times(1)).getNext();
     }
 
+    //########################################################//
+    //                                                        //
+    //                 Test 'switchTo' method                 //
+    //                                                        //
+    //########################################################//
+
+    @Test
+    public void should_switch_to_longer_chain_with_common_first_block() {
+
+        // given
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block ours = Blocks.mineBlock(first, new ArrayList<>(), 2L, 1L);
+        final Block theirs = Blocks.mineBlock(first, new ArrayList<>(), 2L, 2L);
+        final Block next = Blocks.mineBlock(theirs, new ArrayList<>(), 3L, 2L);
+        subject.putLast(first);
+        subject.putLast(ours);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, theirs, next));
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(subject.getBlocks()).containsExactly(first, theirs, next);
+        assertThat(subject.getMetrics().getAcceptedBlocks()).isEqualTo(4L);
+    }
+
+    @Test
+    public void should_not_switch_to_chain_that_is_not_longer() {
+
+        // given
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block ours = Blocks.mineBlock(first, new ArrayList<>(), 2L, 1L);
+        final Block theirs = Blocks.mineBlock(first, new ArrayList<>(), 2L, 2L);
+        subject.putLast(first);
+        subject.putLast(ours);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, theirs));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getBlocks()).containsExactly(first, ours);
+    }
+
+    @Test
+    public void should_not_switch_to_chain_with_invalid_block() {
+
+        // given
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block theirs = Blocks.mineBlock(first, new ArrayList<>(), 2L, 2L);
+        final Block invalid = getBlock().withId(3L).withPreviousHash(theirs.getHash()).build();
+        subject.putLast(first);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, theirs, invalid));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getBlocks()).containsExactly(first);
+    }
+
+    @Test
+    public void should_remove_messages_of_replacing_blocks_from_queue() {
+
+        // given
+        final SecureMessage included = mock(SecureMessage.class);
+        doReturn(1).when(included).getId();
+        doReturn(true).when(included).verify();
+        final Message waiting = new SecureMessage("General Kenobi!", 2, null, null, false);
+        subject.addMessage(included);
+        subject.addMessage(waiting);
+
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block theirs = Blocks.mineBlock(first, Collections.singletonList(included), 2L, 2L);
+        subject.putLast(first);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, theirs));
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(subject.getMessages()).containsExactly(waiting);
+        assertThat(subject.getInclusionLatency().getPending()).isOne();
+    }
+
+    @Test
+    public void should_not_switch_to_chain_with_another_first_block() {
+
+        // given
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block another = Blocks.mineBlock(null, new ArrayList<>(), 1L, 2L);
+        final Block next = Blocks.mineBlock(another, new ArrayList<>(), 2L, 2L);
+        subject.putLast(first);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(another, next));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getBlocks()).containsExactly(first);
+    }
+
+    @Test
+    public void should_not_switch_to_chain_with_not_enough_zeros() {
+
+        // given
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block theirs = Blocks.mineBlock(first, new ArrayList<>(), 2L, 2L);
+        final Block next = Blocks.mineBlock(theirs, new ArrayList<>(), 3L, 2L);
+        theirs.setNProgress(next.getHash().startsWith("0") ? 8 : 1);
+        subject.putLast(first);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, theirs, next));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getBlocks()).containsExactly(first);
+    }
+
+    @Test
+    public void should_not_switch_to_chain_with_messages_before_messages_of_shared_blocks() {
+
+        // given
+        final Message shared = new SecureMessage("Hello there!", 5, null, null, false);
+        final SecureMessage earlier = mock(SecureMessage.class);
+        doReturn(3).when(earlier).getId();
+        doReturn(true).when(earlier).verify();
+
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block second = Blocks.mineBlock(first, Collections.singletonList(shared), 2L, 1L);
+        final Block theirs = Blocks.mineBlock(second, Collections.singletonList(earlier), 3L, 2L);
+        subject.putLast(first);
+        subject.putLast(second);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, second, theirs));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getBlocks()).containsExactly(first, second);
+    }
+
+    @Test
+    public void should_not_switch_to_chain_with_invalid_signature() {
+
+        // given
+        final SecureMessage forged = mock(SecureMessage.class);
+        doReturn(1).when(forged).getId();
+        doReturn(false).when(forged).verify();
+
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block theirs = Blocks.mineBlock(first, Collections.singletonList(forged), 2L, 2L);
+        subject.putLast(first);
+
+        // when
+        final boolean actual = subject.switchTo(Arrays.asList(first, theirs));
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getBlocks()).containsExactly(first);
+    }
+
+    @Test
+    public void should_notify_listeners_of_replacing_blocks() {
+
+        // given
+        final List<Block> accepted = new ArrayList<>();
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block ours = Blocks.mineBlock(first, new ArrayList<>(), 2L, 1L);
+        final Block theirs = Blocks.mineBlock(first, new ArrayList<>(), 2L, 2L);
+        final Block next = Blocks.mineBlock(theirs, new ArrayList<>(), 3L, 2L);
+        subject.putLast(first);
+        subject.putLast(ours);
+        subject.addBlockListener(accepted::add);
+
+        // when
+        subject.switchTo(Arrays.asList(first, theirs, next));
+
+        // then
+        assertThat(accepted).containsExactly(theirs, next);
+    }
+
+    //########################################################//
+    //                                                        //
+    //                Test block listeners                    //
+    //                                                        //
+    //########################################################//
+
+    @Test
+    public void should_notify_listeners_only_of_accepted_blocks() {
+
+        // given
+        final List<Block> accepted = new ArrayList<>();
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block second = Blocks.mineBlock(first, new ArrayList<>(), 2L, 1L);
+        subject.addBlockListener(accepted::add);
+
+        // when
+        subject.putLast(first);
+        subject.putLast(first);
+        subject.putLast(second);
+
+        // then
+        assertThat(accepted).containsExactly(first, second);
+    }
+
+    @Test
+    public void should_not_notify_removed_listeners() {
+
+        // given
+        final List<Block> accepted = new ArrayList<>();
+        final Consumer<Block> listener = accepted::add;
+        subject.addBlockListener(listener);
+        subject.removeBlockListener(listener);
+
+        // when
+        subject.putLast(Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L));
+
+        // then
+        assertThat(accepted).isEmpty();
+    }
+
+    @Test
+    public void should_notify_listeners_only_of_added_messages() {
+
+        // given
+        final List<Message> added = new ArrayList<>();
+        final Message first = new SecureMessage("Hello there!", 2, null, null, false);
+        final Message unordered = new SecureMessage("General Kenobi!", 1, null, null, false);
+        subject.addMessageListener(added::add);
+
+        // when
+        subject.addMessage(first);
+        subject.addMessage(unordered);
+
+        // then
+        assertThat(added).containsExactly(first);
+    }
+
+    @Test
+    public void should_create_independent_blockchains() {
+
+        // given
+        final BlockChain other = new BlockChain();
+
+        // when
+        subject.putLast(Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L));
+        subject.addMessage(new SecureMessage("Hello there!", 1, null, null, false));
+
+        // then
+        assertThat(other).isNotSameAs(BlockChain.getInstance());
+        assertThat(other.getBlocks()).isEmpty();
+        assertThat(other.getMessages()).isEmpty();
+    }
+
     private void verifyBlockWasValidated(final Block block, final int times) {
         verify(block, times(times)).getId();
         verify(block, times(times)).getTimestamp();
@@ -0,0 +1,200 @@
+package org.example.blockchain.logic;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
+import org.example.blockchain.logic.query.BlockPage;
+import org.example.blockchain.logic.query.BlockQuery;
+import org.example.blockchain.logic.query.builder.BlockQueryBuilder;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChainSnapshotTest {
+
+    private final AbstractUser alice = user("Alice");
+    private final AbstractUser bob = user("Bob");
+    private BlockChain blockChain;
+
+    @BeforeEach
+    public void setUp() {
+        blockChain = new BlockChain();
+
+        Block block = Blocks.mineBlock(null, new ArrayList<>(), 0L, 0L);
+        blockChain.putLast(block);
+        for (int i = 1; i < 40; i++) {
+            final List<Message> messages = i % 10 == 0
+                    ? List.of(new Transaction(new SecureMessage("Transfer", i, null, null, false), alice, bob, 5L))
+                    : new ArrayList<>();
+            block = Blocks.mineBlock(block, messages, i * 100L, i % 4);
+            blockChain.putLast(block);
+        }
+    }
+
+    @Test
+    public void should_not_see_blocks_put_after_it_was_taken() {
+
+        // given
+        final ChainSnapshot subject = blockChain.getSnapshot();
+
+        // when
+        blockChain.putLast(Blocks.mineBlock(blockChain.getLast(), new ArrayList<>(), 4000L, 1L));
+
+        // then
+        assertThat(subject.getHeight()).isEqualTo(40);
+        assertThat(subject.stream()).hasSize(40);
+        assertThat(blockChain.getSnapshot().getHeight()).isEqualTo(41);
+        assertThat(blockChain.getSnapshot().getLast()).isSameAs(blockChain.getLast());
+    }
+
+    @Test
+    public void should_keep_replaced_blocks_after_switch() {
+
+        // given
+        final ChainSnapshot subject = blockChain.getSnapshot();
+        final Block replaced = subject.get(39);
+        final List<Block> chain = new ArrayList<>(blockChain.getBlocks().subList(0, 39));
+        Block block = chain.get(38);
+        for (int i = 0; i < 3; i++) {
+            block = Blocks.mineBlock(block, new ArrayList<>(), 5000L + i, 9L);
+            chain.add(block);
+        }
+
+        // when
+        final boolean switched = blockChain.switchTo(chain);
+
+        // then
+        assertThat(switched).isTrue();
+        assertThat(subject.get(39)).isSameAs(replaced);
+        assertThat(subject.getHeight()).isEqualTo(40);
+
+        final ChainSnapshot actual = blockChain.getSnapshot();
+        assertThat(actual.getHeight()).isEqualTo(42);
+        assertThat(actual.stream().map(Block::getHash).collect(Collectors.toList()))
+                .containsExactlyElementsOf(blockChain.getBlocks().stream().map(Block::getHash).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_stream_blocks_that_match_query() {
+
+        // given
+        final ChainSnapshot subject = blockChain.getSnapshot();
+
+        // when
+        final List<Block> byCreator = subject.stream(BlockQueryBuilder.builder()
+                .withCreatedBy(2L)
+                .withFromHeight(10)
+                .withToHeight(20)
+                .build()).collect(Collectors.toList());
+        final List<Block> byTime = subject.stream(BlockQueryBuilder.builder()
+                .withFromTimestamp(1000L)
+                .withToTimestamp(1300L)
+                .withDescending(true)
+                .build()).collect(Collectors.toList());
+        final List<Block> byParticipant = subject.stream(BlockQueryBuilder.builder()
+                .withParticipant("Bob")
+                .build()).collect(Collectors.toList());
+
+        // then
+        assertThat(byCreator).extracting(Block::getTimestamp).containsExactly(1000L, 1400L, 1800L);
+        assertThat(byTime).extracting(Block::getTimestamp).containsExactly(1200L, 1100L, 1000L);
+        assertThat(byParticipant).extracting(Block::getTimestamp).containsExactly(1000L, 2000L, 3000L);
+        assertThat(subject.stream(BlockQueryBuilder.builder().withParticipant("Carol").build())).isEmpty();
+    }
+
+    @Test
+    public void should_page_through_matching_blocks() {
+
+        // given
+        final ChainSnapshot subject = blockChain.getSnapshot();
+        final BlockQuery query = BlockQueryBuilder.builder()
+                .withCreatedBy(1L)
+                .withDescending(true)
+                .build();
+
+        // when
+        final List<Block> actual = new ArrayList<>();
+        BlockPage page = subject.page(query, 3);
+        int pages = 1;
+        actual.addAll(page.getBlocks());
+        while (page.hasNext()) {
+            page = subject.page(query, page.getNextHeight(), 3);
+            actual.addAll(page.getBlocks());
+            pages++;
+        }
+
+        // then
+        assertThat(pages).isEqualTo(4);
+        assertThat(actual).containsExactlyElementsOf(subject.stream(query).collect(Collectors.toList()));
+        assertThat(actual).hasSize(10);
+        assertThat(actual.get(0).getTimestamp()).isEqualTo(3700L);
+    }
+
+    @Test
+    public void should_read_consistent_snapshots_while_blocks_are_put() throws InterruptedException {
+
+        // given
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            while (!done.get() && failure.get() == null) {
+                final ChainSnapshot snapshot = blockChain.getSnapshot();
+                final List<Block> blocks = snapshot.stream().collect(Collectors.toList());
+                for (int i = 1; i < blocks.size(); i++) {
+                    if (!blocks.get(i).getPreviousHash().equals(blocks.get(i - 1).getHash())) {
+                        failure.set("Inconsistent snapshot of " + snapshot.getHeight() + " blocks");
+                    }
+                }
+                if (blocks.size() != snapshot.getHeight()) {
+                    failure.set("Snapshot of " + snapshot.getHeight() + " blocks streamed " + blocks.size());
+                }
+            }
+        });
+        reader.start();
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            blockChain.putLast(Blocks.mineBlock(blockChain.getLast(), new ArrayList<>(), 4000L + i, 1L));
+        }
+        done.set(true);
+        reader.join();
+
+        // then
+        assertThat(failure.get()).isNull();
+        assertThat(blockChain.getSnapshot().getHeight()).isEqualTo(540);
+    }
+
+    @Test
+    public void should_throw_exception_when_page_size_is_not_positive() {
+
+        // given
+        final ChainSnapshot subject = blockChain.getSnapshot();
+
+        // then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> subject.page(BlockQueryBuilder.builder().build(), 0))
+                .withMessage("Query should be defined and page size should be positive");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> subject.stream(null))
+                .withMessage("Query should be defined and page size should be positive");
+    }
+
+    private static AbstractUser user(final String name) {
+        final AbstractUser user = mock(AbstractUser.class);
+        when(user.getName()).thenReturn(name);
+        return user;
+    }
+}
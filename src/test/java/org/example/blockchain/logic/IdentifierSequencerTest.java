@@ -0,0 +1,66 @@
+package org.example.blockchain.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class IdentifierSequencerTest {
+
+    private final IdentifierSequencer subject = new IdentifierSequencer(new IdentifierStream(1L));
+
+    @Test
+    public void should_prepare_concurrently_and_add_in_order_of_ids() throws Exception {
+
+        // given
+        final int threads = 4;
+        final CyclicBarrier allPreparing = new CyclicBarrier(threads);
+        final List<Integer> added = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            final SplittableRandom random = new SplittableRandom(i);
+            results.add(executor.submit(() -> subject.sequence(random, id -> {
+                try {
+                    allPreparing.await(10, TimeUnit.SECONDS);
+                    Thread.sleep(random.nextInt(50));
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return id;
+            }, added::add)));
+        }
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+        assertThat(added).hasSize(threads).isSorted();
+    }
+
+    @Test
+    public void should_pass_turn_on_when_preparation_fails() {
+
+        // given
+        final List<Integer> added = new ArrayList<>();
+
+        // when
+        assertThatIllegalStateException().isThrownBy(() -> subject.<Integer, Boolean>sequence(new SplittableRandom(), id -> {
+            throw new IllegalStateException("Couldn't sign a message");
+        }, added::add));
+        final boolean actual = subject.sequence(new SplittableRandom(), id -> id, added::add);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(added).hasSize(1);
+    }
+}
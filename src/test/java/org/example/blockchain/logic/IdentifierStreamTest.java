@@ -32,4 +32,49 @@ public class IdentifierStreamTest {
         assertThat(identifiers).isSortedAccordingTo(Comparator.naturalOrder());
         assertThat(identifiers).hasSameSizeAs(identifiersSet);
     }
+
+    @Test
+    public void should_get_the_same_identifiers_with_the_same_seed() {
+
+        // given
+        final IdentifierStream other = new IdentifierStream();
+        final SplittableRandom random = new SplittableRandom(42L);
+        final SplittableRandom otherRandom = new SplittableRandom(42L);
+
+        // when
+        List<Integer> identifiers = new ArrayList<>();
+        List<Integer> otherIdentifiers = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            identifiers.add(subject.getNext(random));
+            otherIdentifiers.add(other.getNext(otherRandom));
+        }
+
+        // then
+        assertThat(identifiers).isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(identifiers).doesNotHaveDuplicates();
+        assertThat(otherIdentifiers).isEqualTo(identifiers);
+    }
+
+    @Test
+    public void should_get_the_same_identifiers_from_streams_with_the_same_seed() {
+
+        // given
+        final IdentifierStream first = new IdentifierStream(42L);
+        final IdentifierStream second = new IdentifierStream(42L);
+
+        // when
+        List<Integer> identifiers = new ArrayList<>();
+        List<Integer> otherIdentifiers = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            identifiers.add(first.getNext());
+            otherIdentifiers.add(second.getNext());
+        }
+
+        // then
+        assertThat(identifiers).isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(identifiers).doesNotHaveDuplicates();
+        assertThat(otherIdentifiers).isEqualTo(identifiers);
+    }
 }
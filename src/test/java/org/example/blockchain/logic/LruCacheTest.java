@@ -0,0 +1,75 @@
+package org.example.blockchain.logic;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LruCacheTest {
+
+    @Test
+    public void should_evict_least_recently_used_entry() {
+
+        // given
+        final LruCache<String, Integer> subject = new LruCache<>(2);
+
+        // when
+        subject.put("first", 1);
+        subject.put("second", 2);
+        subject.get("first");
+        subject.put("third", 3);
+
+        // then
+        assertThat(subject.get("first")).isEqualTo(1);
+        assertThat(subject.get("second")).isNull();
+        assertThat(subject.get("third")).isEqualTo(3);
+        assertThat(subject.getSize()).isEqualTo(2);
+        assertThat(subject.getHits()).isEqualTo(3L);
+        assertThat(subject.getMisses()).isOne();
+        assertThat(subject.getHitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    public void should_split_large_cache_into_stripes_and_keep_maximum_size() {
+
+        // given
+        final LruCache<Integer, Integer> subject = new LruCache<>(10_000);
+
+        // when
+        for (int i = 0; i < 50_000; i++) {
+            subject.put(i, i);
+        }
+
+        // then
+        assertThat(new LruCache<>(1024).getStripes()).isOne();
+        assertThat(subject.getStripes()).isEqualTo(8);
+        assertThat(subject.getSize()).isEqualTo(10_000);
+        assertThat(subject.get(49_999)).isEqualTo(49_999);
+        assertThat(subject.get(0)).isNull();
+    }
+
+    @Test
+    public void should_clear_entries_and_ignore_null_keys() {
+
+        // given
+        final LruCache<String, Integer> subject = new LruCache<>(2);
+        subject.put("first", 1);
+        subject.put(null, 2);
+
+        // when
+        subject.clear();
+
+        // then
+        assertThat(subject.getSize()).isZero();
+        assertThat(subject.get(null)).isNull();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_maximum_size_is_not_positive() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new LruCache<>(0)
+        ).withMessage("Maximum size should be positive");
+    }
+}
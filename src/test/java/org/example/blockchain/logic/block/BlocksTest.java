@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -39,6 +41,17 @@ public class BlocksTest {
         assertThat(actual).startsWith("0".repeat(numberOfZeros));
     }
 
+    @Test
+    public void should_find_the_same_magic_number_for_the_same_input() {
+
+        // when
+        final int first = Blocks.findMagicNumber(2, "Hello there!");
+        final int second = Blocks.findMagicNumber(2, "Hello there!");
+
+        // then
+        assertThat(second).isEqualTo(first);
+    }
+
     @Test
     public void should_mine_first_block_when_previous_block_was_null() {
 
@@ -51,13 +64,19 @@ public class BlocksTest {
         try (MockedStatic<Blocks> mockedBlocks = mockStatic(Blocks.class)) {
             final String input = 1L + timestamp + "0" + createdBy;
 
-            mockedBlocks.when(() -> Blocks.findMagicNumber(0, input)).thenReturn(1);
+            mockedBlocks.when(() -> Blocks.findMagicNumber(eq(0), eq(input), any(LongAdder.class), any(SplittableRandom.class)))
+                    .thenReturn(1);
             mockedBlocks.when(() -> Blocks.applySha256(input + 1)).thenReturn("1");
+            mockedBlocks.when(() -> Blocks.mineBlock(isNull(), anyList(), anyLong(), anyLong(),
+                    any(MiningContext.class), any(SplittableRandom.class))).thenCallRealMethod();
+            mockedBlocks.when(() -> Blocks.mineBlock(isNull(), anyList(), anyLong(), anyLong(),
+                    any(MiningContext.class), any(SplittableRandom.class), any(LongAdder.class))).thenCallRealMethod();
             mockedBlocks.when(() -> Blocks.mineBlock(null, new ArrayList<>(), timestamp, createdBy)).thenCallRealMethod();
 
             actual = Blocks.mineBlock(null, new ArrayList<>(), timestamp, createdBy);
 
-            mockedBlocks.verify(times(1), () -> Blocks.findMagicNumber(0, input));
+            mockedBlocks.verify(times(1),
+                    () -> Blocks.findMagicNumber(eq(0), eq(input), any(LongAdder.class), any(SplittableRandom.class)));
             mockedBlocks.verify(times(1), () -> Blocks.applySha256(input + 1));
         }
 
@@ -105,13 +124,19 @@ public class BlocksTest {
         try (MockedStatic<Blocks> mockedBlocks = mockStatic(Blocks.class)) {
             final String input = 2L + timestamp + prevBlock.getHash() + createdBy;
 
-            mockedBlocks.when(() -> Blocks.findMagicNumber(0, input)).thenReturn(1);
+            mockedBlocks.when(() -> Blocks.findMagicNumber(eq(0), eq(input), any(LongAdder.class), any(SplittableRandom.class)))
+                    .thenReturn(1);
             mockedBlocks.when(() -> Blocks.applySha256(input + 1)).thenReturn("1");
+            mockedBlocks.when(() -> Blocks.mineBlock(eq(prevBlock), anyList(), anyLong(), anyLong(),
+                    any(MiningContext.class), any(SplittableRandom.class))).thenCallRealMethod();
+            mockedBlocks.when(() -> Blocks.mineBlock(eq(prevBlock), anyList(), anyLong(), anyLong(),
+                    any(MiningContext.class), any(SplittableRandom.class), any(LongAdder.class))).thenCallRealMethod();
             mockedBlocks.when(() -> Blocks.mineBlock(prevBlock, new ArrayList<>(), timestamp, createdBy)).thenCallRealMethod();
 
             actual = Blocks.mineBlock(prevBlock, new ArrayList<>(), timestamp, createdBy);
 
-            mockedBlocks.verify(times(1), () -> Blocks.findMagicNumber(0, input));
+            mockedBlocks.verify(times(1),
+                    () -> Blocks.findMagicNumber(eq(0), eq(input), any(LongAdder.class), any(SplittableRandom.class)));
             mockedBlocks.verify(times(1), () -> Blocks.applySha256(input + 1));
         }
 
@@ -144,4 +169,75 @@ public class BlocksTest {
         assertThat(actual.getNProgress()).isEqualTo(0);
         assertThat(actual.getMessages()).isEqualTo(messages);
     }
+
+    @ParameterizedTest
+    @CsvFileSource(resources = "/csv/find-magic-number-test.csv", numLinesToSkip = 1)
+    public void should_find_magic_number_and_count_hashes(int numberOfZeros, String input) {
+
+        // given
+        final LongAdder hashes = new LongAdder();
+
+        // when
+        final int magicNumber = Blocks.findMagicNumber(numberOfZeros, input, hashes, new SplittableRandom());
+
+        // then
+        assertThat(Blocks.applySha256(input + magicNumber)).startsWith("0".repeat(numberOfZeros));
+        assertThat(hashes.sum()).isPositive();
+    }
+
+    @Test
+    public void should_mine_block_with_simulated_generation_time() {
+
+        // given
+        final Block prevBlock = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        prevBlock.setNProgress(2);
+
+        // when
+        final Block actual = Blocks.mineBlock(
+                prevBlock, new ArrayList<>(), 2L, 2L, new MiningContext(1L), new SplittableRandom());
+
+        // then
+        assertThat(actual.getHash()).startsWith("00");
+        assertThat(actual.getGenerationTime()).isPositive();
+        assertThat(actual.getNProgress()).isEqualTo(2);
+        assertThat(actual.getPreviousHash()).isEqualTo(prevBlock.getHash());
+    }
+
+    @Test
+    public void should_add_hashes_of_each_mined_block_to_total() {
+
+        // given
+        final Block prevBlock = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        prevBlock.setNProgress(1);
+        final LongAdder totalHashes = new LongAdder();
+
+        // when
+        Blocks.mineBlock(prevBlock, new ArrayList<>(), 2L, 2L, MiningContext.WALL_CLOCK, new SplittableRandom(), totalHashes);
+        final long afterFirst = totalHashes.sum();
+        Blocks.mineBlock(prevBlock, new ArrayList<>(), 3L, 2L, MiningContext.WALL_CLOCK, new SplittableRandom(), totalHashes);
+
+        // then
+        assertThat(afterFirst).isPositive();
+        assertThat(totalHashes.sum()).isGreaterThan(afterFirst);
+    }
+
+    @Test
+    public void should_mine_the_same_block_with_the_same_seed() {
+
+        // given
+        final Block prevBlock = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        prevBlock.setNProgress(2);
+        final MiningContext miningContext = new MiningContext(1L);
+
+        // when
+        final Block first = Blocks.mineBlock(
+                prevBlock, new ArrayList<>(), 2L, 2L, miningContext, new SplittableRandom(42L));
+        final Block second = Blocks.mineBlock(
+                prevBlock, new ArrayList<>(), 2L, 2L, miningContext, new SplittableRandom(42L));
+
+        // then
+        assertThat(second.getMagicNumber()).isEqualTo(first.getMagicNumber());
+        assertThat(second.getHash()).isEqualTo(first.getHash());
+        assertThat(second.getGenerationTime()).isEqualTo(first.getGenerationTime());
+    }
 }
@@ -0,0 +1,207 @@
+package org.example.blockchain.logic.block;
+
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+public class HeaderStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private List<Block> blocks;
+
+    @BeforeEach
+    public void setUp() {
+        blocks = new ArrayList<>();
+        Block block = null;
+        for (int i = 0; i < 20; i++) {
+            block = Blocks.mineBlock(block, new ArrayList<>(), 1000L + i, i % 3);
+            blocks.add(block);
+        }
+    }
+
+    @Test
+    public void should_store_fields_of_each_header() {
+
+        // when
+        final HeaderStore subject = HeaderStore.of(blocks);
+
+        // then
+        assertThat(subject.size()).isEqualTo(20);
+        for (int i = 0; i < blocks.size(); i++) {
+            final Block block = blocks.get(i);
+            assertThat(subject.getId(i)).isEqualTo(block.getId());
+            assertThat(subject.getTimestamp(i)).isEqualTo(block.getTimestamp());
+            assertThat(subject.getMagicNumber(i)).isEqualTo(block.getMagicNumber());
+            assertThat(subject.getCreatedBy(i)).isEqualTo(block.getCreatedBy());
+            assertThat(subject.getNProgress(i)).isEqualTo(block.getNProgress());
+            assertThat(subject.getGenerationTime(i)).isEqualTo(block.getGenerationTime());
+            assertThat(subject.getHash(i)).isEqualTo(block.getHash());
+            assertThat(subject.getPreviousHash(i)).isEqualTo(block.getPreviousHash());
+        }
+        assertThat(subject.getPreviousHash(0)).isEqualTo("0");
+        assertThat(subject.getHeader(5))
+                .hasFieldOrPropertyWithValue("hash", blocks.get(5).getHash())
+                .hasFieldOrPropertyWithValue("messages", new ArrayList<>());
+    }
+
+    @Test
+    public void should_grow_when_full() {
+
+        // given
+        final HeaderStore subject = new HeaderStore(1);
+
+        // when
+        blocks.forEach(subject::append);
+
+        // then
+        assertThat(subject.size()).isEqualTo(20);
+        assertThat(subject.getCapacity()).isEqualTo(32);
+        assertThat(subject.getHash(0)).isEqualTo(blocks.get(0).getHash());
+        assertThat(subject.getHash(19)).isEqualTo(blocks.get(19).getHash());
+        assertThat(subject.validate()).isTrue();
+    }
+
+    @Test
+    public void should_validate_hashes_and_links() {
+
+        // given
+        final HeaderStore subject = HeaderStore.of(blocks);
+
+        // then
+        assertThat(subject.validateLinks()).isTrue();
+        assertThat(subject.validate()).isTrue();
+    }
+
+    @Test
+    public void should_reject_header_with_hash_not_generated_from_it_s_fields() {
+
+        // given
+        final Block block = blocks.get(7);
+        blocks.set(7, copy(block).withTimestamp(block.getTimestamp() + 1L).build());
+
+        // when
+        final HeaderStore subject = HeaderStore.of(blocks);
+
+        // then
+        assertThat(subject.validateLinks()).isTrue();
+        assertThat(subject.validate()).isFalse();
+    }
+
+    @Test
+    public void should_reject_headers_that_are_not_linked() {
+
+        // given
+        blocks.remove(7);
+
+        // when
+        final HeaderStore subject = HeaderStore.of(blocks);
+
+        // then
+        assertThat(subject.validateLinks()).isFalse();
+        assertThat(subject.validate()).isFalse();
+    }
+
+    @Test
+    public void should_find_index_of_hash() {
+
+        // given
+        final HeaderStore subject = HeaderStore.of(blocks);
+
+        // then
+        assertThat(subject.indexOf(blocks.get(12).getHash())).isEqualTo(12);
+        assertThat(subject.indexOf(Blocks.applySha256("Hello there!"))).isEqualTo(-1);
+        assertThat(subject.indexOf("0")).isEqualTo(-1);
+    }
+
+    @Test
+    public void should_count_leading_zeros_of_hash() {
+
+        // given
+        final HeaderStore subject = new HeaderStore(2);
+        subject.append(copy(blocks.get(0)).withHash("000a" + "f".repeat(60)).build());
+        subject.append(copy(blocks.get(1)).withHash("00" + "1".repeat(62)).build());
+
+        // then
+        assertThat(subject.getLeadingZeros(0)).isEqualTo(3);
+        assertThat(subject.getLeadingZeros(1)).isEqualTo(2);
+    }
+
+    @Test
+    public void should_throw_exception_when_hash_is_not_hexadecimal() {
+
+        // given
+        final HeaderStore subject = new HeaderStore(1);
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> subject.append(copy(blocks.get(1)).withHash("Hello there!").build()))
+                .withMessage("Hash should have 64 hexadecimal digits");
+        assertThat(subject.size()).isZero();
+    }
+
+    @Test
+    public void should_throw_exception_when_capacity_is_not_positive() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HeaderStore(0))
+                .withMessage("Capacity should be positive and small enough to fit in a buffer");
+    }
+
+    @Test
+    public void should_keep_headers_in_mapped_file() throws IOException {
+
+        // given
+        final Path file = directory.resolve("headers.bin");
+        final HeaderStore written = HeaderStore.map(file, 32);
+        blocks.forEach(written::append);
+        written.force();
+
+        // when
+        final HeaderStore actual = HeaderStore.map(file, 1);
+
+        // then
+        assertThat(actual.size()).isEqualTo(20);
+        assertThat(actual.getCapacity()).isEqualTo(32);
+        assertThat(actual.getHash(19)).isEqualTo(blocks.get(19).getHash());
+        assertThat(actual.validate()).isTrue();
+    }
+
+    @Test
+    public void should_throw_exception_when_mapped_file_is_full() throws IOException {
+
+        // given
+        final HeaderStore subject = HeaderStore.map(directory.resolve("headers.bin"), 1);
+        subject.append(blocks.get(0));
+
+        // when
+        assertThatIllegalStateException()
+                .isThrownBy(() -> subject.append(blocks.get(1)))
+                .withMessage("Header store is full");
+    }
+
+    private static BlockBuilder copy(final Block block) {
+        return BlockBuilder.builder()
+                .withId(block.getId())
+                .withTimestamp(block.getTimestamp())
+                .withMagicNumber(block.getMagicNumber())
+                .withGenerationTime(block.getGenerationTime())
+                .withHash(block.getHash())
+                .withPreviousHash(block.getPreviousHash())
+                .withCreatedBy(block.getCreatedBy())
+                .withNProgress(block.getNProgress())
+                .withMessages(new ArrayList<>());
+    }
+}
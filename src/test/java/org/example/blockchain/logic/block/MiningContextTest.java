@@ -0,0 +1,43 @@
+package org.example.blockchain.logic.block;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MiningContextTest {
+
+    @Test
+    public void should_evaluate_generation_time_from_hashes_when_simulated() {
+
+        // given
+        final MiningContext subject = new MiningContext(100L);
+
+        // when
+        final long actual = subject.getGenerationTime(5L, 4500L);
+
+        // then
+        assertThat(subject.isSimulated()).isTrue();
+        assertThat(actual).isEqualTo(45L);
+    }
+
+    @Test
+    public void should_evaluate_generation_time_from_wall_clock_by_default() {
+
+        // when
+        final long actual = MiningContext.WALL_CLOCK.getGenerationTime(45_999L, 1L);
+
+        // then
+        assertThat(MiningContext.WALL_CLOCK.isSimulated()).isFalse();
+        assertThat(actual).isEqualTo(45L);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_hash_rate_is_negative() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new MiningContext(-1L)
+        ).withMessage("Hash rate should not be negative");
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.blockchain.logic.events;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.block.MiningContext;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlockChainEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private BlockChain blockChain;
+
+    @BeforeEach
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        resetBlockChain();
+        blockChain = BlockChain.getInstance();
+    }
+
+    @AfterEach
+    public void tearDown() throws NoSuchFieldException, IllegalAccessException {
+        resetBlockChain();
+    }
+
+    @Test
+    public void should_record_mining_append_and_validation_events() throws IOException {
+
+        // given
+        final Path file = directory.resolve("blockchain.jfr");
+        final List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(MiningEvent.class);
+            recording.enable(BlockAppendEvent.class);
+            recording.enable(MempoolRemovalEvent.class);
+            recording.enable(BlockValidationEvent.class);
+            recording.start();
+
+            // when
+            final Block first = Blocks.mineBlock(
+                    null, new ArrayList<>(), 1L, 1L, MiningContext.WALL_CLOCK, new SplittableRandom(1L));
+            blockChain.putLast(first, 0L);
+            blockChain.putLast(first, 0L);
+            blockChain.validateBlocks(blockChain.getBlocks());
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // then
+        final List<RecordedEvent> mining = named(events, "org.example.blockchain.Mining");
+        assertThat(mining).hasSize(1);
+        assertThat(mining.get(0).getLong("blockId")).isOne();
+        assertThat(mining.get(0).getLong("hashes")).isPositive();
+
+        final List<RecordedEvent> appends = named(events, "org.example.blockchain.BlockAppend");
+        assertThat(appends).extracting(event -> event.getBoolean("accepted")).containsExactly(true, false);
+        assertThat(appends.get(0).getString("reason")).isNull();
+        assertThat(appends.get(1).getString("reason")).isEqualTo("Invalid hash or previous hash");
+
+        assertThat(named(events, "org.example.blockchain.MempoolRemoval")).hasSize(1);
+
+        final List<RecordedEvent> validations = named(events, "org.example.blockchain.BlockValidation");
+        assertThat(validations).hasSize(1);
+        assertThat(validations.get(0).getInt("blocks")).isOne();
+        assertThat(validations.get(0).getBoolean("valid")).isTrue();
+    }
+
+    @Test
+    public void should_record_signature_verification_events() throws IOException {
+
+        // given
+        final Path file = directory.resolve("signatures.jfr");
+        final KeyPair keyPair = SignatureSchemes.DSA.generateKeyPair();
+        final byte[] signature = SignatureSchemes.DSA.sign("Hello there!", 1, keyPair.getPrivate());
+        final List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(SignatureVerificationEvent.class);
+            recording.start();
+
+            // when
+            SignatureSchemes.DSA.verify("Hello there!", 1, signature, keyPair.getPublic());
+            SignatureSchemes.DSA.verify("Hello there!", 2, signature, keyPair.getPublic());
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // then
+        final List<RecordedEvent> verifications = named(events, "org.example.blockchain.SignatureVerification");
+        assertThat(verifications).extracting(event -> event.getString("scheme")).containsOnly("DSA");
+        assertThat(verifications).extracting(event -> event.getBoolean("valid")).containsExactly(true, false);
+    }
+
+    private static List<RecordedEvent> named(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private static void resetBlockChain() throws NoSuchFieldException, IllegalAccessException {
+        final Field field = BlockChain.class.getDeclaredField("instance");
+        field.setAccessible(true);
+        field.set(null, null);
+    }
+}
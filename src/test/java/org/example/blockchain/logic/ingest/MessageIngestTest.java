@@ -0,0 +1,253 @@
+package org.example.blockchain.logic.ingest;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Messages;
+import org.example.blockchain.logic.message.builder.SecureMessageBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.*;
+
+public class MessageIngestTest {
+
+    private static KeyPair keyPair;
+    private final BlockChain blockChain = mock(BlockChain.class);
+    private MessageIngest subject;
+
+    @BeforeAll
+    public static void initialize() throws NoSuchAlgorithmException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        subject = new MessageIngest(blockChain, 16, 4, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        subject.shutdown();
+    }
+
+    @Test
+    public void should_add_verified_messages_in_ascending_order() throws Exception {
+
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS))
+                .when(blockChain).addMessage(any(Message.class));
+        subject.start();
+        final CompletableFuture<Boolean> blocking = subject.submit(getMessage(5, true));
+        awaitEmptyQueue(subject);
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int id = 4; id > 0; id--) {
+            results.add(subject.submit(getMessage(id, true)));
+        }
+        release.countDown();
+
+        // then
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isTrue();
+        for (CompletableFuture<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        final ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(blockChain, times(5)).addMessage(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(Message::getId)
+                .containsExactly(5, 1, 2, 3, 4);
+
+        final IngestMetrics metrics = subject.getMetrics();
+        assertThat(metrics.getSubmitted()).isEqualTo(5L);
+        assertThat(metrics.getVerified()).isEqualTo(5L);
+        assertThat(metrics.getFailedVerification()).isZero();
+        assertThat(metrics.getBatches()).isEqualTo(2L);
+        assertThat(metrics.getQueueDepth()).isZero();
+        assertThat(metrics.getVerificationThroughput()).isPositive();
+    }
+
+    @Test
+    public void should_not_add_message_with_invalid_signature() throws Exception {
+
+        // given
+        subject.start();
+
+        // when
+        final boolean actual = subject.submit(getMessage(1, false)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isFalse();
+        verifyNoInteractions(blockChain);
+        assertThat(subject.getMetrics().getFailedVerification()).isOne();
+        assertThat(subject.getMetrics().getVerified()).isZero();
+    }
+
+    @Test
+    public void should_complete_with_false_when_block_chain_rejects_message() throws Exception {
+
+        // given
+        doReturn(false).when(blockChain).addMessage(any(Message.class));
+        subject.start();
+
+        // when
+        final boolean actual = subject.submit(getMessage(1, true)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getMetrics().getVerified()).isOne();
+        assertThat(subject.getMetrics().getRejectedByBlockChain()).isOne();
+    }
+
+    @Test
+    public void should_drop_offered_message_when_queue_is_full() throws Exception {
+
+        // given
+        final MessageIngest ingest = new MessageIngest(blockChain, 1, 1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS))
+                .when(blockChain).addMessage(any(Message.class));
+        ingest.start();
+        final CompletableFuture<Boolean> processed = ingest.offer(getMessage(1, true));
+        awaitEmptyQueue(ingest);
+        final CompletableFuture<Boolean> first = ingest.offer(getMessage(2, true));
+
+        // when
+        final CompletableFuture<Boolean> second = ingest.offer(getMessage(3, true));
+
+        // then
+        assertThat(first).isNotDone();
+        assertThat(second).isCompletedWithValue(false);
+        assertThat(ingest.getMetrics().getSubmitted()).isEqualTo(2L);
+        assertThat(ingest.getMetrics().getDropped()).isOne();
+        assertThat(ingest.getMetrics().getQueueDepth()).isOne();
+        assertThat(ingest.getMetrics().getRemainingCapacity()).isZero();
+        release.countDown();
+        assertThat(processed.get(10, TimeUnit.SECONDS)).isTrue();
+        ingest.shutdown();
+    }
+
+    @Test
+    public void should_drop_submitted_message_when_queue_stays_full() throws Exception {
+
+        // given
+        final MessageIngest ingest = new MessageIngest(blockChain, 1, 1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS))
+                .when(blockChain).addMessage(any(Message.class));
+        ingest.start();
+        ingest.submit(getMessage(1, true));
+        awaitEmptyQueue(ingest);
+        ingest.submit(getMessage(2, true));
+
+        // when
+        final CompletableFuture<Boolean> actual = ingest.submit(getMessage(3, true));
+
+        // then
+        assertThat(actual).isCompletedWithValue(false);
+        assertThat(ingest.getMetrics().getDropped()).isOne();
+        release.countDown();
+        ingest.shutdown();
+    }
+
+    @Test
+    public void should_reject_messages_when_not_running() {
+
+        // when
+        final CompletableFuture<Boolean> beforeStart = subject.submit(getMessage(1, true));
+        final CompletableFuture<Boolean> offeredBeforeStart = subject.offer(getMessage(2, true));
+        subject.start();
+        subject.shutdown();
+        final CompletableFuture<Boolean> afterShutdown = subject.submit(getMessage(3, true));
+
+        // then
+        assertThat(beforeStart).isCompletedWithValue(false);
+        assertThat(offeredBeforeStart).isCompletedWithValue(false);
+        assertThat(afterShutdown).isCompletedWithValue(false);
+        assertThat(subject.getMetrics().getSubmitted()).isZero();
+        assertThat(subject.getMetrics().getDropped()).isEqualTo(3L);
+        verifyNoInteractions(blockChain);
+    }
+
+    @Test
+    public void should_complete_queued_messages_with_false_on_shutdown() throws Exception {
+
+        // given
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS))
+                .when(blockChain).addMessage(any(Message.class));
+        final MessageIngest ingest = new MessageIngest(blockChain, 16, 1, 1);
+        ingest.start();
+        final CompletableFuture<Boolean> processed = ingest.submit(getMessage(1, true));
+        awaitEmptyQueue(ingest);
+        final CompletableFuture<Boolean> queued = ingest.submit(getMessage(2, true));
+
+        // when
+        ingest.shutdown();
+        release.countDown();
+
+        // then
+        assertThat(queued).isCompletedWithValue(false);
+        assertThat(processed.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ingest.getMetrics().getQueueDepth()).isZero();
+        verify(blockChain, times(1)).addMessage(any(Message.class));
+    }
+
+    @Test
+    public void should_not_submit_null_message() {
+
+        // when
+        final CompletableFuture<Boolean> actual = subject.submit(null);
+
+        // then
+        assertThat(actual).isCompletedWithValue(false);
+        assertThat(subject.getMetrics().getSubmitted()).isZero();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_capacity_is_not_positive() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new MessageIngest(blockChain, 0, 1, 1)
+        ).withMessage("Capacity, batch size and parallelism should be positive");
+    }
+
+    private static void awaitEmptyQueue(final MessageIngest ingest) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (ingest.getMetrics().getQueueDepth() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+    }
+
+    private Message getMessage(final int id, final boolean valid) {
+        final String text = "Hello there!";
+        final byte[] signature = Messages.sign(valid ? text : "Wrong text", id, keyPair.getPrivate());
+
+        return SecureMessageBuilder.builder()
+                .withId(id)
+                .withText(text)
+                .withSignature(signature)
+                .withPublicKey(keyPair.getPublic())
+                .withVerification(false)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.blockchain.logic.ingest.builder;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ingest.MessageIngest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MessageIngestBuilderTest {
+
+    private MessageIngestBuilder subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = MessageIngestBuilder.builder();
+    }
+
+    @Test
+    public void should_build_valid_message_ingest() {
+
+        // given
+        final BlockChain blockChain = BlockChain.getInstance();
+
+        // when
+        final MessageIngest actual = subject
+                .withBlockChain(blockChain)
+                .withCapacity(10)
+                .withBatchSize(5)
+                .withParallelism(2)
+                .build();
+
+        // then
+        assertThat(actual)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("blockChain", blockChain)
+                .hasFieldOrPropertyWithValue("batchSize", 5)
+                .hasFieldOrPropertyWithValue("parallelism", 2);
+        assertThat(actual.getMetrics().getRemainingCapacity()).isEqualTo(10);
+        actual.shutdown();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.blockchain.logic.keys;
+
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class KeyPairProviderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void should_generate_distinct_key_pairs_in_order_of_names() throws Exception {
+
+        // given
+        final List<String> names = Arrays.asList("Miner-0", "Client-0", "Client-1");
+        final KeyPairProvider subject = new KeyPairProvider(SignatureSchemes.DSA, null, 2);
+
+        // when
+        final Map<String, KeyPair> actual = subject.provide(names);
+
+        // then
+        assertThat(actual.keySet()).containsExactlyElementsOf(names);
+        assertThat(actual.values())
+                .doesNotContainNull()
+                .extracting(KeyPair::getPublic)
+                .doesNotHaveDuplicates();
+        assertThat(subject.getGenerated()).isEqualTo(3L);
+        assertThat(subject.getLoaded()).isZero();
+    }
+
+    @Test
+    public void should_reuse_stored_key_pairs_after_restart() throws Exception {
+
+        // given
+        final Path path = directory.resolve("keys.properties");
+        final List<String> names = Arrays.asList("Miner-0", "Client-0");
+        final Map<String, KeyPair> first = new KeyPairProvider(SignatureSchemes.DSA, new KeyPairStore(path), 2)
+                .provide(names);
+
+        final KeyPairStore store = new KeyPairStore(path);
+        store.load();
+        final KeyPairProvider subject = new KeyPairProvider(SignatureSchemes.DSA, store, 2);
+
+        // when
+        final Map<String, KeyPair> actual = subject.provide(Arrays.asList("Miner-0", "Client-0", "Client-1"));
+
+        // then
+        assertThat(actual.get("Miner-0").getPublic()).isEqualTo(first.get("Miner-0").getPublic());
+        assertThat(actual.get("Client-0").getPrivate()).isEqualTo(first.get("Client-0").getPrivate());
+        assertThat(actual.get("Client-1")).isNotNull();
+        assertThat(subject.getLoaded()).isEqualTo(2L);
+        assertThat(subject.getGenerated()).isOne();
+        assertThat(store.getSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_parallelism_is_not_positive() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new KeyPairProvider(SignatureSchemes.DSA, null, 0)
+        ).withMessage("Signature scheme should be defined and parallelism should be positive");
+    }
+}
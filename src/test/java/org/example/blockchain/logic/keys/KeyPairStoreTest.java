@@ -0,0 +1,100 @@
+package org.example.blockchain.logic.keys;
+
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class KeyPairStoreTest {
+
+    private static KeyPair keyPair;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    public static void initialize() {
+        keyPair = SignatureSchemes.DSA.generateKeyPair();
+    }
+
+    @Test
+    public void should_restore_saved_key_pair() throws IOException {
+
+        // given
+        final Path path = directory.resolve("keys.properties");
+        final KeyPairStore store = new KeyPairStore(path);
+        store.put("Miner-0", SignatureSchemes.DSA, keyPair);
+        store.save();
+
+        final KeyPairStore subject = new KeyPairStore(path);
+
+        // when
+        subject.load();
+        final KeyPair actual = subject.get("Miner-0", SignatureSchemes.DSA);
+
+        // then
+        assertThat(subject.getSize()).isOne();
+        assertThat(actual.getPublic()).isEqualTo(keyPair.getPublic());
+        assertThat(actual.getPrivate()).isEqualTo(keyPair.getPrivate());
+    }
+
+    @Test
+    public void should_not_return_key_pair_of_another_scheme() {
+
+        // given
+        final KeyPairStore subject = new KeyPairStore(directory.resolve("keys.properties"));
+        subject.put("Miner-0", SignatureSchemes.DSA, keyPair);
+
+        // when
+        final KeyPair actual = subject.get("Miner-0", SignatureSchemes.ED25519);
+
+        // then
+        assertThat(actual).isNull();
+        assertThat(subject.get("Miner-1", SignatureSchemes.DSA)).isNull();
+    }
+
+    @Test
+    public void should_not_load_anything_when_file_does_not_exist() throws IOException {
+
+        // given
+        final KeyPairStore subject = new KeyPairStore(directory.resolve("missing.properties"));
+
+        // when
+        subject.load();
+
+        // then
+        assertThat(subject.getSize()).isZero();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_entry_is_malformed() throws IOException {
+
+        // given
+        final Path path = directory.resolve("keys.properties");
+        Files.write(path, "Miner-0=DSA:abc".getBytes(StandardCharsets.UTF_8));
+        final KeyPairStore subject = new KeyPairStore(path);
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                subject::load
+        ).withMessage("Malformed key pair entry");
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_path_is_null() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new KeyPairStore(null)
+        ).withMessage("Path should be defined");
+    }
+}
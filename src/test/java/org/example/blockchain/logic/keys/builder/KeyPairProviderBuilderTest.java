@@ -0,0 +1,42 @@
+package org.example.blockchain.logic.keys.builder;
+
+import org.example.blockchain.logic.keys.KeyPairProvider;
+import org.example.blockchain.logic.keys.KeyPairStore;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeyPairProviderBuilderTest {
+
+    private KeyPairProviderBuilder subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = KeyPairProviderBuilder.builder();
+    }
+
+    @Test
+    public void should_build_valid_key_pair_provider() {
+
+        // given
+        final KeyPairStore keyPairStore = new KeyPairStore(Paths.get("keys.properties"));
+
+        // when
+        final KeyPairProvider actual = subject
+                .withSignatureScheme(SignatureSchemes.ED25519)
+                .withKeyPairStore(keyPairStore)
+                .withParallelism(3)
+                .build();
+
+        // then
+        assertThat(actual)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("signatureScheme", SignatureSchemes.ED25519)
+                .hasFieldOrPropertyWithValue("keyPairStore", keyPairStore)
+                .hasFieldOrPropertyWithValue("parallelism", 3);
+    }
+}
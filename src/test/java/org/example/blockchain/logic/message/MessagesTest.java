@@ -1,12 +1,16 @@
 package org.example.blockchain.logic.message;
 
+import org.example.blockchain.logic.users.AbstractUser;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.security.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 public class MessagesTest {
 
@@ -69,4 +73,110 @@ public class MessagesTest {
         // then
         assertThat(actual).isTrue();
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Simple message",
+            "Fancy message",
+            "Zażółć gęślą jaźń",
+            ""
+    })
+    public void should_sign_text_and_id_as_concatenated_text(String text)
+            throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+
+        // given
+        final KeyPair keyPair = generator.generateKeyPair();
+        final int id = -1234567;
+        final byte[] sign = Messages.sign(text, id, keyPair.getPrivate());
+
+        // when
+        Signature sig = Signature.getInstance("SHA256withDSA");
+        sig.initVerify(keyPair.getPublic());
+        sig.update((text + id).getBytes(StandardCharsets.UTF_8));
+
+        final Boolean actual = sig.verify(sign);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 42, Integer.MAX_VALUE, Integer.MIN_VALUE})
+    public void should_verify_text_and_id_signed_as_concatenated_text(int id)
+            throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+
+        // given
+        final KeyPair keyPair = generator.generateKeyPair();
+        final String text = "Hello there!";
+
+        // when
+        Signature sig = Signature.getInstance("SHA256withDSA");
+        sig.initSign(keyPair.getPrivate());
+        sig.update((text + id).getBytes(StandardCharsets.UTF_8));
+        final byte[] sign = sig.sign();
+
+        final boolean actual = Messages.verify(text, id, sign, keyPair.getPublic());
+        final boolean actualWrongId = Messages.verify(text, id ^ 1, sign, keyPair.getPublic());
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(actualWrongId).isFalse();
+    }
+
+    @Test
+    public void should_sign_and_verify_long_text() {
+
+        // given
+        final KeyPair keyPair = generator.generateKeyPair();
+        final String text = "Long message ".repeat(1000);
+
+        // when
+        final byte[] sign = Messages.sign(text, 7, keyPair.getPrivate());
+        final boolean actual = Messages.verify(text + 7, sign, keyPair.getPublic());
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    public void should_verify_secure_message_decorated_by_transaction() {
+
+        // given
+        final KeyPair keyPair = generator.generateKeyPair();
+        final SecureMessage secureMessage = new SecureMessage(
+                "Hello there!", 1, Messages.sign("Hello there!", 1, keyPair.getPrivate()), keyPair.getPublic());
+        final Message transaction = new Transaction(
+                secureMessage, mock(AbstractUser.class), mock(AbstractUser.class), 1L);
+
+        // when
+        final boolean actual = Messages.verify(transaction);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    public void should_not_verify_message_without_signature() {
+
+        // when
+        final boolean actual = Messages.verify(mock(Message.class));
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void should_get_signature_of_secure_message_decorated_by_transaction() {
+
+        // given
+        final KeyPair keyPair = generator.generateKeyPair();
+        final byte[] signature = Messages.sign("Hello there!", 1, keyPair.getPrivate());
+        final Message transaction = new Transaction(
+                new SecureMessage("Hello there!", 1, signature, keyPair.getPublic()),
+                mock(AbstractUser.class), mock(AbstractUser.class), 1L);
+
+        // then
+        assertThat(Messages.getSignature(transaction)).isEqualTo(signature);
+        assertThat(Messages.getSignature(mock(Message.class))).isNull();
+    }
 }
@@ -0,0 +1,134 @@
+package org.example.blockchain.logic.message;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class SignatureCacheTest {
+
+    private static KeyPair keyPair;
+    private SignatureCache subject;
+
+    @BeforeAll
+    public static void initialize() throws NoSuchAlgorithmException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        subject = new SignatureCache(2);
+    }
+
+    @Test
+    public void should_verify_signature_only_once() {
+
+        // given
+        final SecureMessage message = getMessage("Hello there!", 1, "Hello there!");
+
+        // when
+        final boolean first = subject.verify(message);
+        final boolean second = subject.verify(message);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(subject.getMisses()).isOne();
+        assertThat(subject.getHits()).isOne();
+        assertThat(subject.getHitRate()).isEqualTo(0.5);
+        assertThat(subject.getSize()).isOne();
+    }
+
+    @Test
+    public void should_not_cache_failed_verification() {
+
+        // given
+        final SecureMessage message = getMessage("Hello there!", 1, "General Kenobi!");
+
+        // when
+        final boolean first = subject.verify(message);
+        final boolean second = subject.verify(message);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        assertThat(subject.getHits()).isZero();
+        assertThat(subject.getMisses()).isEqualTo(2L);
+        assertThat(subject.getSize()).isZero();
+    }
+
+    @Test
+    public void should_not_hit_when_text_was_changed_but_id_is_the_same() {
+
+        // given
+        final SecureMessage message = getMessage("Hello there!", 1, "Hello there!");
+        final SecureMessage forged = new SecureMessage(
+                "General Kenobi!", 1, message.getSignature(), message.getPublicKey(), false);
+        subject.verify(message);
+
+        // when
+        final boolean actual = subject.verify(forged);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.getHits()).isZero();
+    }
+
+    @Test
+    public void should_evict_least_recently_used_entry() {
+
+        // given
+        final SecureMessage first = getMessage("Hello there!", 1, "Hello there!");
+        final SecureMessage second = getMessage("Hello there!", 2, "Hello there!");
+        final SecureMessage third = getMessage("Hello there!", 3, "Hello there!");
+
+        subject.verify(first);
+        subject.verify(second);
+        subject.verify(first);
+
+        // when
+        subject.verify(third);
+        subject.verify(first);
+        subject.verify(second);
+
+        // then
+        assertThat(subject.getSize()).isEqualTo(2);
+        assertThat(subject.getHits()).isEqualTo(2L);
+        assertThat(subject.getMisses()).isEqualTo(4L);
+    }
+
+    @Test
+    public void should_clear_entries() {
+
+        // given
+        subject.verify(getMessage("Hello there!", 1, "Hello there!"));
+
+        // when
+        subject.clear();
+
+        // then
+        assertThat(subject.getSize()).isZero();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_maximum_size_is_not_positive() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new SignatureCache(0)
+        ).withMessage("Maximum size should be positive");
+    }
+
+    private SecureMessage getMessage(final String text, final int id, final String signedText) {
+        final byte[] signature = Messages.sign(signedText, id, keyPair.getPrivate());
+        return new SecureMessage(text, id, signature, keyPair.getPublic(), false);
+    }
+}
@@ -2,6 +2,7 @@ package org.example.blockchain.logic.message.builder;
 
 import org.example.blockchain.logic.message.Messages;
 import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +52,8 @@ public class SecureMessageBuilderTest {
                 .hasFieldOrPropertyWithValue("id", id)
                 .hasFieldOrPropertyWithValue("text", text)
                 .hasFieldOrPropertyWithValue("signature", sign)
-                .hasFieldOrPropertyWithValue("publicKey", keyPair.getPublic());
+                .hasFieldOrPropertyWithValue("publicKey", keyPair.getPublic())
+                .hasFieldOrPropertyWithValue("signatureScheme", SignatureSchemes.DSA);
     }
 
     @Test
@@ -73,4 +75,27 @@ public class SecureMessageBuilderTest {
                         .build()
         ).withMessage("Failed signature verification");
     }
+
+    @Test
+    public void should_build_unverified_secure_message() {
+
+        // given
+        final KeyPair keyPair = generator.generateKeyPair();
+        final String text = "Fancy text message";
+        final int id = 1;
+        final byte[] sign = Messages.sign(text + id, keyPair.getPrivate());
+
+        // when
+        final SecureMessage actual = subject
+                .withId(2)
+                .withText("Wrong text message")
+                .withSignature(sign)
+                .withPublicKey(keyPair.getPublic())
+                .withVerification(false)
+                .build();
+
+        // then
+        assertThat(actual).isNotNull();
+        assertThat(actual.verify()).isFalse();
+    }
 }
@@ -0,0 +1,119 @@
+package org.example.blockchain.logic.message.scheme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class DsaSignatureSchemeTest {
+
+    private DsaSignatureScheme subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new DsaSignatureScheme();
+    }
+
+    @Test
+    public void should_generate_dsa_key_pair() {
+
+        // when
+        final KeyPair actual = subject.generateKeyPair();
+
+        // then
+        assertThat(subject.isAvailable()).isTrue();
+        assertThat(actual.getPublic().getAlgorithm()).isEqualTo("DSA");
+        assertThat(actual.getPrivate().getAlgorithm()).isEqualTo("DSA");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Simple message",
+            "Zażółć gęślą jaźń"
+    })
+    public void should_sign_text_and_id_with_sha256_with_dsa(String text)
+            throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+
+        // given
+        final KeyPair keyPair = subject.generateKeyPair();
+        final byte[] sign = subject.sign(text, 1, keyPair.getPrivate());
+
+        // when
+        Signature sig = Signature.getInstance("SHA256withDSA");
+        sig.initVerify(keyPair.getPublic());
+        sig.update((text + 1).getBytes(StandardCharsets.UTF_8));
+
+        final boolean actual = sig.verify(sign);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(subject.verify(text + 1, sign, keyPair.getPublic())).isTrue();
+        assertThat(subject.verify(text, 2, sign, keyPair.getPublic())).isFalse();
+    }
+
+    @Test
+    public void should_not_verify_with_another_public_key() {
+
+        // given
+        final KeyPair keyPair = subject.generateKeyPair();
+        final byte[] sign = subject.sign("Simple message", keyPair.getPrivate());
+
+        // when
+        final boolean actual = subject.verify("Simple message", sign, subject.generateKeyPair().getPublic());
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void should_decode_encoded_key_pair() {
+
+        // given
+        final KeyPair keyPair = subject.generateKeyPair();
+
+        // when
+        final KeyPair actual = subject.decodeKeyPair(
+                keyPair.getPublic().getEncoded(), keyPair.getPrivate().getEncoded());
+
+        // then
+        assertThat(actual.getPublic()).isEqualTo(keyPair.getPublic());
+        assertThat(actual.getPrivate()).isEqualTo(keyPair.getPrivate());
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_keys_are_malformed() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.decodeKeyPair(new byte[]{1, 2, 3}, new byte[]{4, 5, 6})
+        ).withMessage("Keys were not encoded for the DSA signature scheme");
+    }
+
+    @Test
+    public void should_decode_encoded_public_key() {
+
+        // given
+        final KeyPair keyPair = subject.generateKeyPair();
+
+        // when
+        final PublicKey actual = subject.decodePublicKey(keyPair.getPublic().getEncoded());
+
+        // then
+        assertThat(actual).isEqualTo(keyPair.getPublic());
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_public_key_is_malformed() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.decodePublicKey(new byte[]{1, 2, 3})
+        ).withMessage("Key was not encoded for the DSA signature scheme");
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.blockchain.logic.message.scheme;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class Ed25519SignatureSchemeTest {
+
+    private Ed25519SignatureScheme subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new Ed25519SignatureScheme();
+    }
+
+    @Test
+    public void should_sign_and_verify_text_and_id_with_ed25519()
+            throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
+
+        // given
+        assumeTrue(subject.isAvailable(), "Ed25519 requires Java 15 or newer");
+        final KeyPair keyPair = subject.generateKeyPair();
+        final byte[] sign = subject.sign("Simple message", 1, keyPair.getPrivate());
+
+        // when
+        Signature sig = Signature.getInstance("Ed25519");
+        sig.initVerify(keyPair.getPublic());
+        sig.update("Simple message1".getBytes(StandardCharsets.UTF_8));
+
+        final boolean actual = sig.verify(sign);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(subject.verify("Simple message", 1, sign, keyPair.getPublic())).isTrue();
+        assertThat(subject.verify("Simple message", 2, sign, keyPair.getPublic())).isFalse();
+        assertThat(SignatureSchemes.forKey(keyPair.getPublic())).isSameAs(SignatureSchemes.ED25519);
+    }
+
+    @Test
+    public void should_throw_illegal_state_exception_when_not_available() {
+
+        // given
+        assumeFalse(subject.isAvailable());
+
+        // when
+        assertThatIllegalStateException().isThrownBy(
+                () -> subject.generateKeyPair()
+        ).withMessage("Ed25519 signature scheme is not available");
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.blockchain.logic.message.scheme;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.security.PublicKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class SignatureSchemesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"DSA", "dsa"})
+    public void should_find_dsa_scheme_by_name(String name) {
+
+        // when
+        final SignatureScheme actual = SignatureSchemes.forName(name);
+
+        // then
+        assertThat(actual).isSameAs(SignatureSchemes.DSA);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Ed25519", "ED25519"})
+    public void should_find_ed25519_scheme_by_name(String name) {
+
+        // when
+        final SignatureScheme actual = SignatureSchemes.forName(name);
+
+        // then
+        assertThat(actual).isSameAs(SignatureSchemes.ED25519);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_name_is_unknown() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> SignatureSchemes.forName("RSA")
+        ).withMessage("Unknown signature scheme: RSA");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"EdDSA", "Ed25519"})
+    public void should_find_ed25519_scheme_for_key(String algorithm) {
+
+        // given
+        final PublicKey key = mock(PublicKey.class);
+        doReturn(algorithm).when(key).getAlgorithm();
+
+        // when
+        final SignatureScheme actual = SignatureSchemes.forKey(key);
+
+        // then
+        assertThat(actual).isSameAs(SignatureSchemes.ED25519);
+    }
+
+    @Test
+    public void should_find_dsa_scheme_for_dsa_or_undefined_key() {
+
+        // when
+        final SignatureScheme actual = SignatureSchemes.forKey(SignatureSchemes.DSA.generateKeyPair().getPublic());
+
+        // then
+        assertThat(actual).isSameAs(SignatureSchemes.DSA);
+        assertThat(SignatureSchemes.forKey(null)).isSameAs(SignatureSchemes.DSA);
+    }
+}
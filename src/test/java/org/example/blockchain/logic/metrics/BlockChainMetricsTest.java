@@ -0,0 +1,155 @@
+package org.example.blockchain.logic.metrics;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class BlockChainMetricsTest {
+
+    private BlockChain blockChain;
+    private BlockChainMetrics subject;
+
+    @BeforeEach
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        resetBlockChain();
+        blockChain = BlockChain.getInstance();
+        subject = blockChain.getMetrics();
+    }
+
+    @AfterEach
+    public void tearDown() throws NoSuchFieldException, IllegalAccessException {
+        subject.unregister();
+        resetBlockChain();
+    }
+
+    @Test
+    public void should_count_accepted_and_rejected_blocks() {
+
+        // given
+        final Block block = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+
+        // when
+        blockChain.putLast(block, 0L);
+        blockChain.putLast(block, 0L);
+
+        // then
+        assertThat(subject.getAcceptedBlocks()).isOne();
+        assertThat(subject.getRejectedBlocks()).isOne();
+        assertThat(subject.getHeight()).isOne();
+        assertThat(subject.getNumberOfZeros()).isOne();
+    }
+
+    @Test
+    public void should_count_accepted_and_rejected_messages() {
+
+        // given
+        final int id = blockChain.getUniqueIdentifier(new SplittableRandom(1L));
+
+        // when
+        blockChain.addMessage(message(id));
+        blockChain.addMessage(message(id));
+        blockChain.addMessage(message(id - 1));
+
+        // then
+        assertThat(subject.getAcceptedMessages()).isOne();
+        assertThat(subject.getRejectedMessages()).isEqualTo(2L);
+        assertThat(subject.getMessageRejectionRate()).isCloseTo(2.0 / 3.0, within(1e-9));
+        assertThat(subject.getMempoolSize()).isOne();
+        assertThat(subject.getIdentifierWatermark()).isEqualTo(id);
+    }
+
+    @Test
+    public void should_compute_hash_rate_of_each_miner() {
+
+        // when
+        subject.mined("Miner-0", 1_000L, 1_000_000_000L);
+        subject.mined("Miner-0", 3_000L, 1_000_000_000L);
+        subject.mined("Miner-1", 500L, 0L);
+
+        // then
+        assertThat(subject.getHashRates())
+                .containsEntry("Miner-0", 2_000.0)
+                .containsEntry("Miner-1", 0.0)
+                .hasSize(2);
+    }
+
+    @Test
+    public void should_expose_metrics_over_jmx() throws Exception {
+
+        // given
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(BlockChainMetrics.OBJECT_NAME);
+        blockChain.putLast(Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L), 0L);
+        subject.mined("Miner-0", 10L, 1_000_000_000L);
+
+        // when
+        subject.register();
+
+        // then
+        assertThat(server.isRegistered(name)).isTrue();
+        assertThat(server.getAttribute(name, "Height")).isEqualTo(1);
+        assertThat(server.getAttribute(name, "AcceptedBlocks")).isEqualTo(1L);
+        assertThat(((TabularData) server.getAttribute(name, "HashRates")).size()).isOne();
+    }
+
+    @Test
+    public void should_replace_metrics_of_another_blockchain_when_registered()
+            throws Exception {
+
+        // given
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(BlockChainMetrics.OBJECT_NAME);
+        subject.register();
+
+        resetBlockChain();
+        final BlockChainMetrics other = BlockChain.getInstance().getMetrics();
+        other.blockRejected();
+
+        // when
+        other.register();
+
+        // then
+        assertThat(server.getAttribute(name, "RejectedBlocks")).isEqualTo(1L);
+        other.unregister();
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_blockchain_is_null() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BlockChainMetrics(null)
+        ).withMessage("Blockchain should be defined");
+    }
+
+    private static Message message(final int id) {
+        final Message message = mock(Message.class);
+        doReturn(id).when(message).getId();
+        return message;
+    }
+
+    private static void resetBlockChain() throws NoSuchFieldException, IllegalAccessException {
+        final Field field = BlockChain.class.getDeclaredField("instance");
+        field.setAccessible(true);
+        field.set(null, null);
+    }
+}
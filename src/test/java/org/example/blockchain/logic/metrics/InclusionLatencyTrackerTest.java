@@ -0,0 +1,77 @@
+package org.example.blockchain.logic.metrics;
+
+import org.example.blockchain.logic.message.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class InclusionLatencyTrackerTest {
+
+    private InclusionLatencyTracker subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new InclusionLatencyTracker();
+    }
+
+    @Test
+    public void should_record_latency_of_included_messages() {
+
+        // given
+        final Message first = message(1);
+        final Message second = message(2);
+        subject.submitted(first, 0L);
+        subject.submitted(second, TimeUnit.MILLISECONDS.toNanos(10L));
+
+        // when
+        subject.included(Arrays.asList(first, second), TimeUnit.MILLISECONDS.toNanos(30L));
+
+        // then
+        assertThat(subject.getPending()).isZero();
+        assertThat(subject.getHistogram().getCount()).isEqualTo(2L);
+        assertThat(subject.getHistogram().getMax()).isEqualTo(30_000L);
+        assertThat(subject.getHistogram().getMean()).isEqualTo(25_000.0);
+    }
+
+    @Test
+    public void should_skip_messages_that_were_not_submitted() {
+
+        // given
+        final Message submitted = message(1);
+        subject.submitted(submitted, 0L);
+
+        // when
+        subject.included(Arrays.asList(message(2), null), 1_000L);
+
+        // then
+        assertThat(subject.getPending()).isOne();
+        assertThat(subject.getHistogram().getCount()).isZero();
+    }
+
+    @Test
+    public void should_record_latency_only_once() {
+
+        // given
+        final Message message = message(1);
+        subject.submitted(message, 0L);
+        subject.included(Arrays.asList(message), 1_000L);
+
+        // when
+        subject.included(Arrays.asList(message), 2_000L);
+
+        // then
+        assertThat(subject.getHistogram().getCount()).isOne();
+    }
+
+    private static Message message(final int id) {
+        final Message message = mock(Message.class);
+        doReturn(id).when(message).getId();
+        return message;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.blockchain.logic.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new LatencyHistogram();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 15L, 16L, 17L, 31L, 32L, 1000L, 123_456L, 60_000_000L, Long.MAX_VALUE})
+    public void should_put_value_in_bucket_whose_bounds_contain_it(final long value) {
+
+        // when
+        final int index = LatencyHistogram.indexOf(value);
+
+        // then
+        assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+        if (index > 0) {
+            assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+        }
+        assertThat((double) LatencyHistogram.upperBoundOf(index) - value).isLessThanOrEqualTo(value / 16.0);
+    }
+
+    @Test
+    public void should_report_percentiles_within_bucket_precision() {
+
+        // given
+        for (long micros = 1L; micros <= 10_000L; micros++) {
+            subject.record(micros);
+        }
+
+        // then
+        assertThat(subject.getCount()).isEqualTo(10_000L);
+        assertThat(subject.getMax()).isEqualTo(10_000L);
+        assertThat(subject.getMean()).isCloseTo(5000.5, within(0.001));
+        assertThat((double) subject.getValueAtPercentile(50.0)).isCloseTo(5000.0, within(5000.0 / 16.0));
+        assertThat((double) subject.getValueAtPercentile(99.0)).isCloseTo(9900.0, within(9900.0 / 16.0));
+        assertThat((double) subject.getValueAtPercentile(99.9)).isCloseTo(9990.0, within(9990.0 / 16.0));
+        assertThat(subject.getValueAtPercentile(100.0)).isEqualTo(10_000L);
+    }
+
+    @Test
+    public void should_report_zero_when_nothing_was_recorded() {
+
+        // then
+        assertThat(subject.getValueAtPercentile(99.0)).isZero();
+        assertThat(subject.getMean()).isZero();
+        assertThat(subject.getCount()).isZero();
+    }
+
+    @Test
+    public void should_record_negative_value_as_zero() {
+
+        // when
+        subject.record(-5L);
+
+        // then
+        assertThat(subject.getCount()).isOne();
+        assertThat(subject.getValueAtPercentile(50.0)).isZero();
+    }
+
+    @Test
+    public void should_remove_all_values_when_reset() {
+
+        // given
+        subject.record(100L);
+
+        // when
+        subject.reset();
+
+        // then
+        assertThat(subject.getCount()).isZero();
+        assertThat(subject.getMax()).isZero();
+        assertThat(subject.getValueAtPercentile(50.0)).isZero();
+    }
+
+    @Test
+    public void should_add_values_of_other_histogram() {
+
+        // given
+        final LatencyHistogram other = new LatencyHistogram();
+        subject.record(10L);
+        other.record(5L);
+        other.record(1000L);
+
+        // when
+        subject.add(other);
+
+        // then
+        assertThat(subject.getCount()).isEqualTo(3L);
+        assertThat(subject.getMax()).isEqualTo(1000L);
+        assertThat(subject.getValueAtPercentile(50.0)).isEqualTo(10L);
+        assertThat(subject.getMean()).isCloseTo(1015.0 / 3, within(0.001));
+    }
+
+    @Test
+    public void should_record_values_from_many_threads() throws InterruptedException {
+
+        // given
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    subject.record(j);
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1L, TimeUnit.MINUTES);
+
+        // then
+        assertThat(subject.getCount()).isEqualTo(40_000L);
+        assertThat(subject.getMax()).isEqualTo(9_999L);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_percentile_is_out_of_range() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.getValueAtPercentile(100.1)
+        ).withMessage("Percentile should be between 0 and 100");
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.blockchain.logic.query.builder;
+
+import org.example.blockchain.logic.query.BlockQuery;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BlockQueryBuilderTest {
+
+    @Test
+    public void should_build_query_of_all_blocks_by_default() {
+
+        // when
+        final BlockQuery actual = BlockQueryBuilder.builder().build();
+
+        // then
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("fromHeight", 0)
+                .hasFieldOrPropertyWithValue("toHeight", Integer.MAX_VALUE)
+                .hasFieldOrPropertyWithValue("createdBy", null)
+                .hasFieldOrPropertyWithValue("fromTimestamp", Long.MIN_VALUE)
+                .hasFieldOrPropertyWithValue("toTimestamp", Long.MAX_VALUE)
+                .hasFieldOrPropertyWithValue("participant", null)
+                .hasFieldOrPropertyWithValue("descending", false);
+    }
+
+    @Test
+    public void should_build_query_with_given_values() {
+
+        // when
+        final BlockQuery actual = BlockQueryBuilder.builder()
+                .withFromHeight(1)
+                .withToHeight(2)
+                .withCreatedBy(3L)
+                .withFromTimestamp(4L)
+                .withToTimestamp(5L)
+                .withParticipant("Alice")
+                .withDescending(true)
+                .build();
+
+        // then
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("fromHeight", 1)
+                .hasFieldOrPropertyWithValue("toHeight", 2)
+                .hasFieldOrPropertyWithValue("createdBy", 3L)
+                .hasFieldOrPropertyWithValue("fromTimestamp", 4L)
+                .hasFieldOrPropertyWithValue("toTimestamp", 5L)
+                .hasFieldOrPropertyWithValue("participant", "Alice")
+                .hasFieldOrPropertyWithValue("descending", true);
+    }
+
+    @Test
+    public void should_throw_exception_when_ranges_are_invalid() {
+
+        // then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BlockQueryBuilder.builder().withFromHeight(5).withToHeight(4).build())
+                .withMessage("Heights and timestamps should be valid ranges");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BlockQueryBuilder.builder().withFromTimestamp(5L).withToTimestamp(4L).build())
+                .withMessage("Heights and timestamps should be valid ranges");
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.blockchain.logic.shard;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ShardedBlockChainTest {
+
+    @Test
+    public void should_throw_exception_when_there_are_no_shards() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ShardedBlockChain(0))
+                .withMessage("There should be at least one shard");
+    }
+
+    @Test
+    public void should_route_sender_always_to_the_same_shard() {
+
+        // given
+        final ShardedBlockChain subject = new ShardedBlockChain(4);
+
+        // when
+        final BlockChain actual = subject.route("Client-7");
+
+        // then
+        assertThat(subject.route("Client-7")).isSameAs(actual);
+        assertThat(subject.getShards()).contains(actual).doesNotHaveDuplicates();
+        assertThat(subject.shardOf(null)).isZero();
+    }
+
+    @Test
+    public void should_spread_senders_over_all_shards() {
+
+        // given
+        final ShardedBlockChain subject = new ShardedBlockChain(4);
+
+        // when
+        final int[] senders = new int[subject.size()];
+        for (int i = 0; i < 100; i++) {
+            senders[subject.shardOf("Client-" + i)]++;
+        }
+
+        // then
+        for (final int count : senders) {
+            assertThat(count).isBetween(15, 35);
+        }
+    }
+
+    @Test
+    public void should_sum_up_balances_across_shards() {
+
+        // given
+        final ShardedBlockChain subject = new ShardedBlockChain(2);
+        final AbstractUser first = user("Client-0");
+        final AbstractUser second = user("Client-1");
+        final BlockChain firstShard = subject.route("Client-0");
+        final BlockChain secondShard = subject.route("Client-1");
+
+        final Block firstGenesis = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        firstShard.putLast(firstGenesis);
+        firstShard.putLast(Blocks.mineBlock(firstGenesis,
+                Collections.singletonList(transaction(1, first, second, 30L)), 2L, 1L));
+
+        final Block secondGenesis = Blocks.mineBlock(null, new ArrayList<>(), 1L, 2L);
+        secondShard.putLast(secondGenesis);
+        secondShard.putLast(Blocks.mineBlock(secondGenesis, Arrays.asList(
+                transaction(1, second, first, 10L),
+                new SecureMessage("Hello there!", 2, null, null, false)), 2L, 2L));
+
+        // when
+        final Balances actual = subject.getBalances();
+
+        // then
+        assertThat(firstShard).isNotSameAs(secondShard);
+        assertThat(actual.getBalance("Client-0")).isEqualTo(-20L);
+        assertThat(actual.getBalance("Client-1")).isEqualTo(20L);
+        assertThat(actual.getBalance("Client-2")).isZero();
+        assertThat(actual.getTotal()).isZero();
+        assertThat(actual.getTransactions()).isEqualTo(2L);
+        assertThat(actual.getCrossShardTransactions()).isEqualTo(2L);
+        assertThat(subject.getHeight()).isEqualTo(4);
+    }
+
+    private static AbstractUser user(final String name) {
+        final AbstractUser user = mock(AbstractUser.class);
+        when(user.getName()).thenReturn(name);
+        return user;
+    }
+
+    private static Message transaction(final int id, final AbstractUser from, final AbstractUser to, final long amount) {
+        return new Transaction(new SecureMessage("Transfer", id, null, null, false), from, to, amount);
+    }
+}
@@ -16,6 +16,9 @@ import java.security.NoSuchAlgorithmException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class AbstractUserTest {
 
@@ -98,7 +101,7 @@ public class AbstractUserTest {
     public void should_prepare_secure_message() {
 
         // given
-        doReturn(1).when(blockChain).getUniqueIdentifier();
+        doReturn(1).when(blockChain).getUniqueIdentifier(subject.getRandom());
 
         // when
         final Message actual = subject.prepareMessage();
@@ -113,4 +116,46 @@ public class AbstractUserTest {
                 actual.getText() + 1, ((SecureMessage) actual).getSignature(), subject.getKeyPair().getPublic());
         assertThat(actualVerify).isTrue();
     }
+
+    @Test
+    public void should_perform_action_and_schedule_next_one_when_active() {
+
+        // given
+        subject.coins = 0;
+
+        // when
+        final boolean actual = subject.step();
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(subject.getCoins()).isPositive();
+        assertThat(subject.isTerminated()).isFalse();
+        verify(simulation, times(1)).createAndPerformTransaction(subject);
+    }
+
+    @Test
+    public void should_mark_terminated_instead_of_performing_action_when_not_active() {
+
+        // given
+        subject.terminate();
+
+        // when
+        final boolean actual = subject.step();
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(subject.isTerminated()).isTrue();
+        verify(simulation, times(1)).splitRandom();
+        verifyNoMoreInteractions(simulation);
+    }
+
+    @Test
+    public void should_choose_sleep_between_one_and_fifteen_seconds() {
+
+        // when
+        final long actual = subject.nextSleepMillis();
+
+        // then
+        assertThat(actual).isBetween(1000L, 15000L);
+    }
 }
@@ -0,0 +1,37 @@
+package org.example.blockchain.logic.users;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.users.builder.MinerBuilder;
+import org.example.blockchain.simulation.Simulation;
+import org.example.blockchain.simulation.builder.SimulationBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MinerTest {
+
+    @Test
+    public void should_create_blocks_by_miner_s_id_on_any_thread() throws Exception {
+
+        // given
+        final BlockChain blockChain = new BlockChain();
+        final Simulation simulation = SimulationBuilder.builder().build();
+        final Miner subject = MinerBuilder.builder()
+                .withId(42L)
+                .withName("miner")
+                .withBlockChain(blockChain)
+                .withSimulation(simulation)
+                .build();
+
+        // when
+        subject.act();
+        final Thread other = new Thread(subject::act);
+        other.start();
+        other.join();
+
+        // then
+        assertThat(blockChain.getBlocks())
+                .hasSize(2)
+                .allSatisfy(block -> assertThat(block.getCreatedBy()).isEqualTo(42L));
+    }
+}
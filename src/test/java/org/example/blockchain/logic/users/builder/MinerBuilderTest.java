@@ -1,6 +1,7 @@
 package org.example.blockchain.logic.users.builder;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
 import org.example.blockchain.logic.users.Miner;
 import org.example.blockchain.simulation.Simulation;
 import org.example.blockchain.simulation.builder.SimulationBuilder;
@@ -45,6 +46,7 @@ public class MinerBuilderTest {
                 .withKeyPair(keyPair)
                 .withBlockChain(blockChain)
                 .withSimulation(simulation)
+                .withSignatureScheme(SignatureSchemes.DSA)
                 .build();
 
         // then
@@ -54,6 +56,32 @@ public class MinerBuilderTest {
                 .hasFieldOrPropertyWithValue("coins", 100)
                 .hasFieldOrPropertyWithValue("keyPair", keyPair)
                 .hasFieldOrPropertyWithValue("blockChain", blockChain)
-                .hasFieldOrPropertyWithValue("simulation", simulation);
+                .hasFieldOrPropertyWithValue("simulation", simulation)
+                .hasFieldOrPropertyWithValue("signatureScheme", SignatureSchemes.DSA);
+    }
+
+    @Test
+    public void should_build_miner_with_given_id() {
+
+        // when
+        final Miner actual = subject
+                .withId(7L)
+                .withName("TestMiner")
+                .withKeyPair(generator.generateKeyPair())
+                .build();
+
+        // then
+        assertThat(actual.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    public void should_give_each_miner_a_different_id() {
+
+        // when
+        final Miner first = subject.withName("FirstMiner").build();
+        final Miner second = MinerBuilder.builder().withName("SecondMiner").build();
+
+        // then
+        assertThat(first.getId()).isNotEqualTo(second.getId());
     }
 }
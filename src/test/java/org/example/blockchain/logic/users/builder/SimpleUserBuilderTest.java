@@ -1,6 +1,7 @@
 package org.example.blockchain.logic.users.builder;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
 import org.example.blockchain.logic.users.SimpleUser;
 import org.example.blockchain.simulation.Simulation;
 import org.example.blockchain.simulation.builder.SimulationBuilder;
@@ -45,6 +46,7 @@ public class SimpleUserBuilderTest {
                 .withKeyPair(keyPair)
                 .withBlockChain(blockChain)
                 .withSimulation(simulation)
+                .withSignatureScheme(SignatureSchemes.DSA)
                 .build();
 
         // then
@@ -54,6 +56,7 @@ public class SimpleUserBuilderTest {
                 .hasFieldOrPropertyWithValue("coins", 100)
                 .hasFieldOrPropertyWithValue("keyPair", keyPair)
                 .hasFieldOrPropertyWithValue("blockChain", blockChain)
-                .hasFieldOrPropertyWithValue("simulation", simulation);
+                .hasFieldOrPropertyWithValue("simulation", simulation)
+                .hasFieldOrPropertyWithValue("signatureScheme", SignatureSchemes.DSA);
     }
 }
@@ -1,19 +1,30 @@
 package org.example.blockchain.simulation;
 
 import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.ingest.MessageIngest;
 import org.example.blockchain.logic.message.Message;
 import org.example.blockchain.logic.message.SecureMessage;
 import org.example.blockchain.logic.message.Transaction;
 import org.example.blockchain.logic.users.AbstractUser;
 import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
 import org.example.blockchain.simulation.builder.SimulationBuilder;
+import org.example.blockchain.simulation.scheduler.UserScheduler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -21,11 +32,13 @@ import static org.mockito.Mockito.*;
 public class SimulationTest {
 
     private Simulation subject;
+    private UserRegistry userRegistry;
 
     @BeforeEach
     public void setUp() {
+        userRegistry = spy(new UserRegistry());
         subject = SimulationBuilder.builder()
-                .withUsers(spy(new ArrayList<>()))
+                .withUserRegistry(userRegistry)
                 .withUserService(mock(ExecutorService.class))
                 .build();
     }
@@ -37,7 +50,7 @@ public class SimulationTest {
         subject.createAndPerformTransaction(null);
 
         // then
-        verifyNoInteractions(subject.getUsers());
+        verifyNoInteractions(userRegistry);
     }
 
     @Test
@@ -45,15 +58,17 @@ public class SimulationTest {
 
         // given
         final AbstractUser user = mock(AbstractUser.class);
-        subject.getUsers().add(user);
+        doReturn(new SplittableRandom()).when(user).getRandom();
+        subject.getUserRegistry().register(user);
 
         // then
         subject.createAndPerformTransaction(user);
 
         // then
         assertThat(subject.getUsers()).containsOnly(user);
-        verify(subject.getUsers(), times(1)).toArray();
-        verifyNoInteractions(user);
+        verify(userRegistry, times(1)).sample(eq(user), any(SplittableRandom.class));
+        verify(user, times(1)).getRandom();
+        verifyNoMoreInteractions(user);
     }
 
     @Test
@@ -72,14 +87,15 @@ public class SimulationTest {
         user.takeCoins(100);
         assertThat(user.getCoins()).isZero();
 
-        subject.getUsers().addAll(Arrays.asList(chosenUser, user));
+        subject.getUserRegistry().register(chosenUser);
+        subject.getUserRegistry().register(user);
 
         // when
         subject.createAndPerformTransaction(user);
 
         // then
         assertThat(subject.getUsers()).containsExactly(chosenUser, user);
-        verify(subject.getUsers(), times(1)).toArray();
+        verify(userRegistry, times(1)).sample(eq(user), any(SplittableRandom.class));
         verifyNoInteractions(chosenUser);
         verify(user, times(2)).getCoins();
     }
@@ -88,7 +104,7 @@ public class SimulationTest {
     public void should_create_and_perform_transaction() {
 
         // given
-        final BlockChain blockChain = mock(BlockChain.class);
+        final BlockChain blockChain = mockBlockChain();
         doReturn(true).when(blockChain).addMessage(any(Message.class));
 
         final AbstractUser chosenUser = spy(SimpleUserBuilder.builder()
@@ -104,21 +120,283 @@ public class SimulationTest {
                 .withBlockChain(blockChain)
                 .withSimulation(subject)
                 .build());
-        doReturn(mock(SecureMessage.class)).when(user).prepareMessage();
+        doReturn(mock(SecureMessage.class)).when(user).prepareMessage(anyInt(), eq(true));
 
-        subject.getUsers().addAll(Arrays.asList(chosenUser, user));
+        subject.getUserRegistry().register(chosenUser);
+        subject.getUserRegistry().register(user);
 
         // when
         subject.createAndPerformTransaction(user);
 
         // then
         assertThat(subject.getUsers()).containsExactly(chosenUser, user);
-        verify(subject.getUsers(), times(1)).toArray();
+        verify(userRegistry, times(1)).sample(eq(user), any(SplittableRandom.class));
         verify(chosenUser, times(1)).addCoins(anyInt());
         verify(user, times(2)).getCoins();
-        verify(user, times(1)).prepareMessage();
+        verify(user, times(1)).prepareMessage(1, true);
         verify(user, times(1)).takeCoins(anyInt());
+        verify(blockChain, times(1)).withUniqueIdentifier(any(SplittableRandom.class), any(), any());
         verify(blockChain, times(1)).addMessage(any(Transaction.class));
         verifyNoMoreInteractions(chosenUser, blockChain);
+        assertThat(subject.getPerformedTransactions()).isOne();
+        assertThat(subject.getRejectedTransactions()).isZero();
+    }
+
+    @Test
+    public void should_create_and_submit_transaction_to_message_ingest() {
+
+        // given
+        final MessageIngest messageIngest = mock(MessageIngest.class);
+        doReturn(CompletableFuture.completedFuture(true)).when(messageIngest).submit(any(Message.class));
+
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withUserService(mock(ExecutorService.class))
+                .withMessageIngest(messageIngest)
+                .build();
+
+        final BlockChain blockChain = mockBlockChain();
+
+        final AbstractUser chosenUser = spy(SimpleUserBuilder.builder()
+                .withName("vulwsztyn")
+                .withKeyPair(mock(KeyPair.class))
+                .withBlockChain(blockChain)
+                .withSimulation(simulation)
+                .build());
+
+        final AbstractUser user = spy(SimpleUserBuilder.builder()
+                .withName("dominieq")
+                .withKeyPair(mock(KeyPair.class))
+                .withBlockChain(blockChain)
+                .withSimulation(simulation)
+                .build());
+        doReturn(mock(SecureMessage.class)).when(user).prepareMessage(anyInt(), eq(false));
+
+        simulation.getUserRegistry().register(chosenUser);
+        simulation.getUserRegistry().register(user);
+
+        // when
+        simulation.createAndPerformTransaction(user);
+
+        // then
+        verify(user, times(1)).prepareMessage(1, false);
+        verify(user, never()).prepareMessage();
+        verify(messageIngest, times(1)).submit(any(Transaction.class));
+        verify(chosenUser, times(1)).addCoins(anyInt());
+        verify(user, times(1)).takeCoins(anyInt());
+        verify(blockChain, times(1)).withUniqueIdentifier(any(SplittableRandom.class), any(), any());
+        verifyNoMoreInteractions(blockChain);
+    }
+
+    @Test
+    public void should_not_perform_transaction_when_coins_were_taken_before_locking() {
+
+        // given
+        final BlockChain blockChain = mock(BlockChain.class);
+
+        final AbstractUser chosenUser = spy(SimpleUserBuilder.builder()
+                .withName("vulwsztyn")
+                .withKeyPair(mock(KeyPair.class))
+                .withBlockChain(blockChain)
+                .withSimulation(subject)
+                .build());
+
+        final AbstractUser user = spy(SimpleUserBuilder.builder()
+                .withName("dominieq")
+                .withKeyPair(mock(KeyPair.class))
+                .withBlockChain(blockChain)
+                .withSimulation(subject)
+                .build());
+        doReturn(1).doReturn(0).when(user).getCoins();
+
+        subject.getUserRegistry().register(chosenUser);
+        subject.getUserRegistry().register(user);
+
+        // when
+        subject.createAndPerformTransaction(user);
+
+        // then
+        verify(user, times(2)).getCoins();
+        verify(user, never()).takeCoins(anyInt());
+        verifyNoInteractions(chosenUser, blockChain);
+        assertThat(subject.getPerformedTransactions()).isZero();
+        assertThat(subject.getRejectedTransactions()).isOne();
+    }
+
+    @Test
+    public void should_give_coins_back_when_message_ingest_rejects_transaction() {
+
+        // given
+        final MessageIngest messageIngest = mock(MessageIngest.class);
+        doReturn(CompletableFuture.completedFuture(false)).when(messageIngest).submit(any(Message.class));
+
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withUserService(mock(ExecutorService.class))
+                .withMessageIngest(messageIngest)
+                .build();
+
+        final AbstractUser chosenUser = spy(SimpleUserBuilder.builder()
+                .withName("vulwsztyn")
+                .withKeyPair(mock(KeyPair.class))
+                .withBlockChain(mock(BlockChain.class))
+                .withSimulation(simulation)
+                .build());
+
+        final AbstractUser user = spy(SimpleUserBuilder.builder()
+                .withName("dominieq")
+                .withKeyPair(mock(KeyPair.class))
+                .withBlockChain(mockBlockChain())
+                .withSimulation(simulation)
+                .build());
+        doReturn(mock(SecureMessage.class)).when(user).prepareMessage(anyInt(), eq(false));
+
+        simulation.getUserRegistry().register(chosenUser);
+        simulation.getUserRegistry().register(user);
+
+        // when
+        simulation.createAndPerformTransaction(user);
+
+        // then
+        verify(user, times(1)).takeCoins(anyInt());
+        verify(user, times(1)).addCoins(anyInt());
+        verify(chosenUser, never()).addCoins(anyInt());
+        assertThat(user.getCoins()).isEqualTo(100);
+        assertThat(chosenUser.getCoins()).isEqualTo(100);
+        assertThat(simulation.getPerformedTransactions()).isZero();
+        assertThat(simulation.getRejectedTransactions()).isOne();
+    }
+
+    @Test
+    public void should_not_overdraw_when_one_user_submits_transactions_to_message_ingest_concurrently() throws Exception {
+
+        // given
+        final List<CompletableFuture<Boolean>> results = new CopyOnWriteArrayList<>();
+        final MessageIngest messageIngest = mock(MessageIngest.class);
+        doAnswer(invocation -> {
+            final CompletableFuture<Boolean> result = new CompletableFuture<>();
+            results.add(result);
+            return result;
+        }).when(messageIngest).submit(any(Message.class));
+
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withUserService(mock(ExecutorService.class))
+                .withMessageIngest(messageIngest)
+                .build();
+
+        final BlockChain blockChain = new BlockChain();
+        final KeyPair keyPair = generateKeyPair();
+
+        final AbstractUser chosenUser = SimpleUserBuilder.builder()
+                .withName("vulwsztyn")
+                .withKeyPair(keyPair)
+                .withBlockChain(blockChain)
+                .withSimulation(simulation)
+                .build();
+
+        final AbstractUser user = SimpleUserBuilder.builder()
+                .withName("dominieq")
+                .withKeyPair(keyPair)
+                .withBlockChain(blockChain)
+                .withSimulation(simulation)
+                .build();
+
+        simulation.getUserRegistry().register(chosenUser);
+        simulation.getUserRegistry().register(user);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            executorService.submit(() -> simulation.createAndPerformTransaction(user));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(user.getCoins()).isNotNegative();
+        assertThat(chosenUser.getCoins()).isEqualTo(100);
+
+        results.forEach(result -> result.complete(true));
+        assertThat(user.getCoins() + chosenUser.getCoins()).isEqualTo(200);
+        assertThat(simulation.getPerformedTransactions()).isEqualTo(results.size());
+    }
+
+    @Test
+    public void should_keep_total_coins_and_accept_every_transaction_when_performed_concurrently() throws Exception {
+
+        // given
+        final BlockChain blockChain = new BlockChain();
+        final KeyPair keyPair = generateKeyPair();
+
+        final List<AbstractUser> users = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            users.add(SimpleUserBuilder.builder()
+                    .withName("User-" + i)
+                    .withKeyPair(keyPair)
+                    .withBlockChain(blockChain)
+                    .withSimulation(subject)
+                    .build());
+        }
+
+        users.forEach(subject.getUserRegistry()::register);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 400; i++) {
+            final AbstractUser user = users.get(i % users.size());
+            executorService.submit(() -> subject.createAndPerformTransaction(user));
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(users)
+                .extracting(AbstractUser::getCoins)
+                .allMatch(coins -> coins >= 0);
+        assertThat(users.stream().mapToInt(AbstractUser::getCoins).sum()).isEqualTo(400);
+        assertThat(blockChain.getMetrics().getRejectedMessages()).isZero();
+        assertThat(blockChain.getMessages()).hasSize((int) subject.getPerformedTransactions());
+        assertThat(blockChain.validateMessages(blockChain.getMessages())).isTrue();
+    }
+
+    @Test
+    public void should_schedule_submitted_user_when_simulation_has_user_scheduler() {
+
+        // given
+        final UserScheduler userScheduler = mock(UserScheduler.class);
+        final ExecutorService userService = mock(ExecutorService.class);
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withUserService(userService)
+                .withUserScheduler(userScheduler)
+                .build();
+
+        final AbstractUser user = mock(AbstractUser.class);
+
+        // when
+        simulation.submitUser(user);
+        simulation.shutdownNow();
+
+        // then
+        assertThat(simulation.getUsers()).containsExactly(user);
+        verify(userScheduler, times(1)).schedule(user);
+        verify(userScheduler, times(1)).shutdownNow();
+        verify(userService, never()).submit(any(Runnable.class));
+        verifyNoInteractions(user);
+    }
+
+    private static BlockChain mockBlockChain() {
+        final BlockChain blockChain = mock(BlockChain.class);
+        doAnswer(invocation -> invocation.<Function<Object, ?>>getArgument(2)
+                .apply(invocation.<IntFunction<?>>getArgument(1).apply(1)))
+                .when(blockChain).withUniqueIdentifier(any(SplittableRandom.class), any(), any());
+        return blockChain;
+    }
+
+    private static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
     }
 }
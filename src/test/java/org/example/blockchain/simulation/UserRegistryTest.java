@@ -0,0 +1,136 @@
+package org.example.blockchain.simulation;
+
+import org.example.blockchain.logic.users.AbstractUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class UserRegistryTest {
+
+    private UserRegistry subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new UserRegistry();
+    }
+
+    @Test
+    public void should_not_sample_excluded_user() {
+
+        // given
+        final AbstractUser first = mock(AbstractUser.class);
+        final AbstractUser second = mock(AbstractUser.class);
+        final AbstractUser third = mock(AbstractUser.class);
+        subject.register(first);
+        subject.register(second);
+        subject.register(third);
+
+        final Set<AbstractUser> actual = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            actual.add(subject.sample(second));
+        }
+
+        // then
+        assertThat(actual).containsExactlyInAnyOrder(first, third);
+    }
+
+    @Test
+    public void should_sample_the_same_users_with_the_same_seed() {
+
+        // given
+        for (int i = 0; i < 10; i++) {
+            subject.register(mock(AbstractUser.class));
+        }
+
+        final SplittableRandom random = new SplittableRandom(42L);
+        final SplittableRandom otherRandom = new SplittableRandom(42L);
+        final List<AbstractUser> actual = new ArrayList<>();
+        final List<AbstractUser> other = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            actual.add(subject.sample(subject.get(0), random));
+            other.add(subject.sample(subject.get(0), otherRandom));
+        }
+
+        // then
+        assertThat(actual).isEqualTo(other).doesNotContain(subject.get(0));
+    }
+
+    @Test
+    public void should_not_sample_anyone_when_only_excluded_user_is_registered() {
+
+        // given
+        final AbstractUser user = mock(AbstractUser.class);
+        subject.register(user);
+        subject.register(user);
+
+        // when
+        final AbstractUser actual = subject.sample(user);
+
+        // then
+        assertThat(actual).isNull();
+        assertThat(new UserRegistry().sample(user)).isNull();
+    }
+
+    @Test
+    public void should_keep_initial_users_and_grow() {
+
+        // given
+        final List<AbstractUser> initial = Arrays.asList(mock(AbstractUser.class), mock(AbstractUser.class));
+        final UserRegistry registry = new UserRegistry(initial);
+        final List<AbstractUser> expected = new ArrayList<>(initial);
+
+        // when
+        for (int i = 0; i < 40; i++) {
+            final AbstractUser user = mock(AbstractUser.class);
+            registry.register(user);
+            expected.add(user);
+        }
+
+        // then
+        assertThat(registry.size()).isEqualTo(42);
+        assertThat(registry.snapshot()).containsExactlyElementsOf(expected);
+        assertThat(registry.get(41)).isSameAs(expected.get(41));
+        assertThatThrownBy(() -> registry.get(42)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void should_register_users_concurrently() throws InterruptedException {
+
+        // given
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executorService.submit(() -> {
+                subject.register(mock(AbstractUser.class));
+                subject.sample(null);
+            });
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(subject.size()).isEqualTo(1000);
+        assertThat(subject.snapshot()).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_user_is_null() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.register(null)
+        ).withMessage("User should be defined");
+    }
+}
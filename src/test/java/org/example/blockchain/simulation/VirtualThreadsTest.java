@@ -0,0 +1,89 @@
+package org.example.blockchain.simulation;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
+import org.example.blockchain.simulation.builder.SimulationBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadsTest {
+
+    private static final int USERS_COUNT = 100_000;
+    private static final long MAX_BYTES_PER_USER = 8 * 1024;
+
+    @Test
+    @Timeout(value = 2, unit = TimeUnit.MINUTES)
+    public void should_run_100k_simple_users_with_bounded_memory() throws InterruptedException {
+
+        // given
+        assumeTrue(VirtualThreads.isAvailable(), "Virtual threads require Java 21 or newer");
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withVirtualThreads()
+                .build();
+
+        final BlockChain blockChain = BlockChain.getInstance();
+        final List<AbstractUser> users = new ArrayList<>(USERS_COUNT);
+        final long usedBefore = usedMemory();
+
+        // when
+        for (int i = 0; i < USERS_COUNT; i++) {
+            final AbstractUser user = SimpleUserBuilder.builder()
+                    .withName("Client-" + i)
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build();
+
+            // Users without coins skip signing, so the test measures threads rather than cryptography.
+            user.takeCoins(100);
+            users.add(user);
+            simulation.submitUser(user);
+        }
+
+        for (AbstractUser user : users) {
+            while (user.getCoins() == 0) {
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+        }
+
+        final long usedWhileSleeping = usedMemory();
+        final int platformThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+        simulation.shutdownNow();
+
+        // then
+        assertThat(simulation.getUserRegistry().size()).isEqualTo(USERS_COUNT);
+        assertThat(platformThreads).isLessThan(1_000);
+        assertThat(usedWhileSleeping - usedBefore).isLessThan(USERS_COUNT * MAX_BYTES_PER_USER);
+        assertThat(simulation.getUserService().awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void should_throw_illegal_state_exception_when_not_available() {
+
+        // given
+        assumeFalse(VirtualThreads.isAvailable());
+
+        // when
+        assertThatIllegalStateException().isThrownBy(
+                VirtualThreads::newExecutor
+        ).withMessage("Virtual threads require Java 21 or newer");
+    }
+
+    private static long usedMemory() {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
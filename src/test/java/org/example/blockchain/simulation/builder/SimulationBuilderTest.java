@@ -2,16 +2,23 @@ package org.example.blockchain.simulation.builder;
 
 import org.example.blockchain.logic.users.AbstractUser;
 import org.example.blockchain.simulation.Simulation;
+import org.example.blockchain.simulation.UserRegistry;
+import org.example.blockchain.simulation.VirtualThreads;
+import org.example.blockchain.simulation.scheduler.ScheduledUserScheduler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class SimulationBuilderTest {
 
@@ -57,5 +64,83 @@ public class SimulationBuilderTest {
         assertThat(actual).hasFieldOrPropertyWithValue("users", users);
         assertThat(actual.getUserService()).isInstanceOf(ThreadPoolExecutor.class);
     }
-}
 
+    @Test
+    public void should_build_simulation_with_custom_user_registry() {
+
+        // given
+        final UserRegistry userRegistry = new UserRegistry();
+
+        // when
+        final Simulation actual = subject
+                .withUsers(new ArrayList<>())
+                .withUserRegistry(userRegistry)
+                .build();
+
+        // then
+        assertThat(actual.getUserRegistry()).isSameAs(userRegistry);
+    }
+
+    @Test
+    public void should_build_simulations_with_the_same_randomness_for_the_same_seed() {
+
+        // when
+        final Simulation actual = subject
+                .withUsers(new ArrayList<>())
+                .withSeed(42L)
+                .build();
+        final Simulation other = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withSeed(42L)
+                .build();
+
+        // then
+        final SplittableRandom random = actual.splitRandom();
+        final SplittableRandom otherRandom = other.splitRandom();
+        assertThat(random.ints(10).toArray()).isEqualTo(otherRandom.ints(10).toArray());
+    }
+
+    @Test
+    public void should_build_simulation_with_virtual_threads() {
+
+        // given
+        assumeTrue(VirtualThreads.isAvailable(), "Virtual threads require Java 21 or newer");
+
+        // when
+        final Simulation actual = subject
+                .withUsers(new ArrayList<>())
+                .withVirtualThreads()
+                .build();
+
+        // then
+        assertThat(actual.getUserService()).isNotNull().isNotInstanceOf(ThreadPoolExecutor.class);
+        actual.shutdownNow();
+    }
+
+    @Test
+    public void should_throw_illegal_state_exception_when_virtual_threads_are_not_available() {
+
+        // given
+        assumeFalse(VirtualThreads.isAvailable());
+
+        // when
+        assertThatIllegalStateException().isThrownBy(
+                () -> subject.withVirtualThreads()
+        ).withMessage("Virtual threads require Java 21 or newer");
+    }
+
+    @Test
+    public void should_build_simulation_with_scheduled_users() {
+
+        // when
+        final Simulation actual = subject
+                .withUsers(new ArrayList<>())
+                .withScheduledUsers()
+                .build();
+
+        // then
+        assertThat(actual.getUserScheduler()).isInstanceOf(ScheduledUserScheduler.class);
+        assertThat(actual.getUserService()).isNull();
+        actual.shutdownNow();
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.blockchain.simulation.load;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.shard.Balances;
+import org.example.blockchain.logic.shard.ShardedBlockChain;
+import org.example.blockchain.simulation.load.builder.LoadGeneratorBuilder;
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LoadGeneratorTest {
+
+    private BlockChain blockChain;
+
+    @BeforeEach
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        resetBlockChain();
+        blockChain = BlockChain.getInstance();
+    }
+
+    @AfterEach
+    public void tearDown() throws NoSuchFieldException, IllegalAccessException {
+        resetBlockChain();
+    }
+
+    @Test
+    public void should_account_for_each_issued_transaction() throws IOException, InterruptedException {
+
+        // given
+        final Scenario scenario = ScenarioBuilder.builder()
+                .withUsersCount(10)
+                .withMinersCount(0)
+                .withTransactionsPerSecond(100.0)
+                .withRampUp(Duration.ZERO)
+                .withDuration(Duration.ofSeconds(2))
+                .withSeed(42L)
+                .build();
+
+        // when
+        final LoadReport actual = LoadGeneratorBuilder.builder()
+                .withScenario(scenario)
+                .withBlockChain(blockChain)
+                .withParallelism(2)
+                .build()
+                .run();
+
+        // then
+        assertThat(actual.getIssued()).isBetween(150L, 200L);
+        assertThat(actual.getPerformed() + actual.getRejected() + actual.getNotStarted()).isEqualTo(actual.getIssued());
+        assertThat(actual.getPerformed()).isPositive();
+        assertThat(actual.getMempoolDepth()).isEqualTo(actual.getPerformed());
+        assertThat(actual.getBlocks()).isZero();
+        assertThat(actual.getTransactionsPerSecond()).isPositive();
+    }
+
+    @Test
+    public void should_report_blocks_mined_during_run() throws IOException, InterruptedException {
+
+        // given
+        final Scenario scenario = ScenarioBuilder.builder()
+                .withUsersCount(5)
+                .withMinersCount(1)
+                .withTransactionsPerSecond(20.0)
+                .withRampUp(Duration.ofSeconds(1))
+                .withDuration(Duration.ofSeconds(2))
+                .withMinNumberOfZeros(0)
+                .withMaxNumberOfZeros(1)
+                .build();
+
+        // when
+        final LoadReport actual = LoadGeneratorBuilder.builder()
+                .withScenario(scenario)
+                .withBlockChain(blockChain)
+                .build()
+                .run();
+
+        // then
+        assertThat(actual.getBlocks()).isPositive();
+        assertThat(actual.getBlocksPerSecond()).isPositive();
+        assertThat(actual.getIncludedTransactions()).isLessThanOrEqualTo(actual.getPerformed());
+        assertThat(actual.getInclusionLatencyP99()).isGreaterThanOrEqualTo(actual.getInclusionLatencyP50());
+        assertThat(actual.getInclusionLatencyP999()).isGreaterThanOrEqualTo(actual.getInclusionLatencyP99());
+        assertThat(actual.getNumberOfZeros()).isBetween(0, 1);
+        assertThat(blockChain.getMaxNumberOfZeros()).isOne();
+    }
+
+    @Test
+    public void should_put_load_on_each_shard() throws IOException, InterruptedException {
+
+        // given
+        final ShardedBlockChain shards = new ShardedBlockChain(3);
+        final Scenario scenario = ScenarioBuilder.builder()
+                .withUsersCount(9)
+                .withMinersCount(1)
+                .withTransactionsPerSecond(30.0)
+                .withRampUp(Duration.ZERO)
+                .withDuration(Duration.ofSeconds(2))
+                .withMinNumberOfZeros(0)
+                .withMaxNumberOfZeros(1)
+                .withSeed(42L)
+                .build();
+
+        // when
+        final LoadReport actual = LoadGeneratorBuilder.builder()
+                .withScenario(scenario)
+                .withShards(shards)
+                .withParallelism(3)
+                .build()
+                .run();
+
+        // then
+        final Balances balances = shards.getBalances();
+        assertThat(actual.getBlocks()).isEqualTo(shards.getHeight());
+        assertThat(shards.getShards()).allSatisfy(shard -> assertThat(shard.getBlocks()).isNotEmpty());
+        assertThat(balances.getTransactions()).isEqualTo(actual.getIncludedTransactions());
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_scenario_is_null() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new LoadGenerator(null, blockChain, SignatureSchemes.DSA, 1)
+        ).withMessage("Scenario and blockchain should be defined and parallelism should be positive");
+    }
+
+    private static void resetBlockChain() throws NoSuchFieldException, IllegalAccessException {
+        final Field field = BlockChain.class.getDeclaredField("instance");
+        field.setAccessible(true);
+        field.set(null, null);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.blockchain.simulation.load;
+
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class ScenarioTest {
+
+    @Test
+    public void should_expect_transactions_growing_linearly_after_ramp_up() {
+
+        // given
+        final Scenario subject = ScenarioBuilder.builder()
+                .withTransactionsPerSecond(100.0)
+                .withRampUp(Duration.ofSeconds(10))
+                .withDuration(Duration.ofSeconds(60))
+                .build();
+
+        // then
+        assertThat(subject.getExpectedTransactions(0L)).isZero();
+        assertThat(subject.getExpectedTransactions(5_000L)).isEqualTo(125L);
+        assertThat(subject.getExpectedTransactions(10_000L)).isEqualTo(500L);
+        assertThat(subject.getExpectedTransactions(20_000L)).isEqualTo(1500L);
+        assertThat(subject.getExpectedTransactions(60_000L)).isEqualTo(5500L);
+        assertThat(subject.getExpectedTransactions(120_000L)).isEqualTo(5500L);
+    }
+
+    @Test
+    public void should_expect_transactions_at_full_rate_without_ramp_up() {
+
+        // given
+        final Scenario subject = ScenarioBuilder.builder()
+                .withTransactionsPerSecond(50.0)
+                .withRampUp(Duration.ZERO)
+                .build();
+
+        // then
+        assertThat(subject.getExpectedTransactions(1_000L)).isEqualTo(50L);
+        assertThat(subject.getExpectedTransactions(2_500L)).isEqualTo(125L);
+    }
+
+    @Test
+    public void should_read_scenario_from_properties() {
+
+        // given
+        final Properties properties = new Properties();
+        properties.setProperty("users", "100");
+        properties.setProperty("miners", " 4 ");
+        properties.setProperty("transactions-per-second", "250.5");
+        properties.setProperty("ramp-up-seconds", "5");
+        properties.setProperty("duration-seconds", "30");
+        properties.setProperty("min-zeros", "1");
+        properties.setProperty("max-zeros", "3");
+        properties.setProperty("seed", "42");
+
+        // when
+        final Scenario actual = Scenario.fromProperties(properties);
+
+        // then
+        assertThat(actual.getUsersCount()).isEqualTo(100);
+        assertThat(actual.getMinersCount()).isEqualTo(4);
+        assertThat(actual.getTransactionsPerSecond()).isEqualTo(250.5);
+        assertThat(actual.getRampUp()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(actual.getDuration()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(actual.getMinNumberOfZeros()).isOne();
+        assertThat(actual.getMaxNumberOfZeros()).isEqualTo(3);
+        assertThat(actual.getSeed()).isEqualTo(42L);
+    }
+
+    @Test
+    public void should_read_default_scenario_from_empty_properties() {
+
+        // when
+        final Scenario actual = Scenario.fromProperties(new Properties());
+
+        // then
+        assertThat(actual.getUsersCount()).isEqualTo(30);
+        assertThat(actual.getMinersCount()).isEqualTo(15);
+        assertThat(actual.getTransactionsPerSecond()).isEqualTo(10.0);
+        assertThat(actual.getSeed()).isNull();
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_property_is_not_a_number() {
+
+        // given
+        final Properties properties = new Properties();
+        properties.setProperty("users", "many");
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> Scenario.fromProperties(properties)
+        );
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_values_are_out_of_range() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> ScenarioBuilder.builder().withUsersCount(1).build()
+        ).withMessage("There should be at least two users and miners should not be negative");
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> ScenarioBuilder.builder().withTransactionsPerSecond(0.0).build()
+        ).withMessage("Transactions per second should be positive");
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> ScenarioBuilder.builder().withDuration(Duration.ZERO).build()
+        ).withMessage("Ramp-up should not be negative and duration should be positive");
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> ScenarioBuilder.builder().withMinNumberOfZeros(5).withMaxNumberOfZeros(4).build()
+        ).withMessage("Minimum number of zeros should not be negative nor greater than maximum");
+    }
+}
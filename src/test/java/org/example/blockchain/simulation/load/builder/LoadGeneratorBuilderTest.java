@@ -0,0 +1,79 @@
+package org.example.blockchain.simulation.load.builder;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.shard.ShardedBlockChain;
+import org.example.blockchain.simulation.load.LoadGenerator;
+import org.example.blockchain.simulation.load.Scenario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LoadGeneratorBuilderTest {
+
+    private LoadGeneratorBuilder subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = LoadGeneratorBuilder.builder();
+    }
+
+    @Test
+    public void should_build_valid_load_generator() {
+
+        // given
+        final Scenario scenario = ScenarioBuilder.builder().build();
+        final BlockChain blockChain = mock(BlockChain.class);
+
+        // when
+        final LoadGenerator actual = subject
+                .withScenario(scenario)
+                .withBlockChain(blockChain)
+                .withSignatureScheme(SignatureSchemes.ED25519)
+                .withParallelism(3)
+                .build();
+
+        // then
+        assertThat(actual)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("scenario", scenario)
+                .hasFieldOrPropertyWithValue("blockChain", blockChain)
+                .hasFieldOrPropertyWithValue("signatureScheme", SignatureSchemes.ED25519)
+                .hasFieldOrPropertyWithValue("parallelism", 3);
+    }
+
+    @Test
+    public void should_build_load_generator_of_shards() {
+
+        // given
+        final ShardedBlockChain shards = new ShardedBlockChain(2);
+
+        // when
+        final LoadGenerator actual = subject
+                .withScenario(ScenarioBuilder.builder().build())
+                .withBlockChain(mock(BlockChain.class))
+                .withShards(shards)
+                .build();
+
+        // then
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("shards", shards)
+                .hasFieldOrPropertyWithValue("blockChain", shards.getShard(0));
+    }
+
+    @Test
+    public void should_build_load_generator_with_default_values() {
+
+        // when
+        final LoadGenerator actual = subject
+                .withScenario(ScenarioBuilder.builder().build())
+                .withBlockChain(mock(BlockChain.class))
+                .build();
+
+        // then
+        assertThat(actual.getSignatureScheme()).isSameAs(SignatureSchemes.DSA);
+        assertThat(actual.getParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.blockchain.simulation.load.builder;
+
+import org.example.blockchain.simulation.load.Scenario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScenarioBuilderTest {
+
+    private ScenarioBuilder subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = ScenarioBuilder.builder();
+    }
+
+    @Test
+    public void should_build_valid_scenario() {
+
+        // when
+        final Scenario actual = subject
+                .withUsersCount(200)
+                .withMinersCount(8)
+                .withTransactionsPerSecond(500.0)
+                .withRampUp(Duration.ofSeconds(30))
+                .withDuration(Duration.ofMinutes(5))
+                .withMinNumberOfZeros(2)
+                .withMaxNumberOfZeros(5)
+                .withSeed(7L)
+                .build();
+
+        // then
+        assertThat(actual)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("usersCount", 200)
+                .hasFieldOrPropertyWithValue("minersCount", 8)
+                .hasFieldOrPropertyWithValue("transactionsPerSecond", 500.0)
+                .hasFieldOrPropertyWithValue("rampUp", Duration.ofSeconds(30))
+                .hasFieldOrPropertyWithValue("duration", Duration.ofMinutes(5))
+                .hasFieldOrPropertyWithValue("minNumberOfZeros", 2)
+                .hasFieldOrPropertyWithValue("maxNumberOfZeros", 5)
+                .hasFieldOrPropertyWithValue("seed", 7L);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactBlockTest {
+
+    private Message first;
+    private Message second;
+    private Block block;
+
+    @BeforeEach
+    public void setUp() {
+        first = new SecureMessage("Hello there!", 1, null, null, false);
+        second = new SecureMessage("General Kenobi!", 2, null, null, false);
+        final Block genesis = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        block = Blocks.mineBlock(genesis, Arrays.asList(first, second), 2L, 1L);
+    }
+
+    @Test
+    public void should_carry_header_without_messages() {
+
+        // when
+        final CompactBlock actual = CompactBlock.of(block);
+
+        // then
+        assertThat(actual.getHeader().getHash()).isEqualTo(block.getHash());
+        assertThat(actual.getHeader().getMessages()).isEmpty();
+        assertThat(actual.getShortIds()).containsExactly(CompactBlock.shortIdOf(first), CompactBlock.shortIdOf(second));
+        assertThat(actual.getSize()).isLessThan(Network.sizeOf(block));
+    }
+
+    @Test
+    public void should_tell_apart_messages_with_same_id_and_different_text() {
+
+        // given
+        final Message other = new SecureMessage("You are a bold one.", 1, null, null, false);
+
+        // then
+        assertThat(CompactBlock.shortIdOf(other)).isNotEqualTo(CompactBlock.shortIdOf(first));
+    }
+
+    @Test
+    public void should_tell_apart_messages_with_same_id_and_text_signed_by_different_users() {
+
+        // given
+        final Message signed = new SecureMessage("Hello there!", 1, new byte[] {1, 2, 3}, null, false);
+        final Message otherSigned = new SecureMessage("Hello there!", 1, new byte[] {3, 2, 1}, null, false);
+
+        // then
+        assertThat(CompactBlock.shortIdOf(signed)).isNotEqualTo(CompactBlock.shortIdOf(otherSigned));
+        assertThat(CompactBlock.shortIdOf(signed) >>> 32).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_return_missing_messages() {
+
+        // given
+        final CompactBlock subject = CompactBlock.of(block);
+        final Map<Long, Message> known = new HashMap<>();
+        known.put(CompactBlock.shortIdOf(first), first);
+
+        // when
+        final List<Long> actual = subject.getMissing(known::get);
+
+        // then
+        assertThat(actual).containsExactly(CompactBlock.shortIdOf(second));
+        assertThat(subject.reconstruct(known::get)).isNull();
+    }
+
+    @Test
+    public void should_reconstruct_block_from_known_messages() {
+
+        // given
+        final CompactBlock subject = CompactBlock.of(block);
+        final Map<Long, Message> known = new HashMap<>();
+        known.put(CompactBlock.shortIdOf(first), first);
+        known.put(CompactBlock.shortIdOf(second), second);
+
+        // when
+        final Block actual = subject.reconstruct(known::get);
+
+        // then
+        assertThat(actual.getHash()).isEqualTo(block.getHash());
+        assertThat(actual.getPreviousHash()).isEqualTo(block.getPreviousHash());
+        assertThat(actual.getMagicNumber()).isEqualTo(block.getMagicNumber());
+        assertThat(actual.getMessages()).containsExactly(first, second);
+    }
+}
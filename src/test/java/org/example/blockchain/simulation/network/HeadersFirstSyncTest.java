@@ -0,0 +1,220 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.block.builder.BlockBuilder;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.simulation.network.builder.NetworkConditionsBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class HeadersFirstSyncTest {
+
+    private Network network;
+    private KeyPair keyPair;
+    private Block genesis;
+    private List<Block> blocks;
+
+    @BeforeEach
+    public void setUp() {
+        network = new Network(NetworkConditionsBuilder.builder()
+                .withLatency(Duration.ofMillis(5))
+                .build(), new SplittableRandom(1L));
+
+        keyPair = SignatureSchemes.DSA.generateKeyPair();
+        genesis = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        blocks = new ArrayList<>();
+        blocks.add(genesis);
+        for (int i = 1; i <= 40; i++) {
+            blocks.add(Blocks.mineBlock(blocks.get(i - 1),
+                    Collections.singletonList(signed("Message " + i, i)),
+                    i + 1L, 1L));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        network.shutdown();
+    }
+
+    @Test
+    public void should_throw_exception_when_there_are_no_peers() {
+
+        // given
+        final Node node = new Node("Node-0", withBlocks(Collections.singletonList(genesis)), network);
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> node.synchronize(new ArrayList<>()))
+                .withMessage("Node, peers and network should be defined");
+    }
+
+    @Test
+    public void should_download_chain_from_several_peers() throws Exception {
+
+        // given
+        final Node first = new Node("Node-0", withBlocks(blocks), network);
+        final Node second = new Node("Node-1", withBlocks(blocks), network);
+        final Node late = new Node("Node-2", withBlocks(Collections.singletonList(genesis)), network);
+
+        // when
+        final boolean actual = late.synchronize(Arrays.asList(first, second)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(hashesOf(late.getChain())).isEqualTo(hashesOf(blocks));
+        assertThat(late.getChain().get(40).getMessages()).isEqualTo(blocks.get(40).getMessages());
+        assertThat(late.getReorganizations()).isZero();
+    }
+
+    @Test
+    public void should_request_missing_bodies_from_next_peer() throws Exception {
+
+        // given
+        final Node first = new Node("Node-0", withBlocks(blocks), network);
+        final Node behind = new Node("Node-1", withBlocks(Collections.singletonList(genesis)), network);
+        final Node late = new Node("Node-2", withBlocks(Collections.singletonList(genesis)), network);
+
+        // when
+        final boolean actual = late.synchronize(Arrays.asList(first, behind)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(hashesOf(late.getChain())).isEqualTo(hashesOf(blocks));
+    }
+
+    @Test
+    public void should_reject_chain_with_invalid_header() throws Exception {
+
+        // given
+        final List<Block> tampered = new ArrayList<>(blocks);
+        final Block block = blocks.get(20);
+        tampered.set(20, BlockBuilder.builder()
+                .withId(block.getId())
+                .withTimestamp(block.getTimestamp() + 1L)
+                .withMagicNumber(block.getMagicNumber())
+                .withHash(block.getHash())
+                .withPreviousHash(block.getPreviousHash())
+                .withCreatedBy(block.getCreatedBy())
+                .withMessages(block.getMessages())
+                .build());
+
+        final Node peer = new Node("Node-0", withBlocks(tampered), network);
+        final Node late = new Node("Node-1", withBlocks(Collections.singletonList(genesis)), network);
+
+        // when
+        final boolean actual = late.synchronize(Collections.singletonList(peer)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(late.getChain()).containsExactly(genesis);
+        assertThat(network.getSentBytes()).isLessThan(Network.sizeOf(blocks.get(1)) * 40L);
+    }
+
+    @Test
+    public void should_reject_body_with_unordered_messages() throws Exception {
+
+        // given
+        final List<Block> unordered = new ArrayList<>(blocks);
+        final Block block = blocks.get(30);
+        unordered.set(30, BlockBuilder.builder()
+                .withId(block.getId())
+                .withTimestamp(block.getTimestamp())
+                .withMagicNumber(block.getMagicNumber())
+                .withHash(block.getHash())
+                .withPreviousHash(block.getPreviousHash())
+                .withCreatedBy(block.getCreatedBy())
+                .withMessages(Arrays.asList(
+                        signed("Hello there!", 31),
+                        signed("General Kenobi!", 30)))
+                .build());
+
+        final Node peer = new Node("Node-0", withBlocks(unordered), network);
+        final Node late = new Node("Node-1", withBlocks(Collections.singletonList(genesis)), network);
+
+        // when
+        final boolean actual = late.synchronize(Collections.singletonList(peer)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(late.getChain()).containsExactly(genesis);
+    }
+
+    @Test
+    public void should_reject_header_with_fewer_zeros_than_previous_header_set() throws Exception {
+
+        // given
+        blocks.get(20).setNProgress(blocks.get(21).getHash().startsWith("0") ? 8 : 1);
+        final Node peer = new Node("Node-0", withBlocks(blocks), network);
+        final Node late = new Node("Node-1", withBlocks(Collections.singletonList(genesis)), network);
+
+        // when
+        final boolean actual = late.synchronize(Collections.singletonList(peer)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(late.getChain()).containsExactly(genesis);
+        assertThat(network.getSentBytes()).isLessThan(Network.sizeOf(blocks.get(1)) * 40L);
+    }
+
+    @Test
+    public void should_download_whole_chain_to_node_without_blocks() throws Exception {
+
+        // given
+        final Node peer = new Node("Node-0", withBlocks(blocks), network);
+        final Node late = new Node("Node-1", new BlockChain(), network);
+
+        // when
+        final boolean actual = late.synchronize(Collections.singletonList(peer)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(hashesOf(late.getChain())).isEqualTo(hashesOf(blocks));
+    }
+
+    @Test
+    public void should_complete_with_false_when_peer_sends_no_headers() throws Exception {
+
+        // given
+        final Node peer = new Node("Node-0", new BlockChain(), network);
+        final Node late = new Node("Node-1", new BlockChain(), network);
+
+        // when
+        final boolean actual = late.synchronize(Collections.singletonList(peer)).get(5L, TimeUnit.SECONDS);
+
+        // then
+        assertThat(actual).isFalse();
+        assertThat(late.getChain()).isEmpty();
+    }
+
+    private Message signed(final String text, final int id) {
+        return new SecureMessage(text, id, SignatureSchemes.DSA.sign(text, id, keyPair.getPrivate()), keyPair.getPublic());
+    }
+
+    private static BlockChain withBlocks(final List<Block> blocks) {
+        final BlockChain blockChain = new BlockChain();
+        blockChain.getBlocks().addAll(blocks);
+        return blockChain;
+    }
+
+    private static List<String> hashesOf(final List<Block> blocks) {
+        return blocks.stream().map(Block::getHash).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.blockchain.simulation.network;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class NetworkConditionsTest {
+
+    @Test
+    public void should_throw_exception_when_latency_is_not_defined() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new NetworkConditions(null, 1000L, 0.0))
+                .withMessage("Latency should be defined and should not be negative");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1L, 0L})
+    public void should_throw_exception_when_bandwidth_is_not_positive(final long bandwidth) {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new NetworkConditions(Duration.ZERO, bandwidth, 0.0))
+                .withMessage("Bandwidth should be positive");
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.0})
+    public void should_throw_exception_when_loss_rate_is_out_of_range(final double lossRate) {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new NetworkConditions(Duration.ZERO, 1000L, lossRate))
+                .withMessage("Loss rate should be between 0 inclusive and 1 exclusive");
+    }
+
+    @Test
+    public void should_evaluate_transmission_time_from_bandwidth() {
+
+        // given
+        final NetworkConditions subject = new NetworkConditions(Duration.ZERO, 1000L, 0.0);
+
+        // when
+        final long actual = subject.getTransmissionNanos(250L);
+
+        // then
+        assertThat(actual).isEqualTo(250_000_000L);
+    }
+
+    @Test
+    public void should_read_conditions_from_properties() {
+
+        // given
+        final Properties properties = new Properties();
+        properties.setProperty("latency-millis", "20");
+        properties.setProperty("bandwidth-bytes-per-second", " 5000 ");
+        properties.setProperty("loss-rate", "0.05");
+
+        // when
+        final NetworkConditions actual = NetworkConditions.fromProperties(properties);
+
+        // then
+        assertThat(actual.getLatency()).isEqualTo(Duration.ofMillis(20));
+        assertThat(actual.getBandwidth()).isEqualTo(5000L);
+        assertThat(actual.getLossRate()).isEqualTo(0.05);
+    }
+
+    @Test
+    public void should_take_default_values_of_missing_properties() {
+
+        // when
+        final NetworkConditions actual = NetworkConditions.fromProperties(new Properties());
+
+        // then
+        assertThat(actual.getLatency()).isEqualTo(Duration.ofMillis(50));
+        assertThat(actual.getBandwidth()).isEqualTo(1_000_000L);
+        assertThat(actual.getLossRate()).isZero();
+    }
+}
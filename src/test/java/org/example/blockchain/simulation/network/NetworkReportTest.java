@@ -0,0 +1,37 @@
+package org.example.blockchain.simulation.network;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NetworkReportTest {
+
+    @Test
+    public void should_evaluate_orphan_rate_and_throughput() {
+
+        // given
+        final NetworkReport subject = new NetworkReport(
+                4, RelayMode.FULL, 2000L, 100L, 10L, 8L, 50L, 3L, 1L, 40L, 0L, 4096L, 3072L, 1024L, 0L,
+                1000L, 2000L, 3000L);
+
+        // when
+        final double orphanRate = subject.getOrphanRate();
+        final double transactionsPerSecond = subject.getTransactionsPerSecond();
+
+        // then
+        assertThat(orphanRate).isEqualTo(0.2);
+        assertThat(transactionsPerSecond).isEqualTo(25.0);
+    }
+
+    @Test
+    public void should_return_zero_rates_of_empty_run() {
+
+        // given
+        final NetworkReport subject = new NetworkReport(
+                2, RelayMode.COMPACT, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+
+        // then
+        assertThat(subject.getOrphanRate()).isZero();
+        assertThat(subject.getTransactionsPerSecond()).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+import org.example.blockchain.simulation.network.builder.NetworkConditionsBuilder;
+import org.example.blockchain.simulation.network.builder.NetworkSimulationBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class NetworkSimulationTest {
+
+    @Test
+    public void should_throw_exception_when_there_are_less_than_two_nodes() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NetworkSimulationBuilder.builder().withNodesCount(1).build())
+                .withMessage("There should be at least two nodes");
+    }
+
+    @Test
+    public void should_throw_exception_when_scenario_is_not_defined() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NetworkSimulationBuilder.builder().withScenario(null).build())
+                .withMessage("Scenario, network conditions and relay mode should be defined and parallelism should be positive");
+    }
+
+    @Test
+    public void should_report_blocks_propagated_between_nodes() throws InterruptedException {
+
+        // given
+        final Scenario scenario = ScenarioBuilder.builder()
+                .withUsersCount(3)
+                .withMinersCount(1)
+                .withTransactionsPerSecond(10.0)
+                .withRampUp(Duration.ZERO)
+                .withDuration(Duration.ofSeconds(3))
+                .withMaxNumberOfZeros(1)
+                .withSeed(42L)
+                .build();
+
+        // when
+        final NetworkReport actual = NetworkSimulationBuilder.builder()
+                .withNodesCount(2)
+                .withScenario(scenario)
+                .withConditions(NetworkConditionsBuilder.builder()
+                        .withLatency(Duration.ofMillis(10))
+                        .build())
+                .build()
+                .run();
+
+        // then
+        assertThat(actual.getNodes()).isEqualTo(2);
+        assertThat(actual.getMinedBlocks()).isPositive();
+        assertThat(actual.getBestChainBlocks()).isPositive().isLessThanOrEqualTo(actual.getMinedBlocks());
+        assertThat(actual.getSentMessages()).isPositive();
+        assertThat(actual.getDroppedMessages()).isZero();
+        assertThat(actual.getPerformedTransactions()).isPositive();
+        assertThat(actual.getOrphanRate()).isBetween(0.0, 1.0);
+    }
+}
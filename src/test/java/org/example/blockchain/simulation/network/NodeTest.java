@@ -0,0 +1,246 @@
+package org.example.blockchain.simulation.network;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.Messages;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.simulation.network.builder.NetworkConditionsBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class NodeTest {
+
+    private Network network;
+    private Node first;
+    private Node second;
+    private Block genesis;
+
+    @BeforeEach
+    public void setUp() {
+        network = new Network(NetworkConditionsBuilder.builder()
+                .withLatency(Duration.ofMillis(5))
+                .build(), new SplittableRandom(1L));
+
+        genesis = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        first = new Node("Node-0", withGenesis(new BlockChain()), network);
+        second = new Node("Node-1", withGenesis(new BlockChain()), network);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        network.shutdown();
+    }
+
+    @Test
+    public void should_throw_exception_when_any_value_is_not_defined() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new Node("Node-2", null, network))
+                .withMessage("Name, blockchain and network should be defined");
+    }
+
+    @Test
+    public void should_send_mined_block_to_peers() throws InterruptedException {
+
+        // given
+        final Block block = Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 1L);
+
+        // when
+        first.getBlockChain().putLast(block);
+
+        // then
+        await(() -> network.getPropagation().getCount() == 1L);
+        assertThat(second.getChain()).containsExactly(genesis, block);
+        assertThat(first.getMinedBlocks()).isOne();
+        assertThat(second.getMinedBlocks()).isZero();
+        assertThat(second.getReceivedBlocks()).isOne();
+        assertThat(network.getSentMessages()).isOne();
+        assertThat(network.getPropagation().getCount()).isOne();
+    }
+
+    @Test
+    public void should_count_block_behind_own_chain_as_stale() throws InterruptedException {
+
+        // given
+        final Block theirs = Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 2L);
+        second.getBlockChain().getBlocks().add(theirs);
+
+        // when
+        first.getBlockChain().putLast(Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 1L));
+
+        // then
+        await(() -> second.getStaleBlocks() == 1L);
+        assertThat(second.getChain()).containsExactly(genesis, theirs);
+    }
+
+    @Test
+    public void should_switch_to_longer_chain_of_peer() throws InterruptedException {
+
+        // given
+        final Block theirs = Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 2L);
+        second.getBlockChain().getBlocks().add(theirs);
+
+        final List<Block> ours = new ArrayList<>();
+        ours.add(Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 1L));
+        ours.add(Blocks.mineBlock(ours.get(0), new ArrayList<>(), 3L, 1L));
+        first.getBlockChain().getBlocks().add(ours.get(0));
+
+        // when
+        first.getBlockChain().putLast(ours.get(1));
+
+        // then
+        await(() -> second.getReorganizations() == 1L);
+        assertThat(second.getChain()).containsExactly(genesis, ours.get(0), ours.get(1));
+        assertThat(second.getMinedBlocks()).isZero();
+        assertThat(network.getSentMessages()).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_forget_known_messages_of_blocks_it_switched_to() throws Exception {
+
+        // given
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+        generator.initialize(2048);
+        final KeyPair keyPair = generator.generateKeyPair();
+        final Message message = new SecureMessage("Hello there!", 1,
+                Messages.sign("Hello there!", 1, keyPair.getPrivate()), keyPair.getPublic());
+
+        final Block theirs = Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 2L);
+        second.getBlockChain().getBlocks().add(theirs);
+        second.know(message);
+
+        final List<Block> ours = new ArrayList<>();
+        ours.add(Blocks.mineBlock(genesis, Collections.singletonList(message), 2L, 1L));
+        ours.add(Blocks.mineBlock(ours.get(0), new ArrayList<>(), 3L, 1L));
+        first.getBlockChain().getBlocks().add(ours.get(0));
+
+        // when
+        first.getBlockChain().putLast(ours.get(1));
+
+        // then
+        await(() -> second.getReorganizations() == 1L);
+        assertThat(second.getKnownMessages()).isZero();
+    }
+
+    @Test
+    public void should_rebuild_compact_block_from_relayed_messages() throws InterruptedException {
+
+        // given
+        final Network compact = new Network(NetworkConditionsBuilder.builder()
+                .withLatency(Duration.ofMillis(5))
+                .build(), RelayMode.COMPACT, new SplittableRandom(1L));
+        final Node miner = new Node("Node-2", withGenesis(new BlockChain()), compact);
+        final Node peer = new Node("Node-3", withGenesis(new BlockChain()), compact);
+
+        final Message message = new SecureMessage("Hello there!", 1, null, null, false);
+        miner.getBlockChain().addMessage(message);
+        await(() -> peer.getKnownMessages() == 1);
+
+        final Block block = Blocks.mineBlock(genesis, Collections.singletonList(message), 2L, 1L);
+
+        // when
+        miner.getBlockChain().putLast(block);
+
+        // then
+        await(() -> compact.getPropagation().getCount() == 1L);
+        compact.shutdown();
+        assertThat(peer.getChain().get(1).getHash()).isEqualTo(block.getHash());
+        assertThat(peer.getChain().get(1).getMessages()).containsExactly(message);
+        assertThat(peer.getKnownMessages()).isZero();
+        assertThat(compact.getRequestedMessages()).isZero();
+        assertThat(compact.getBlockBytes()).isLessThan(Network.sizeOf(block));
+    }
+
+    @Test
+    public void should_request_only_missing_messages_of_compact_block() throws InterruptedException {
+
+        // given
+        final Network compact = new Network(NetworkConditionsBuilder.builder()
+                .withLatency(Duration.ofMillis(5))
+                .build(), RelayMode.COMPACT, new SplittableRandom(1L));
+        final Node miner = new Node("Node-2", withGenesis(new BlockChain()), compact);
+        final Node peer = new Node("Node-3", withGenesis(new BlockChain()), compact);
+
+        final Message relayed = new SecureMessage("Hello there!", 1, null, null, false);
+        final Message unknown = new SecureMessage("General Kenobi!", 2, null, null, false);
+        miner.getBlockChain().addMessage(relayed);
+        await(() -> peer.getKnownMessages() == 1);
+
+        // when
+        miner.getBlockChain().putLast(Blocks.mineBlock(genesis, Arrays.asList(relayed, unknown), 2L, 1L));
+
+        // then
+        await(() -> compact.getPropagation().getCount() == 1L);
+        compact.shutdown();
+        assertThat(peer.getChain().get(1).getMessages()).containsExactly(relayed, unknown);
+        assertThat(compact.getRequestedMessages()).isOne();
+    }
+
+    @Test
+    public void should_rebuild_compact_block_when_nodes_have_messages_with_the_same_id() throws Exception {
+
+        // given
+        final Network compact = new Network(NetworkConditionsBuilder.builder()
+                .withLatency(Duration.ofMillis(5))
+                .build(), RelayMode.COMPACT, new SplittableRandom(1L));
+        final Node miner = new Node("Node-2", withGenesis(new BlockChain()), compact);
+        final Node peer = new Node("Node-3", withGenesis(new BlockChain()), compact);
+
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+        generator.initialize(2048);
+        final KeyPair minerKeys = generator.generateKeyPair();
+        final KeyPair peerKeys = generator.generateKeyPair();
+
+        final Message minersMessage = new SecureMessage("Hello there!", 1,
+                Messages.sign("Hello there!", 1, minerKeys.getPrivate()), minerKeys.getPublic());
+        final Message peersMessage = new SecureMessage("Hello there!", 1,
+                Messages.sign("Hello there!", 1, peerKeys.getPrivate()), peerKeys.getPublic());
+
+        miner.getBlockChain().addMessage(minersMessage);
+        await(() -> peer.getKnownMessages() == 1);
+        peer.getBlockChain().addMessage(peersMessage);
+
+        final Block block = Blocks.mineBlock(genesis, Collections.singletonList(minersMessage), 2L, 1L);
+
+        // when
+        miner.getBlockChain().putLast(block);
+
+        // then
+        await(() -> compact.getPropagation().getCount() == 1L);
+        compact.shutdown();
+        assertThat(peer.getChain().get(1).getHash()).isEqualTo(block.getHash());
+        assertThat(peer.getChain().get(1).getMessages()).hasSize(1);
+        assertThat(peer.getChain().get(1).getMessages().get(0)).isSameAs(minersMessage);
+        assertThat(compact.getRequestedMessages()).isZero();
+    }
+
+    private BlockChain withGenesis(final BlockChain blockChain) {
+        blockChain.putLast(genesis);
+        return blockChain;
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5L);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.blockchain.simulation.network.builder;
+
+import org.example.blockchain.simulation.network.NetworkConditions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NetworkConditionsBuilderTest {
+
+    @Test
+    public void should_build_valid_network_conditions() {
+
+        // when
+        final NetworkConditions actual = NetworkConditionsBuilder.builder()
+                .withLatency(Duration.ofMillis(100))
+                .withBandwidth(125_000L)
+                .withLossRate(0.1)
+                .build();
+
+        // then
+        assertThat(actual)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("latency", Duration.ofMillis(100))
+                .hasFieldOrPropertyWithValue("bandwidth", 125_000L)
+                .hasFieldOrPropertyWithValue("lossRate", 0.1);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.blockchain.simulation.network.builder;
+
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.simulation.load.Scenario;
+import org.example.blockchain.simulation.load.builder.ScenarioBuilder;
+import org.example.blockchain.simulation.network.NetworkConditions;
+import org.example.blockchain.simulation.network.NetworkSimulation;
+import org.example.blockchain.simulation.network.RelayMode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NetworkSimulationBuilderTest {
+
+    @Test
+    public void should_build_valid_network_simulation() {
+
+        // given
+        final Scenario scenario = ScenarioBuilder.builder().withUsersCount(5).build();
+        final NetworkConditions conditions = NetworkConditionsBuilder.builder().build();
+
+        // when
+        final NetworkSimulation actual = NetworkSimulationBuilder.builder()
+                .withNodesCount(8)
+                .withScenario(scenario)
+                .withConditions(conditions)
+                .withRelayMode(RelayMode.COMPACT)
+                .withSignatureScheme(SignatureSchemes.DSA)
+                .withParallelism(2)
+                .build();
+
+        // then
+        assertThat(actual)
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("nodesCount", 8)
+                .hasFieldOrPropertyWithValue("scenario", scenario)
+                .hasFieldOrPropertyWithValue("conditions", conditions)
+                .hasFieldOrPropertyWithValue("relayMode", RelayMode.COMPACT)
+                .hasFieldOrPropertyWithValue("signatureScheme", SignatureSchemes.DSA)
+                .hasFieldOrPropertyWithValue("parallelism", 2);
+    }
+}
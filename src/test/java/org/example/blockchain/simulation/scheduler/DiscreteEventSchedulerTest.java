@@ -0,0 +1,206 @@
+package org.example.blockchain.simulation.scheduler;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.MiningContext;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.example.blockchain.logic.users.builder.MinerBuilder;
+import org.example.blockchain.logic.users.builder.SimpleUserBuilder;
+import org.example.blockchain.simulation.Simulation;
+import org.example.blockchain.simulation.builder.SimulationBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.*;
+
+public class DiscreteEventSchedulerTest {
+
+    private VirtualClock clock;
+    private DiscreteEventScheduler subject;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new VirtualClock(Instant.EPOCH);
+        subject = new DiscreteEventScheduler(clock);
+    }
+
+    @Test
+    public void should_run_actions_in_order_of_simulated_time() {
+
+        // given
+        final List<String> steps = new ArrayList<>();
+
+        final AbstractUser first = mock(AbstractUser.class);
+        doAnswer(invocation -> steps.add("first@" + clock.millis())).when(first).step();
+        doReturn(3000L).when(first).nextSleepMillis();
+
+        final AbstractUser second = mock(AbstractUser.class);
+        doAnswer(invocation -> steps.add("second@" + clock.millis())).when(second).step();
+        doReturn(2000L).when(second).nextSleepMillis();
+
+        subject.schedule(first);
+        subject.schedule(second);
+
+        // when
+        final long actual = subject.runFor(Duration.ofSeconds(4));
+
+        // then
+        assertThat(steps).containsExactly("first@0", "second@0", "second@2000", "first@3000", "second@4000");
+        assertThat(actual).isEqualTo(5L);
+        assertThat(clock.millis()).isEqualTo(4000L);
+        assertThat(subject.getPendingEvents()).isEqualTo(2);
+        assertThat(subject.getProcessedEvents()).isEqualTo(5L);
+    }
+
+    @Test
+    public void should_not_schedule_terminated_user_again() {
+
+        // given
+        final AbstractUser user = mock(AbstractUser.class);
+        doReturn(false).when(user).step();
+        subject.schedule(user);
+
+        // when
+        final long actual = subject.runFor(Duration.ofHours(1));
+
+        // then
+        assertThat(actual).isOne();
+        assertThat(subject.getPendingEvents()).isZero();
+        assertThat(clock.millis()).isEqualTo(TimeUnit.HOURS.toMillis(1));
+        verify(user, never()).nextSleepMillis();
+    }
+
+    @Test
+    public void should_not_run_actions_after_shutdown() {
+
+        // given
+        final AbstractUser user = mock(AbstractUser.class);
+        subject.schedule(user);
+
+        // when
+        subject.shutdownNow();
+        final long actual = subject.runFor(Duration.ofHours(1));
+
+        // then
+        assertThat(actual).isZero();
+        assertThat(clock.millis()).isZero();
+        verifyNoInteractions(user);
+    }
+
+    @Test
+    public void should_simulate_a_day_of_mining_in_seconds() throws NoSuchFieldException, IllegalAccessException {
+
+        // given
+        final Field field = BlockChain.class.getDeclaredField("instance");
+        field.setAccessible(true);
+        field.set(null, null);
+        final BlockChain blockChain = BlockChain.getInstance();
+
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withUserScheduler(subject)
+                .withMiningContext(new MiningContext(1L))
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            simulation.submitUser(MinerBuilder.builder()
+                    .withId((long) i)
+                    .withName("Miner-" + i)
+                    .withKeyPair(SignatureSchemes.DSA.generateKeyPair())
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build());
+        }
+
+        final long start = System.nanoTime();
+
+        // when
+        subject.runFor(Duration.ofDays(1));
+
+        // then
+        final long wallSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+        final List<Block> blocks = blockChain.getBlocks();
+
+        assertThat(wallSeconds).isLessThan(60L);
+        assertThat(clock.instant()).isEqualTo(Instant.EPOCH.plus(Duration.ofDays(1)));
+        assertThat(blocks.size()).isGreaterThan(200);
+        assertThat(blocks.get(blocks.size() - 1).getTimestamp()).isLessThanOrEqualTo(clock.millis());
+        assertThat(blocks).extracting(Block::getNProgress).contains(1, 2);
+        assertThat(blockChain.validateBlocks(blocks)).isTrue();
+
+        field.set(null, null);
+    }
+
+    @Test
+    public void should_mine_the_same_blocks_with_the_same_seed() throws NoSuchFieldException, IllegalAccessException {
+
+        // when
+        final List<Block> first = mineWithSeed(42L);
+        final List<Block> second = mineWithSeed(42L);
+
+        // then
+        assertThat(first.size()).isGreaterThan(10);
+        assertThat(second).extracting(Block::getHash).isEqualTo(first.stream().map(Block::getHash).collect(toList()));
+        assertThat(second).extracting(Block::getGenerationTime)
+                .isEqualTo(first.stream().map(Block::getGenerationTime).collect(toList()));
+        assertThat(second).extracting(block -> block.getMessages().size())
+                .isEqualTo(first.stream().map(block -> block.getMessages().size()).collect(toList()));
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_clock_is_null() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new DiscreteEventScheduler(null)
+        ).withMessage("Clock should be defined");
+    }
+
+    private static List<Block> mineWithSeed(final long seed) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = BlockChain.class.getDeclaredField("instance");
+        field.setAccessible(true);
+        field.set(null, null);
+        final BlockChain blockChain = BlockChain.getInstance();
+
+        final DiscreteEventScheduler scheduler = new DiscreteEventScheduler();
+        final Simulation simulation = SimulationBuilder.builder()
+                .withUsers(new ArrayList<>())
+                .withUserScheduler(scheduler)
+                .withMiningContext(new MiningContext(1L))
+                .withSeed(seed)
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            simulation.submitUser(MinerBuilder.builder()
+                    .withId((long) i)
+                    .withName("Miner-" + i)
+                    .withKeyPair(SignatureSchemes.DSA.generateKeyPair())
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build());
+            simulation.submitUser(SimpleUserBuilder.builder()
+                    .withName("Client-" + i)
+                    .withKeyPair(SignatureSchemes.DSA.generateKeyPair())
+                    .withBlockChain(blockChain)
+                    .withSimulation(simulation)
+                    .build());
+        }
+
+        scheduler.runFor(Duration.ofHours(2));
+
+        final List<Block> blocks = blockChain.getBlocks();
+        field.set(null, null);
+        return blocks;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.blockchain.simulation.scheduler;
+
+import org.example.blockchain.logic.users.AbstractUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.*;
+
+public class ScheduledUserSchedulerTest {
+
+    private ScheduledUserScheduler subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new ScheduledUserScheduler(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        subject.shutdownNow();
+    }
+
+    @Test
+    public void should_schedule_next_action_until_user_is_terminated() {
+
+        // given
+        final AbstractUser user = mock(AbstractUser.class);
+        doReturn(true, true, false).when(user).step();
+        doReturn(1L).when(user).nextSleepMillis();
+
+        // when
+        subject.schedule(user);
+
+        // then
+        verify(user, timeout(5000).times(3)).step();
+        verify(user, after(100).times(3)).step();
+        verify(user, times(2)).nextSleepMillis();
+        assertThat(subject.getActions()).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_not_schedule_actions_after_shutdown() {
+
+        // given
+        final AbstractUser user = mock(AbstractUser.class);
+        subject.shutdownNow();
+
+        // when
+        subject.schedule(user);
+
+        // then
+        assertThat(subject.getScheduler().isShutdown()).isTrue();
+        verifyNoInteractions(user);
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_number_of_threads_is_not_positive() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new ScheduledUserScheduler(0)
+        ).withMessage("Number of threads should be positive");
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new ScheduledUserScheduler((ScheduledExecutorService) null)
+        ).withMessage("Scheduler should be defined");
+    }
+}
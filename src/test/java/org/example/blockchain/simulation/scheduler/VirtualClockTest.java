@@ -0,0 +1,61 @@
+package org.example.blockchain.simulation.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class VirtualClockTest {
+
+    private VirtualClock subject;
+
+    @BeforeEach
+    public void setUp() {
+        subject = new VirtualClock(Instant.ofEpochMilli(1000L));
+    }
+
+    @Test
+    public void should_stand_still_until_advanced() {
+
+        // when
+        subject.advanceTo(5000L);
+        subject.advanceBy(Duration.ofSeconds(1));
+
+        // then
+        assertThat(subject.millis()).isEqualTo(6000L);
+        assertThat(subject.instant()).isEqualTo(Instant.ofEpochMilli(6000L));
+    }
+
+    @Test
+    public void should_share_time_with_clock_in_another_zone() {
+
+        // given
+        final Clock other = subject.withZone(ZoneId.of("Europe/Warsaw"));
+
+        // when
+        subject.advanceTo(2000L);
+
+        // then
+        assertThat(other.millis()).isEqualTo(2000L);
+        assertThat(other.getZone()).isEqualTo(ZoneId.of("Europe/Warsaw"));
+    }
+
+    @Test
+    public void should_throw_illegal_argument_exception_when_going_back() {
+
+        // when
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.advanceTo(999L)
+        ).withMessage("Virtual clock can't go back");
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> subject.advanceBy(Duration.ofMillis(-1L))
+        ).withMessage("Virtual clock can't go back");
+        assertThat(subject.millis()).isEqualTo(1000L);
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.blockchain.transport;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ChainArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private final KeyPair keyPair = SignatureSchemes.DSA.generateKeyPair();
+    private BlockChain blockChain;
+
+    @BeforeEach
+    public void setUp() {
+        blockChain = new BlockChain();
+
+        Block block = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        blockChain.putLast(block);
+        for (int i = 1; i < 30; i++) {
+            block = Blocks.mineBlock(block, List.of(message("Hello there " + i, i)), 1L, i + 1L);
+            blockChain.putLast(block);
+        }
+    }
+
+    @Test
+    public void should_import_exported_chain() throws IOException {
+
+        // given
+        final Path file = directory.resolve("chain.bin");
+        final BlockChain imported = new BlockChain();
+
+        // when
+        final int exported = ChainArchive.export(blockChain, file);
+        final int actual = ChainArchive.importTo(file, imported);
+
+        // then
+        assertThat(exported).isEqualTo(30);
+        assertThat(actual).isEqualTo(30);
+        assertThat(imported.getBlocks()).extracting(Block::getHash)
+                .containsExactlyElementsOf(blockChain.getBlocks().stream().map(Block::getHash).collect(Collectors.toList()));
+        assertThat(imported.validateBlocks(imported.getBlocks())).isTrue();
+    }
+
+    @Test
+    public void should_verify_blocks_larger_than_read_buffer() throws IOException {
+
+        // given
+        final char[] text = new char[100_000];
+        Arrays.fill(text, 'a');
+        final Block large = Blocks.mineBlock(blockChain.getLast(), List.of(message(new String(text), 30)), 1L, 31L);
+        blockChain.putLast(large);
+        final Path file = directory.resolve("chain.bin");
+        ChainArchive.export(blockChain, file);
+
+        // when
+        final int actual = ChainArchive.verify(file);
+
+        // then
+        assertThat(Files.size(file)).isGreaterThan(100_000L);
+        assertThat(actual).isEqualTo(31);
+    }
+
+    @Test
+    public void should_reject_tampered_message() throws IOException {
+
+        // given
+        final Path file = directory.resolve("chain.bin");
+        ChainArchive.export(blockChain, file);
+        final String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+        Files.write(file, content.replace("Hello there 7", "Hello where 7").getBytes(StandardCharsets.ISO_8859_1));
+        final BlockChain imported = new BlockChain();
+
+        // then
+        assertThatThrownBy(() -> ChainArchive.importTo(file, imported))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Invalid block at height 7");
+        assertThat(imported.getBlocks()).hasSize(7);
+    }
+
+    @Test
+    public void should_reject_truncated_file() throws IOException {
+
+        // given
+        final Path file = directory.resolve("chain.bin");
+        ChainArchive.export(blockChain, file);
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        // then
+        assertThatThrownBy(() -> ChainArchive.verify(file))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Truncated frame at height 29");
+        assertThatThrownBy(() -> ChainArchive.copy(file, directory.resolve("copy.bin"), 0))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Truncated frame at height 29");
+    }
+
+    @Test
+    public void should_reject_file_that_is_not_archive() throws IOException {
+
+        // given
+        final Path file = directory.resolve("chain.txt");
+        Files.write(file, "Hello there!".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThatThrownBy(() -> ChainArchive.verify(file))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not a chain archive");
+    }
+
+    @Test
+    public void should_copy_ranges_of_blocks() throws IOException {
+
+        // given
+        final Path file = directory.resolve("chain.bin");
+        final Path middle = directory.resolve("middle.bin");
+        final Path tail = directory.resolve("tail.bin");
+        final Path empty = directory.resolve("empty.bin");
+        ChainArchive.export(blockChain, file);
+
+        // when
+        final int copiedMiddle = ChainArchive.copy(file, middle, 10, 20);
+        final int copiedTail = ChainArchive.copy(file, tail, 25);
+        final int copiedEmpty = ChainArchive.copy(file, empty, 30);
+
+        // then
+        assertThat(copiedMiddle).isEqualTo(10);
+        assertThat(copiedTail).isEqualTo(5);
+        assertThat(copiedEmpty).isZero();
+
+        final BlockChain imported = new BlockChain();
+        assertThat(ChainArchive.importTo(middle, imported)).isEqualTo(10);
+        assertThat(imported.getBlocks().get(0).getHash()).isEqualTo(blockChain.getBlocks().get(10).getHash());
+        assertThat(ChainArchive.verify(tail)).isEqualTo(5);
+        assertThat(ChainArchive.verify(empty)).isZero();
+    }
+
+    @Test
+    public void should_throw_when_range_is_invalid() {
+
+        // given
+        final Path file = directory.resolve("chain.bin");
+
+        // then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ChainArchive.copy(file, file, 5, 4))
+                .withMessage("Source and target should be defined and heights should be a valid range");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ChainArchive.export(null, file))
+                .withMessage("Blockchain and target should be defined");
+    }
+
+    private Message message(final String text, final int id) {
+        return new SecureMessage(text, id,
+                SignatureSchemes.DSA.sign(text, id, keyPair.getPrivate()), keyPair.getPublic(), true);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.blockchain.transport;
+
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.scheme.SignatureSchemes;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FramesTest {
+
+    @Test
+    public void should_decode_encoded_block_with_verifiable_messages() throws IOException {
+
+        // given
+        final KeyPair keyPair = SignatureSchemes.DSA.generateKeyPair();
+        final Message message = new SecureMessage("Hello there!", 7,
+                SignatureSchemes.DSA.sign("Hello there!", 7, keyPair.getPrivate()), keyPair.getPublic(), true);
+        final Block first = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        final Block block = Blocks.mineBlock(first, Collections.singletonList(message), 2L, 3L);
+
+        // when
+        final ByteBuffer frame = Frames.nextFrame(Frames.encode(block));
+        final Block actual = Frames.decodeBlock(frame);
+
+        // then
+        assertThat(frame.isDirect()).isTrue();
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("id", block.getId())
+                .hasFieldOrPropertyWithValue("timestamp", block.getTimestamp())
+                .hasFieldOrPropertyWithValue("magicNumber", block.getMagicNumber())
+                .hasFieldOrPropertyWithValue("hash", block.getHash())
+                .hasFieldOrPropertyWithValue("previousHash", block.getPreviousHash())
+                .hasFieldOrPropertyWithValue("createdBy", block.getCreatedBy());
+        assertThat(actual.getMessages()).hasSize(1);
+
+        final SecureMessage actualMessage = (SecureMessage) actual.getMessages().get(0);
+        assertThat(actualMessage.getText()).isEqualTo("Hello there!");
+        assertThat(actualMessage.getId()).isEqualTo(7);
+        assertThat(actualMessage.getPublicKey()).isEqualTo(keyPair.getPublic());
+        assertThat(actualMessage.verify()).isTrue();
+    }
+
+    @Test
+    public void should_decode_encoded_message_without_signature() throws IOException {
+
+        // given
+        final Message message = new SecureMessage("General Kenobi!", 3, null, null, false);
+
+        // when
+        final Message actual = Frames.decodeMessage(Frames.nextFrame(Frames.encode(message)));
+
+        // then
+        assertThat(actual)
+                .hasFieldOrPropertyWithValue("text", "General Kenobi!")
+                .hasFieldOrPropertyWithValue("id", 3)
+                .hasFieldOrPropertyWithValue("signature", null)
+                .hasFieldOrPropertyWithValue("publicKey", null);
+    }
+
+    @Test
+    public void should_take_only_whole_frames() throws IOException {
+
+        // given
+        final ByteBuffer first = Frames.encode(new SecureMessage("Hello there!", 1, null, null, false));
+        final ByteBuffer second = Frames.encode(new SecureMessage("General Kenobi!", 2, null, null, false));
+        final ByteBuffer received = ByteBuffer.allocate(first.remaining() + second.remaining());
+        received.put(first).put(second);
+        received.flip();
+        received.limit(received.limit() - 1);
+
+        // when
+        final ByteBuffer actual = Frames.nextFrame(received);
+        final ByteBuffer incomplete = Frames.nextFrame(received);
+
+        // then
+        assertThat(Frames.decodeMessage(actual).getId()).isOne();
+        assertThat(incomplete).isNull();
+        assertThat(Frames.requiredCapacity(received)).isEqualTo(second.capacity());
+    }
+
+    @Test
+    public void should_throw_exception_when_frame_length_is_out_of_range() {
+
+        // given
+        final ByteBuffer received = ByteBuffer.allocate(8).putInt(Frames.MAX_FRAME_LENGTH + 1);
+        received.flip();
+
+        // when
+        assertThatThrownBy(() -> Frames.nextFrame(received))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Frame length out of range: " + (Frames.MAX_FRAME_LENGTH + 1));
+    }
+
+    @Test
+    public void should_throw_exception_when_decoding_frame_of_another_type() throws IOException {
+
+        // given
+        final ByteBuffer frame = Frames.nextFrame(Frames.encode(new SecureMessage("Hello there!", 1, null, null, false)));
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> Frames.decodeBlock(frame))
+                .withMessage("Unexpected frame type: " + Frames.MESSAGE);
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.blockchain.transport;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PeerTransportTest {
+
+    private BlockChain firstBlockChain;
+    private BlockChain secondBlockChain;
+    private PeerTransport first;
+    private PeerTransport second;
+    private Block genesis;
+
+    @BeforeEach
+    public void setUp() throws IOException, InterruptedException {
+        genesis = Blocks.mineBlock(null, new ArrayList<>(), 1L, 1L);
+        firstBlockChain = new BlockChain();
+        secondBlockChain = new BlockChain();
+        firstBlockChain.putLast(genesis);
+        secondBlockChain.putLast(genesis);
+
+        first = new PeerTransport(firstBlockChain, new InetSocketAddress("localhost", 0));
+        second = new PeerTransport(secondBlockChain, new InetSocketAddress("localhost", 0));
+        first.start();
+        second.start();
+        first.connect(second.getAddress());
+
+        await(() -> first.getConnections() == 1 && second.getConnections() == 1);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void should_throw_exception_when_blockchain_is_not_defined() {
+
+        // when
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new PeerTransport(null, new InetSocketAddress("localhost", 0)))
+                .withMessage("Blockchain and address should be defined");
+    }
+
+    @Test
+    public void should_announce_accepted_blocks_to_peers() throws InterruptedException {
+
+        // given
+        final Block block = Blocks.mineBlock(genesis, new ArrayList<>(), 2L, 1L);
+
+        // when
+        firstBlockChain.putLast(block);
+
+        // then
+        await(() -> secondBlockChain.getBlocks().size() == 2);
+        assertThat(secondBlockChain.getLast().getHash()).isEqualTo(block.getHash());
+        assertThat(first.getSentFrames()).isOne();
+        assertThat(second.getReceivedFrames()).isOne();
+        assertThat(second.getSentFrames()).isZero();
+    }
+
+    @Test
+    public void should_announce_added_messages_both_ways() throws InterruptedException {
+
+        // when
+        firstBlockChain.addMessage(new SecureMessage("Hello there!", 1, null, null, false));
+        await(() -> secondBlockChain.getMessages().size() == 1);
+        secondBlockChain.addMessage(new SecureMessage("General Kenobi!", 2, null, null, false));
+
+        // then
+        await(() -> firstBlockChain.getMessages().size() == 2);
+        assertThat(firstBlockChain.getMessages()).extracting("text").containsExactly("Hello there!", "General Kenobi!");
+        assertThat(secondBlockChain.getMessages()).extracting("text").containsExactly("Hello there!", "General Kenobi!");
+        assertThat(first.getSentFrames()).isOne();
+        assertThat(second.getSentFrames()).isOne();
+    }
+
+    @Test
+    public void should_receive_blocks_larger_than_buffer() throws InterruptedException {
+
+        // given
+        final List<Message> messages = new ArrayList<>();
+        for (int i = 1; i <= 2000; i++) {
+            messages.add(new SecureMessage("Message number " + i + " with some padding to make it longer", i, null, null, false));
+        }
+        final Block block = Blocks.mineBlock(genesis, messages, 2L, 1L);
+
+        // when
+        firstBlockChain.putLast(block);
+
+        // then
+        await(() -> secondBlockChain.getBlocks().size() == 2);
+        assertThat(secondBlockChain.getLast().getMessages()).hasSize(2000);
+        assertThat(second.getReceivedBytes()).isGreaterThan(64L * 1024L);
+    }
+
+    @Test
+    public void should_announce_local_message_with_the_same_id_as_a_received_one() throws InterruptedException {
+
+        // given
+        secondBlockChain.addMessage(new SecureMessage("Hello there!", 7, null, null, false));
+        await(() -> firstBlockChain.getMessages().size() == 1);
+        firstBlockChain.putLast(Blocks.mineBlock(genesis, new ArrayList<>(firstBlockChain.getMessages()), 2L, 1L));
+        await(() -> secondBlockChain.getMessages().isEmpty());
+
+        // when
+        firstBlockChain.addMessage(new SecureMessage("General Kenobi!", 7, null, null, false));
+
+        // then
+        await(() -> secondBlockChain.getMessages().size() == 1);
+        assertThat(secondBlockChain.getMessages()).extracting("text").containsExactly("General Kenobi!");
+    }
+
+    @Test
+    public void should_disconnect_peer_that_does_not_read_its_frames() throws IOException, InterruptedException {
+
+        // given
+        final List<Message> messages = new ArrayList<>();
+        for (int i = 1; i <= 2000; i++) {
+            messages.add(new SecureMessage("Message number " + i + " with some padding to make it longer", i, null, null, false));
+        }
+        final Block block = Blocks.mineBlock(genesis, messages, 2L, 1L);
+
+        try (SocketChannel stalled = SocketChannel.open(first.getAddress())) {
+            await(() -> first.getConnections() == 2);
+
+            // when
+            for (int i = 0; i < 1000 && first.getConnections() == 2; i++) {
+                first.broadcast(block);
+                TimeUnit.MILLISECONDS.sleep(1L);
+            }
+
+            // then
+            await(() -> first.getConnections() == 1);
+            assertThat(first.getConnections()).isOne();
+            assertThat(stalled.isConnected()).isTrue();
+        }
+    }
+
+    private static void await(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5L);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.blockchain.transport.http;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BlockIndexTest {
+
+    private BlockChain blockChain;
+    private BlockIndex subject;
+
+    @BeforeEach
+    public void setUp() {
+        blockChain = new BlockChain();
+        subject = new BlockIndex(blockChain);
+
+        Block block = Blocks.mineBlock(null, new ArrayList<>(), 0L, 0L);
+        blockChain.putLast(block);
+        for (int i = 1; i < 10; i++) {
+            block = Blocks.mineBlock(block, List.of(new SecureMessage("Hello there!", i, null, null, false)), i, 1L);
+            blockChain.putLast(block);
+        }
+    }
+
+    @Test
+    public void should_find_blocks_put_after_it_was_created() {
+
+        // given
+        final Block last = Blocks.mineBlock(blockChain.getLast(),
+                List.of(new SecureMessage("General Kenobi!", 10, null, null, false)), 10L, 1L);
+
+        // when
+        final Block before = subject.findBlock(last.getHash());
+        blockChain.putLast(last);
+        final Block after = subject.findBlock(last.getHash());
+
+        // then
+        assertThat(before).isNull();
+        assertThat(after).isSameAs(last);
+        assertThat(subject.findBlockOfMessage(10)).isSameAs(last);
+        assertThat(subject.findBlockOfMessage(5)).isSameAs(blockChain.getBlocks().get(5));
+        assertThat(subject.findBlockOfMessage(11)).isNull();
+        assertThat(subject.size()).isEqualTo(11);
+    }
+
+    @Test
+    public void should_forget_blocks_replaced_by_another_chain() {
+
+        // given
+        subject.refresh();
+        final Block replaced = blockChain.getLast();
+        final List<Block> chain = new ArrayList<>(blockChain.getBlocks().subList(0, 9));
+        Block block = chain.get(8);
+        for (int i = 0; i < 2; i++) {
+            block = Blocks.mineBlock(block, new ArrayList<>(), 100L + i, 2L);
+            chain.add(block);
+        }
+
+        // when
+        blockChain.switchTo(chain);
+
+        // then
+        assertThat(subject.findBlock(replaced.getHash())).isNull();
+        assertThat(subject.findBlockOfMessage(9)).isNull();
+        assertThat(subject.findBlock(block.getHash())).isSameAs(block);
+        assertThat(subject.findBlockOfMessage(8)).isSameAs(chain.get(8));
+        assertThat(subject.size()).isEqualTo(11);
+    }
+
+    @Test
+    public void should_find_indexed_blocks_without_taking_the_lock() throws Exception {
+
+        // given
+        subject.refresh();
+        final Block block = blockChain.getBlocks().get(5);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        final Block actual;
+        try {
+            synchronized (subject) {
+                actual = executor.submit(() -> subject.findBlock(block.getHash())).get(5L, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(actual).isSameAs(block);
+    }
+
+    @Test
+    public void should_throw_exception_when_blockchain_is_not_defined() {
+
+        // then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BlockIndex(null))
+                .withMessage("Blockchain should be defined");
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.blockchain.transport.http;
+
+import org.example.blockchain.logic.BlockChain;
+import org.example.blockchain.logic.block.Block;
+import org.example.blockchain.logic.block.Blocks;
+import org.example.blockchain.logic.message.Message;
+import org.example.blockchain.logic.message.SecureMessage;
+import org.example.blockchain.logic.message.Transaction;
+import org.example.blockchain.logic.users.AbstractUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChainHttpServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private BlockChain blockChain;
+    private ChainHttpServer subject;
+
+    @BeforeAll
+    public static void setUpServer() {
+        System.setProperty(ChainHttpServer.NODELAY_PROPERTY, "true");
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        blockChain = new BlockChain();
+
+        Block block = Blocks.mineBlock(null, new ArrayList<>(), 0L, 0L);
+        blockChain.putLast(block);
+        for (int i = 1; i < 5; i++) {
+            final Message message = new Transaction(
+                    new SecureMessage("Transfer", i, null, null, false), user("Alice"), user("Bob \"B\""), i * 10L);
+            block = Blocks.mineBlock(block, List.of(message), i, 1L);
+            blockChain.putLast(block);
+        }
+
+        subject = new ChainHttpServer(blockChain, new InetSocketAddress("localhost", 0), 16, 2);
+        subject.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        subject.close();
+    }
+
+    @Test
+    public void should_answer_not_modified_until_block_is_put() throws IOException, InterruptedException {
+
+        // given
+        final HttpResponse<String> first = get("/height", null);
+        final String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        // when
+        final HttpResponse<String> unchanged = get("/height", etag);
+        blockChain.putLast(Blocks.mineBlock(blockChain.getLast(), new ArrayList<>(), 5L, 1L));
+        final HttpResponse<String> changed = get("/height", etag);
+
+        // then
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.body()).isEqualTo("{\"height\":5,\"hash\":\"" + blockChain.getBlocks().get(4).getHash() + "\"}");
+        assertThat(first.headers().firstValue("Cache-Control")).hasValue("no-cache");
+        assertThat(unchanged.statusCode()).isEqualTo(304);
+        assertThat(unchanged.body()).isEmpty();
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.body()).startsWith("{\"height\":6,");
+        assertThat(subject.getNotModified()).isOne();
+    }
+
+    @Test
+    public void should_serve_immutable_block_from_cache() throws IOException, InterruptedException {
+
+        // given
+        final Block block = blockChain.getBlocks().get(2);
+        final String path = "/blocks/" + block.getHash();
+
+        // when
+        final HttpResponse<String> first = get(path, null);
+        final HttpResponse<String> second = get(path, null);
+        final HttpResponse<String> revalidated = get(path, "\"" + block.getHash() + "\"");
+
+        // then
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("Cache-Control")).hasValue("public, max-age=31536000, immutable");
+        assertThat(first.headers().firstValue("ETag")).hasValue("\"" + block.getHash() + "\"");
+        assertThat(first.body())
+                .startsWith("{\"id\":3,\"hash\":\"" + block.getHash() + "\"")
+                .endsWith(",\"messages\":[{\"id\":2,\"text\":\"Transfer\",\"from\":\"Alice\",\"to\":\"Bob \\\"B\\\"\",\"amount\":20}]}");
+        assertThat(second.body()).isEqualTo(first.body());
+        assertThat(revalidated.statusCode()).isEqualTo(304);
+        assertThat(subject.getCache().getHits()).isEqualTo(2L);
+        assertThat(subject.getCache().getMisses()).isOne();
+    }
+
+    @Test
+    public void should_serve_recent_blocks_and_transactions() throws IOException, InterruptedException {
+
+        // when
+        final HttpResponse<String> recent = get("/blocks?count=2", null);
+        final HttpResponse<String> transaction = get("/transactions/3", null);
+        final HttpResponse<String> tooMany = get("/blocks?count=1000", null);
+
+        // then
+        assertThat(recent.statusCode()).isEqualTo(200);
+        assertThat(recent.body())
+                .startsWith("[{\"id\":5,")
+                .contains("},{\"id\":4,")
+                .endsWith(",\"messages\":1}]");
+        assertThat(transaction.statusCode()).isEqualTo(200);
+        assertThat(transaction.body()).isEqualTo("{\"blockId\":4,\"blockHash\":\"" + blockChain.getBlocks().get(3).getHash() +
+                "\",\"message\":{\"id\":3,\"text\":\"Transfer\",\"from\":\"Alice\",\"to\":\"Bob \\\"B\\\"\",\"amount\":30}}");
+        assertThat(tooMany.statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    public void should_answer_unknown_resources_and_methods_with_errors() throws IOException, InterruptedException {
+
+        // when
+        final HttpResponse<String> block = get("/blocks/0000", null);
+        final HttpResponse<String> transaction = get("/transactions/42", null);
+        final HttpResponse<String> malformed = get("/transactions/abc", null);
+        final HttpResponse<String> unknown = get("/users", null);
+        final HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri("/height"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertThat(block.statusCode()).isEqualTo(404);
+        assertThat(block.body()).isEqualTo("{\"error\":\"Block not found\"}");
+        assertThat(transaction.statusCode()).isEqualTo(404);
+        assertThat(malformed.statusCode()).isEqualTo(400);
+        assertThat(unknown.statusCode()).isEqualTo(404);
+        assertThat(post.statusCode()).isEqualTo(405);
+        assertThat(post.headers().firstValue("Allow")).hasValue("GET");
+        assertThat(subject.getCache().getSize()).isZero();
+        assertThat(subject.getRequests()).isEqualTo(5L);
+    }
+
+    @Test
+    public void should_throw_exception_when_cache_size_is_not_positive() {
+
+        // then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new ChainHttpServer(blockChain, new InetSocketAddress(0), 0, 1))
+                .withMessage("Blockchain and address should be defined and cache size and threads should be positive");
+    }
+
+    private HttpResponse<String> get(final String path, final String ifNoneMatch) throws IOException, InterruptedException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + subject.getAddress().getPort() + path);
+    }
+
+    private static AbstractUser user(final String name) {
+        final AbstractUser user = mock(AbstractUser.class);
+        when(user.getName()).thenReturn(name);
+        return user;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.blockchain.transport.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseTest {
+
+    @Test
+    public void should_match_any_of_given_tags() {
+
+        // given
+        final Response response = Response.json("\"abc\"", Response.IMMUTABLE, "{}");
+
+        // then
+        assertThat(response.isNotModified("\"abc\"")).isTrue();
+        assertThat(response.isNotModified("\"xyz\", W/\"abc\"")).isTrue();
+        assertThat(response.isNotModified("*")).isTrue();
+        assertThat(response.isNotModified("\"xyz\"")).isFalse();
+        assertThat(response.isNotModified(null)).isFalse();
+        assertThat(Response.error(404, "Not found").isNotModified("*")).isFalse();
+    }
+}